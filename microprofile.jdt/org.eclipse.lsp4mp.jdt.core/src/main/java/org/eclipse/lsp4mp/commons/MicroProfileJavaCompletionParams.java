@@ -24,6 +24,7 @@ public class MicroProfileJavaCompletionParams {
 
 	private String uri;
 	private Position position;
+	private Integer version;
 
 	public MicroProfileJavaCompletionParams() {
 
@@ -71,4 +72,23 @@ public class MicroProfileJavaCompletionParams {
 		this.position = position;
 	}
 
+	/**
+	 * Returns the version of the java file when the request was sent and null if
+	 * it is unknown.
+	 *
+	 * @return the version of the java file when the request was sent and null if
+	 *         it is unknown.
+	 */
+	public Integer getVersion() {
+		return version;
+	}
+
+	/**
+	 * Set the version of the java file when the request was sent.
+	 *
+	 * @param version the version of the java file when the request was sent.
+	 */
+	public void setVersion(Integer version) {
+		this.version = version;
+	}
 }
\ No newline at end of file
@@ -27,6 +27,7 @@ public class MicroProfileJavaHoverParams {
 	private Position position;
 	private DocumentFormat documentFormat;
 	private boolean surroundEqualsWithSpaces;
+	private Integer version;
 
 	public MicroProfileJavaHoverParams() {
 
@@ -101,4 +102,24 @@ public class MicroProfileJavaHoverParams {
 	public void setSurroundEqualsWithSpaces(boolean surroundEqualsWithSpaces) {
 		this.surroundEqualsWithSpaces = surroundEqualsWithSpaces;
 	}
+
+	/**
+	 * Returns the version of the java file when the request was sent and null if
+	 * it is unknown.
+	 *
+	 * @return the version of the java file when the request was sent and null if
+	 *         it is unknown.
+	 */
+	public Integer getVersion() {
+		return version;
+	}
+
+	/**
+	 * Set the version of the java file when the request was sent.
+	 *
+	 * @param version the version of the java file when the request was sent.
+	 */
+	public void setVersion(Integer version) {
+		this.version = version;
+	}
 }
\ No newline at end of file
@@ -71,8 +71,9 @@ public class JSONUtility {
 		if (clazz.isInstance(object)) {
 			return clazz.cast(object);
 		}
-		// if nothing else works, try serializing and deserializing again
-		return gson.fromJson(gson.toJson(object), clazz);
+		// if nothing else works, convert to a JSON tree (ex : the Map of a delegate
+		// command argument) rather than serializing and parsing a JSON string
+		return gson.fromJson(gson.toJsonTree(object), clazz);
 	}
 
 	/**
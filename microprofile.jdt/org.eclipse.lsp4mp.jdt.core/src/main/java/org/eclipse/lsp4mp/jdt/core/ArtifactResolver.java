@@ -13,10 +13,14 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.core;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.lsp4mp.jdt.internal.core.MavenArtifactResolver;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.lsp4mp.jdt.internal.core.CachedArtifactResolver;
 
 /**
  * Artifact resolver API
@@ -106,9 +110,37 @@ public interface ArtifactResolver {
 		}
 	}
 
-	public static final ArtifactResolver DEFAULT_ARTIFACT_RESOLVER = new MavenArtifactResolver();
+	public static final ArtifactResolver DEFAULT_ARTIFACT_RESOLVER = CachedArtifactResolver.MAVEN;
 
 	String getArtifact(Artifact artifact, IProgressMonitor monitor);
 
+	/**
+	 * Returns the resolved file path of each given artifact (null if the artifact
+	 * cannot be resolved or if its resolution failed).
+	 *
+	 * <p>
+	 * Each given artifact is a key of the returned map, a failure in the
+	 * resolution of an artifact doesn't prevent the resolution of the others.
+	 * </p>
+	 *
+	 * <p>
+	 * This method should be preferred to {@link #getArtifact(Artifact, IProgressMonitor)}
+	 * when several artifacts must be resolved (ex : all deployment JARs of a
+	 * project), since implementations can resolve them concurrently.
+	 * </p>
+	 *
+	 * @param artifacts the artifacts to resolve.
+	 * @param monitor   the progress monitor.
+	 * @return the resolved file path of each given artifact.
+	 */
+	default Map<Artifact, String> getArtifacts(Collection<Artifact> artifacts, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, artifacts.size());
+		Map<Artifact, String> result = new LinkedHashMap<>();
+		for (Artifact artifact : artifacts) {
+			result.put(artifact, getArtifact(artifact, subMonitor.split(1)));
+		}
+		return result;
+	}
+
 	Set<Artifact> getDependencies(Artifact artifact, IProgressMonitor monitor);
 }
\ No newline at end of file
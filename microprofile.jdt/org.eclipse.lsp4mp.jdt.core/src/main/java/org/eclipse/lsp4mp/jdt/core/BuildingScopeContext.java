@@ -14,13 +14,20 @@
 package org.eclipse.lsp4mp.jdt.core;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.core.JavaProject;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.jdt.core.ArtifactResolver.Artifact;
 
 /**
  * The building scope context to build extra classpath.
@@ -37,6 +44,10 @@ public class BuildingScopeContext extends BaseContext {
 
 	private final List<IClasspathEntry> searchClassPathEntries;
 
+	private final Set<Artifact> requestedArtifacts;
+
+	private final Map<Artifact, String> resolvedArtifacts;
+
 	public BuildingScopeContext(IJavaProject javaProject, boolean excludeTestCode,
 			List<MicroProfilePropertiesScope> scopes, ArtifactResolver artifactResolver) throws JavaModelException {
 		super(javaProject, scopes);
@@ -44,6 +55,8 @@ public class BuildingScopeContext extends BaseContext {
 		this.artifactResolver = artifactResolver;
 		this.resolvedClasspath = ((JavaProject) javaProject).getResolvedClasspath();
 		this.searchClassPathEntries = new ArrayList<>();
+		this.requestedArtifacts = new LinkedHashSet<>();
+		this.resolvedArtifacts = Collections.synchronizedMap(new HashMap<>());
 	}
 
 	/**
@@ -73,6 +86,68 @@ public class BuildingScopeContext extends BaseContext {
 		return artifactResolver;
 	}
 
+	/**
+	 * Request the resolution of the given artifact.
+	 *
+	 * <p>
+	 * The artifacts requested by the properties providers in
+	 * {@link IPropertiesProvider#beginBuildingScope(BuildingScopeContext, IProgressMonitor)}
+	 * are resolved together with
+	 * {@link ArtifactResolver#getArtifacts(java.util.Collection, IProgressMonitor)}
+	 * before
+	 * {@link IPropertiesProvider#contributeToClasspath(BuildingScopeContext, IProgressMonitor)},
+	 * so that they can be downloaded concurrently.
+	 * </p>
+	 *
+	 * @param artifact the artifact to resolve.
+	 */
+	public void requestArtifact(Artifact artifact) {
+		synchronized (requestedArtifacts) {
+			requestedArtifacts.add(artifact);
+		}
+	}
+
+	/**
+	 * Resolve the requested artifacts which are not resolved yet. This method is
+	 * called by the {@link PropertiesManager} after the begin of the building
+	 * scope.
+	 *
+	 * @param monitor the progress monitor.
+	 */
+	public void resolveRequestedArtifacts(IProgressMonitor monitor) {
+		List<Artifact> artifacts;
+		synchronized (requestedArtifacts) {
+			artifacts = new ArrayList<>(requestedArtifacts);
+		}
+		artifacts.removeAll(resolvedArtifacts.keySet());
+		if (!artifacts.isEmpty()) {
+			resolvedArtifacts.putAll(artifactResolver.getArtifacts(artifacts, monitor));
+		}
+	}
+
+	/**
+	 * Returns the file path of the given artifact and null if it cannot be
+	 * resolved.
+	 *
+	 * <p>
+	 * The artifact is resolved with the artifact resolver if it has not been
+	 * requested with {@link #requestArtifact(Artifact)}.
+	 * </p>
+	 *
+	 * @param artifact the artifact.
+	 * @param monitor  the progress monitor.
+	 * @return the file path of the given artifact and null if it cannot be
+	 *         resolved.
+	 */
+	public String getResolvedArtifact(Artifact artifact, IProgressMonitor monitor) {
+		if (resolvedArtifacts.containsKey(artifact)) {
+			return resolvedArtifacts.get(artifact);
+		}
+		String file = artifactResolver.getArtifact(artifact, monitor);
+		resolvedArtifacts.put(artifact, file);
+		return file;
+	}
+
 	/**
 	 * Returns the extract class path entries used for the search of properties to
 	 * collect.
@@ -29,6 +29,12 @@ public interface IPropertiesProvider {
 	/**
 	 * Begin the building scope.
 	 *
+	 * <p>
+	 * The artifacts required to contribute to the classpath should be requested
+	 * here with {@link BuildingScopeContext#requestArtifact}, so that the artifacts
+	 * of all providers are resolved together.
+	 * </p>
+	 *
 	 * @param context the search building scope
 	 * @param monitor the progress monitor
 	 */
@@ -40,6 +46,11 @@ public interface IPropertiesProvider {
 	 * Contribute to the classpath to add extra JARs in classpath (ex : deployment
 	 * JARs for Quarkus).
 	 *
+	 * <p>
+	 * The requested artifacts are available with
+	 * {@link BuildingScopeContext#getResolvedArtifact}.
+	 * </p>
+	 *
 	 * @param context the building scope context.
 	 * @param monitor the progress monitor.
 	 * @throws JavaModelException
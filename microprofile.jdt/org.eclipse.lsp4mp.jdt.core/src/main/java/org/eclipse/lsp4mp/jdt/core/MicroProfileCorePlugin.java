@@ -13,10 +13,18 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.core;
 
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProjectManager;
+import org.eclipse.lsp4mp.jdt.internal.core.CachedArtifactResolver;
 import org.eclipse.lsp4mp.jdt.internal.core.MicroProfilePropertiesListenerManager;
 import org.eclipse.lsp4mp.jdt.internal.core.PropertiesProviderRegistry;
 import org.eclipse.lsp4mp.jdt.internal.core.java.validators.JavaASTValidatorRegistry;
+import org.eclipse.lsp4mp.jdt.internal.core.ls.JavaFileVersionTracker;
+import org.eclipse.lsp4mp.jdt.internal.core.utils.CompilationUnitImportsCache;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.ServerAvailabilityMonitor;
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 
@@ -26,6 +34,10 @@ import org.osgi.framework.BundleContext;
  */
 public class MicroProfileCorePlugin implements BundleActivator {
 
+	private static final Logger LOGGER = Logger.getLogger(MicroProfileCorePlugin.class.getName());
+
+	private static final String ARTIFACTS_CACHE_FILE = "artifacts-cache.properties";
+
 	// The plug-in ID
 	public static final String PLUGIN_ID = "org.eclipse.lsp4mp.jdt.core";
 
@@ -38,6 +50,21 @@ public class MicroProfileCorePlugin implements BundleActivator {
 		PropertiesProviderRegistry.getInstance().initialize();
 		JavaASTValidatorRegistry.getInstance().initialize();
 		JDTMicroProfileProjectManager.getInstance().initialize();
+		ProjectLabelManager.getInstance().initialize();
+		CompilationUnitImportsCache.getInstance().initialize();
+		ServerAvailabilityMonitor.getInstance().initialize();
+		JavaFileVersionTracker.getInstance().initialize();
+		initializeArtifactsCache(context);
+	}
+
+	private static void initializeArtifactsCache(BundleContext context) {
+		try {
+			CachedArtifactResolver.MAVEN.setCacheFile(
+					Platform.getStateLocation(context.getBundle()).append(ARTIFACTS_CACHE_FILE).toFile());
+		} catch (IllegalStateException e) {
+			// The instance location is not available, the artifacts cache is not persisted
+			LOGGER.log(Level.WARNING, "Error while initializing the artifacts cache", e);
+		}
 	}
 
 	public void stop(BundleContext context) throws Exception {
@@ -45,6 +72,11 @@ public class MicroProfileCorePlugin implements BundleActivator {
 		PropertiesProviderRegistry.getInstance().destroy();
 		JavaASTValidatorRegistry.getInstance().destroy();
 		JDTMicroProfileProjectManager.getInstance().destroy();
+		ProjectLabelManager.getInstance().destroy();
+		CompilationUnitImportsCache.getInstance().destroy();
+		ServerAvailabilityMonitor.getInstance().destroy();
+		JavaFileVersionTracker.getInstance().destroy();
+		CachedArtifactResolver.MAVEN.save();
 		plugin = null;
 	}
 
@@ -15,13 +15,28 @@ package org.eclipse.lsp4mp.jdt.core;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
 import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
@@ -36,16 +51,161 @@ import org.eclipse.lsp4mp.jdt.internal.core.ProjectLabelRegistry;
  * Project label manager which provides <code>ProjectLabelInfo</code> containing
  * project labels for all projects in the workspace
  *
+ * <p>
+ * The project labels are cached per Eclipse project and per requested Java
+ * type list. The cache of a project is evicted when its classpath, its
+ * description (natures) or its build files (ex : pom.xml, build.gradle)
+ * change, or when the project is opened, closed, created or deleted.
+ * </p>
+ *
  */
 public class ProjectLabelManager {
+
+	private static final Logger LOGGER = Logger.getLogger(ProjectLabelManager.class.getName());
+
 	private static final ProjectLabelManager INSTANCE = new ProjectLabelManager();
 
+	private static final List<String> BUILD_FILE_NAMES = Arrays.asList("pom.xml", "build.gradle", "build.gradle.kts",
+			"settings.gradle", "settings.gradle.kts", ".classpath", ".project");
+
 	public static ProjectLabelManager getInstance() {
 		return INSTANCE;
 	}
 
+	/**
+	 * Project labels cache for an Eclipse project.
+	 */
+	private static class ProjectLabels {
+
+		private final Map<List<String>, ProjectLabelInfoEntry> entries = new ConcurrentHashMap<>();
+
+		private final Map<String, Boolean> typesInClasspath = new ConcurrentHashMap<>();
+
+		private volatile List<String> definitionLabels;
+	}
+
+	private class ProjectLabelListener implements IElementChangedListener, IResourceChangeListener, IResourceDeltaVisitor {
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			processDelta(event.getDelta());
+		}
+
+		private void processDelta(IJavaElementDelta delta) {
+			IJavaElement element = delta.getElement();
+			switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				for (IJavaElementDelta c : delta.getAffectedChildren()) {
+					processDelta(c);
+				}
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (isCreatedOrDeleted(delta) || isClasspathChanged(delta.getFlags())) {
+					evict(((IJavaProject) element).getProject());
+				}
+				break;
+			default:
+				break;
+			}
+		}
+
+		private boolean isCreatedOrDeleted(IJavaElementDelta delta) {
+			int kind = delta.getKind();
+			return kind == IJavaElementDelta.ADDED || kind == IJavaElementDelta.REMOVED;
+		}
+
+		private boolean isClasspathChanged(int flags) {
+			return 0 != (flags & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+					| IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED));
+		}
+
+		@Override
+		public void resourceChanged(IResourceChangeEvent event) {
+			switch (event.getType()) {
+			case IResourceChangeEvent.PRE_DELETE:
+			case IResourceChangeEvent.PRE_CLOSE: {
+				IResource resource = event.getResource();
+				if (resource != null && resource.getType() == IResource.PROJECT) {
+					// called when project is deleted or closed.
+					evict((IProject) resource);
+				}
+				break;
+			}
+			case IResourceChangeEvent.POST_CHANGE:
+				IResourceDelta resourceDelta = event.getDelta();
+				if (resourceDelta != null) {
+					try {
+						resourceDelta.accept(this);
+					} catch (CoreException e) {
+						if (LOGGER.isLoggable(Level.SEVERE)) {
+							LOGGER.log(Level.SEVERE, "Error while tracking project build configuration", e);
+						}
+					}
+				}
+				break;
+			}
+		}
+
+		@Override
+		public boolean visit(IResourceDelta delta) throws CoreException {
+			IResource resource = delta.getResource();
+			if (resource == null) {
+				return false;
+			}
+			switch (resource.getType()) {
+			case IResource.ROOT:
+				return true;
+			case IResource.PROJECT:
+				if (delta.getKind() != IResourceDelta.CHANGED
+						|| (delta.getFlags() & (IResourceDelta.DESCRIPTION | IResourceDelta.OPEN)) != 0) {
+					// the project has been added, removed, opened, closed or its natures changed
+					evict((IProject) resource);
+					return false;
+				}
+				// the build files are stored at the root of the project
+				return projectLabels.containsKey(resource);
+			case IResource.FILE:
+				if (BUILD_FILE_NAMES.contains(resource.getName())) {
+					evict(resource.getProject());
+				}
+				return false;
+			default:
+				return false;
+			}
+		}
+	}
+
+	private final Map<IProject, ProjectLabels> projectLabels;
+
+	private ProjectLabelListener projectLabelListener;
+
 	private ProjectLabelManager() {
+		this.projectLabels = new ConcurrentHashMap<>();
+	}
+
+	public void initialize() {
+		if (projectLabelListener != null) {
+			return;
+		}
+		projectLabelListener = new ProjectLabelListener();
+		JavaCore.addElementChangedListener(projectLabelListener);
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(projectLabelListener,
+				IResourceChangeEvent.POST_CHANGE | IResourceChangeEvent.PRE_CLOSE | IResourceChangeEvent.PRE_DELETE);
+	}
+
+	public void destroy() {
+		if (projectLabelListener != null) {
+			JavaCore.removeElementChangedListener(projectLabelListener);
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(projectLabelListener);
+			projectLabelListener = null;
+		}
+		projectLabels.clear();
+	}
 
+	private void evict(IProject project) {
+		if (project != null) {
+			projectLabels.remove(project);
+		}
 	}
 
 	/**
@@ -75,10 +235,18 @@ public class ProjectLabelManager {
 	 */
 	private ProjectLabelInfoEntry getProjectLabelInfo(IProject project, List<String> types) {
 		String uri = JDTMicroProfileUtils.getProjectURI(project);
-		if (uri != null) {
-			return new ProjectLabelInfoEntry(uri, project.getName(), getProjectLabels(project, types));
+		if (uri == null) {
+			return null;
+		}
+		if (projectLabelListener == null) {
+			// The cache is not evicted, compute the project labels each time
+			return new ProjectLabelInfoEntry(uri, project.getName(),
+					getProjectLabels(project, types, new ProjectLabels()));
 		}
-		return null;
+		ProjectLabels labels = projectLabels.computeIfAbsent(project, p -> new ProjectLabels());
+		List<String> key = types != null ? types : Collections.emptyList();
+		return labels.entries.computeIfAbsent(key, k -> new ProjectLabelInfoEntry(uri, project.getName(),
+				Collections.unmodifiableList(getProjectLabels(project, types, labels))));
 	}
 
 	/**
@@ -119,9 +287,10 @@ public class ProjectLabelManager {
 	 *
 	 * @param project the Eclipse project.
 	 * @param types   the Java type list to check.
+	 * @param cache   the project labels cache of the project.
 	 * @return the project labels for the given project.
 	 */
-	private List<String> getProjectLabels(IProject project, List<String> types) {
+	private static List<String> getProjectLabels(IProject project, List<String> types, ProjectLabels cache) {
 		IJavaProject javaProject = JavaCore.create(project);
 
 		if (javaProject == null) {
@@ -131,16 +300,22 @@ public class ProjectLabelManager {
 		// Update labels by using the
 		// "org.eclipse.lsp4mp.jdt.core.projectLabelProviders" extension point (ex
 		// : "maven", "gradle", "quarkus", "microprofile").
-		List<String> projectLabels = new ArrayList<>();
-		List<ProjectLabelDefinition> definitions = ProjectLabelRegistry.getInstance().getProjectLabelDefinitions();
-		for (ProjectLabelDefinition definition : definitions) {
-			projectLabels.addAll(definition.getProjectLabels(javaProject));
+		List<String> definitionLabels = cache.definitionLabels;
+		if (definitionLabels == null) {
+			definitionLabels = new ArrayList<>();
+			List<ProjectLabelDefinition> definitions = ProjectLabelRegistry.getInstance().getProjectLabelDefinitions();
+			for (ProjectLabelDefinition definition : definitions) {
+				definitionLabels.addAll(definition.getProjectLabels(javaProject));
+			}
+			cache.definitionLabels = definitionLabels;
 		}
+		List<String> projectLabels = new ArrayList<>(definitionLabels);
 		// Update labels by checking if some Java types are in the classpath of the Java
 		// project.
 		if (types != null) {
 			for (String type : types) {
-				if (JDTTypeUtils.findType(javaProject, type) != null) {
+				if (cache.typesInClasspath.computeIfAbsent(type,
+						t -> JDTTypeUtils.findType(javaProject, t) != null)) {
 					projectLabels.add(type);
 				}
 			}
@@ -63,6 +63,8 @@ import org.eclipse.lsp4mp.jdt.internal.core.FakeJavaProject;
 import org.eclipse.lsp4mp.jdt.internal.core.PropertiesCollector;
 import org.eclipse.lsp4mp.jdt.internal.core.PropertiesProviderRegistry;
 import org.eclipse.lsp4mp.jdt.internal.core.StaticPropertyProviderRegistry;
+import org.eclipse.lsp4mp.jdt.internal.core.statistics.DelegateCommandStatistics;
+import org.eclipse.lsp4mp.jdt.internal.core.statistics.DelegateCommandStatistics.Measure;
 
 /**
  * MicroProfile properties manager used to:
@@ -246,19 +248,34 @@ public class PropertiesManager {
 
 	private void beginSearch(SearchContext context, IProgressMonitor monitor) {
 		for (IPropertiesProvider provider : getPropertiesProviders()) {
-			provider.beginSearch(context, monitor);
+			Measure measure = startMeasure(provider, "beginSearch");
+			try {
+				provider.beginSearch(context, monitor);
+			} finally {
+				measure.end(monitor);
+			}
 		}
 	}
 
 	private void endSearch(SearchContext context, IProgressMonitor monitor) {
 		for (IPropertiesProvider provider : getPropertiesProviders()) {
-			provider.endSearch(context, monitor);
+			Measure measure = startMeasure(provider, "endSearch");
+			try {
+				provider.endSearch(context, monitor);
+			} finally {
+				measure.end(monitor);
+			}
 		}
 	}
 
 	private void collectProperties(SearchMatch match, SearchContext context, IProgressMonitor monitor) {
 		for (IPropertiesProvider provider : getPropertiesProviders()) {
-			provider.collectProperties(match, context, monitor);
+			Measure measure = startMeasure(provider, "collectProperties");
+			try {
+				provider.collectProperties(match, context, monitor);
+			} finally {
+				measure.end(monitor);
+			}
 		}
 	}
 
@@ -324,6 +341,8 @@ public class PropertiesManager {
 		BuildingScopeContext context = new BuildingScopeContext(javaProject, excludeTestCode, scopes,
 				ArtifactResolver.DEFAULT_ARTIFACT_RESOLVER);
 		beginBuildingScope(context, mainMonitor);
+		// resolve together the artifacts requested by the providers
+		context.resolveRequestedArtifacts(mainMonitor.newChild(0));
 		contributeToClasspath(context, mainMonitor);
 		endBuildingScope(context, mainMonitor);
 		List<IClasspathEntry> searchClasspathEntries = context.getSearchClassPathEntries();
@@ -335,7 +354,12 @@ public class PropertiesManager {
 
 	private void beginBuildingScope(BuildingScopeContext context, IProgressMonitor monitor) {
 		for (IPropertiesProvider provider : getPropertiesProviders()) {
-			provider.beginBuildingScope(context, monitor);
+			Measure measure = startMeasure(provider, "beginBuildingScope");
+			try {
+				provider.beginBuildingScope(context, monitor);
+			} finally {
+				measure.end(monitor);
+			}
 		}
 	}
 
@@ -346,14 +370,28 @@ public class PropertiesManager {
 			mainMonitor.subTask("Contributing to classpath for provider (" + (i + 1) + "/" + length + ")");
 			SubMonitor subMonitor = mainMonitor.split(1);
 			IPropertiesProvider provider = getPropertiesProviders().get(i);
-			provider.contributeToClasspath(context, subMonitor);
+			Measure measure = startMeasure(provider, "contributeToClasspath");
+			try {
+				provider.contributeToClasspath(context, subMonitor);
+			} finally {
+				measure.end(subMonitor);
+			}
 			subMonitor.done();
 		}
 	}
 
+	private static Measure startMeasure(IPropertiesProvider provider, String method) {
+		return DelegateCommandStatistics.getInstance().startParticipant(provider.getClass().getName(), method);
+	}
+
 	private void endBuildingScope(BuildingScopeContext context, IProgressMonitor monitor) {
 		for (IPropertiesProvider provider : getPropertiesProviders()) {
-			provider.endBuildingScope(context, monitor);
+			Measure measure = startMeasure(provider, "endBuildingScope");
+			try {
+				provider.endBuildingScope(context, monitor);
+			} finally {
+				measure.end(monitor);
+			}
 		}
 	}
 
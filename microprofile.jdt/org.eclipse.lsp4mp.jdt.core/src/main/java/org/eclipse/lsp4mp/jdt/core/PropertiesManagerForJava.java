@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -67,6 +68,7 @@ import org.eclipse.lsp4mp.commons.MicroProfileJavaCompletionParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDefinitionParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaPublishDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaFileInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaHoverParams;
 import org.eclipse.lsp4mp.jdt.core.java.codelens.JavaCodeLensContext;
@@ -306,6 +308,14 @@ public class PropertiesManagerForJava {
 	/**
 	 * Returns diagnostics for the given uris list.
 	 *
+	 * <p>
+	 * Each diagnostics of the returned list is a
+	 * {@link MicroProfileJavaPublishDiagnosticsParams} which reports the names of
+	 * the config properties the diagnostics of the Java file depend on (null if
+	 * a diagnostics participant which doesn't declare its referenced properties
+	 * has been called).
+	 * </p>
+	 *
 	 * @param params the diagnostics parameters
 	 * @param utils  the utilities class
 	 * @return diagnostics for the given uris list.
@@ -321,9 +331,11 @@ public class PropertiesManagerForJava {
 		List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<PublishDiagnosticsParams>();
 		for (String uri : uris) {
 			List<Diagnostic> diagnostics = new ArrayList<>();
-			PublishDiagnosticsParams publishDiagnostic = new PublishDiagnosticsParams(uri, diagnostics);
+			MicroProfileJavaPublishDiagnosticsParams publishDiagnostic = new MicroProfileJavaPublishDiagnosticsParams(
+					uri, diagnostics);
 			publishDiagnostics.add(publishDiagnostic);
-			collectDiagnostics(uri, utils, documentFormat, params.getSettings(), diagnostics, monitor);
+			publishDiagnostic.setReferencedPropertyNames(
+					collectDiagnostics(uri, utils, documentFormat, params.getSettings(), diagnostics, monitor));
 		}
 		if (monitor.isCanceled()) {
 			return Collections.emptyList();
@@ -331,11 +343,11 @@ public class PropertiesManagerForJava {
 		return publishDiagnostics;
 	}
 
-	private void collectDiagnostics(String uri, IJDTUtils utils, DocumentFormat documentFormat,
+	private Set<String> collectDiagnostics(String uri, IJDTUtils utils, DocumentFormat documentFormat,
 			MicroProfileJavaDiagnosticsSettings settings, List<Diagnostic> diagnostics, IProgressMonitor monitor) {
 		ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
 		if (typeRoot == null) {
-			return;
+			return Collections.emptySet();
 		}
 
 		// Collect all adapted diagnostics participant
@@ -344,7 +356,14 @@ public class PropertiesManagerForJava {
 				.stream().filter(definition -> definition.isAdaptedForDiagnostics(context, monitor))
 				.collect(Collectors.toList());
 		if (definitions.isEmpty()) {
-			return;
+			return Collections.emptySet();
+		}
+
+		for (JavaDiagnosticsDefinition definition : definitions) {
+			if (!definition.declaresReferencedPropertyNames()) {
+				// The Java file must be validated again on each config file change
+				context.setReferencedPropertyNamesUnknown();
+			}
 		}
 
 		// Begin, collect, end participants
@@ -356,6 +375,7 @@ public class PropertiesManagerForJava {
 			}
 		});
 		definitions.forEach(definition -> definition.endDiagnostics(context, monitor));
+		return context.getReferencedPropertyNames();
 	}
 
 	/**
@@ -47,6 +47,24 @@ public interface IJavaDiagnosticsParticipant {
 		return true;
 	}
 
+	/**
+	 * Returns true if the participant declares with
+	 * {@link JavaDiagnosticsContext#addReferencedPropertyName(String)} each
+	 * MicroProfile config property its diagnostics depend on and false otherwise.
+	 *
+	 * <p>
+	 * When a participant which doesn't declare its referenced properties collects
+	 * the diagnostics of a Java file, the referenced properties of the Java file
+	 * are unknown and the Java file is validated again on each config file change.
+	 * </p>
+	 *
+	 * @return true if the participant declares each MicroProfile config property
+	 *         its diagnostics depend on and false otherwise.
+	 */
+	default boolean declaresReferencedPropertyNames() {
+		return false;
+	}
+
 	/**
 	 * Begin diagnostics collection.
 	 *
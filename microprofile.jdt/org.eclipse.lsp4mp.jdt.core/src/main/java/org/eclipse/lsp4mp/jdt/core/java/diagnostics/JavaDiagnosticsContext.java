@@ -14,6 +14,8 @@
 package org.eclipse.lsp4mp.jdt.core.java.diagnostics;
 
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.lsp4j.Diagnostic;
@@ -36,6 +38,10 @@ public class JavaDiagnosticsContext extends AbtractJavaContext {
 
 	private final MicroProfileJavaDiagnosticsSettings settings;
 
+	private final Set<String> referencedPropertyNames;
+
+	private boolean referencedPropertyNamesUnknown;
+
 	public JavaDiagnosticsContext(String uri, ITypeRoot typeRoot, IJDTUtils utils, DocumentFormat documentFormat,
 			MicroProfileJavaDiagnosticsSettings settings) {
 		super(uri, typeRoot, utils);
@@ -45,6 +51,7 @@ public class JavaDiagnosticsContext extends AbtractJavaContext {
 		} else {
 			this.settings = settings;
 		}
+		this.referencedPropertyNames = new HashSet<>();
 	}
 
 	public DocumentFormat getDocumentFormat() {
@@ -62,6 +69,43 @@ public class JavaDiagnosticsContext extends AbtractJavaContext {
 		return this.settings;
 	}
 
+	/**
+	 * Declares that the diagnostics of the Java file depend on the given
+	 * MicroProfile config property.
+	 *
+	 * <p>
+	 * A diagnostics participant which uses the value of a config property must
+	 * declare it, so that the Java file is validated again when the property is
+	 * added, removed or updated in a config file (ex : application.properties).
+	 * </p>
+	 *
+	 * @param propertyName the property name without profile.
+	 */
+	public void addReferencedPropertyName(String propertyName) {
+		referencedPropertyNames.add(propertyName);
+	}
+
+	/**
+	 * Declares that the diagnostics of the Java file depend on MicroProfile config
+	 * properties which are not declared (ex : the diagnostics are collected by a
+	 * participant which doesn't declare its referenced properties).
+	 */
+	public void setReferencedPropertyNamesUnknown() {
+		this.referencedPropertyNamesUnknown = true;
+	}
+
+	/**
+	 * Returns the names (without profile) of the MicroProfile config properties
+	 * the diagnostics of the Java file depend on and null if they are unknown.
+	 *
+	 * @return the names (without profile) of the MicroProfile config properties
+	 *         the diagnostics of the Java file depend on and null if they are
+	 *         unknown.
+	 */
+	public Set<String> getReferencedPropertyNames() {
+		return referencedPropertyNamesUnknown ? null : referencedPropertyNames;
+	}
+
 	public Diagnostic createDiagnostic(String uri, String message, Range range, String source, IJavaErrorCode code) {
 		return createDiagnostic(uri, message, range, source, code, DiagnosticSeverity.Warning);
 	}
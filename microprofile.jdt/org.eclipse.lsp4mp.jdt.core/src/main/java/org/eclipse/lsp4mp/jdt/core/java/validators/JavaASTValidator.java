@@ -93,6 +93,20 @@ public class JavaASTValidator extends ASTVisitor {
 		return true;
 	}
 
+	/**
+	 * Returns true if the validator declares with
+	 * {@link JavaDiagnosticsContext#addReferencedPropertyName(String)} each
+	 * MicroProfile config property its diagnostics depend on and false otherwise.
+	 *
+	 * @return true if the validator declares each MicroProfile config property its
+	 *         diagnostics depend on and false otherwise.
+	 * 
+	 * @see org.eclipse.lsp4mp.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant#declaresReferencedPropertyNames()
+	 */
+	public boolean declaresReferencedPropertyNames() {
+		return false;
+	}
+
 	public Diagnostic addDiagnostic(String message, String source, ASTNode node, IJavaErrorCode code,
 			DiagnosticSeverity severity) {
 		return addDiagnostic(message, source, node.getStartPosition(), node.getLength(), code, severity);
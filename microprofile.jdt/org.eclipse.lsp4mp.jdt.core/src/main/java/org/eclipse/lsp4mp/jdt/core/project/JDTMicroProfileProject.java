@@ -16,24 +16,20 @@ package org.eclipse.lsp4mp.jdt.core.project;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
-import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
-import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 import org.eclipse.lsp4mp.jdt.internal.core.ConfigSourceProviderRegistry;
-import org.eclipse.lsp4mp.jdt.internal.core.project.ConfigSourcePropertiesProvider;
+import org.eclipse.lsp4mp.jdt.internal.core.project.ConfigSourcesSnapshot;
 
 /**
  * JDT MicroProfile project wraps a Java project {@link IJavaProject} to store
@@ -48,15 +44,20 @@ public class JDTMicroProfileProject {
 
 	private static final Logger LOGGER = Logger.getLogger(JDTMicroProfileProject.class.getName());
 
-	private IJavaProject javaProject;
+	private final IJavaProject javaProject;
 
-	private List<IConfigSource> configSources;
+	private volatile ConfigSourcesSnapshot snapshot;
 
-	private transient IConfigSourcePropertiesProvider aggregatedPropertiesProvider = null;
-	private transient PropertyValueExpander propertyValueExpander = null;
+	private final AtomicInteger configSourcesVersion;
+
+	// the oldest evicted snapshot which has not been compared with the current
+	// config sources
+	private final AtomicReference<ConfigSourcesSnapshot> evictedSnapshot;
 
 	public JDTMicroProfileProject(IJavaProject javaProject) {
 		this.javaProject = javaProject;
+		this.configSourcesVersion = new AtomicInteger();
+		this.evictedSnapshot = new AtomicReference<>();
 	}
 
 	/**
@@ -74,19 +75,12 @@ public class JDTMicroProfileProject {
 	 *         defined in this project
 	 */
 	public String getProperty(String propertyKey, String defaultValue) {
-
-		if (aggregatedPropertiesProvider == null) {
-			aggregatedPropertiesProvider = getAggregatedPropertiesProvider();
-		}
-
-		String unresolved = aggregatedPropertiesProvider.getValue(propertyKey);
+		ConfigSourcesSnapshot snapshot = getSnapshot();
+		String unresolved = snapshot.getValue(propertyKey);
 		if (unresolved == null) {
 			return defaultValue;
 		} else if (unresolved.contains("${")) {
-			if (propertyValueExpander == null) {
-				propertyValueExpander = new PropertyValueExpander(aggregatedPropertiesProvider);
-			}
-			String expandedValue = propertyValueExpander.getValue(propertyKey);
+			String expandedValue = snapshot.getExpandedValue(propertyKey);
 			if (expandedValue == null) {
 				return defaultValue;
 			}
@@ -165,32 +159,19 @@ public class JDTMicroProfileProject {
 	 *         defined in this project.
 	 */
 	public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
-		// Use a map to override property values
-		// eg. if application.yaml defines a value for a property it should override the
-		// value defined in application.properties
-		Map<String, MicroProfileConfigPropertyInformation> propertyToInfoMap = new HashMap<>();
-		// Go backwards so that application.properties replaces
-		// microprofile-config.properties, etc.
-		List<IConfigSource> configSources = getConfigSources();
-		for (int i = configSources.size() - 1; i >= 0; i--) {
-			IConfigSource configSource = configSources.get(i);
-			List<MicroProfileConfigPropertyInformation> propertyInformations = configSource
-					.getPropertyInformations(propertyKey);
-			if (propertyInformations != null) {
-				for (MicroProfileConfigPropertyInformation propertyInformation : propertyInformations) {
-					propertyToInfoMap.put(propertyInformation.getPropertyNameWithProfile(), propertyInformation);
-				}
-			}
+		List<MicroProfileConfigPropertyInformation> propertyInformations = getSnapshot()
+				.getPropertyInformations(propertyKey);
+		if (propertyInformations == null) {
+			return Collections.emptyList();
+		}
+		List<MicroProfileConfigPropertyInformation> resolvedInformations = new ArrayList<>(
+				propertyInformations.size());
+		for (MicroProfileConfigPropertyInformation info : propertyInformations) {
+			String resolved = getProperty(info.getPropertyNameWithProfile());
+			resolvedInformations.add(new MicroProfileConfigPropertyInformation(info.getPropertyNameWithProfile(),
+					resolved, info.getSourceConfigFileURI(), info.getConfigFileName()));
 		}
-		return propertyToInfoMap.values().stream() //
-				.sorted((a, b) -> {
-					return a.getPropertyNameWithProfile().compareTo(b.getPropertyNameWithProfile());
-				}) //
-				.map(info -> {
-					String resolved = this.getProperty(info.getPropertyNameWithProfile());
-					return new MicroProfileConfigPropertyInformation(info.getPropertyNameWithProfile(), resolved,
-							info.getSourceConfigFileURI(), info.getConfigFileName());
-				}).collect(Collectors.toList());
+		return resolvedInformations;
 	}
 
 	/**
@@ -199,10 +180,7 @@ public class JDTMicroProfileProject {
 	 * @return the list of config sources.
 	 */
 	public List<IConfigSource> getConfigSources() {
-		if (configSources == null) {
-			configSources = loadConfigSources(javaProject);
-		}
-		return configSources;
+		return getSnapshot().getConfigSources();
 	}
 
 	/**
@@ -210,9 +188,35 @@ public class JDTMicroProfileProject {
 	 * of properties, yaml file is saved.
 	 */
 	public void evictConfigSourcesCache() {
-		configSources = null;
-		propertyValueExpander = null;
-		aggregatedPropertiesProvider = null;
+		configSourcesVersion.incrementAndGet();
+		ConfigSourcesSnapshot current = snapshot;
+		snapshot = null;
+		if (current != null) {
+			evictedSnapshot.compareAndSet(null, current);
+		}
+	}
+
+	/**
+	 * Returns the names (without profile) of the properties which have been added,
+	 * removed or updated in the config sources since the config sources cache was
+	 * evicted and null if they are unknown.
+	 * 
+	 * <p>
+	 * The changes are computed only once: the next call returns the changes of the
+	 * next evictions.
+	 * </p>
+	 * 
+	 * @return the names (without profile) of the properties which have been added,
+	 *         removed or updated in the config sources since the config sources
+	 *         cache was evicted and null if they are unknown.
+	 */
+	public Set<String> getChangedPropertyNames() {
+		ConfigSourcesSnapshot previous = evictedSnapshot.getAndSet(null);
+		if (previous == null) {
+			// The config sources were not loaded before the eviction
+			return null;
+		}
+		return getSnapshot().getChangedPropertyNames(previous);
 	}
 
 	/**
@@ -222,12 +226,7 @@ public class JDTMicroProfileProject {
 	 * @param javaProject the Java project
 	 * @return the loaded config sources.
 	 */
-	private synchronized List<IConfigSource> loadConfigSources(IJavaProject javaProject) {
-		if (configSources != null) {
-			// Case when there are several Threads which load config sources, the second
-			// Thread should not reload the config sources again.
-			return configSources;
-		}
+	private static List<IConfigSource> loadConfigSources(IJavaProject javaProject) {
 		List<IConfigSource> configSources = new ArrayList<>();
 		try {
 			Set<IPath> outputLocationAlreadyProcessed = new HashSet<>();
@@ -264,45 +263,60 @@ public class JDTMicroProfileProject {
 	 *         false otherwise
 	 */
 	public boolean hasProperty(String property) {
-		List<IConfigSource> configSources = getConfigSources();
-		for (IConfigSource configSource : configSources) {
-			if (configSource.getPropertyInformations(property) != null) {
-				return true;
-			}
-		}
-		return false;
+		return getSnapshot().hasProperty(property);
 	}
 
-	private IConfigSourcePropertiesProvider getAggregatedPropertiesProvider() {
-		List<IConfigSource> configSources = getConfigSources();
-		if (configSources.size() == 0) {
-			// Return an empty IConfigSourcePropertiesProvider
-			return new IConfigSourcePropertiesProvider() {
-
-				@Override
-				public Set<String> keys() {
-					return Collections.emptySet();
-				}
-
-				@Override
-				public boolean hasKey(String key) {
-					return false;
-				}
+	/**
+	 * Returns the names (without profile) of the properties which have a value
+	 * declared for any profile.
+	 * 
+	 * <p>
+	 * The returned set is immutable and is not updated when a config source
+	 * changes, it can be used to check several properties against the same state
+	 * of the config sources.
+	 * </p>
+	 *
+	 * @return the names (without profile) of the properties which have a value
+	 *         declared for any profile.
+	 */
+	public Set<String> getPropertyNames() {
+		return getSnapshot().getPropertyNames();
+	}
 
-				@Override
-				public String getValue(String key) {
-					return null;
-				}
+	/**
+	 * Returns the flattened view of the config sources, built once per config
+	 * sources change.
+	 * 
+	 * <p>
+	 * The snapshot is immutable and is swapped atomically when a config source
+	 * changes, so that it can be read from any thread without locking.
+	 * </p>
+	 * 
+	 * @return the flattened view of the config sources.
+	 */
+	private ConfigSourcesSnapshot getSnapshot() {
+		ConfigSourcesSnapshot current = snapshot;
+		if (current != null) {
+			return current;
+		}
+		return loadSnapshot();
+	}
 
-			};
+	private synchronized ConfigSourcesSnapshot loadSnapshot() {
+		ConfigSourcesSnapshot current = snapshot;
+		if (current != null) {
+			// Case when there are several Threads which load config sources, the second
+			// Thread should not reload the config sources again.
+			return current;
 		}
-		IConfigSourcePropertiesProvider provider = new ConfigSourcePropertiesProvider(
-				configSources.get(configSources.size() - 1));
-		for (int i = configSources.size() - 2; i >= 0; i--) {
-			provider = ConfigSourcePropertiesProviderUtils
-					.layer(new ConfigSourcePropertiesProvider(configSources.get(i)), provider);
+		int version = configSourcesVersion.get();
+		current = ConfigSourcesSnapshot.create(loadConfigSources(javaProject));
+		if (version == configSourcesVersion.get()) {
+			// Publish the snapshot only if no config source has been evicted while it was
+			// loading, otherwise the next call will load a fresh snapshot.
+			snapshot = current;
 		}
-		return provider;
+		return current;
 	}
 
 }
\ No newline at end of file
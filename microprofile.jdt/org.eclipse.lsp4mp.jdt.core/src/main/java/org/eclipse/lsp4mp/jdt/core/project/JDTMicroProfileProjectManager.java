@@ -13,8 +13,8 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.core.project;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -145,8 +145,7 @@ public class JDTMicroProfileProjectManager {
 	}
 
 	private JDTMicroProfileProjectManager() {
-		this.projects = new HashMap<>();
-
+		this.projects = new ConcurrentHashMap<>();
 	}
 
 	public JDTMicroProfileProject getJDTMicroProfileProject(IJavaProject project) throws JavaModelException {
@@ -156,15 +155,10 @@ public class JDTMicroProfileProjectManager {
 	private JDTMicroProfileProject getJDTMicroProfileProject(IJavaProject project, boolean create)
 			throws JavaModelException {
 		IJavaProject javaProject = FakeJavaProject.getRealJavaProject(project);
-		JDTMicroProfileProject info = projects.get(javaProject);
-		if (info == null) {
-			if (!create) {
-				return null;
-			}
-			info = new JDTMicroProfileProject(javaProject);
-			projects.put(javaProject, info);
+		if (!create) {
+			return projects.get(javaProject);
 		}
-		return info;
+		return projects.computeIfAbsent(javaProject, JDTMicroProfileProject::new);
 	}
 
 	public boolean isConfigSource(IFile file) {
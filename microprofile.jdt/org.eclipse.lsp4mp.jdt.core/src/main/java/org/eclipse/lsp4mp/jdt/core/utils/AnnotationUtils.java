@@ -19,8 +19,6 @@ import java.util.regex.Pattern;
 import org.eclipse.jdt.core.IAnnotatable;
 import org.eclipse.jdt.core.IAnnotation;
 import org.eclipse.jdt.core.ICompilationUnit;
-import org.eclipse.jdt.core.IImportContainer;
-import org.eclipse.jdt.core.IImportDeclaration;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMemberValuePair;
 import org.eclipse.jdt.core.ISourceRange;
@@ -34,11 +32,10 @@ import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.MemberValuePair;
 import org.eclipse.jdt.core.dom.NormalAnnotation;
 import org.eclipse.jdt.core.dom.SingleMemberAnnotation;
-import org.eclipse.jdt.internal.core.ImportContainerInfo;
-import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.util.Ranges;
+import org.eclipse.lsp4mp.jdt.internal.core.utils.CompilationUnitImportsCache;
 
 /**
  * Java annotations utilities.
@@ -100,10 +97,19 @@ public class AnnotationUtils {
 	 */
 	public static IAnnotation getAnnotation(IAnnotatable annotatable, String... annotationNames)
 			throws JavaModelException {
+		if (annotatable == null) {
+			return null;
+		}
+		// Get the annotations once for all annotation names
+		IAnnotation[] annotations = annotatable.getAnnotations();
+		if (annotations.length == 0) {
+			return null;
+		}
 		for (String annotationName : annotationNames) {
-			IAnnotation annotation = getAnnotation(annotatable, annotationName);
-			if (annotation != null) {
-				return annotation;
+			for (IAnnotation annotation : annotations) {
+				if (isMatchAnnotation(annotation, annotationName)) {
+					return annotation;
+				}
 			}
 		}
 		return null;
@@ -155,56 +161,14 @@ public class AnnotationUtils {
 		// }
 
 		// But for performance reason, we check if the import of annotation name is
-		// declared
+		// declared. The imports are collected once per compilation unit and cached
+		// until the compilation unit changes.
 
 		ICompilationUnit unit = (ICompilationUnit) annotation.getAncestor(IJavaElement.COMPILATION_UNIT);
 		if (unit == null) {
 			return false;
 		}
-		IImportContainer container = unit.getImportContainer();
-		if (container == null) {
-			return false;
-		}
-
-		// The following code uses JDT internal class and looks like
-		// ICompilationUnit#getImports()
-		// To avoid creating an array of IImportDeclaration, we do the following code:
-
-		JavaModelManager manager = JavaModelManager.getJavaModelManager();
-		Object info = manager.getInfo(container);
-		if (info == null) {
-			if (manager.getInfo(unit) != null) {
-				// CU was opened, but no import container, then no imports
-				// return NO_IMPORTS;
-				return false;
-			} else {
-				try {
-					unit.open(null);
-				} catch (JavaModelException e) {
-					// TODO Auto-generated catch block
-					e.printStackTrace();
-				} // force opening of CU
-				info = manager.getInfo(container);
-				if (info == null)
-					// after opening, if no import container, then no imports
-					// return NO_IMPORTS;
-					return false;
-			}
-		}
-		IJavaElement[] elements = ((ImportContainerInfo) info).getChildren();
-		for (IJavaElement child : elements) {
-			IImportDeclaration importDeclaration = (IImportDeclaration) child;
-			if (importDeclaration.isOnDemand()) {
-				String fqn = importDeclaration.getElementName();
-				String qualifier = fqn.substring(0, fqn.lastIndexOf('.'));
-				if (qualifier.equals(annotationName.substring(0, annotationName.lastIndexOf('.')))) {
-					return true;
-				}
-			} else if (importDeclaration.getElementName().equals(annotationName)) {
-				return true;
-			}
-		}
-		return false;
+		return CompilationUnitImportsCache.getInstance().isImported(unit, annotationName);
 	}
 
 	/**
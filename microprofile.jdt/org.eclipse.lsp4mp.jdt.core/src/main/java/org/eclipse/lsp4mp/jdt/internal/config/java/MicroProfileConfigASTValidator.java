@@ -23,7 +23,9 @@ import static org.eclipse.lsp4mp.jdt.core.MicroProfileConfigConstants.MICRO_PROF
 import static org.eclipse.lsp4mp.jdt.core.utils.AnnotationUtils.getAnnotationMemberValueExpression;
 
 import java.text.MessageFormat;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
@@ -42,7 +44,7 @@ import org.eclipse.jdt.core.dom.StringLiteral;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
-import org.eclipse.lsp4mp.commons.utils.AntPathMatcher;
+import org.eclipse.lsp4mp.commons.utils.PropertyPatternsMatcher;
 import org.eclipse.lsp4mp.jdt.core.java.diagnostics.JavaDiagnosticsContext;
 import org.eclipse.lsp4mp.jdt.core.java.validators.JavaASTValidator;
 import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProject;
@@ -70,8 +72,6 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
 
 	private static final Logger LOGGER = Logger.getLogger(MicroProfileConfigASTValidator.class.getName());
 
-	private static final AntPathMatcher pathMatcher = new AntPathMatcher();
-
 	private static final Pattern ARRAY_SPLITTER = Pattern.compile("(?<!\\\\),");
 
 	private static final String EXPECTED_TYPE_ERROR_MESSAGE = "''{0}'' does not match the expected type of ''{1}''.";
@@ -82,7 +82,11 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
 
 	private static final String EMPTY_KEY_ERROR_MESSAGE = "The member ''{0}'' can'''t be empty.";
 
-	private List<String> patterns;
+	// patterns of the properties to ignore, compiled once per validation
+	private PropertyPatternsMatcher ignoredProperties;
+	// names of the properties which have a value in the config files when the
+	// validation starts
+	private Set<String> propertyNames;
 	// prefix from @ConfigProperties(prefix="")
 	private String currentPrefix;
 
@@ -90,7 +94,8 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
 	public void initialize(JavaDiagnosticsContext context, List<Diagnostic> diagnostics) {
 		super.initialize(context, diagnostics);
 		this.currentPrefix = null;
-		this.patterns = getPatternsFromContext(context);
+		this.ignoredProperties = getIgnoredPropertiesFromContext(context);
+		this.propertyNames = getPropertyNamesFromContext(context);
 	}
 
 	@Override
@@ -100,8 +105,27 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
 		return JDTTypeUtils.findType(javaProject, CONFIG_PROPERTY_ANNOTATION) != null;
 	}
 
-	private static List<String> getPatternsFromContext(JavaDiagnosticsContext context) {
-		return context.getSettings().getPatterns();
+	@Override
+	public boolean declaresReferencedPropertyNames() {
+		// The properties without default value are declared in the context
+		return true;
+	}
+
+	private static PropertyPatternsMatcher getIgnoredPropertiesFromContext(JavaDiagnosticsContext context) {
+		List<String> patterns = context.getSettings().getPatterns();
+		return patterns.isEmpty() ? PropertyPatternsMatcher.EMPTY : new PropertyPatternsMatcher(patterns);
+	}
+
+	private static Set<String> getPropertyNamesFromContext(JavaDiagnosticsContext context) {
+		IJavaProject javaProject = context.getJavaProject();
+		try {
+			JDTMicroProfileProject mpProject = JDTMicroProfileProjectManager.getInstance()
+					.getJDTMicroProfileProject(javaProject);
+			return mpProject.getPropertyNames();
+		} catch (JavaModelException e) {
+			LOGGER.log(Level.SEVERE, "@ConfigProperty validation attempted in a non MicroProfile project", e);
+			return Collections.emptySet();
+		}
 	}
 
 	@Override
@@ -214,11 +238,16 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
 					String message = MessageFormat.format(EMPTY_KEY_ERROR_MESSAGE, CONFIG_PROPERTY_ANNOTATION_NAME);
 					Diagnostic d = super.addDiagnostic(message, MICRO_PROFILE_CONFIG_DIAGNOSTIC_SOURCE, nameExpression,
 							MicroProfileConfigErrorCode.EMPTY_KEY, DiagnosticSeverity.Error);
-				} else if (!hasDefaultValue && !doesPropertyHaveValue(name, getContext()) && !isPropertyIgnored(name)) {
-					String message = MessageFormat.format(NO_VALUE_ERROR_MESSAGE, name);
-					Diagnostic d = super.addDiagnostic(message, MICRO_PROFILE_CONFIG_DIAGNOSTIC_SOURCE, nameExpression,
-							MicroProfileConfigErrorCode.NO_VALUE_ASSIGNED_TO_PROPERTY, DiagnosticSeverity.Warning);
-					setDataForUnassigned(name, d);
+				} else if (!hasDefaultValue) {
+					// the diagnostic depends on the value of the property in the config files
+					getContext().addReferencedPropertyName(name);
+					if (!propertyNames.contains(name) && !ignoredProperties.match(name)) {
+						String message = MessageFormat.format(NO_VALUE_ERROR_MESSAGE, name);
+						Diagnostic d = super.addDiagnostic(message, MICRO_PROFILE_CONFIG_DIAGNOSTIC_SOURCE,
+								nameExpression, MicroProfileConfigErrorCode.NO_VALUE_ASSIGNED_TO_PROPERTY,
+								DiagnosticSeverity.Warning);
+						setDataForUnassigned(name, d);
+					}
 				}
 			}
 		} catch (JavaModelException e) {
@@ -227,15 +256,6 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
 		}
 	}
 
-	private boolean isPropertyIgnored(String propertyName) {
-		for (String pattern : patterns) {
-			if (pathMatcher.match(pattern, propertyName)) {
-				return true;
-			}
-		}
-		return false;
-	}
-
 	private static boolean isListLike(ITypeBinding type) {
 		if (type.isArray()) {
 			return true;
@@ -316,18 +336,6 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
 		}
 	}
 
-	private static boolean doesPropertyHaveValue(String property, JavaDiagnosticsContext context) {
-		IJavaProject javaProject = context.getJavaProject();
-		try {
-			JDTMicroProfileProject mpProject = JDTMicroProfileProjectManager.getInstance()
-					.getJDTMicroProfileProject(javaProject);
-			return mpProject.hasProperty(property);
-		} catch (JavaModelException e) {
-			LOGGER.log(Level.SEVERE, "@ConfigProperty validation attempted in a non MicroProfile project", e);
-			return false;
-		}
-	}
-
 	public static void setDataForUnassigned(String name, Diagnostic diagnostic) {
 		JsonObject data = new JsonObject();
 		data.addProperty(DIAGNOSTIC_DATA_NAME, name);
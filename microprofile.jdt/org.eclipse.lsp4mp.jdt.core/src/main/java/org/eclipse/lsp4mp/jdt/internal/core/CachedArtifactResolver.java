@@ -0,0 +1,335 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.lsp4mp.jdt.core.ArtifactResolver;
+
+/**
+ * Artifact resolver which caches the resolved artifact files of a delegate
+ * resolver.
+ *
+ * <ul>
+ * <li>the cache is keyed by groupId:artifactId:version(:classifier).</li>
+ * <li>a cached entry is used only if the resolved file still exists in the
+ * local repository with the same size and last modification date (a
+ * re-downloaded artifact is resolved again).</li>
+ * <li>SNAPSHOT artifacts are never cached.</li>
+ * <li>the cache can be persisted in a properties file to be reused across
+ * sessions.</li>
+ * <li>the artifacts which are not cached are resolved concurrently on a bounded
+ * pool of threads (shared by all the calls and released when idle) with
+ * {@link #getArtifacts(Collection, IProgressMonitor)}.</li>
+ * </ul>
+ *
+ */
+public class CachedArtifactResolver implements ArtifactResolver {
+
+	private static final Logger LOGGER = Logger.getLogger(CachedArtifactResolver.class.getName());
+
+	private static final int DEFAULT_PARALLELISM = Math.max(1,
+			Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+	public static final CachedArtifactResolver MAVEN = new CachedArtifactResolver(new MavenArtifactResolver());
+
+	private final ArtifactResolver delegate;
+
+	private final int parallelism;
+
+	private final Map<String, CachedArtifact> resolvedArtifacts;
+
+	private final AtomicBoolean dirty;
+
+	private File cacheFile;
+
+	private ThreadPoolExecutor executor;
+
+	/**
+	 * Resolved artifact file with its size and last modification date at
+	 * resolution time.
+	 */
+	private static class CachedArtifact {
+
+		private final String file;
+
+		private final long size;
+
+		private final long lastModified;
+
+		public CachedArtifact(String file, long size, long lastModified) {
+			this.file = file;
+			this.size = size;
+			this.lastModified = lastModified;
+		}
+
+		public static CachedArtifact create(String file) {
+			File f = new File(file);
+			return new CachedArtifact(file, f.length(), f.lastModified());
+		}
+
+		/**
+		 * Returns true if the file has not been removed or updated since its
+		 * resolution.
+		 */
+		public boolean isValid() {
+			File f = new File(file);
+			return f.isFile() && f.length() == size && f.lastModified() == lastModified;
+		}
+
+		public static CachedArtifact parse(String value) {
+			// <size>:<lastModified>:<file>
+			String[] parts = value.split(":", 3);
+			if (parts.length != 3) {
+				return null;
+			}
+			try {
+				return new CachedArtifact(parts[2], Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+
+		@Override
+		public String toString() {
+			return size + ":" + lastModified + ":" + file;
+		}
+	}
+
+	public CachedArtifactResolver(ArtifactResolver delegate) {
+		this(delegate, DEFAULT_PARALLELISM);
+	}
+
+	public CachedArtifactResolver(ArtifactResolver delegate, int parallelism) {
+		this.delegate = delegate;
+		this.parallelism = parallelism;
+		this.resolvedArtifacts = new ConcurrentHashMap<>();
+		this.dirty = new AtomicBoolean();
+	}
+
+	@Override
+	public String getArtifact(Artifact artifact, IProgressMonitor monitor) {
+		String key = getKey(artifact);
+		String file = getCachedArtifact(key);
+		if (file != null) {
+			return file;
+		}
+		file = delegate.getArtifact(artifact, monitor);
+		if (file != null && !isSnapshot(artifact)) {
+			resolvedArtifacts.put(key, CachedArtifact.create(file));
+			dirty.set(true);
+		}
+		return file;
+	}
+
+	@Override
+	public Map<Artifact, String> getArtifacts(Collection<Artifact> artifacts, IProgressMonitor monitor) {
+		Map<Artifact, String> result = new LinkedHashMap<>();
+		List<Artifact> toResolve = new ArrayList<>();
+		for (Artifact artifact : artifacts) {
+			String file = getCachedArtifact(getKey(artifact));
+			if (file != null) {
+				result.put(artifact, file);
+			} else if (!toResolve.contains(artifact)) {
+				toResolve.add(artifact);
+			}
+		}
+		if (toResolve.isEmpty()) {
+			return result;
+		}
+		SubMonitor subMonitor = SubMonitor.convert(monitor, toResolve.size());
+		if (toResolve.size() == 1) {
+			Artifact artifact = toResolve.get(0);
+			result.put(artifact, getArtifact(artifact, subMonitor.split(1)));
+		} else {
+			resolveConcurrently(toResolve, result, subMonitor);
+		}
+		save();
+		return result;
+	}
+
+	private void resolveConcurrently(List<Artifact> toResolve, Map<Artifact, String> result, SubMonitor monitor) {
+		ExecutorCompletionService<String> completionService = new ExecutorCompletionService<>(getExecutor());
+		Map<Future<String>, Artifact> futures = new HashMap<>(toResolve.size());
+		for (Artifact artifact : toResolve) {
+			// The progress monitor cannot be shared between threads, the cancellation of
+			// the main monitor is checked when a resolution is done.
+			futures.put(completionService.submit(() -> getArtifact(artifact, new NullProgressMonitor())), artifact);
+		}
+		try {
+			for (int i = 0; i < toResolve.size(); i++) {
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				Future<String> future = completionService.take();
+				Artifact artifact = futures.remove(future);
+				try {
+					result.put(artifact, future.get());
+				} catch (ExecutionException e) {
+					// The artifact is marked as unresolved and the other resolutions go on
+					LOGGER.log(Level.SEVERE, "Error while resolving artifact '" + getKey(artifact) + "'.",
+							e.getCause());
+					result.put(artifact, null);
+				}
+				monitor.worked(1);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			// Cancel the pending resolutions (on cancellation)
+			futures.keySet().forEach(future -> future.cancel(true));
+		}
+	}
+
+	private synchronized ThreadPoolExecutor getExecutor() {
+		if (executor == null) {
+			AtomicInteger threadCount = new AtomicInteger();
+			executor = new ThreadPoolExecutor(parallelism, parallelism, 30, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), r -> {
+						Thread thread = new Thread(r, "LSP4MP artifact resolver-" + threadCount.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					});
+			// The threads are released when no artifact is resolved
+			executor.allowCoreThreadTimeOut(true);
+		}
+		return executor;
+	}
+
+	@Override
+	public Set<Artifact> getDependencies(Artifact artifact, IProgressMonitor monitor) {
+		return delegate.getDependencies(artifact, monitor);
+	}
+
+	private String getCachedArtifact(String key) {
+		CachedArtifact cached = resolvedArtifacts.get(key);
+		if (cached == null) {
+			return null;
+		}
+		if (cached.isValid()) {
+			return cached.file;
+		}
+		// The artifact has been removed or updated in the local repository, it must be
+		// resolved again.
+		resolvedArtifacts.remove(key, cached);
+		dirty.set(true);
+		return null;
+	}
+
+	private static boolean isSnapshot(Artifact artifact) {
+		String version = artifact.getVersion();
+		return version != null && version.endsWith("-SNAPSHOT");
+	}
+
+	private static String getKey(Artifact artifact) {
+		StringBuilder key = new StringBuilder(artifact.getGroupId()) //
+				.append(':') //
+				.append(artifact.getArtifactId()) //
+				.append(':') //
+				.append(artifact.getVersion());
+		if (artifact.getClassifier() != null) {
+			key.append(':') //
+					.append(artifact.getClassifier());
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Set the file used to persist the cache and load the cache from this file.
+	 *
+	 * @param cacheFile the file used to persist the cache.
+	 */
+	public void setCacheFile(File cacheFile) {
+		this.cacheFile = cacheFile;
+		load();
+	}
+
+	private void load() {
+		if (cacheFile == null || !cacheFile.isFile()) {
+			return;
+		}
+		Properties properties = new Properties();
+		try (InputStream input = new FileInputStream(cacheFile)) {
+			properties.load(input);
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, "Error while loading artifacts cache from '" + cacheFile + "'.", e);
+			return;
+		}
+		properties.forEach((key, value) -> {
+			CachedArtifact cached = CachedArtifact.parse((String) value);
+			if (cached != null) {
+				resolvedArtifacts.putIfAbsent((String) key, cached);
+			} else {
+				// Entry from an older format, it is removed at the next save
+				dirty.set(true);
+			}
+		});
+	}
+
+	/**
+	 * Persist the cache if it has been updated since the last save.
+	 */
+	public void save() {
+		if (cacheFile == null || !dirty.compareAndSet(true, false)) {
+			return;
+		}
+		Properties properties = new Properties();
+		resolvedArtifacts.forEach((key, cached) -> properties.put(key, cached.toString()));
+		cacheFile.getParentFile().mkdirs();
+		try (OutputStream output = new FileOutputStream(cacheFile)) {
+			properties.store(output, "Resolved artifacts");
+		} catch (IOException e) {
+			dirty.set(true);
+			LOGGER.log(Level.WARNING, "Error while saving artifacts cache in '" + cacheFile + "'.", e);
+		}
+	}
+
+	/**
+	 * Clear the cache.
+	 */
+	public void clear() {
+		resolvedArtifacts.clear();
+		dirty.set(true);
+	}
+
+}
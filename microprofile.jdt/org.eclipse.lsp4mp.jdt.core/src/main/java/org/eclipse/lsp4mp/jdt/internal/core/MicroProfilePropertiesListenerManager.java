@@ -33,9 +33,11 @@ import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.jdt.core.IMicroProfilePropertiesChangedListener;
+import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProject;
 import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProjectManager;
 import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
 
@@ -165,18 +167,33 @@ public class MicroProfilePropertiesListenerManager {
 					event.setType(MicroProfilePropertiesScope.ONLY_CONFIG_FILES);
 					event.setProjectURIs(new HashSet<String>());
 					event.getProjectURIs().add(JDTMicroProfileUtils.getProjectURI(file.getProject()));
-					fireAsyncEvent(event);
+					JDTMicroProfileProject mpProject = getJDTMicroProfileProject(file);
+					if (mpProject != null) {
+						// Evict the config sources before firing the event to compute the changed
+						// properties from the previous config sources.
+						mpProject.evictConfigSourcesCache();
+					}
+					fireAsyncEvent(event, mpProject);
 				}
 			}
 			return false;
 		}
 
 		private void fireAsyncEvent(MicroProfilePropertiesChangeEvent event) {
+			fireAsyncEvent(event, null);
+		}
+
+		private void fireAsyncEvent(MicroProfilePropertiesChangeEvent event, JDTMicroProfileProject mpProject) {
 			// IMPORTANT: The LSP notification 'microprofile/propertiesChanged' must be
 			// executed
 			// in background otherwise it breaks everything (JDT LS for Java completion,
 			// hover, etc are broken)
 			CompletableFuture.runAsync(() -> {
+				if (mpProject != null) {
+					// Compute the changed properties in background since it loads the config
+					// sources.
+					event.setChangedPropertyNames(mpProject.getChangedPropertyNames());
+				}
 				for (IMicroProfilePropertiesChangedListener listener : listeners) {
 					try {
 						listener.propertiesChanged(event);
@@ -198,6 +215,19 @@ public class MicroProfilePropertiesListenerManager {
 			return JDTMicroProfileProjectManager.getInstance().isConfigSource(file);
 		}
 
+		private JDTMicroProfileProject getJDTMicroProfileProject(IFile file) {
+			IJavaProject javaProject = JavaCore.create(file.getProject());
+			if (javaProject == null) {
+				return null;
+			}
+			try {
+				return JDTMicroProfileProjectManager.getInstance().getJDTMicroProfileProject(javaProject);
+			} catch (JavaModelException e) {
+				LOGGER.log(Level.SEVERE, "Error while getting MicroProfile project", e);
+				return null;
+			}
+		}
+
 		private boolean isFileContentChanged(IResourceDelta delta) {
 			return (delta.getKind() == IResourceDelta.CHANGED && (delta.getFlags() & IResourceDelta.CONTENT) != 0);
 		}
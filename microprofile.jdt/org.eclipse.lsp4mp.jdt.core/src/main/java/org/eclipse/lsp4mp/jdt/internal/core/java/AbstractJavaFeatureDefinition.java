@@ -15,6 +15,8 @@ package org.eclipse.lsp4mp.jdt.internal.core.java;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.lsp4mp.jdt.internal.core.statistics.DelegateCommandStatistics;
+import org.eclipse.lsp4mp.jdt.internal.core.statistics.DelegateCommandStatistics.Measure;
 
 /**
  * Wrapper class around a java feature participant.
@@ -25,10 +27,13 @@ public abstract class AbstractJavaFeatureDefinition<T> {
 
 	private final IConfigurationElement element;
 
+	private final String participantName;
+
 	private T participant;
 
 	public AbstractJavaFeatureDefinition(IConfigurationElement element) {
 		this.element = element;
+		this.participantName = element.getAttribute(CLASS_ATTR);
 	}
 
 	protected T getParticipant() throws CoreException {
@@ -38,4 +43,14 @@ public abstract class AbstractJavaFeatureDefinition<T> {
 		return participant;
 	}
 
+	/**
+	 * Start the measure of the call of the given method of the participant.
+	 *
+	 * @param method the called method.
+	 * @return the started measure.
+	 */
+	protected Measure startMeasure(String method) {
+		return DelegateCommandStatistics.getInstance().startParticipant(participantName, method);
+	}
+
 }
@@ -103,7 +103,7 @@ public class ChangeUtil {
 			return;
 		}
 
-		TextEditConverter converter = new TextEditConverter(unit, edit, uri, utils);
+		TextEditConverter converter = new TextEditConverter(unit, edit, uri);
 		if (resourceOperationSupported) {
 			List<Either<TextDocumentEdit, ResourceOperation>> changes = root.getDocumentChanges();
 			if (changes == null) {
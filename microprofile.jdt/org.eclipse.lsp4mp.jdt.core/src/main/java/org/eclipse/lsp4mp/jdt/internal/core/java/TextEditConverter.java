@@ -13,20 +13,21 @@
 package org.eclipse.lsp4mp.jdt.internal.core.java;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apache.commons.lang3.StringUtils;
-import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.core.util.SimpleDocument;
 import org.eclipse.jface.text.BadLocationException;
-import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentEdit;
 import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
-import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
 import org.eclipse.text.edits.CopySourceEdit;
 import org.eclipse.text.edits.CopyTargetEdit;
 import org.eclipse.text.edits.DeleteEdit;
@@ -44,6 +45,13 @@ import org.eclipse.text.edits.TextEditVisitor;
  * Converts an {@link org.eclipse.text.edits.TextEdit} to
  * {@link org.eclipse.lsp4j.TextEdit}
  *
+ * <p>
+ * The source of the compilation unit is read once per conversion: the LSP
+ * ranges are computed from a line table of the source and the edits which need
+ * to be applied to compute their content (copy, move, multi) share a single
+ * scratch document.
+ * </p>
+ *
  * @author Gorkem Ercan
  *
  */
@@ -57,9 +65,15 @@ public class TextEditConverter extends TextEditVisitor {
 
 	private final String uri;
 
-	private final IJDTUtils utils;
+	private String sourceContent;
+
+	private int[] lineStarts;
+
+	private IDocument document;
+
+	private boolean documentModified;
 
-	public TextEditConverter(ICompilationUnit unit, TextEdit edit, String uri, IJDTUtils utils) {
+	public TextEditConverter(ICompilationUnit unit, TextEdit edit, String uri) {
 		this.source = edit;
 		this.converted = new ArrayList<>();
 		if (unit == null) {
@@ -67,11 +81,16 @@ public class TextEditConverter extends TextEditVisitor {
 		}
 		this.compilationUnit = unit;
 		this.uri = uri;
-		this.utils = utils;
 	}
 
 	public List<org.eclipse.lsp4j.TextEdit> convert() {
 		if (this.source != null) {
+			try {
+				initialize();
+			} catch (JavaModelException e) {
+				LOGGER.log(Level.SEVERE, "Error converting TextEdits", e);
+				return converted;
+			}
 			this.source.accept(this);
 		}
 		return converted;
@@ -91,14 +110,10 @@ public class TextEditConverter extends TextEditVisitor {
 	 */
 	@Override
 	public boolean visit(InsertEdit edit) {
-		try {
-			org.eclipse.lsp4j.TextEdit te = new org.eclipse.lsp4j.TextEdit();
-			te.setNewText(edit.getText());
-			te.setRange(utils.toRange(compilationUnit, edit.getOffset(), edit.getLength()));
-			converted.add(te);
-		} catch (JavaModelException e) {
-			LOGGER.log(Level.SEVERE, "Error converting TextEdits", e);
-		}
+		org.eclipse.lsp4j.TextEdit te = new org.eclipse.lsp4j.TextEdit();
+		te.setNewText(edit.getText());
+		te.setRange(toRange(edit.getOffset(), edit.getLength()));
+		converted.add(te);
 		return super.visit(edit);
 	}
 
@@ -113,9 +128,8 @@ public class TextEditConverter extends TextEditVisitor {
 		try {
 			if (edit.getTargetEdit() != null) {
 				org.eclipse.lsp4j.TextEdit te = new org.eclipse.lsp4j.TextEdit();
-				te.setRange(utils.toRange(compilationUnit, edit.getOffset(), edit.getLength()));
-				Document doc = new Document(compilationUnit.getSource());
-				edit.apply(doc, TextEdit.UPDATE_REGIONS);
+				te.setRange(toRange(edit.getOffset(), edit.getLength()));
+				IDocument doc = applyToDocument(edit);
 				String content = doc.get(edit.getOffset(), edit.getLength());
 				if (edit.getSourceModifier() != null) {
 					content = applySourceModifier(content, edit.getSourceModifier());
@@ -124,7 +138,7 @@ public class TextEditConverter extends TextEditVisitor {
 				converted.add(te);
 			}
 			return false;
-		} catch (JavaModelException | MalformedTreeException | BadLocationException e) {
+		} catch (MalformedTreeException | BadLocationException e) {
 			LOGGER.log(Level.SEVERE, "Error converting TextEdits", e);
 		}
 		return super.visit(edit);
@@ -138,14 +152,10 @@ public class TextEditConverter extends TextEditVisitor {
 	 */
 	@Override
 	public boolean visit(DeleteEdit edit) {
-		try {
-			org.eclipse.lsp4j.TextEdit te = new org.eclipse.lsp4j.TextEdit();
-			te.setNewText("");
-			te.setRange(utils.toRange(compilationUnit, edit.getOffset(), edit.getLength()));
-			converted.add(te);
-		} catch (JavaModelException e) {
-			LOGGER.log(Level.SEVERE, "Error converting TextEdits", e);
-		}
+		org.eclipse.lsp4j.TextEdit te = new org.eclipse.lsp4j.TextEdit();
+		te.setNewText("");
+		te.setRange(toRange(edit.getOffset(), edit.getLength()));
+		converted.add(te);
 		return super.visit(edit);
 	}
 
@@ -159,14 +169,13 @@ public class TextEditConverter extends TextEditVisitor {
 	public boolean visit(MultiTextEdit edit) {
 		try {
 			org.eclipse.lsp4j.TextEdit te = new org.eclipse.lsp4j.TextEdit();
-			te.setRange(utils.toRange(compilationUnit, edit.getOffset(), edit.getLength()));
-			Document doc = new Document(compilationUnit.getSource());
-			edit.apply(doc, TextEdit.UPDATE_REGIONS);
+			te.setRange(toRange(edit.getOffset(), edit.getLength()));
+			IDocument doc = applyToDocument(edit);
 			String content = doc.get(edit.getOffset(), edit.getLength());
 			te.setNewText(content);
 			converted.add(te);
 			return false;
-		} catch (JavaModelException | MalformedTreeException | BadLocationException e) {
+		} catch (MalformedTreeException | BadLocationException e) {
 			LOGGER.log(Level.SEVERE, "Error converting TextEdits", e);
 		}
 		return false;
@@ -180,14 +189,10 @@ public class TextEditConverter extends TextEditVisitor {
 	 */
 	@Override
 	public boolean visit(ReplaceEdit edit) {
-		try {
-			org.eclipse.lsp4j.TextEdit te = new org.eclipse.lsp4j.TextEdit();
-			te.setNewText(edit.getText());
-			te.setRange(utils.toRange(compilationUnit, edit.getOffset(), edit.getLength()));
-			converted.add(te);
-		} catch (JavaModelException e) {
-			LOGGER.log(Level.SEVERE, "Error converting TextEdits", e);
-		}
+		org.eclipse.lsp4j.TextEdit te = new org.eclipse.lsp4j.TextEdit();
+		te.setNewText(edit.getText());
+		te.setRange(toRange(edit.getOffset(), edit.getLength()));
+		converted.add(te);
 		return super.visit(edit);
 	}
 
@@ -202,10 +207,9 @@ public class TextEditConverter extends TextEditVisitor {
 		try {
 			if (edit.getSourceEdit() != null) {
 				org.eclipse.lsp4j.TextEdit te = new org.eclipse.lsp4j.TextEdit();
-				te.setRange(utils.toRange(compilationUnit, edit.getOffset(), edit.getLength()));
+				te.setRange(toRange(edit.getOffset(), edit.getLength()));
 
-				Document doc = new Document(compilationUnit.getSource());
-				edit.apply(doc, TextEdit.UPDATE_REGIONS);
+				IDocument doc = applyToDocument(edit);
 				String content = doc.get(edit.getSourceEdit().getOffset(), edit.getSourceEdit().getLength());
 
 				if (edit.getSourceEdit().getSourceModifier() != null) {
@@ -216,7 +220,7 @@ public class TextEditConverter extends TextEditVisitor {
 				converted.add(te);
 			}
 			return false; // do not visit children
-		} catch (MalformedTreeException | BadLocationException | CoreException e) {
+		} catch (MalformedTreeException | BadLocationException e) {
 			LOGGER.log(Level.SEVERE, "Error converting TextEdits", e);
 		}
 		return super.visit(edit);
@@ -230,20 +234,16 @@ public class TextEditConverter extends TextEditVisitor {
 	 */
 	@Override
 	public boolean visit(MoveSourceEdit edit) {
-		try {
-			// If MoveSourcedEdit & MoveTargetEdit are the same level, should delete the
-			// original contenxt.
-			// See issue#https://github.com/redhat-developer/vscode-java/issues/253
-			if (edit.getParent() != null && edit.getTargetEdit() != null
-					&& edit.getParent().equals(edit.getTargetEdit().getParent())) {
-				org.eclipse.lsp4j.TextEdit te = new org.eclipse.lsp4j.TextEdit();
-				te.setNewText("");
-				te.setRange(utils.toRange(compilationUnit, edit.getOffset(), edit.getLength()));
-				converted.add(te);
-				return false;
-			}
-		} catch (JavaModelException e) {
-			LOGGER.log(Level.SEVERE, "Error converting TextEdits", e);
+		// If MoveSourcedEdit & MoveTargetEdit are the same level, should delete the
+		// original contenxt.
+		// See issue#https://github.com/redhat-developer/vscode-java/issues/253
+		if (edit.getParent() != null && edit.getTargetEdit() != null
+				&& edit.getParent().equals(edit.getTargetEdit().getParent())) {
+			org.eclipse.lsp4j.TextEdit te = new org.eclipse.lsp4j.TextEdit();
+			te.setNewText("");
+			te.setRange(toRange(edit.getOffset(), edit.getLength()));
+			converted.add(te);
+			return false;
 		}
 		return super.visit(edit);
 	}
@@ -259,10 +259,9 @@ public class TextEditConverter extends TextEditVisitor {
 		try {
 			if (edit.getSourceEdit() != null) {
 				org.eclipse.lsp4j.TextEdit te = new org.eclipse.lsp4j.TextEdit();
-				te.setRange(utils.toRange(compilationUnit, edit.getOffset(), edit.getLength()));
+				te.setRange(toRange(edit.getOffset(), edit.getLength()));
 
-				Document doc = new Document(compilationUnit.getSource());
-				edit.apply(doc, TextEdit.UPDATE_REGIONS);
+				IDocument doc = applyToDocument(edit);
 				String content = doc.get(edit.getSourceEdit().getOffset(), edit.getSourceEdit().getLength());
 				if (edit.getSourceEdit().getSourceModifier() != null) {
 					content = applySourceModifier(content, edit.getSourceEdit().getSourceModifier());
@@ -271,12 +270,82 @@ public class TextEditConverter extends TextEditVisitor {
 				converted.add(te);
 				return false; // do not visit children
 			}
-		} catch (MalformedTreeException | BadLocationException | CoreException e) {
+		} catch (MalformedTreeException | BadLocationException e) {
 			LOGGER.log(Level.SEVERE, "Error converting TextEdits", e);
 		}
 		return super.visit(edit);
 	}
 
+	private void initialize() throws JavaModelException {
+		if (sourceContent != null) {
+			return;
+		}
+		String source = compilationUnit.getSource();
+		sourceContent = source != null ? source : "";
+		lineStarts = computeLineStarts(sourceContent);
+	}
+
+	/**
+	 * Applies the given edit to the scratch document which is reset to the
+	 * original source of the compilation unit when a previous edit has modified
+	 * it.
+	 *
+	 * @param edit the edit to apply.
+	 * @return the scratch document with the applied edit.
+	 * @throws MalformedTreeException
+	 * @throws BadLocationException
+	 */
+	private IDocument applyToDocument(TextEdit edit) throws MalformedTreeException, BadLocationException {
+		if (document == null) {
+			document = new SimpleDocument(sourceContent);
+		} else if (documentModified) {
+			document.set(sourceContent);
+		}
+		documentModified = true;
+		edit.apply(document, TextEdit.UPDATE_REGIONS);
+		return document;
+	}
+
+	private Range toRange(int offset, int length) {
+		return new Range(toPosition(offset), toPosition(offset + length));
+	}
+
+	private Position toPosition(int offset) {
+		int clamped = Math.max(0, Math.min(offset, sourceContent.length()));
+		int line = Arrays.binarySearch(lineStarts, clamped);
+		if (line < 0) {
+			// insertion point - 1 is the line which contains the offset
+			line = -line - 2;
+		}
+		return new Position(line, clamped - lineStarts[line]);
+	}
+
+	/**
+	 * Returns the start offsets of each line of the given text. '\n', '\r' and
+	 * '\r\n' are considered as line delimiters.
+	 *
+	 * @param text the text.
+	 * @return the start offsets of each line of the given text.
+	 */
+	static int[] computeLineStarts(String text) {
+		int[] starts = new int[16];
+		int count = 1;
+		int length = text.length();
+		for (int i = 0; i < length; i++) {
+			char c = text.charAt(i);
+			if (c == '\r' && i + 1 < length && text.charAt(i + 1) == '\n') {
+				i++;
+			} else if (c != '\r' && c != '\n') {
+				continue;
+			}
+			if (count == starts.length) {
+				starts = Arrays.copyOf(starts, count * 2);
+			}
+			starts[count++] = i + 1;
+		}
+		return Arrays.copyOf(starts, count);
+	}
+
 	private String applySourceModifier(String content, ISourceModifier modifier) {
 		if (StringUtils.isBlank(content) || modifier == null) {
 			return content;
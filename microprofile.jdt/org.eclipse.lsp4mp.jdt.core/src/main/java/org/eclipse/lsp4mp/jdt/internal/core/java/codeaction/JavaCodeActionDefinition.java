@@ -30,6 +30,7 @@ import org.eclipse.lsp4mp.jdt.core.java.codeaction.IJavaCodeActionParticipant;
 import org.eclipse.lsp4mp.jdt.core.java.codeaction.JavaCodeActionContext;
 import org.eclipse.lsp4mp.jdt.core.java.codeaction.JavaCodeActionResolveContext;
 import org.eclipse.lsp4mp.jdt.internal.core.java.AbstractJavaFeatureDefinition;
+import org.eclipse.lsp4mp.jdt.internal.core.statistics.DelegateCommandStatistics.Measure;
 
 /**
  * Wrapper class around {@link IJavaCodeActionParticipant} participants.
@@ -67,33 +68,42 @@ public class JavaCodeActionDefinition extends AbstractJavaFeatureDefinition<IJav
 
 	@Override
 	public boolean isAdaptedForCodeAction(JavaCodeActionContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("isAdaptedForCodeAction");
 		try {
 			return getParticipant().isAdaptedForCodeAction(context, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while calling isAdaptedForCodeAction", e);
 			return false;
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
 	@Override
 	public List<? extends CodeAction> getCodeActions(JavaCodeActionContext context, Diagnostic diagnostic,
 			IProgressMonitor monitor) {
+		Measure measure = startMeasure("getCodeActions");
 		try {
 			List<? extends CodeAction> codeActions = getParticipant().getCodeActions(context, diagnostic, monitor);
 			return codeActions != null ? codeActions : Collections.emptyList();
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while calling getCodeActions", e);
 			return Collections.emptyList();
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
 	@Override
 	public CodeAction resolveCodeAction(JavaCodeActionResolveContext context) {
+		Measure measure = startMeasure("resolveCodeAction");
 		try {
 			return getParticipant().resolveCodeAction(context);
 		} catch (CoreException e) {
 			LOGGER.log(Level.WARNING, "Unable to get CodeAction participant", e);
 			return context.getUnresolved();
+		} finally {
+			measure.end(false);
 		}
 	}
 
@@ -23,6 +23,7 @@ import org.eclipse.lsp4j.CodeLens;
 import org.eclipse.lsp4mp.jdt.core.java.codelens.IJavaCodeLensParticipant;
 import org.eclipse.lsp4mp.jdt.core.java.codelens.JavaCodeLensContext;
 import org.eclipse.lsp4mp.jdt.internal.core.java.AbstractJavaFeatureDefinition;
+import org.eclipse.lsp4mp.jdt.internal.core.statistics.DelegateCommandStatistics.Measure;
 
 /**
  * Wrapper class around java participants {@link IJavaCodeLensParticipant}.
@@ -39,39 +40,51 @@ public class JavaCodeLensDefinition extends AbstractJavaFeatureDefinition<IJavaC
 
 	@Override
 	public boolean isAdaptedForCodeLens(JavaCodeLensContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("isAdaptedForCodeLens");
 		try {
 			return getParticipant().isAdaptedForCodeLens(context, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while calling isAdaptedForCodeLens", e);
 			return false;
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
 	@Override
 	public void beginCodeLens(JavaCodeLensContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("beginCodeLens");
 		try {
 			getParticipant().beginCodeLens(context, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while calling beginCodeLens", e);
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
 	@Override
 	public List<CodeLens> collectCodeLens(JavaCodeLensContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("collectCodeLens");
 		try {
 			return getParticipant().collectCodeLens(context, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while collecting codeLens", e);
 			return null;
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
 	@Override
 	public void endCodeLens(JavaCodeLensContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("endCodeLens");
 		try {
 			getParticipant().endCodeLens(context, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while calling endCodeLens", e);
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
@@ -26,6 +26,7 @@ import org.eclipse.lsp4mp.jdt.core.java.completion.IJavaCompletionParticipant;
 import org.eclipse.lsp4mp.jdt.core.java.completion.JavaCompletionContext;
 import org.eclipse.lsp4mp.jdt.internal.core.java.AbstractJavaFeatureDefinition;
 import org.eclipse.lsp4mp.jdt.internal.core.java.codelens.JavaCodeLensDefinition;
+import org.eclipse.lsp4mp.jdt.internal.core.statistics.DelegateCommandStatistics.Measure;
 
 /**
  * Wrap the completion participant in try/catch
@@ -45,22 +46,28 @@ public class JavaCompletionDefinition extends AbstractJavaFeatureDefinition<IJav
 
 	@Override
 	public boolean isAdaptedForCompletion(JavaCompletionContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("isAdaptedForCompletion");
 		try {
 			return getParticipant().isAdaptedForCompletion(context, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while calling isAdaptedForCompletion", e);
 			return false;
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
 	@Override
 	public List<? extends CompletionItem> collectCompletionItems(JavaCompletionContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("collectCompletionItems");
 		try {
 			List<? extends CompletionItem> completionItems = getParticipant().collectCompletionItems(context, monitor);
 			return completionItems != null ? completionItems : Collections.emptyList();
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while calling collectCompletionItems", e);
 			return Collections.emptyList();
+		} finally {
+			measure.end(monitor);
 		}
 	}
 }
@@ -23,6 +23,7 @@ import org.eclipse.lsp4mp.commons.MicroProfileDefinition;
 import org.eclipse.lsp4mp.jdt.core.java.definition.IJavaDefinitionParticipant;
 import org.eclipse.lsp4mp.jdt.core.java.definition.JavaDefinitionContext;
 import org.eclipse.lsp4mp.jdt.internal.core.java.AbstractJavaFeatureDefinition;
+import org.eclipse.lsp4mp.jdt.internal.core.statistics.DelegateCommandStatistics.Measure;
 
 /**
  * Wrapper class around java participants {@link IJavaDefinitionParticipant}.
@@ -40,39 +41,51 @@ public class JavaDefinitionDefinition extends AbstractJavaFeatureDefinition<IJav
 
 	@Override
 	public boolean isAdaptedForDefinition(JavaDefinitionContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("isAdaptedForDefinition");
 		try {
 			return getParticipant().isAdaptedForDefinition(context, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while calling isAdaptedForDefinition", e);
 			return false;
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
 	@Override
 	public void beginDefinition(JavaDefinitionContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("beginDefinition");
 		try {
 			getParticipant().beginDefinition(context, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while calling beginDefinition", e);
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
 	@Override
 	public List<MicroProfileDefinition> collectDefinitions(JavaDefinitionContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("collectDefinitions");
 		try {
 			return getParticipant().collectDefinitions(context, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while collecting definition", e);
 			return null;
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
 	@Override
 	public void endDefinition(JavaDefinitionContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("endDefinition");
 		try {
 			getParticipant().endDefinition(context, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while calling endDefinition", e);
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
@@ -23,6 +23,7 @@ import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4mp.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4mp.jdt.core.java.diagnostics.JavaDiagnosticsContext;
 import org.eclipse.lsp4mp.jdt.internal.core.java.AbstractJavaFeatureDefinition;
+import org.eclipse.lsp4mp.jdt.internal.core.statistics.DelegateCommandStatistics.Measure;
 
 /**
  * Wrapper class around java participants {@link IJavaDiagnosticsParticipant}.
@@ -39,39 +40,61 @@ public class JavaDiagnosticsDefinition extends AbstractJavaFeatureDefinition<IJa
 
 	@Override
 	public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("isAdaptedForDiagnostics");
 		try {
 			return getParticipant().isAdaptedForDiagnostics(context, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while calling isAdaptedForDiagnostics", e);
 			return false;
+		} finally {
+			measure.end(monitor);
+		}
+	}
+
+	@Override
+	public boolean declaresReferencedPropertyNames() {
+		try {
+			return getParticipant().declaresReferencedPropertyNames();
+		} catch (Exception e) {
+			LOGGER.log(Level.SEVERE, "Error while calling declaresReferencedPropertyNames", e);
+			return false;
 		}
 	}
 
 	@Override
 	public void beginDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("beginDiagnostics");
 		try {
 			getParticipant().beginDiagnostics(context, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while calling beginDiagnostics", e);
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
 	@Override
 	public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("collectDiagnostics");
 		try {
 			return getParticipant().collectDiagnostics(context, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while collecting diagnostics", e);
 			return null;
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
 	@Override
 	public void endDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("endDiagnostics");
 		try {
 			getParticipant().endDiagnostics(context, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while calling endDiagnostics", e);
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
@@ -22,6 +22,7 @@ import org.eclipse.lsp4j.Hover;
 import org.eclipse.lsp4mp.jdt.core.java.hover.IJavaHoverParticipant;
 import org.eclipse.lsp4mp.jdt.core.java.hover.JavaHoverContext;
 import org.eclipse.lsp4mp.jdt.internal.core.java.AbstractJavaFeatureDefinition;
+import org.eclipse.lsp4mp.jdt.internal.core.statistics.DelegateCommandStatistics.Measure;
 
 /**
  * Wrapper class around java participants {@link IJavaHoverParticipant}.
@@ -38,39 +39,51 @@ public class JavaHoverDefinition extends AbstractJavaFeatureDefinition<IJavaHove
 
 	@Override
 	public boolean isAdaptedForHover(JavaHoverContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("isAdaptedForHover");
 		try {
 			return getParticipant().isAdaptedForHover(context, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while calling isAdaptedForHover", e);
 			return false;
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
 	@Override
 	public void beginHover(JavaHoverContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("beginHover");
 		try {
 			getParticipant().beginHover(context, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while calling beginHover", e);
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
 	@Override
 	public Hover collectHover(JavaHoverContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("collectHover");
 		try {
 			return getParticipant().collectHover(context, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while collecting hover", e);
 			return null;
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
 	@Override
 	public void endHover(JavaHoverContext context, IProgressMonitor monitor) {
+		Measure measure = startMeasure("endHover");
 		try {
 			getParticipant().endHover(context, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while calling endHover", e);
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
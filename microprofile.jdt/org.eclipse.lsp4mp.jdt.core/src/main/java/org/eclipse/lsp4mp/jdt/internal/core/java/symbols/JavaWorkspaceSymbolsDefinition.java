@@ -24,6 +24,7 @@ import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4mp.jdt.core.java.symbols.IJavaWorkspaceSymbolsParticipant;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4mp.jdt.internal.core.java.AbstractJavaFeatureDefinition;
+import org.eclipse.lsp4mp.jdt.internal.core.statistics.DelegateCommandStatistics.Measure;
 
 /**
  * Wrapper class around {@link IJavaWorkspaceSymbolsParticipant} participants.
@@ -40,10 +41,13 @@ public class JavaWorkspaceSymbolsDefinition extends AbstractJavaFeatureDefinitio
 	@Override
 	public void collectSymbols(IJavaProject project, IJDTUtils utils, List<SymbolInformation> symbols,
 			IProgressMonitor monitor) {
+		Measure measure = startMeasure("collectSymbols");
 		try {
 			getParticipant().collectSymbols(project, utils, symbols, monitor);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Unable to get WorkspaceSymbol participant", e);
+		} finally {
+			measure.end(monitor);
 		}
 	}
 
@@ -38,6 +38,13 @@ import org.eclipse.lsp4mp.jdt.core.java.validators.JavaASTValidator;
  */
 public class JavaASTDiagnosticsParticipant implements IJavaDiagnosticsParticipant {
 
+	@Override
+	public boolean declaresReferencedPropertyNames() {
+		// Each adapted validator which doesn't declare its referenced properties marks
+		// them as unknown in the context (see JavaASTValidatorRegistry)
+		return true;
+	}
+
 	@Override
 	public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor)
 			throws CoreException {
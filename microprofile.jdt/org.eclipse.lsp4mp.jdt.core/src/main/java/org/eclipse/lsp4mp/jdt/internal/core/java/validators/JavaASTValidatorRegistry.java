@@ -215,6 +215,9 @@ public class JavaASTValidatorRegistry extends AnnotationValidator implements IRe
 		try {
 			if (validator.isAdaptedForDiagnostics(context, monitor)) {
 				validators.add(validator);
+				if (!validator.declaresReferencedPropertyNames()) {
+					context.setReferencedPropertyNamesUnknown();
+				}
 			}
 		} catch (CoreException e) {
 			LOGGER.log(Level.SEVERE,
@@ -49,6 +49,12 @@ public class AnnotationRulesJavaASTValidator extends JavaASTValidator {
 		this.rules = rules;
 	}
 
+	@Override
+	public boolean declaresReferencedPropertyNames() {
+		// The rules validate the literal values of the annotation attributes
+		return true;
+	}
+
 	@Override
 	public boolean visit(SingleMemberAnnotation annotation) {
 		validateAnnotation(annotation);
@@ -15,13 +15,24 @@ package org.eclipse.lsp4mp.jdt.internal.core.ls;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.ls.core.internal.IDelegateCommandHandler;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
 import org.eclipse.lsp4mp.jdt.core.IMicroProfilePropertiesChangedListener;
 import org.eclipse.lsp4mp.jdt.internal.core.MicroProfilePropertiesListenerManager;
+import org.eclipse.lsp4mp.jdt.internal.core.statistics.DelegateCommandStatistics;
+import org.eclipse.lsp4mp.jdt.internal.core.statistics.DelegateCommandStatistics.Measure;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.ServerAvailabilityMonitor;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.ServerAvailabilityMonitor.IServerAvailabilityListener;
 
 /**
  * Abstract class for MicroProfile JDT LS command handler
@@ -38,6 +49,8 @@ public abstract class AbstractMicroProfileDelegateCommandHandler implements IDel
 	 */
 	private static final String MICROPROFILE_PROPERTIES_CHANGED_COMMAND = "microprofile/propertiesChanged";
 
+	private static final String MICROPROFILE_JAVA_CODELENS_CHANGED_COMMAND = "microprofile/javaCodeLensChanged";
+
 	private static final IMicroProfilePropertiesChangedListener LISTENER = (event) -> {
 		try {
 			// Execute client command with a timeout of 5 seconds to avoid blocking jobs.
@@ -48,6 +61,61 @@ public abstract class AbstractMicroProfileDelegateCommandHandler implements IDel
 		}
 	};
 
+	/**
+	 * false when the client reported that it doesn't support the
+	 * "microprofile/javaCodeLensChanged" command. In this case, the URL code lens
+	 * are updated on the next code lens request of the client.
+	 */
+	private static volatile boolean javaCodeLensChangedSupported = true;
+
+	private static final IServerAvailabilityListener SERVER_AVAILABILITY_LISTENER = (host, port, available) -> {
+		if (!javaCodeLensChangedSupported) {
+			return;
+		}
+		try {
+			// The URL code lens depends on the server availability, ask the client to
+			// refresh the Java code lens.
+			JavaLanguageServerPlugin.getInstance().getClientConnection().executeClientCommand(
+					Duration.of(5, ChronoUnit.SECONDS), MICROPROFILE_JAVA_CODELENS_CHANGED_COMMAND);
+		} catch (Exception e) {
+			if (isUnsupportedCommand(e)) {
+				// The client doesn't support the command, stop sending it
+				javaCodeLensChangedSupported = false;
+				LOGGER.log(Level.INFO, "The client doesn't support the 'microprofile/javaCodeLensChanged' command, "
+						+ "the Java code lens will not be refreshed when a server availability changes");
+			} else {
+				// ex : timeout when the client is busy, the next availability change will
+				// send the command again
+				LOGGER.log(Level.WARNING, "Error while sending 'microprofile/javaCodeLensChanged' event to the client",
+						e);
+			}
+		}
+	};
+
+	/**
+	 * Returns true if the given error of a client command execution means that the
+	 * client doesn't know the command and false otherwise (ex : timeout).
+	 */
+	private static boolean isUnsupportedCommand(Throwable e) {
+		Throwable cause = e;
+		while (cause != null) {
+			if (cause instanceof TimeoutException) {
+				return false;
+			}
+			if (cause instanceof ResponseErrorException) {
+				ResponseErrorException error = (ResponseErrorException) cause;
+				if (error.getResponseError().getCode() == ResponseErrorCode.MethodNotFound.getValue()) {
+					return true;
+				}
+				// ex : VS Code rejects an unknown command with "command '...' not found"
+				String message = error.getResponseError().getMessage();
+				return message != null && message.contains("not found");
+			}
+			cause = cause.getCause();
+		}
+		return false;
+	}
+
 	private static boolean initialized;
 
 	public AbstractMicroProfileDelegateCommandHandler() {
@@ -64,6 +132,39 @@ public abstract class AbstractMicroProfileDelegateCommandHandler implements IDel
 		// Add a classpath changed listener to execute client command
 		// "microprofile/propertiesChanged"
 		MicroProfilePropertiesListenerManager.getInstance().addMicroProfilePropertiesChangedListener(LISTENER);
+		// Add a server availability listener to execute client command
+		// "microprofile/javaCodeLensChanged"
+		ServerAvailabilityMonitor.getInstance().addServerAvailabilityListener(SERVER_AVAILABILITY_LISTENER);
 		initialized = true;
 	}
+
+	/**
+	 * Execute the given command and record its duration and whether it has been
+	 * canceled in the {@link DelegateCommandStatistics}.
+	 */
+	@Override
+	public Object executeCommand(String commandId, List<Object> arguments, IProgressMonitor progress) throws Exception {
+		Measure measure = DelegateCommandStatistics.getInstance().startCommand(commandId);
+		boolean canceled = false;
+		try {
+			return doExecuteCommand(commandId, arguments, progress);
+		} catch (OperationCanceledException | CancellationException e) {
+			canceled = true;
+			throw e;
+		} finally {
+			measure.end(canceled || (progress != null && progress.isCanceled()));
+		}
+	}
+
+	/**
+	 * Execute the given command.
+	 *
+	 * @param commandId the command id.
+	 * @param arguments the command arguments.
+	 * @param progress  the progress monitor.
+	 * @return the result of the command.
+	 * @throws Exception
+	 */
+	protected abstract Object doExecuteCommand(String commandId, List<Object> arguments, IProgressMonitor progress)
+			throws Exception;
 }
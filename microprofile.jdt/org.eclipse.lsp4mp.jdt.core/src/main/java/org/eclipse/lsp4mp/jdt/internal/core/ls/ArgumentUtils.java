@@ -13,22 +13,34 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.core.ls;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.CodeActionContext;
 import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4mp.commons.utils.JSONUtility;
 
-import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 
 /**
  * Arguments utilities.
  *
+ * <p>
+ * The arguments of the delegate commands are trees of {@link Map},
+ * {@link List}, {@link String}, {@link Number} and {@link Boolean} (or
+ * {@link JsonElement} according to the LSP client) which are decoded field by
+ * field to avoid serializing them again with Gson.
+ * </p>
+ *
  * @author Angelo ZERR
  *
  */
@@ -36,6 +48,7 @@ public class ArgumentUtils {
 
 	private static final String DATA_PROPERTY = "data";
 	private static final String SOURCE_PROPERTY = "source";
+	private static final String SEVERITY_PROPERTY = "severity";
 	private static final String MESSAGE_PROPERTY = "message";
 	private static final String CODE_PROPERTY = "code";
 	private static final String RANGE_PROPERTY = "range";
@@ -69,6 +82,11 @@ public class ArgumentUtils {
 		return result != null && result instanceof Number ? ((Number) result).intValue() : 0;
 	}
 
+	public static Integer getInteger(Map<String, Object> obj, String key) {
+		Object result = obj.get(key);
+		return result != null && result instanceof Number ? ((Number) result).intValue() : null;
+	}
+
 	public static TextDocumentIdentifier getTextDocumentIdentifier(Map<String, Object> obj, String key) {
 		Map<String, Object> textDocumentIdentifierObj = (Map<String, Object>) obj.get(key);
 		if (textDocumentIdentifierObj == null) {
@@ -104,21 +122,57 @@ public class ArgumentUtils {
 			return null;
 		}
 		List<Map<String, Object>> diagnosticsObj = (List<Map<String, Object>>) contextObj.get(DIAGNOSTICS_PROPERTY);
-		List<Diagnostic> diagnostics = diagnosticsObj.stream().map(diagnosticObj -> {
-			Diagnostic diagnostic = new Diagnostic();
-			diagnostic.setRange(getRange(diagnosticObj, RANGE_PROPERTY));
-			diagnostic.setCode(getString(diagnosticObj, CODE_PROPERTY));
-			diagnostic.setMessage(getString(diagnosticObj, MESSAGE_PROPERTY));
-			diagnostic.setSource(getString(diagnosticObj, SOURCE_PROPERTY));
-			// In Eclipse IDE (LSP client), the data is JsonObject, and in JDT-LS (ex : vscode as LSP client) the data is a Map, we
-			// convert the Map to a JsonObject to be consistent with any LSP clients.
-			diagnostic.setData(getObjectAsJson(diagnosticObj, DATA_PROPERTY));
-			return diagnostic;
-		}).collect(Collectors.toList());
+		List<Diagnostic> diagnostics = new ArrayList<>(diagnosticsObj != null ? diagnosticsObj.size() : 0);
+		if (diagnosticsObj != null) {
+			for (Map<String, Object> diagnosticObj : diagnosticsObj) {
+				diagnostics.add(getDiagnostic(diagnosticObj));
+			}
+		}
 		List<String> only = null;
 		return new CodeActionContext(diagnostics, only);
 	}
 
+	/**
+	 * Returns the diagnostic decoded from the given object.
+	 *
+	 * @param diagnosticObj the diagnostic object.
+	 * @return the diagnostic decoded from the given object.
+	 */
+	public static Diagnostic getDiagnostic(Map<String, Object> diagnosticObj) {
+		Diagnostic diagnostic = new Diagnostic();
+		diagnostic.setRange(getRange(diagnosticObj, RANGE_PROPERTY));
+		Integer severity = getInteger(diagnosticObj, SEVERITY_PROPERTY);
+		if (severity != null) {
+			diagnostic.setSeverity(getSeverity(severity));
+		}
+		Object code = diagnosticObj.get(CODE_PROPERTY);
+		if (code instanceof String) {
+			diagnostic.setCode((String) code);
+		} else if (code instanceof Number) {
+			diagnostic.setCode(((Number) code).intValue());
+		}
+		diagnostic.setMessage(getString(diagnosticObj, MESSAGE_PROPERTY));
+		diagnostic.setSource(getString(diagnosticObj, SOURCE_PROPERTY));
+		// In Eclipse IDE (LSP client), the data is JsonObject, and in JDT-LS (ex : vscode as LSP client) the data is a Map, we
+		// convert the Map to a JsonObject to be consistent with any LSP clients.
+		diagnostic.setData(getObjectAsJson(diagnosticObj, DATA_PROPERTY));
+		return diagnostic;
+	}
+
+	/**
+	 * Returns the diagnostic severity of the given value and null if the value is
+	 * not a valid severity.
+	 *
+	 * @param value the severity value.
+	 * @return the diagnostic severity of the given value and null if the value is
+	 *         not a valid severity.
+	 */
+	private static DiagnosticSeverity getSeverity(int value) {
+		// DiagnosticSeverity#forValue throws an exception for an invalid value
+		DiagnosticSeverity[] severities = DiagnosticSeverity.values();
+		return value >= 1 && value <= severities.length ? severities[value - 1] : null;
+	}
+
 	/**
 	 * Returns the child if it exists and is an object, and null otherwise
 	 *
@@ -143,10 +197,57 @@ public class ArgumentUtils {
 	 */
 	public static JsonObject getObjectAsJson(Map<String, Object> obj, String key) {
 		Object child = obj.get(key);
+		if (child instanceof JsonObject) {
+			return (JsonObject) child;
+		}
 		if (child != null && child instanceof Map<?, ?>) {
-			Gson gson = new Gson();
-			return (JsonObject) gson.toJsonTree(child);
+			return (JsonObject) toJsonElement(child);
 		}
 		return null;
 	}
+
+	/**
+	 * Returns the given argument value as a JSON element.
+	 *
+	 * <p>
+	 * Like Gson, the null values of the objects are ignored.
+	 * </p>
+	 *
+	 * @param value the argument value.
+	 * @return the given argument value as a JSON element.
+	 */
+	public static JsonElement toJsonElement(Object value) {
+		if (value == null) {
+			return JsonNull.INSTANCE;
+		}
+		if (value instanceof JsonElement) {
+			return (JsonElement) value;
+		}
+		if (value instanceof Map<?, ?>) {
+			JsonObject object = new JsonObject();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				if (entry.getValue() != null) {
+					object.add(String.valueOf(entry.getKey()), toJsonElement(entry.getValue()));
+				}
+			}
+			return object;
+		}
+		if (value instanceof List<?>) {
+			JsonArray array = new JsonArray();
+			for (Object item : (List<?>) value) {
+				array.add(toJsonElement(item));
+			}
+			return array;
+		}
+		if (value instanceof String) {
+			return new JsonPrimitive((String) value);
+		}
+		if (value instanceof Number) {
+			return new JsonPrimitive((Number) value);
+		}
+		if (value instanceof Boolean) {
+			return new JsonPrimitive((Boolean) value);
+		}
+		return JSONUtility.getLsp4jGson().toJsonTree(value);
+	}
 }
@@ -0,0 +1,279 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.ls;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.lsp4mp.jdt.internal.core.statistics.DelegateCommandStatistics;
+
+/**
+ * Tracks the versions of the Java files for which a request (hover, code lens,
+ * diagnostics, etc) is running to abort the requests which have been
+ * superseded by a request for a newer version of the same Java file.
+ *
+ * <p>
+ * The progress monitor given to a request is canceled as soon as a request
+ * for a newer version of the Java file starts. The versions of a Java file are
+ * forgotten when no request is running for it and when the Java file is opened
+ * or closed in JDT LS (its primary working copy is created or discarded), since
+ * the versions restart when the Java file is re-opened.
+ * </p>
+ *
+ */
+public class JavaFileVersionTracker {
+
+	private static final JavaFileVersionTracker INSTANCE = new JavaFileVersionTracker();
+
+	public static JavaFileVersionTracker getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Request for a Java file.
+	 *
+	 * @param <T> the type of the request result.
+	 */
+	@FunctionalInterface
+	public static interface IJavaFileRequest<T> {
+
+		T execute(IProgressMonitor monitor) throws CoreException;
+	}
+
+	/**
+	 * Versions of a Java file.
+	 */
+	private static class JavaFileVersions {
+
+		private int latestVersion;
+
+		private int runningRequests;
+
+		// true when the Java file has been opened or closed after the start of the
+		// running requests
+		private boolean reset;
+	}
+
+	/**
+	 * Progress monitor canceled when the request is superseded.
+	 */
+	private static class SupersededProgressMonitor extends ProgressMonitorWrapper {
+
+		private final JavaFileVersions versions;
+
+		private final int version;
+
+		public SupersededProgressMonitor(IProgressMonitor monitor, JavaFileVersions versions, int version) {
+			super(monitor);
+			this.versions = versions;
+			this.version = version;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return super.isCanceled() || isSuperseded();
+		}
+
+		private boolean isSuperseded() {
+			synchronized (versions) {
+				return versions.reset || versions.latestVersion > version;
+			}
+		}
+	}
+
+	/**
+	 * Resets the versions of the Java files which are opened or closed.
+	 */
+	private class WorkingCopyListener implements IElementChangedListener {
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			processDelta(event.getDelta());
+		}
+
+		private void processDelta(IJavaElementDelta delta) {
+			IJavaElement element = delta.getElement();
+			switch (element.getElementType()) {
+			case IJavaElement.COMPILATION_UNIT:
+				if ((delta.getFlags() & IJavaElementDelta.F_PRIMARY_WORKING_COPY) != 0) {
+					IResource resource = element.getResource();
+					IPath location = resource != null ? resource.getLocation() : null;
+					if (location != null) {
+						reset(location.toFile());
+					}
+				}
+				break;
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				for (IJavaElementDelta c : delta.getAffectedChildren()) {
+					processDelta(c);
+				}
+				break;
+			default:
+				break;
+			}
+		}
+	}
+
+	private final Map<String /* Java file URI */, JavaFileVersions> files;
+
+	private WorkingCopyListener workingCopyListener;
+
+	public JavaFileVersionTracker() {
+		this.files = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Execute the given request for the given version of the given Java file with
+	 * a progress monitor which is canceled when a request for a newer version of
+	 * the Java file starts.
+	 *
+	 * @param <T>     the type of the request result.
+	 * @param uri     the Java file URI.
+	 * @param version the version of the Java file when the request was sent and
+	 *                null if it is unknown.
+	 * @param monitor the progress monitor.
+	 * @param request the request to execute.
+	 * @return the result of the request.
+	 * @throws CoreException
+	 */
+	public <T> T execute(String uri, Integer version, IProgressMonitor monitor, IJavaFileRequest<T> request)
+			throws CoreException {
+		if (monitor == null) {
+			monitor = new NullProgressMonitor();
+		}
+		if (uri == null || version == null) {
+			// the version of the Java file is unknown, the request cannot be superseded
+			return request.execute(monitor);
+		}
+		JavaFileVersions versions = start(uri, version);
+		SupersededProgressMonitor supersededMonitor = new SupersededProgressMonitor(monitor, versions, version);
+		try {
+			return request.execute(supersededMonitor);
+		} finally {
+			if (supersededMonitor.isSuperseded()) {
+				DelegateCommandStatistics.getInstance().cancelCurrentCommand();
+			}
+			end(uri, versions);
+		}
+	}
+
+	/**
+	 * Returns true if a request for a version newer than the given version of the
+	 * given Java file is running and false otherwise.
+	 *
+	 * @param uri     the Java file URI.
+	 * @param version the version of the Java file.
+	 * @return true if a request for a version newer than the given version of the
+	 *         given Java file is running and false otherwise.
+	 */
+	public boolean isSuperseded(String uri, int version) {
+		JavaFileVersions versions = files.get(uri);
+		if (versions == null) {
+			return false;
+		}
+		synchronized (versions) {
+			return versions.latestVersion > version;
+		}
+	}
+
+	/**
+	 * Forget the versions of the given Java file which has been opened or closed
+	 * and cancel the running requests for it.
+	 *
+	 * @param file the Java file.
+	 */
+	public void reset(File file) {
+		Path path = file.toPath();
+		for (Map.Entry<String, JavaFileVersions> entry : files.entrySet()) {
+			// the URI sent by the client can be encoded differently than the file URI
+			// (ex : 'file:///c%3A/' on Windows), the paths are compared
+			if (path.equals(toPath(entry.getKey()))) {
+				JavaFileVersions versions = entry.getValue();
+				synchronized (versions) {
+					versions.reset = true;
+					files.remove(entry.getKey(), versions);
+				}
+			}
+		}
+	}
+
+	private static Path toPath(String uri) {
+		try {
+			return Paths.get(new URI(uri));
+		} catch (Exception e) {
+			// not a file URI (ex : 'jdt://')
+			return null;
+		}
+	}
+
+	private JavaFileVersions start(String uri, int version) {
+		while (true) {
+			JavaFileVersions versions = files.computeIfAbsent(uri, k -> new JavaFileVersions());
+			synchronized (versions) {
+				if (files.get(uri) != versions) {
+					// the versions have been removed by the end of the last running request or
+					// by a reset
+					continue;
+				}
+				if (versions.runningRequests == 0 || version > versions.latestVersion) {
+					versions.latestVersion = version;
+				}
+				versions.runningRequests++;
+				return versions;
+			}
+		}
+	}
+
+	private void end(String uri, JavaFileVersions versions) {
+		synchronized (versions) {
+			versions.runningRequests--;
+			if (versions.runningRequests == 0) {
+				files.remove(uri, versions);
+			}
+		}
+	}
+
+	public synchronized void initialize() {
+		if (workingCopyListener != null) {
+			return;
+		}
+		workingCopyListener = new WorkingCopyListener();
+		JavaCore.addElementChangedListener(workingCopyListener, ElementChangedEvent.POST_CHANGE);
+	}
+
+	public synchronized void destroy() {
+		if (workingCopyListener != null) {
+			JavaCore.removeElementChangedListener(workingCopyListener);
+			workingCopyListener = null;
+		}
+	}
+}
@@ -37,7 +37,8 @@ public class JavaProjectDelegateCommandHandler extends AbstractMicroProfileDeleg
 	}
 
 	@Override
-	public Object executeCommand(String commandId, List<Object> arguments, IProgressMonitor progress) throws Exception {
+	protected Object doExecuteCommand(String commandId, List<Object> arguments, IProgressMonitor progress)
+			throws Exception {
 		switch (commandId) {
 		case PROJECT_LABELS_COMMAND_ID:
 			return getProjectLabelInfo(arguments, commandId, progress);
@@ -52,7 +52,8 @@ public class MicroProfileDelegateCommandHandler extends AbstractMicroProfileDele
 	private static final String PROPERTY_DOCUMENTATION_COMMAND_ID = "microprofile/propertyDocumentation";
 
 	@Override
-	public Object executeCommand(String commandId, List<Object> arguments, IProgressMonitor progress) throws Exception {
+	protected Object doExecuteCommand(String commandId, List<Object> arguments, IProgressMonitor progress)
+			throws Exception {
 		switch (commandId) {
 		case PROJECT_INFO_COMMAND_ID:
 			return getMicroProfileProjectInfo(arguments, commandId, progress);
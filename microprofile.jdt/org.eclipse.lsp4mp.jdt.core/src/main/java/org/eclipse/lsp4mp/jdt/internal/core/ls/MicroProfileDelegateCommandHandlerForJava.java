@@ -15,6 +15,7 @@ import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getBoolean;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getCodeActionContext;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getFirst;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getInt;
+import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getInteger;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getObject;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getPosition;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getRange;
@@ -55,6 +56,7 @@ import org.eclipse.lsp4mp.commons.MicroProfileJavaHoverParams;
 import org.eclipse.lsp4mp.commons.codeaction.CodeActionResolveData;
 import org.eclipse.lsp4mp.commons.utils.JSONUtility;
 import org.eclipse.lsp4mp.jdt.core.PropertiesManagerForJava;
+import org.eclipse.lsp4mp.jdt.internal.core.statistics.DelegateCommandStatistics;
 
 /**
  * JDT LS delegate command handler for Java file.
@@ -73,12 +75,14 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractMicroProf
 	private static final String JAVA_DIAGNOSTICS_COMMAND_ID = "microprofile/java/diagnostics";
 	private static final String JAVA_HOVER_COMMAND_ID = "microprofile/java/hover";
 	private static final String JAVA_WORKSPACE_SYMBOLS_ID = "microprofile/java/workspaceSymbols";
+	private static final String JAVA_STATISTICS_COMMAND_ID = "microprofile/java/statistics";
 
 	public MicroProfileDelegateCommandHandlerForJava() {
 	}
 
 	@Override
-	public Object executeCommand(String commandId, List<Object> arguments, IProgressMonitor progress) throws Exception {
+	protected Object doExecuteCommand(String commandId, List<Object> arguments, IProgressMonitor progress)
+			throws Exception {
 		switch (commandId) {
 			case FILE_INFO_COMMAND_ID:
 				return getFileInfo(arguments, commandId, progress);
@@ -98,6 +102,8 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractMicroProf
 				return getHoverForJava(arguments, commandId, progress);
 			case JAVA_WORKSPACE_SYMBOLS_ID:
 				return getWorkspaceSymbolsForJava(arguments, commandId, progress);
+			case JAVA_STATISTICS_COMMAND_ID:
+				return DelegateCommandStatistics.getInstance().getStatistics();
 			default:
 				throw new UnsupportedOperationException(String.format("Unsupported command '%s'!", commandId));
 		}
@@ -245,7 +251,8 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractMicroProf
 		// Create java code lens parameter
 		MicroProfileJavaCodeLensParams params = createMicroProfileJavaCodeLensParams(arguments, commandId);
 		// Return code lenses from the lens parameter
-		return PropertiesManagerForJava.getInstance().codeLens(params, JDTUtilsLSImpl.getInstance(), monitor);
+		return JavaFileVersionTracker.getInstance().execute(params.getUri(), params.getVersion(), monitor,
+				m -> PropertiesManagerForJava.getInstance().codeLens(params, JDTUtilsLSImpl.getInstance(), m));
 	}
 
 	/**
@@ -274,6 +281,7 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractMicroProf
 		params.setCheckServerAvailable(getBoolean(obj, "checkServerAvailable"));
 		params.setOpenURICommand(getString(obj, "openURICommand"));
 		params.setLocalServerPort(getInt(obj, "localServerPort"));
+		params.setVersion(getInteger(obj, "version"));
 		return params;
 	}
 
@@ -290,9 +298,13 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractMicroProf
 	private static MicroProfileJavaCompletionResult getCompletionForJava(List<Object> arguments, String commandId,
 			IProgressMonitor monitor) throws JavaModelException, CoreException {
 		MicroProfileJavaCompletionParams params = createMicroProfileJavaCompletionParams(arguments, commandId);
-		CompletionList completionList = PropertiesManagerForJava.getInstance().completion(params, JDTUtilsLSImpl.getInstance(), monitor);
-		JavaCursorContextResult cursorContext = PropertiesManagerForJava.javaCursorContext(params, JDTUtilsLSImpl.getInstance(), monitor);
-		return new MicroProfileJavaCompletionResult(completionList, cursorContext);
+		return JavaFileVersionTracker.getInstance().execute(params.getUri(), params.getVersion(), monitor, m -> {
+			CompletionList completionList = PropertiesManagerForJava.getInstance().completion(params,
+					JDTUtilsLSImpl.getInstance(), m);
+			JavaCursorContextResult cursorContext = PropertiesManagerForJava.javaCursorContext(params,
+					JDTUtilsLSImpl.getInstance(), m);
+			return new MicroProfileJavaCompletionResult(completionList, cursorContext);
+		});
 	}
 
 	/**
@@ -322,6 +334,7 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractMicroProf
 					commandId));
 		}
 		MicroProfileJavaCompletionParams params = new MicroProfileJavaCompletionParams(javaFileUri, position);
+		params.setVersion(getInteger(obj, "version"));
 		return params;
 	}
 
@@ -341,7 +354,8 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractMicroProf
 		// Create java definition parameter
 		MicroProfileJavaDefinitionParams params = createMicroProfileJavaDefinitionParams(arguments, commandId);
 		// Return hover info from hover parameter
-		return PropertiesManagerForJava.getInstance().definition(params, JDTUtilsLSImpl.getInstance(), monitor);
+		return JavaFileVersionTracker.getInstance().execute(params.getUri(), params.getVersion(), monitor,
+				m -> PropertiesManagerForJava.getInstance().definition(params, JDTUtilsLSImpl.getInstance(), m));
 	}
 
 	/**
@@ -367,7 +381,9 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractMicroProf
 		}
 
 		Position hoverPosition = getPosition(obj, "position");
-		return new MicroProfileJavaDefinitionParams(javaFileUri, hoverPosition);
+		MicroProfileJavaDefinitionParams params = new MicroProfileJavaDefinitionParams(javaFileUri, hoverPosition);
+		params.setVersion(getInteger(obj, "version"));
+		return params;
 	}
 
 	/**
@@ -377,14 +393,16 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractMicroProf
 	 * @param commandId
 	 * @param monitor
 	 * @return the publish diagnostics list for a given java file URIs.
-	 * @throws JavaModelException
+	 * @throws CoreException
 	 */
 	private static List<PublishDiagnosticsParams> getDiagnosticsForJava(List<Object> arguments, String commandId,
-			IProgressMonitor monitor) throws JavaModelException {
+			IProgressMonitor monitor) throws CoreException {
 		// Create java diagnostics parameter
 		MicroProfileJavaDiagnosticsParams params = createMicroProfileJavaDiagnosticsParams(arguments, commandId);
 		// Return diagnostics from parameter
-		return PropertiesManagerForJava.getInstance().diagnostics(params, JDTUtilsLSImpl.getInstance(), monitor);
+		String uri = params.getUris().size() == 1 ? params.getUris().get(0) : null;
+		return JavaFileVersionTracker.getInstance().execute(uri, params.getVersion(), monitor,
+				m -> PropertiesManagerForJava.getInstance().diagnostics(params, JDTUtilsLSImpl.getInstance(), m));
 	}
 
 	/**
@@ -414,7 +432,9 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractMicroProf
 			List<String> patterns = getStringList(settingsObj, "patterns");
 			settings = new MicroProfileJavaDiagnosticsSettings(patterns);
 		}
-		return new MicroProfileJavaDiagnosticsParams(javaFileUri, settings);
+		MicroProfileJavaDiagnosticsParams params = new MicroProfileJavaDiagnosticsParams(javaFileUri, settings);
+		params.setVersion(getInteger(obj, "version"));
+		return params;
 	}
 
 	/**
@@ -433,7 +453,8 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractMicroProf
 		// Create java hover parameter
 		MicroProfileJavaHoverParams params = createMicroProfileJavaHoverParams(arguments, commandId);
 		// Return hover info from hover parameter
-		return PropertiesManagerForJava.getInstance().hover(params, JDTUtilsLSImpl.getInstance(), monitor);
+		return JavaFileVersionTracker.getInstance().execute(params.getUri(), params.getVersion(), monitor,
+				m -> PropertiesManagerForJava.getInstance().hover(params, JDTUtilsLSImpl.getInstance(), m));
 	}
 
 	/**
@@ -465,7 +486,10 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractMicroProf
 			documentFormat = DocumentFormat.forValue(documentFormatIndex.intValue());
 		}
 		boolean surroundEqualsWithSpaces = ((Boolean) obj.get("surroundEqualsWithSpaces")).booleanValue();
-		return new MicroProfileJavaHoverParams(javaFileUri, hoverPosition, documentFormat, surroundEqualsWithSpaces);
+		MicroProfileJavaHoverParams params = new MicroProfileJavaHoverParams(javaFileUri, hoverPosition,
+				documentFormat, surroundEqualsWithSpaces);
+		params.setVersion(getInteger(obj, "version"));
+		return params;
 	}
 
 	private List<SymbolInformation> getWorkspaceSymbolsForJava(List<Object> arguments, String commandId,
@@ -0,0 +1,228 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.project;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
+import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
+import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.jdt.core.project.IConfigSource;
+import org.eclipse.lsp4mp.jdt.core.project.MicroProfileConfigPropertyInformation;
+
+/**
+ * Immutable flattened view of the config sources of a MicroProfile project.
+ * 
+ * <p>
+ * The config sources are merged once by using their ordinal (see
+ * {@link IConfigSource#getOrdinal()}), so that getting the value of a property
+ * or the property informations of a property is a single hash lookup instead of
+ * a walk through all config sources.
+ * </p>
+ * 
+ * <p>
+ * A snapshot must be re-created as soon as one of the config sources changes.
+ * </p>
+ *
+ */
+public class ConfigSourcesSnapshot implements IConfigSourcePropertiesProvider {
+
+	private final List<IConfigSource> configSources;
+
+	private final Map<String /* property key with profile */, String> values;
+
+	private final Set<String> keys;
+
+	private final Map<String /* property key without profile */, List<MicroProfileConfigPropertyInformation>> propertyInformations;
+
+	private final Set<String /* property key without profile */> propertyNames;
+
+	private PropertyValueExpander propertyValueExpander;
+
+	private ConfigSourcesSnapshot(List<IConfigSource> configSources, Map<String, String> values, Set<String> keys,
+			Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations) {
+		this.configSources = configSources;
+		this.values = values;
+		this.keys = keys;
+		this.propertyInformations = propertyInformations;
+		this.propertyNames = Collections.unmodifiableSet(propertyInformations.keySet());
+	}
+
+	/**
+	 * Returns the snapshot of the given config sources.
+	 * 
+	 * @param configSources the config sources sorted by descending ordinal.
+	 * @return the snapshot of the given config sources.
+	 */
+	public static ConfigSourcesSnapshot create(List<IConfigSource> configSources) {
+		Map<String, String> values = new HashMap<>();
+		Set<String> keys = new HashSet<>();
+		Map<String, Map<String, MicroProfileConfigPropertyInformation>> infosByKey = new HashMap<>();
+		// The config sources are sorted by descending ordinal, the first config source
+		// which defines a property wins (ex : application.properties overrides
+		// microprofile-config.properties)
+		for (IConfigSource configSource : configSources) {
+			Set<String> processedPropertyKeys = new HashSet<>();
+			for (String key : configSource.getAllKeys()) {
+				String value = configSource.getProperty(key);
+				if (value != null) {
+					values.putIfAbsent(key, value);
+					if (StringUtils.hasText(value)) {
+						keys.add(key);
+					}
+				}
+				if (key.isEmpty()) {
+					continue;
+				}
+				String propertyKey = MicroProfileConfigPropertyInformation.getPropertyNameWithoutProfile(key);
+				if (processedPropertyKeys.add(propertyKey)) {
+					List<MicroProfileConfigPropertyInformation> infos = configSource
+							.getPropertyInformations(propertyKey);
+					if (infos != null) {
+						Map<String, MicroProfileConfigPropertyInformation> infosForKey = infosByKey
+								.computeIfAbsent(propertyKey, k -> new LinkedHashMap<>());
+						for (MicroProfileConfigPropertyInformation info : infos) {
+							infosForKey.putIfAbsent(info.getPropertyNameWithProfile(), info);
+						}
+					}
+				}
+			}
+		}
+		Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations = new HashMap<>(
+				infosByKey.size());
+		for (Map.Entry<String, Map<String, MicroProfileConfigPropertyInformation>> entry : infosByKey.entrySet()) {
+			List<MicroProfileConfigPropertyInformation> infos = new ArrayList<>(entry.getValue().values());
+			infos.sort((a, b) -> a.getPropertyNameWithProfile().compareTo(b.getPropertyNameWithProfile()));
+			propertyInformations.put(entry.getKey(), Collections.unmodifiableList(infos));
+		}
+		return new ConfigSourcesSnapshot(Collections.unmodifiableList(new ArrayList<>(configSources)),
+				Collections.unmodifiableMap(values), Collections.unmodifiableSet(keys),
+				Collections.unmodifiableMap(propertyInformations));
+	}
+
+	/**
+	 * Returns the config sources sorted by descending ordinal.
+	 * 
+	 * @return the config sources sorted by descending ordinal.
+	 */
+	public List<IConfigSource> getConfigSources() {
+		return configSources;
+	}
+
+	@Override
+	public Set<String> keys() {
+		return keys;
+	}
+
+	@Override
+	public boolean hasKey(String key) {
+		return keys.contains(key);
+	}
+
+	@Override
+	public String getValue(String key) {
+		return values.get(key);
+	}
+
+	/**
+	 * Returns the winning property informations (one per profile) of the given
+	 * property sorted by property name with profile and null if no config source
+	 * declares the property.
+	 * 
+	 * <p>
+	 * The values of the returned property informations are not expanded.
+	 * </p>
+	 * 
+	 * @param propertyKey the property key without profile.
+	 * @return the winning property informations of the given property and null if
+	 *         no config source declares the property.
+	 */
+	public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
+		return propertyInformations.get(propertyKey);
+	}
+
+	/**
+	 * Returns true if the given property (without profile) is declared by at least
+	 * one config source and false otherwise.
+	 * 
+	 * @param propertyKey the property key without profile.
+	 * @return true if the given property (without profile) is declared by at least
+	 *         one config source and false otherwise.
+	 */
+	public boolean hasProperty(String propertyKey) {
+		return propertyInformations.containsKey(propertyKey);
+	}
+
+	/**
+	 * Returns the names (without profile) of the properties declared by at least
+	 * one config source.
+	 * 
+	 * @return the names (without profile) of the properties declared by at least
+	 *         one config source. The returned set is unmodifiable.
+	 */
+	public Set<String> getPropertyNames() {
+		return propertyNames;
+	}
+
+	/**
+	 * Returns the names (without profile) of the properties which are added,
+	 * removed or updated in this snapshot compared to the given snapshot.
+	 * 
+	 * @param other the snapshot to compare with.
+	 * @return the names (without profile) of the properties which are added,
+	 *         removed or updated in this snapshot compared to the given snapshot.
+	 */
+	public Set<String> getChangedPropertyNames(ConfigSourcesSnapshot other) {
+		Set<String> changed = new HashSet<>();
+		for (Map.Entry<String, String> entry : values.entrySet()) {
+			if (!entry.getValue().equals(other.values.get(entry.getKey()))) {
+				changed.add(MicroProfileConfigPropertyInformation.getPropertyNameWithoutProfile(entry.getKey()));
+			}
+		}
+		for (String key : other.values.keySet()) {
+			if (!values.containsKey(key)) {
+				changed.add(MicroProfileConfigPropertyInformation.getPropertyNameWithoutProfile(key));
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Returns the expanded value of the given property and null if it cannot be
+	 * expanded.
+	 * 
+	 * <p>
+	 * {@link PropertyValueExpander} memoizes the resolved values, the expansion is
+	 * synchronized to share it between threads.
+	 * </p>
+	 * 
+	 * @param propertyKey the property key with profile.
+	 * @return the expanded value of the given property and null if it cannot be
+	 *         expanded.
+	 */
+	public synchronized String getExpandedValue(String propertyKey) {
+		if (propertyValueExpander == null) {
+			propertyValueExpander = new PropertyValueExpander(this);
+		}
+		return propertyValueExpander.getValue(propertyKey);
+	}
+
+}
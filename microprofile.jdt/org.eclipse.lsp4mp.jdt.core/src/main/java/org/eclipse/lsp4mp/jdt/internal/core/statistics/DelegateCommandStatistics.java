@@ -0,0 +1,241 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.statistics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+/**
+ * Timings and cancellation counts of the delegate commands and of the
+ * participants (properties providers, Java feature participants) they call.
+ *
+ * <p>
+ * The measures are recorded without locking and are also emitted as JDK Flight
+ * Recorder events (when the 'jdk.jfr' package is available), so slow
+ * participants can be identified on real workspaces with
+ * <code>jcmd &lt;pid&gt; JFR.start</code>.
+ * </p>
+ *
+ */
+public class DelegateCommandStatistics {
+
+	private static final boolean JFR_AVAILABLE = isJfrAvailable();
+
+	private static final DelegateCommandStatistics INSTANCE = new DelegateCommandStatistics();
+
+	public static DelegateCommandStatistics getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Measure of a delegate command or of a participant call which is started.
+	 */
+	public static class Measure {
+
+		private final TimingCounter counter;
+
+		private final ThreadLocal<Measure> current;
+
+		private final Measure parent;
+
+		private final Object event;
+
+		private final long start;
+
+		private boolean canceled;
+
+		private Measure(TimingCounter counter, ThreadLocal<Measure> current, Object event) {
+			this.counter = counter;
+			this.current = current;
+			this.parent = current != null ? current.get() : null;
+			this.event = event;
+			this.start = System.nanoTime();
+		}
+
+		/**
+		 * Mark the measure as canceled.
+		 */
+		public void cancel() {
+			this.canceled = true;
+		}
+
+		/**
+		 * End the measure, which is canceled if the given progress monitor is
+		 * canceled.
+		 *
+		 * @param monitor the progress monitor of the measured call.
+		 */
+		public void end(IProgressMonitor monitor) {
+			end(monitor != null && monitor.isCanceled());
+		}
+
+		/**
+		 * End the measure.
+		 *
+		 * @param canceled true if the measured call has been canceled and false
+		 *                 otherwise.
+		 */
+		public void end(boolean canceled) {
+			if (current != null) {
+				if (parent != null) {
+					current.set(parent);
+				} else {
+					current.remove();
+				}
+			}
+			canceled |= this.canceled;
+			counter.record(System.nanoTime() - start, canceled);
+			if (event != null) {
+				JfrEvents.commit(event, canceled);
+			}
+		}
+	}
+
+	/**
+	 * Counters of a delegate command or of a participant method.
+	 */
+	private static class TimingCounter {
+
+		private final LongAdder count = new LongAdder();
+
+		private final LongAdder canceledCount = new LongAdder();
+
+		private final LongAdder totalNanos = new LongAdder();
+
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		public void record(long durationNanos, boolean canceled) {
+			count.increment();
+			if (canceled) {
+				canceledCount.increment();
+			}
+			totalNanos.add(durationNanos);
+			maxNanos.accumulateAndGet(durationNanos, Math::max);
+		}
+
+		public TimingStatistics toStatistics() {
+			TimingStatistics statistics = new TimingStatistics();
+			long count = this.count.sum();
+			double totalMs = toMillis(totalNanos.sum());
+			statistics.setCount(count);
+			statistics.setCanceledCount(canceledCount.sum());
+			statistics.setTotalMs(totalMs);
+			statistics.setMeanMs(count > 0 ? totalMs / count : 0);
+			statistics.setMaxMs(toMillis(maxNanos.get()));
+			return statistics;
+		}
+
+		private static double toMillis(long nanos) {
+			return nanos / 1_000_000d;
+		}
+	}
+
+	private final long startTime;
+
+	private final Map<String, TimingCounter> commands;
+
+	private final Map<String /* participant */, Map<String /* method */, TimingCounter>> participants;
+
+	private final ThreadLocal<Measure> currentCommand;
+
+	public DelegateCommandStatistics() {
+		this.startTime = System.currentTimeMillis();
+		this.commands = new ConcurrentHashMap<>();
+		this.participants = new ConcurrentHashMap<>();
+		this.currentCommand = new ThreadLocal<>();
+	}
+
+	/**
+	 * Start the measure of the given delegate command executed by the current
+	 * thread.
+	 *
+	 * @param commandId the delegate command id.
+	 * @return the started measure.
+	 */
+	public Measure startCommand(String commandId) {
+		TimingCounter counter = commands.computeIfAbsent(commandId, k -> new TimingCounter());
+		Measure measure = new Measure(counter, currentCommand,
+				JFR_AVAILABLE ? JfrEvents.beginCommand(commandId) : null);
+		currentCommand.set(measure);
+		return measure;
+	}
+
+	/**
+	 * Mark the delegate command executed by the current thread as canceled (ex :
+	 * when the command has been superseded by a command for a newer version of
+	 * the Java file).
+	 */
+	public void cancelCurrentCommand() {
+		Measure measure = currentCommand.get();
+		if (measure != null) {
+			measure.cancel();
+		}
+	}
+
+	/**
+	 * Start the measure of the call of the given method of the given participant.
+	 *
+	 * @param participant the participant class name.
+	 * @param method      the called method.
+	 * @return the started measure.
+	 */
+	public Measure startParticipant(String participant, String method) {
+		// Two-level map to avoid building a key on each call
+		TimingCounter counter = participants.computeIfAbsent(participant, k -> new ConcurrentHashMap<>())
+				.computeIfAbsent(method, k -> new TimingCounter());
+		return new Measure(counter, null, JFR_AVAILABLE ? JfrEvents.beginParticipant(participant, method) : null);
+	}
+
+	/**
+	 * Returns the statistics recorded since the start of the JDT LS extension.
+	 *
+	 * @return the statistics recorded since the start of the JDT LS extension.
+	 */
+	public MicroProfileJavaStatistics getStatistics() {
+		MicroProfileJavaStatistics statistics = new MicroProfileJavaStatistics();
+		statistics.setUptimeMs(System.currentTimeMillis() - startTime);
+		statistics.setCommands(toStatistics(commands));
+		Map<String, TimingCounter> participantCounters = new TreeMap<>();
+		for (Map.Entry<String, Map<String, TimingCounter>> participant : participants.entrySet()) {
+			for (Map.Entry<String, TimingCounter> method : participant.getValue().entrySet()) {
+				participantCounters.put(participant.getKey() + "#" + method.getKey(), method.getValue());
+			}
+		}
+		statistics.setParticipants(toStatistics(participantCounters));
+		return statistics;
+	}
+
+	private static Map<String, TimingStatistics> toStatistics(Map<String, TimingCounter> counters) {
+		Map<String, TimingStatistics> statistics = new TreeMap<>();
+		for (Map.Entry<String, TimingCounter> counter : counters.entrySet()) {
+			statistics.put(counter.getKey(), counter.getValue().toStatistics());
+		}
+		return statistics;
+	}
+
+	private static boolean isJfrAvailable() {
+		try {
+			// The 'jdk.jfr' package is optionally imported by the bundle
+			Class.forName("jdk.jfr.FlightRecorder", false, DelegateCommandStatistics.class.getClassLoader());
+			return true;
+		} catch (Throwable e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.statistics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder events of the MicroProfile JDT LS extension.
+ *
+ * <p>
+ * This class must only be loaded when the 'jdk.jfr' package is available to
+ * the bundle (see {@link DelegateCommandStatistics}).
+ * </p>
+ *
+ */
+class JfrEvents {
+
+	static final String DELEGATE_COMMAND_EVENT_NAME = "org.eclipse.lsp4mp.jdt.DelegateCommand";
+
+	static final String PARTICIPANT_EVENT_NAME = "org.eclipse.lsp4mp.jdt.Participant";
+
+	@Name(DELEGATE_COMMAND_EVENT_NAME)
+	@Label("Delegate Command")
+	@Description("Delegate command of the MicroProfile JDT LS extension")
+	@Category({ "LSP4MP", "JDT" })
+	@StackTrace(false)
+	static class DelegateCommandEvent extends Event {
+
+		@Label("Command")
+		String command;
+
+		@Label("Canceled")
+		boolean canceled;
+	}
+
+	@Name(PARTICIPANT_EVENT_NAME)
+	@Label("Participant")
+	@Description("Call of a properties provider or of a Java feature participant")
+	@Category({ "LSP4MP", "JDT" })
+	@StackTrace(false)
+	// properties providers are called for each match of the properties scan
+	@Threshold("1 ms")
+	static class ParticipantEvent extends Event {
+
+		@Label("Participant")
+		String participant;
+
+		@Label("Method")
+		String method;
+
+		@Label("Canceled")
+		boolean canceled;
+	}
+
+	private JfrEvents() {
+	}
+
+	/**
+	 * Start a delegate command event and returns it or null if the event is
+	 * disabled.
+	 */
+	static Object beginCommand(String command) {
+		DelegateCommandEvent event = new DelegateCommandEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.command = command;
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Start a participant event and returns it or null if the event is disabled.
+	 */
+	static Object beginParticipant(String participant, String method) {
+		ParticipantEvent event = new ParticipantEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.participant = participant;
+		event.method = method;
+		event.begin();
+		return event;
+	}
+
+	static void commit(Object event, boolean canceled) {
+		if (event instanceof DelegateCommandEvent) {
+			DelegateCommandEvent commandEvent = (DelegateCommandEvent) event;
+			commandEvent.canceled = canceled;
+			commandEvent.commit();
+		} else {
+			ParticipantEvent participantEvent = (ParticipantEvent) event;
+			participantEvent.canceled = canceled;
+			participantEvent.commit();
+		}
+	}
+}
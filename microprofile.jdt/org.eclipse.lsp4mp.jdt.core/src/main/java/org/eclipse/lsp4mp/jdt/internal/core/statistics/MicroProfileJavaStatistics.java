@@ -0,0 +1,66 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.statistics;
+
+import java.util.Map;
+
+/**
+ * Statistics of the MicroProfile JDT LS extension returned by the
+ * 'microprofile/java/statistics' delegate command.
+ *
+ */
+public class MicroProfileJavaStatistics {
+
+	private long uptimeMs;
+
+	private Map<String, TimingStatistics> commands;
+
+	private Map<String, TimingStatistics> participants;
+
+	public long getUptimeMs() {
+		return uptimeMs;
+	}
+
+	public void setUptimeMs(long uptimeMs) {
+		this.uptimeMs = uptimeMs;
+	}
+
+	/**
+	 * Returns the timings of the delegate commands by command id.
+	 *
+	 * @return the timings of the delegate commands by command id.
+	 */
+	public Map<String, TimingStatistics> getCommands() {
+		return commands;
+	}
+
+	public void setCommands(Map<String, TimingStatistics> commands) {
+		this.commands = commands;
+	}
+
+	/**
+	 * Returns the timings of the properties providers and of the Java feature
+	 * participants by '&lt;participant class name&gt;#&lt;method&gt;'.
+	 *
+	 * @return the timings of the properties providers and of the Java feature
+	 *         participants.
+	 */
+	public Map<String, TimingStatistics> getParticipants() {
+		return participants;
+	}
+
+	public void setParticipants(Map<String, TimingStatistics> participants) {
+		this.participants = participants;
+	}
+}
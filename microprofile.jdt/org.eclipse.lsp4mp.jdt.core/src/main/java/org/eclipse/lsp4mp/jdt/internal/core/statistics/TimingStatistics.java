@@ -0,0 +1,86 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.statistics;
+
+/**
+ * Timings of a delegate command or of a participant.
+ *
+ */
+public class TimingStatistics {
+
+	private long count;
+
+	private long canceledCount;
+
+	private double totalMs;
+
+	private double meanMs;
+
+	private double maxMs;
+
+	/**
+	 * Returns the number of executions.
+	 *
+	 * @return the number of executions.
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	public void setCount(long count) {
+		this.count = count;
+	}
+
+	/**
+	 * Returns the number of executions which have been canceled.
+	 *
+	 * @return the number of executions which have been canceled.
+	 */
+	public long getCanceledCount() {
+		return canceledCount;
+	}
+
+	public void setCanceledCount(long canceledCount) {
+		this.canceledCount = canceledCount;
+	}
+
+	/**
+	 * Returns the total duration of the executions in milliseconds.
+	 *
+	 * @return the total duration of the executions in milliseconds.
+	 */
+	public double getTotalMs() {
+		return totalMs;
+	}
+
+	public void setTotalMs(double totalMs) {
+		this.totalMs = totalMs;
+	}
+
+	public double getMeanMs() {
+		return meanMs;
+	}
+
+	public void setMeanMs(double meanMs) {
+		this.meanMs = meanMs;
+	}
+
+	public double getMaxMs() {
+		return maxMs;
+	}
+
+	public void setMaxMs(double maxMs) {
+		this.maxMs = maxMs;
+	}
+}
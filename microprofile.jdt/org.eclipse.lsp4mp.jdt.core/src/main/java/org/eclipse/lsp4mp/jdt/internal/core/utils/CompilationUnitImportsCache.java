@@ -0,0 +1,261 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.utils;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IImportContainer;
+import org.eclipse.jdt.core.IImportDeclaration;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.internal.core.ImportContainerInfo;
+import org.eclipse.jdt.internal.core.JavaModelManager;
+
+/**
+ * Cache of the imports declared by the compilation units, used to resolve the
+ * fully qualified name of an annotation which comes from source (ex :
+ * 'ConfigProperty' resolved as
+ * 'org.eclipse.microprofile.config.inject.ConfigProperty').
+ *
+ * <p>
+ * The imports of a compilation unit are collected once per modification stamp
+ * of the compilation unit and evicted as soon as a Java element delta (save or
+ * reconcile of a working copy) is received for the compilation unit.
+ * </p>
+ *
+ */
+public class CompilationUnitImportsCache {
+
+	private static final Logger LOGGER = Logger.getLogger(CompilationUnitImportsCache.class.getName());
+
+	private static final int MAX_UNITS = 500;
+
+	private static final CompilationUnitImportsCache INSTANCE = new CompilationUnitImportsCache();
+
+	public static CompilationUnitImportsCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Imports of a compilation unit.
+	 */
+	private static class CompilationUnitImports {
+
+		private static final CompilationUnitImports NO_IMPORTS = new CompilationUnitImports(-1,
+				Collections.emptySet(), Collections.emptySet());
+
+		private final long modificationStamp;
+
+		private final Set<String /* ex : org.eclipse.microprofile.config.inject.ConfigProperty */> names;
+
+		private final Set<String /* ex : org.eclipse.microprofile.config.inject */> onDemandQualifiers;
+
+		public CompilationUnitImports(long modificationStamp, Set<String> names, Set<String> onDemandQualifiers) {
+			this.modificationStamp = modificationStamp;
+			this.names = names;
+			this.onDemandQualifiers = onDemandQualifiers;
+		}
+
+		public boolean isImported(String fullyQualifiedName) {
+			if (names.contains(fullyQualifiedName)) {
+				return true;
+			}
+			int index = fullyQualifiedName.lastIndexOf('.');
+			return index != -1 && onDemandQualifiers.contains(fullyQualifiedName.substring(0, index));
+		}
+	}
+
+	private class CompilationUnitListener implements IElementChangedListener {
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			processDelta(event.getDelta());
+		}
+
+		private void processDelta(IJavaElementDelta delta) {
+			IJavaElement element = delta.getElement();
+			switch (element.getElementType()) {
+			case IJavaElement.COMPILATION_UNIT:
+				evict((ICompilationUnit) element);
+				break;
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() == IJavaElementDelta.REMOVED
+						|| (delta.getFlags() & IJavaElementDelta.F_CLOSED) != 0) {
+					// the compilation units of the removed or closed element are no longer valid
+					clear();
+					break;
+				}
+				for (IJavaElementDelta c : delta.getAffectedChildren()) {
+					processDelta(c);
+				}
+				break;
+			default:
+				break;
+			}
+		}
+	}
+
+	private final Map<ICompilationUnit, CompilationUnitImports> units;
+
+	private CompilationUnitListener compilationUnitListener;
+
+	// incremented each time a compilation unit is evicted to avoid caching imports
+	// collected before the eviction
+	private long generation;
+
+	private CompilationUnitImportsCache() {
+		this.units = new LinkedHashMap<ICompilationUnit, CompilationUnitImports>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ICompilationUnit, CompilationUnitImports> eldest) {
+				return size() > MAX_UNITS;
+			}
+		};
+	}
+
+	/**
+	 * Returns true if the given compilation unit imports the given fully qualified
+	 * name (with a single type import or an on demand import) and false otherwise.
+	 *
+	 * @param unit               the compilation unit.
+	 * @param fullyQualifiedName the fully qualified name (ex :
+	 *                           org.eclipse.microprofile.config.inject.ConfigProperty).
+	 * @return true if the given compilation unit imports the given fully qualified
+	 *         name and false otherwise.
+	 */
+	public boolean isImported(ICompilationUnit unit, String fullyQualifiedName) {
+		return getImports(unit).isImported(fullyQualifiedName);
+	}
+
+	private CompilationUnitImports getImports(ICompilationUnit unit) {
+		if (compilationUnitListener == null) {
+			// the cache is not initialized, the imports cannot be evicted
+			return collectImports(unit, -1);
+		}
+		long modificationStamp = getModificationStamp(unit);
+		long currentGeneration;
+		synchronized (units) {
+			CompilationUnitImports imports = units.get(unit);
+			if (imports != null && imports.modificationStamp == modificationStamp) {
+				return imports;
+			}
+			currentGeneration = generation;
+		}
+		CompilationUnitImports imports = collectImports(unit, modificationStamp);
+		synchronized (units) {
+			if (currentGeneration == generation) {
+				units.put(unit, imports);
+			}
+		}
+		return imports;
+	}
+
+	private static long getModificationStamp(ICompilationUnit unit) {
+		IResource resource = unit.getResource();
+		return resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP;
+	}
+
+	private static CompilationUnitImports collectImports(ICompilationUnit unit, long modificationStamp) {
+		IImportContainer container = unit.getImportContainer();
+		if (container == null) {
+			return CompilationUnitImports.NO_IMPORTS;
+		}
+
+		// The following code uses JDT internal class and looks like
+		// ICompilationUnit#getImports()
+		// To avoid creating an array of IImportDeclaration, we do the following code:
+
+		JavaModelManager manager = JavaModelManager.getJavaModelManager();
+		Object info = manager.getInfo(container);
+		if (info == null) {
+			if (manager.getInfo(unit) != null) {
+				// CU was opened, but no import container, then no imports
+				return new CompilationUnitImports(modificationStamp, Collections.emptySet(), Collections.emptySet());
+			}
+			try {
+				// force opening of CU
+				unit.open(null);
+			} catch (JavaModelException e) {
+				LOGGER.log(Level.WARNING, "Error while opening compilation unit '" + unit.getElementName() + "'", e);
+			}
+			info = manager.getInfo(container);
+			if (info == null) {
+				// after opening, if no import container, then no imports
+				return new CompilationUnitImports(modificationStamp, Collections.emptySet(), Collections.emptySet());
+			}
+		}
+		Set<String> names = new HashSet<>();
+		Set<String> onDemandQualifiers = new HashSet<>();
+		IJavaElement[] elements = ((ImportContainerInfo) info).getChildren();
+		for (IJavaElement child : elements) {
+			IImportDeclaration importDeclaration = (IImportDeclaration) child;
+			String fqn = importDeclaration.getElementName();
+			if (importDeclaration.isOnDemand()) {
+				onDemandQualifiers.add(fqn.substring(0, fqn.lastIndexOf('.')));
+			} else {
+				names.add(fqn);
+			}
+		}
+		return new CompilationUnitImports(modificationStamp, names, onDemandQualifiers);
+	}
+
+	private void evict(ICompilationUnit unit) {
+		synchronized (units) {
+			generation++;
+			units.remove(unit);
+			units.remove(unit.getPrimary());
+		}
+	}
+
+	private void clear() {
+		synchronized (units) {
+			generation++;
+			units.clear();
+		}
+	}
+
+	public synchronized void initialize() {
+		if (compilationUnitListener != null) {
+			return;
+		}
+		compilationUnitListener = new CompilationUnitListener();
+		JavaCore.addElementChangedListener(compilationUnitListener,
+				ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	public synchronized void destroy() {
+		if (compilationUnitListener != null) {
+			JavaCore.removeElementChangedListener(compilationUnitListener);
+			compilationUnitListener = null;
+			clear();
+		}
+	}
+}
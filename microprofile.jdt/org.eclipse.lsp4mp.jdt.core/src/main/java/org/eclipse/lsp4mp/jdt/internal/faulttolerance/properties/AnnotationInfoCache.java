@@ -0,0 +1,225 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.faulttolerance.properties;
+
+import java.io.File;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.jdt.internal.faulttolerance.properties.MicroProfileFaultToleranceProvider.AnnotationInfo;
+
+/**
+ * Workspace cache of the MicroProfile Fault Tolerance annotation infos.
+ *
+ * <p>
+ * Building an annotation info requires to find the annotation type, to
+ * download the sources of the MicroProfile Fault Tolerance JAR and to extract
+ * the Javadoc of each annotation method. The result only contains data which
+ * comes from the JAR (Javadoc, parameter names and type names), so it is
+ * cached by JAR file, annotation name and document format and it is shared
+ * between the scans of all projects which have the JAR in their classpath.
+ * </p>
+ *
+ * <p>
+ * The infos of a JAR are dropped when the JAR file is modified or when its
+ * source attachment changes (ex : the sources JAR has been downloaded), so that
+ * an info built without Javadoc is built again once the sources are available.
+ * </p>
+ *
+ */
+public class AnnotationInfoCache {
+
+	private static final AnnotationInfoCache INSTANCE = new AnnotationInfoCache();
+
+	public static AnnotationInfoCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Annotation infos of a JAR.
+	 */
+	private static class JarEntry {
+
+		private final long lastModified;
+
+		private final long length;
+
+		private final String sourceAttachment;
+
+		private final Map<String /* annotation name + document format */, AnnotationInfo> infos;
+
+		public JarEntry(File jarFile, String sourceAttachment) {
+			this.lastModified = jarFile.lastModified();
+			this.length = jarFile.length();
+			this.sourceAttachment = sourceAttachment;
+			this.infos = new ConcurrentHashMap<>();
+		}
+
+		public boolean isValid(File jarFile, String sourceAttachment) {
+			return lastModified == jarFile.lastModified() && length == jarFile.length()
+					&& Objects.equals(this.sourceAttachment, sourceAttachment);
+		}
+	}
+
+	private final Map<IPath /* JAR path */, JarEntry> jars;
+
+	private AnnotationInfoCache() {
+		this.jars = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the cached annotation info of the given annotation name which comes
+	 * from a JAR of the classpath of the given project and null otherwise.
+	 *
+	 * @param javaProject    the Java project.
+	 * @param annotationName the annotation name.
+	 * @param documentFormat the document format used for the Javadoc.
+	 * @return the cached annotation info of the given annotation name which comes
+	 *         from a JAR of the classpath of the given project and null
+	 *         otherwise.
+	 * @throws JavaModelException
+	 */
+	AnnotationInfo get(IJavaProject javaProject, String annotationName, DocumentFormat documentFormat)
+			throws JavaModelException {
+		if (jars.isEmpty()) {
+			return null;
+		}
+		String key = getKey(annotationName, documentFormat);
+		for (IClasspathEntry entry : javaProject.getResolvedClasspath(true)) {
+			if (entry.getEntryKind() != IClasspathEntry.CPE_LIBRARY) {
+				continue;
+			}
+			IPath path = entry.getPath();
+			JarEntry jar = jars.get(path);
+			if (jar == null) {
+				continue;
+			}
+			AnnotationInfo info = jar.infos.get(key);
+			if (info == null) {
+				continue;
+			}
+			File jarFile = getJarFile(path);
+			if (jarFile == null || !jar.isValid(jarFile, toString(entry.getSourceAttachmentPath()))) {
+				// The JAR or its sources have changed
+				jars.remove(path, jar);
+				return null;
+			}
+			return info;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns true if the annotation info of the given annotation name is cached
+	 * for the given project and false otherwise.
+	 *
+	 * @param javaProject    the Java project.
+	 * @param annotationName the annotation name.
+	 * @param documentFormat the document format used for the Javadoc.
+	 * @return true if the annotation info of the given annotation name is cached
+	 *         for the given project and false otherwise.
+	 * @throws JavaModelException
+	 */
+	public boolean contains(IJavaProject javaProject, String annotationName, DocumentFormat documentFormat)
+			throws JavaModelException {
+		return get(javaProject, annotationName, documentFormat) != null;
+	}
+
+	/**
+	 * Returns the source attachment of the JAR which contains the given type and
+	 * null if the type doesn't come from a JAR or if the JAR has no source
+	 * attachment.
+	 *
+	 * <p>
+	 * The source attachment must be read before building the annotation info, so
+	 * that a source attachment which appears during the build invalidates the
+	 * cached info.
+	 * </p>
+	 *
+	 * @param type the type.
+	 * @return the source attachment of the JAR which contains the given type.
+	 * @throws JavaModelException
+	 */
+	static String getSourceAttachment(IType type) throws JavaModelException {
+		IPackageFragmentRoot root = getArchive(type);
+		return root != null ? toString(root.getResolvedClasspathEntry().getSourceAttachmentPath()) : null;
+	}
+
+	/**
+	 * Cache the given annotation info if the annotation type comes from a JAR.
+	 *
+	 * @param annotation       the annotation type.
+	 * @param sourceAttachment the source attachment of the JAR when the info has
+	 *                         been built.
+	 * @param documentFormat   the document format used for the Javadoc.
+	 * @param info             the annotation info to cache.
+	 * @throws JavaModelException
+	 */
+	void put(IType annotation, String sourceAttachment, DocumentFormat documentFormat, AnnotationInfo info)
+			throws JavaModelException {
+		IPackageFragmentRoot root = getArchive(annotation);
+		if (root == null) {
+			return;
+		}
+		IPath path = root.getResolvedClasspathEntry().getPath();
+		File jarFile = getJarFile(path);
+		if (jarFile == null) {
+			return;
+		}
+		JarEntry jar = jars.compute(path, (p, existing) -> existing != null
+				&& existing.isValid(jarFile, sourceAttachment) ? existing : new JarEntry(jarFile, sourceAttachment));
+		jar.infos.put(getKey(info.getName(), documentFormat), info);
+	}
+
+	/**
+	 * Clear the cache.
+	 */
+	public void clear() {
+		jars.clear();
+	}
+
+	private static String getKey(String annotationName, DocumentFormat documentFormat) {
+		return annotationName + '#' + documentFormat;
+	}
+
+	private static IPackageFragmentRoot getArchive(IType type) {
+		IPackageFragmentRoot root = (IPackageFragmentRoot) type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		return root != null && root.isArchive() ? root : null;
+	}
+
+	/**
+	 * Returns the file of the given JAR path, which is a workspace path or a file
+	 * system path.
+	 */
+	private static File getJarFile(IPath path) {
+		IResource resource = ResourcesPlugin.getWorkspace().getRoot().findMember(path);
+		IPath location = resource != null ? resource.getLocation() : path;
+		return location != null ? location.toFile() : null;
+	}
+
+	private static String toString(IPath path) {
+		return path != null ? path.toString() : null;
+	}
+}
@@ -78,6 +78,10 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 		return ANNOTATION_NAMES;
 	}
 
+	/**
+	 * Annotation info, which only keeps data coming from the annotation type (and
+	 * not JDT handles) to be shared between projects.
+	 */
 	static class AnnotationInfo {
 
 		private final String name;
@@ -114,8 +118,9 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 					// Enumerations
 					IType enclosedType = getEnclosedType(returnType, type, method.getJavaProject());
 
-					AnnotationParameter parameter = new AnnotationParameter(name, type, enclosedType, description,
-							sourceType, sourceMethod, defaultValue);
+					AnnotationParameter parameter = new AnnotationParameter(name, type,
+							enclosedType != null ? enclosedType.getFullyQualifiedName() : null, description, sourceType,
+							sourceMethod, defaultValue);
 					parameters.add(parameter);
 				}
 			}
@@ -142,17 +147,17 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 
 		private final String name;
 		private final String type;
-		private final IType jdtType;
+		private final String jdtTypeName;
 		private final String description;
 		private final String sourceType;
 		private final String sourceMethod;
 		private final String defaultValue;
 
-		public AnnotationParameter(String name, String type, IType jdtType, String description, String sourceType,
-				String sourceMethod, String defaultValue) {
+		public AnnotationParameter(String name, String type, String jdtTypeName, String description,
+				String sourceType, String sourceMethod, String defaultValue) {
 			this.name = name;
 			this.type = type;
-			this.jdtType = jdtType;
+			this.jdtTypeName = jdtTypeName;
 			this.description = description;
 			this.sourceType = sourceType;
 			this.sourceMethod = sourceMethod;
@@ -183,8 +188,15 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 			return defaultValue;
 		}
 
-		public IType getJDTType() {
-			return jdtType;
+		/**
+		 * Returns the fully qualified name of the enumeration type of the parameter
+		 * and null otherwise.
+		 *
+		 * @return the fully qualified name of the enumeration type of the parameter
+		 *         and null otherwise.
+		 */
+		public String getJDTTypeName() {
+			return jdtTypeName;
 		}
 	}
 
@@ -198,11 +210,14 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 
 		private final Map<String, AnnotationInfo> cache;
 
+		private final Map<String, IType> types;
+
 		private final Set<String> processedAnnotations;
 
 		public MicroProfileFaultToleranceContext(IJavaProject javaProject, IJDTUtils utils,
 				DocumentFormat documentFormat) {
 			this.cache = new HashMap<>();
+			this.types = new HashMap<>();
 			this.processedAnnotations = new HashSet<>();
 			this.javaProject = javaProject;
 			this.utils = utils;
@@ -217,8 +232,35 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 			return registerAnnotation(annotation, monitor);
 		}
 
+		/**
+		 * Returns the JDT type of the given enumeration type name of an annotation
+		 * parameter, resolved with the classpath of the project.
+		 *
+		 * @param typeName the type name.
+		 * @return the JDT type of the given type name and null otherwise.
+		 * @throws JavaModelException
+		 */
+		public IType getParameterType(String typeName) throws JavaModelException {
+			if (typeName == null) {
+				return null;
+			}
+			if (types.containsKey(typeName)) {
+				return types.get(typeName);
+			}
+			IType type = findType(javaProject, typeName);
+			types.put(typeName, type);
+			return type;
+		}
+
 		private AnnotationInfo registerAnnotation(String annotationName, IProgressMonitor monitor)
 				throws JavaModelException {
+			// The annotation info is shared between the scans of the projects which use
+			// the same JAR
+			AnnotationInfo info = AnnotationInfoCache.getInstance().get(javaProject, annotationName, documentFormat);
+			if (info != null) {
+				cache.put(info.getName(), info);
+				return info;
+			}
 			IType annotation = javaProject.findType(annotationName);
 			if (annotation == null) {
 				return null;
@@ -234,8 +276,10 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 							"Error while downloading sources for MicroProfile Fault Tolerance dependency", e);
 				}
 			}
-			AnnotationInfo info = new AnnotationInfo(annotation, utils, documentFormat);
+			String sourceAttachment = AnnotationInfoCache.getSourceAttachment(annotation);
+			info = new AnnotationInfo(annotation, utils, documentFormat);
 			cache.put(info.getName(), info);
+			AnnotationInfoCache.getInstance().put(annotation, sourceAttachment, documentFormat, info);
 			return info;
 		}
 
@@ -338,7 +382,7 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 				sourceMethod = parameter.getSourceMethod();
 			}
 			// Enumerations
-			IType jdtType = parameter.getJDTType();
+			IType jdtType = mpftContext.getParameterType(parameter.getJDTTypeName());
 			super.updateHint(collector, jdtType);
 
 			super.addItemMetadata(collector, propertyName, parameterType, description, sourceType, null, sourceMethod,
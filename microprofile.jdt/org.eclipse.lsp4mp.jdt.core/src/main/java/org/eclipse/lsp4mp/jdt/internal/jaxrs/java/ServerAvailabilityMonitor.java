@@ -0,0 +1,303 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.jaxrs.java;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Monitor which checks in background if a server is available on a given host
+ * and port.
+ *
+ * <p>
+ * A port is monitored as soon as its availability is requested with
+ * {@link #isServerAvailable(String, int)}, which never blocks and returns the
+ * last known availability (false for a port which is not probed yet). The port
+ * is then probed in background on a schedule with an exponential backoff while
+ * its availability doesn't change, and the {@link IServerAvailabilityListener
+ * listeners} are notified when the availability changes. A port which has not
+ * been requested for a while is no longer probed, until it is requested again.
+ * </p>
+ *
+ */
+public class ServerAvailabilityMonitor {
+
+	private static final Logger LOGGER = Logger.getLogger(ServerAvailabilityMonitor.class.getName());
+
+	private static final long DEFAULT_MIN_DELAY = 1000;
+
+	private static final long DEFAULT_MAX_DELAY = 16000;
+
+	private static final int DEFAULT_PING_TIMEOUT = 2000;
+
+	private static final long DEFAULT_EXPIRATION = TimeUnit.MINUTES.toMillis(10);
+
+	private static final ServerAvailabilityMonitor INSTANCE = new ServerAvailabilityMonitor();
+
+	public static ServerAvailabilityMonitor getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Server availability listener.
+	 */
+	@FunctionalInterface
+	public static interface IServerAvailabilityListener {
+
+		/**
+		 * Called when the availability of the server of the given host and port
+		 * changed.
+		 *
+		 * @param host      the host.
+		 * @param port      the port.
+		 * @param available true if the server is available and false otherwise.
+		 */
+		void serverAvailabilityChanged(String host, int port, boolean available);
+	}
+
+	/**
+	 * Probe of a monitored host and port.
+	 */
+	private class PortProbe implements Runnable {
+
+		private final String host;
+
+		private final int port;
+
+		private volatile boolean available;
+
+		private volatile long lastRequestTime;
+
+		private volatile long delay;
+
+		private final AtomicBoolean monitored;
+
+		public PortProbe(String host, int port) {
+			this.host = host;
+			this.port = port;
+			this.delay = minDelay;
+			this.lastRequestTime = System.currentTimeMillis();
+			this.monitored = new AtomicBoolean(true);
+		}
+
+		/**
+		 * Probe the port as soon as possible if it is no longer monitored.
+		 */
+		public void restartIfNeeded() {
+			if (monitored.compareAndSet(false, true)) {
+				delay = minDelay;
+				schedule(this, 0);
+			}
+		}
+
+		private boolean isExpired() {
+			return System.currentTimeMillis() - lastRequestTime > expiration;
+		}
+
+		@Override
+		public void run() {
+			if (isExpired()) {
+				// the port is not requested anymore, stop the monitoring and keep the last
+				// known availability for the next request
+				monitored.set(false);
+				if (isExpired() || !monitored.compareAndSet(false, true)) {
+					// the port has not been requested since the expiration or the
+					// monitoring has been restarted by a request
+					return;
+				}
+			}
+			boolean newAvailable = ping(host, port, pingTimeout);
+			if (newAvailable != available) {
+				available = newAvailable;
+				delay = minDelay;
+				fireServerAvailabilityChanged(host, port, newAvailable);
+			} else {
+				delay = Math.min(delay * 2, maxDelay);
+			}
+			schedule(this, delay);
+		}
+	}
+
+	private final long minDelay;
+
+	private final long maxDelay;
+
+	private final int pingTimeout;
+
+	private final long expiration;
+
+	private final Map<String, PortProbe> probes;
+
+	private final Set<IServerAvailabilityListener> listeners;
+
+	private volatile ScheduledExecutorService executor;
+
+	private ServerAvailabilityMonitor() {
+		this(DEFAULT_MIN_DELAY, DEFAULT_MAX_DELAY, DEFAULT_PING_TIMEOUT, DEFAULT_EXPIRATION);
+	}
+
+	/**
+	 * Server availability monitor constructor.
+	 *
+	 * @param minDelay    the delay (in ms) between the first probes of a port and
+	 *                    after an availability change.
+	 * @param maxDelay    the maximum delay (in ms) between two probes of a port
+	 *                    when its availability doesn't change.
+	 * @param pingTimeout the timeout (in ms) to connect to a port.
+	 * @param expiration  the delay (in ms) after which a port which is not
+	 *                    requested is no longer monitored.
+	 */
+	public ServerAvailabilityMonitor(long minDelay, long maxDelay, int pingTimeout, long expiration) {
+		this.minDelay = minDelay;
+		this.maxDelay = maxDelay;
+		this.pingTimeout = pingTimeout;
+		this.expiration = expiration;
+		this.probes = new ConcurrentHashMap<>();
+		this.listeners = new CopyOnWriteArraySet<>();
+	}
+
+	/**
+	 * Returns the last known availability of the server of the given host and
+	 * port and start the monitoring of the port if needed.
+	 *
+	 * <p>
+	 * This method never blocks: false is returned for a port which is not probed
+	 * yet, the port is probed immediately in background and the listeners are
+	 * notified if the server is available. The monitor is initialized if needed.
+	 * </p>
+	 *
+	 * @param host the host.
+	 * @param port the port.
+	 * @return the last known availability of the server of the given host and
+	 *         port.
+	 */
+	public boolean isServerAvailable(String host, int port) {
+		if (executor == null) {
+			initialize();
+		}
+		String key = getKey(host, port);
+		PortProbe probe = probes.get(key);
+		if (probe == null) {
+			PortProbe newProbe = new PortProbe(host, port);
+			probe = probes.putIfAbsent(key, newProbe);
+			if (probe == null) {
+				// start the monitoring of the port
+				probe = newProbe;
+				schedule(probe, 0);
+			}
+		}
+		probe.lastRequestTime = System.currentTimeMillis();
+		probe.restartIfNeeded();
+		return probe.available;
+	}
+
+	/**
+	 * Add the given server availability listener.
+	 *
+	 * @param listener the listener to add.
+	 */
+	public void addServerAvailabilityListener(IServerAvailabilityListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Remove the given server availability listener.
+	 *
+	 * @param listener the listener to remove.
+	 */
+	public void removeServerAvailabilityListener(IServerAvailabilityListener listener) {
+		listeners.remove(listener);
+	}
+
+	private void schedule(PortProbe probe, long delay) {
+		ScheduledExecutorService executor = this.executor;
+		if (executor == null) {
+			return;
+		}
+		try {
+			executor.schedule(probe, delay, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			// the monitor is destroyed
+		}
+	}
+
+	private void fireServerAvailabilityChanged(String host, int port, boolean available) {
+		if (listeners.isEmpty()) {
+			return;
+		}
+		// Notify the listeners in background to avoid delaying the other probes
+		CompletableFuture.runAsync(() -> {
+			for (IServerAvailabilityListener listener : listeners) {
+				try {
+					listener.serverAvailabilityChanged(host, port, available);
+				} catch (Exception e) {
+					LOGGER.log(Level.SEVERE, "Error while notifying server availability change for port " + port, e);
+				}
+			}
+		});
+	}
+
+	private static boolean ping(String host, int port, int timeout) {
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress(host, port), timeout);
+			return true;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static String getKey(String host, int port) {
+		return host + ":" + port;
+	}
+
+	/**
+	 * Initialize the server availability monitor.
+	 */
+	public synchronized void initialize() {
+		if (executor != null) {
+			return;
+		}
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+			Thread thread = new Thread(r, "LSP4MP server availability monitor");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.setRemoveOnCancelPolicy(true);
+		this.executor = executor;
+	}
+
+	/**
+	 * Destroy the server availability monitor.
+	 */
+	public synchronized void destroy() {
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+			probes.clear();
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package org.acme;
+
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+public class SharedClient {
+
+	@Retry(maxRetries = 5)
+	public void serviceA() {
+	}
+
+}
@@ -76,6 +76,7 @@ public class BasePropertiesManagerTest {
 		public static String microprofile_applicationpath = "microprofile-applicationpath";
 		public static String microprofile_configproperties = "microprofile-configproperties";
 		public static String microprofile_fault_tolerance = "microprofile-fault-tolerance";
+		public static String microprofile_fault_tolerance_shared = "microprofile-fault-tolerance-shared";
 		public static String microprofile_health_quickstart = "microprofile-health-quickstart";
 		public static String microprofile_health_3 = "microprofile-health-3";
 		public static String microprofile_lra = "microprofile-lra";
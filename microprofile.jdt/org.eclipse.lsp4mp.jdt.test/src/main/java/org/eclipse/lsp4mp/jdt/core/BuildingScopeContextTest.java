@@ -0,0 +1,98 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.jdt.core.ArtifactResolver.Artifact;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with the artifacts resolution of {@link BuildingScopeContext}.
+ *
+ */
+public class BuildingScopeContextTest extends BasePropertiesManagerTest {
+
+	/**
+	 * Records the artifacts resolved by batch and one by one.
+	 */
+	private static class RecordingArtifactResolver implements ArtifactResolver {
+
+		private final List<Collection<Artifact>> batches = new ArrayList<>();
+
+		private final List<Artifact> artifacts = new ArrayList<>();
+
+		@Override
+		public String getArtifact(Artifact artifact, IProgressMonitor monitor) {
+			artifacts.add(artifact);
+			return artifact.getArtifactId() + ".jar";
+		}
+
+		@Override
+		public Map<Artifact, String> getArtifacts(Collection<Artifact> artifacts, IProgressMonitor monitor) {
+			batches.add(new ArrayList<>(artifacts));
+			return ArtifactResolver.super.getArtifacts(artifacts, monitor);
+		}
+
+		@Override
+		public Set<Artifact> getDependencies(Artifact artifact, IProgressMonitor monitor) {
+			return Collections.emptySet();
+		}
+	}
+
+	@Test
+	public void requestedArtifactsResolvedTogether() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		RecordingArtifactResolver resolver = new RecordingArtifactResolver();
+		BuildingScopeContext context = new BuildingScopeContext(javaProject, false,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, resolver);
+
+		Artifact core = new Artifact("io.quarkus", "quarkus-core-deployment", "2.9.0.Final");
+		Artifact arc = new Artifact("io.quarkus", "quarkus-arc-deployment", "2.9.0.Final");
+		Artifact other = new Artifact("io.quarkus", "quarkus-vertx-deployment", "2.9.0.Final");
+		// requested by several providers in beginBuildingScope
+		context.requestArtifact(core);
+		context.requestArtifact(arc);
+		context.requestArtifact(core);
+		context.resolveRequestedArtifacts(new NullProgressMonitor());
+
+		Assert.assertEquals(1, resolver.batches.size());
+		Assert.assertEquals(2, resolver.batches.get(0).size());
+		Assert.assertEquals(2, resolver.artifacts.size());
+
+		// used by the providers in contributeToClasspath
+		Assert.assertEquals("quarkus-core-deployment.jar", context.getResolvedArtifact(core, new NullProgressMonitor()));
+		Assert.assertEquals("quarkus-arc-deployment.jar", context.getResolvedArtifact(arc, new NullProgressMonitor()));
+		Assert.assertEquals(2, resolver.artifacts.size());
+
+		// an artifact which was not requested is resolved on demand
+		Assert.assertEquals("quarkus-vertx-deployment.jar",
+				context.getResolvedArtifact(other, new NullProgressMonitor()));
+		Assert.assertEquals(3, resolver.artifacts.size());
+
+		// the resolved artifacts are not resolved again
+		context.resolveRequestedArtifacts(new NullProgressMonitor());
+		Assert.assertEquals(1, resolver.batches.size());
+	}
+}
@@ -112,6 +112,31 @@ public class ProjectLabelTest {
 		assertName(projectLabelEntries, renamedGradle, "my-gradle-project");
 	}
 
+	@Test
+	public void projectLabelsCachedUntilBuildFileChanged() throws Exception {
+		IJavaProject maven = BasePropertiesManagerTest.loadMavenProject(MicroProfileMavenProjectName.empty_maven_project);
+		ProjectLabelInfoEntry entry = getEntry(ProjectLabelManager.getInstance().getProjectLabelInfo(), maven);
+		Assert.assertNotNull(entry);
+		Assert.assertSame(entry, getEntry(ProjectLabelManager.getInstance().getProjectLabelInfo(), maven));
+
+		// Update the pom.xml evicts the project labels cache
+		maven.getProject().getFile("pom.xml").touch(null);
+		ProjectLabelInfoEntry updatedEntry = getEntry(ProjectLabelManager.getInstance().getProjectLabelInfo(), maven);
+		Assert.assertNotSame(entry, updatedEntry);
+		Assert.assertEquals(entry.getLabels(), updatedEntry.getLabels());
+	}
+
+	private static ProjectLabelInfoEntry getEntry(List<ProjectLabelInfoEntry> projectLabelEntries,
+			IJavaProject javaProject) {
+		String javaProjectPath = JDTMicroProfileUtils.getProjectURI(javaProject.getProject());
+		for (ProjectLabelInfoEntry entry : projectLabelEntries) {
+			if (entry.getUri().equals(javaProjectPath)) {
+				return entry;
+			}
+		}
+		return null;
+	}
+
 	private static void assertProjectLabelInfoContainsProject(List<ProjectLabelInfoEntry> projectLabelEntries,
 			IJavaProject... javaProjects) throws CoreException {
 		List<String> actualProjectPaths = projectLabelEntries.stream().map(e -> e.getUri())
@@ -0,0 +1,57 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core.config.java;
+
+import static org.eclipse.lsp4mp.jdt.core.config.java.MicroProfileConfigJavaDiagnosticsTest.createLargeConfigBeanDiagnosticsParams;
+import static org.eclipse.lsp4mp.jdt.core.config.java.MicroProfileConfigJavaDiagnosticsTest.deleteLargeConfigBean;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManagerForJava;
+import org.eclipse.lsp4mp.jdt.core.performance.PerformanceRecorder;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+/**
+ * Performance test of the MicroProfile Config Java diagnostics on a config bean
+ * with 500 @ConfigProperty fields.
+ *
+ * <p>
+ * This test is excluded from the default build and is executed with the
+ * 'performance' Maven profile.
+ * </p>
+ *
+ */
+public class MicroProfileConfigJavaDiagnosticsPerformanceTest extends BasePropertiesManagerTest {
+
+	@AfterClass
+	public static void writeReport() throws Exception {
+		PerformanceRecorder.getInstance().writeReport();
+	}
+
+	@Test
+	public void noValueAssignedOnLargeConfigBean() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		MicroProfileJavaDiagnosticsParams diagnosticsParams = createLargeConfigBeanDiagnosticsParams(javaProject);
+		try {
+			PerformanceRecorder.getInstance().measure("java.diagnostics.largeConfigBean",
+					() -> PropertiesManagerForJava.getInstance().diagnostics(diagnosticsParams, JDT_UTILS,
+							new NullProgressMonitor()));
+		} finally {
+			deleteLargeConfigBean(javaProject);
+		}
+	}
+}
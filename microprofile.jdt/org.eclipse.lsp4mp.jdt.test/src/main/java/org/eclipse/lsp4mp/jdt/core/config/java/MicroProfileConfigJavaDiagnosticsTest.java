@@ -22,27 +22,36 @@ import static org.eclipse.lsp4mp.jdt.core.MicroProfileForJavaAssert.te;
 import static org.eclipse.lsp4mp.jdt.internal.config.java.MicroProfileConfigASTValidator.setDataForUnassigned;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeActionParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaPublishDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.codeaction.MicroProfileCodeActionFactory;
 import org.eclipse.lsp4mp.commons.codeaction.MicroProfileCodeActionId;
 import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
 import org.eclipse.lsp4mp.jdt.core.MicroProfileConfigConstants;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManagerForJava;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4mp.jdt.internal.config.java.MicroProfileConfigErrorCode;
 import org.eclipse.lsp4mp.jdt.internal.core.providers.MicroProfileConfigSourceProvider;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class MicroProfileConfigJavaDiagnosticsTest extends BasePropertiesManagerTest {
 
+	static final int FIELD_COUNT = 500;
+
 	@Test
 	public void improperDefaultValues() throws Exception {
 		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
@@ -261,6 +270,80 @@ public class MicroProfileConfigJavaDiagnosticsTest extends BasePropertiesManager
 		assertJavaDiagnostics(diagnosticsParams, utils, d1);
 	}
 
+	@Test
+	public void referencedPropertyNames() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		IJDTUtils utils = JDT_UTILS;
+
+		MicroProfileJavaDiagnosticsParams diagnosticsParams = new MicroProfileJavaDiagnosticsParams();
+		IFile javaFile = javaProject.getProject()
+				.getFile(new Path("src/main/java/org/acme/config/DefaultValueResource.java"));
+		diagnosticsParams.setUris(Arrays.asList(javaFile.getLocation().toFile().toURI().toString()));
+		diagnosticsParams.setDocumentFormat(DocumentFormat.Markdown);
+
+		List<PublishDiagnosticsParams> result = PropertiesManagerForJava.getInstance().diagnostics(diagnosticsParams,
+				utils, new NullProgressMonitor());
+		Assert.assertEquals(1, result.size());
+		Assert.assertTrue(result.get(0) instanceof MicroProfileJavaPublishDiagnosticsParams);
+		// Only the properties without default value depend on the config files
+		Assert.assertEquals(Collections.singleton("greeting9"),
+				((MicroProfileJavaPublishDiagnosticsParams) result.get(0)).getReferencedPropertyNames());
+	}
+
+	@Test
+	public void noValueAssignedOnLargeConfigBean() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		MicroProfileJavaDiagnosticsParams diagnosticsParams = createLargeConfigBeanDiagnosticsParams(javaProject);
+		try {
+			List<PublishDiagnosticsParams> result = PropertiesManagerForJava.getInstance()
+					.diagnostics(diagnosticsParams, JDT_UTILS, new NullProgressMonitor());
+			Assert.assertEquals(1, result.size());
+			Assert.assertEquals(FIELD_COUNT - 112, result.get(0).getDiagnostics().size());
+		} finally {
+			deleteLargeConfigBean(javaProject);
+		}
+	}
+
+	/**
+	 * Create a config bean with {@link #FIELD_COUNT} @ConfigProperty fields in the
+	 * given project and returns the diagnostics params to validate it.
+	 */
+	static MicroProfileJavaDiagnosticsParams createLargeConfigBeanDiagnosticsParams(IJavaProject javaProject)
+			throws Exception {
+		saveFile("org/acme/config/LargeConfigBean.java", generateLargeConfigBean(), javaProject, true);
+		IFile javaFile = javaProject.getProject()
+				.getFile(new Path("src/main/java/org/acme/config/LargeConfigBean.java"));
+
+		MicroProfileJavaDiagnosticsParams diagnosticsParams = new MicroProfileJavaDiagnosticsParams();
+		// ignore 'bench.property1', 'bench.property10' ... 'bench.property199' and
+		// 'bench.property42'
+		diagnosticsParams.setSettings(
+				new MicroProfileJavaDiagnosticsSettings(Arrays.asList("bench.property1*", "bench.property42")));
+		diagnosticsParams.setUris(Arrays.asList(javaFile.getLocation().toFile().toURI().toString()));
+		diagnosticsParams.setDocumentFormat(DocumentFormat.Markdown);
+		return diagnosticsParams;
+	}
+
+	static void deleteLargeConfigBean(IJavaProject javaProject) throws Exception {
+		deleteFile("org/acme/config/LargeConfigBean.java", javaProject, true);
+	}
+
+	private static String generateLargeConfigBean() {
+		StringBuilder content = new StringBuilder();
+		content.append("package org.acme.config;\n");
+		content.append("\n");
+		content.append("import org.eclipse.microprofile.config.inject.ConfigProperty;\n");
+		content.append("\n");
+		content.append("public class LargeConfigBean {\n");
+		for (int i = 0; i < FIELD_COUNT; i++) {
+			content.append("\n");
+			content.append("\t@ConfigProperty(name = \"bench.property").append(i).append("\")\n");
+			content.append("\tString property").append(i).append(";\n");
+		}
+		content.append("}\n");
+		return content.toString();
+	}
+
 	private static String fixURI(String uriString) {
 		return uriString.replaceFirst("file:/([^/])", "file:///$1");
 	}
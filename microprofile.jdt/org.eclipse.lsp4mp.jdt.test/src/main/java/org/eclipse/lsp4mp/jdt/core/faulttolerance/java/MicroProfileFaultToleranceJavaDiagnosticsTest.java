@@ -17,18 +17,24 @@ import static org.eclipse.lsp4mp.jdt.core.MicroProfileForJavaAssert.assertJavaDi
 import static org.eclipse.lsp4mp.jdt.core.MicroProfileForJavaAssert.d;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaPublishDiagnosticsParams;
 import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManagerForJava;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4mp.jdt.internal.faulttolerance.MicroProfileFaultToleranceConstants;
 import org.eclipse.lsp4mp.jdt.internal.faulttolerance.java.MicroProfileFaultToleranceErrorCode;
+import org.junit.Assert;
 import org.junit.Test;
 
 /**
@@ -62,6 +68,31 @@ public class MicroProfileFaultToleranceJavaDiagnosticsTest
 		assertJavaDiagnostics(diagnosticsParams, utils, d);
 	}
 
+	@Test
+	public void referencedPropertyNamesAreUnknown() throws Exception {
+		IJavaProject javaProject = loadMavenProject(
+				MicroProfileMavenProjectName.microprofile_fault_tolerance);
+		IJDTUtils utils = JDT_UTILS;
+
+		MicroProfileJavaDiagnosticsParams diagnosticsParams = new MicroProfileJavaDiagnosticsParams();
+		IFile javaFile = javaProject.getProject().getFile(
+				new Path("src/main/java/org/acme/FaultTolerantResource.java"));
+		diagnosticsParams.setUris(Arrays
+				.asList(javaFile.getLocation().toFile().toURI().toString()));
+		diagnosticsParams.setDocumentFormat(DocumentFormat.Markdown);
+
+		List<PublishDiagnosticsParams> result = PropertiesManagerForJava
+				.getInstance().diagnostics(diagnosticsParams, utils,
+						new NullProgressMonitor());
+		Assert.assertEquals(1, result.size());
+		Assert.assertEquals(1, result.get(0).getDiagnostics().size());
+		// The fault tolerance validator doesn't declare its referenced
+		// properties, the Java file must be validated again on each config
+		// file change
+		Assert.assertNull(((MicroProfileJavaPublishDiagnosticsParams) result
+				.get(0)).getReferencedPropertyNames());
+	}
+
 	@Test
 	public void asynchronousNonFutureOrCompletionStage() throws Exception {
 		IJavaProject javaProject = loadMavenProject(
@@ -21,10 +21,22 @@ import static org.eclipse.lsp4mp.jdt.core.MicroProfileAssert.h;
 import static org.eclipse.lsp4mp.jdt.core.MicroProfileAssert.p;
 import static org.eclipse.lsp4mp.jdt.core.MicroProfileAssert.vh;
 
+import java.io.File;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManager;
 import org.eclipse.lsp4mp.jdt.internal.faulttolerance.MicroProfileFaultToleranceConstants;
+import org.eclipse.lsp4mp.jdt.internal.faulttolerance.properties.AnnotationInfoCache;
+import org.junit.Assert;
 import org.junit.Test;
 
 /**
@@ -110,4 +122,59 @@ public class MicroProfileFaultTolerancePropertiesTest extends BasePropertiesMana
 		assertHintsDuplicate(infoFromClasspath);
 	}
 
+	@Test
+	public void annotationInfoCache() throws Exception {
+		AnnotationInfoCache cache = AnnotationInfoCache.getInstance();
+		cache.clear();
+
+		String retry = MicroProfileFaultToleranceConstants.RETRY_ANNOTATION;
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_fault_tolerance);
+		Assert.assertFalse(cache.contains(javaProject, retry, DocumentFormat.Markdown));
+
+		// The first scan caches the annotation info, the next scans hit the cache
+		MicroProfileProjectInfo info = collectProperties(javaProject);
+		Assert.assertTrue(cache.contains(javaProject, retry, DocumentFormat.Markdown));
+		Assert.assertFalse(cache.contains(javaProject, retry, DocumentFormat.PlainText));
+		Assert.assertEquals(info.getProperties().size(), collectProperties(javaProject).getProperties().size());
+		Assert.assertTrue(cache.contains(javaProject, retry, DocumentFormat.Markdown));
+
+		// The annotation info is shared with a project which uses the same JAR
+		IJavaProject sharedProject = loadMavenProject(
+				MicroProfileMavenProjectName.microprofile_fault_tolerance_shared);
+		Assert.assertTrue(cache.contains(sharedProject, retry, DocumentFormat.Markdown));
+		MicroProfileProjectInfo sharedInfo = collectProperties(sharedProject);
+		assertProperties(sharedInfo,
+				p(null, "org.acme.SharedClient/serviceA/Retry/maxRetries", "int",
+						" *  **Returns:**" + System.lineSeparator() + //
+								"    " + System.lineSeparator() + //
+								"     *  The max number of retries. -1 means retry forever. The value must be greater than or equal to -1.",
+						false, "org.acme.SharedClient", null, "serviceA()V", 0, "5"));
+
+		// The annotation info is not shared with a project which uses another JAR
+		IJavaProject otherProject = loadMavenProject(MicroProfileMavenProjectName.all_quarkus_extensions);
+		Assert.assertFalse(cache.contains(otherProject, retry, DocumentFormat.Markdown));
+		collectProperties(otherProject);
+		Assert.assertTrue(cache.contains(otherProject, retry, DocumentFormat.Markdown));
+		Assert.assertTrue(cache.contains(javaProject, retry, DocumentFormat.Markdown));
+
+		// The annotation info is dropped when the JAR is updated
+		IType retryType = javaProject.findType(retry);
+		IPackageFragmentRoot root = (IPackageFragmentRoot) retryType.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		File jarFile = root.getPath().toFile();
+		long lastModified = jarFile.lastModified();
+		try {
+			Assert.assertTrue(jarFile.setLastModified(lastModified + 10_000));
+			Assert.assertFalse(cache.contains(javaProject, retry, DocumentFormat.Markdown));
+			Assert.assertFalse(cache.contains(sharedProject, retry, DocumentFormat.Markdown));
+		} finally {
+			jarFile.setLastModified(lastModified);
+		}
+	}
+
+	private static MicroProfileProjectInfo collectProperties(IJavaProject javaProject) throws Exception {
+		return PropertiesManager.getInstance().getMicroProfileProjectInfo(javaProject,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, ClasspathKind.SRC, JDT_UTILS,
+				DocumentFormat.Markdown, new NullProgressMonitor());
+	}
+
 }
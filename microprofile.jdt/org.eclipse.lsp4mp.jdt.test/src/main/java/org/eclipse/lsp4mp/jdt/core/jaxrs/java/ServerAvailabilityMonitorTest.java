@@ -0,0 +1,102 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core.jaxrs.java;
+
+import java.net.ServerSocket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.ServerAvailabilityMonitor;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with {@link ServerAvailabilityMonitor}.
+ *
+ */
+public class ServerAvailabilityMonitorTest {
+
+	private static final String LOCALHOST = "localhost";
+
+	@Test
+	public void availabilityChanged() throws Exception {
+		ServerAvailabilityMonitor monitor = new ServerAvailabilityMonitor(50, 200, 500, TimeUnit.MINUTES.toMillis(1));
+		BlockingQueue<Boolean> events = new LinkedBlockingQueue<>();
+		monitor.addServerAvailabilityListener((host, port, available) -> events.add(available));
+		monitor.initialize();
+		try {
+			int port = getFreePort();
+			// No server is available
+			Assert.assertFalse(monitor.isServerAvailable(LOCALHOST, port));
+
+			try (ServerSocket server = new ServerSocket(port)) {
+				// The server is found in background
+				Assert.assertEquals(Boolean.TRUE, events.poll(5, TimeUnit.SECONDS));
+				Assert.assertTrue(monitor.isServerAvailable(LOCALHOST, port));
+			}
+
+			// The server is stopped
+			Assert.assertEquals(Boolean.FALSE, events.poll(5, TimeUnit.SECONDS));
+			Assert.assertFalse(monitor.isServerAvailable(LOCALHOST, port));
+		} finally {
+			monitor.destroy();
+		}
+	}
+
+	@Test
+	public void notInitialized() throws Exception {
+		ServerAvailabilityMonitor monitor = new ServerAvailabilityMonitor(50, 200, 500, TimeUnit.MINUTES.toMillis(1));
+		BlockingQueue<Boolean> events = new LinkedBlockingQueue<>();
+		monitor.addServerAvailabilityListener((host, port, available) -> events.add(available));
+		int port = getFreePort();
+		// The monitor is initialized by the first request
+		Assert.assertFalse(monitor.isServerAvailable(LOCALHOST, port));
+		try (ServerSocket server = new ServerSocket(port)) {
+			Assert.assertEquals(Boolean.TRUE, events.poll(5, TimeUnit.SECONDS));
+			Assert.assertTrue(monitor.isServerAvailable(LOCALHOST, port));
+		} finally {
+			monitor.destroy();
+		}
+	}
+
+	@Test
+	public void expiredPortKeepsLastKnownAvailability() throws Exception {
+		ServerAvailabilityMonitor monitor = new ServerAvailabilityMonitor(50, 100, 500, 200);
+		BlockingQueue<Boolean> events = new LinkedBlockingQueue<>();
+		monitor.addServerAvailabilityListener((host, port, available) -> events.add(available));
+		monitor.initialize();
+		try (ServerSocket server = new ServerSocket(0)) {
+			int port = server.getLocalPort();
+			// The first request doesn't wait for the probe of the port
+			monitor.isServerAvailable(LOCALHOST, port);
+			Assert.assertEquals(Boolean.TRUE, events.poll(5, TimeUnit.SECONDS));
+
+			// The port is no longer requested, its monitoring stops
+			Thread.sleep(1000);
+
+			// The last known availability is returned and the monitoring restarts
+			Assert.assertTrue(monitor.isServerAvailable(LOCALHOST, port));
+			Assert.assertNull(events.poll(500, TimeUnit.MILLISECONDS));
+		} finally {
+			monitor.destroy();
+		}
+	}
+
+	private static int getFreePort() throws Exception {
+		try (ServerSocket server = new ServerSocket(0)) {
+			return server.getLocalPort();
+		}
+	}
+}
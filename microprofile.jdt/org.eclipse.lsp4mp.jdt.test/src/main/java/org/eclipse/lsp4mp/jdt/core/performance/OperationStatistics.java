@@ -0,0 +1,103 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core.performance;
+
+import java.util.Arrays;
+
+/**
+ * Time and allocation of an operation measured by the
+ * {@link PerformanceRecorder}, written in the JSON report.
+ *
+ */
+public class OperationStatistics {
+
+	private final String operation;
+
+	private final int iterations;
+
+	private final double medianMs;
+
+	private final double p95Ms;
+
+	private final double minMs;
+
+	private final double maxMs;
+
+	/**
+	 * The median of the bytes allocated by the thread which executes the operation
+	 * and -1 if the Java runtime cannot measure it.
+	 */
+	private final long allocatedBytes;
+
+	public OperationStatistics(String operation, long[] durationsNanos, long[] allocatedBytes) {
+		this.operation = operation;
+		this.iterations = durationsNanos.length;
+		long[] durations = durationsNanos.clone();
+		Arrays.sort(durations);
+		this.medianMs = toMillis(percentile(durations, 50));
+		this.p95Ms = toMillis(percentile(durations, 95));
+		this.minMs = toMillis(durations[0]);
+		this.maxMs = toMillis(durations[durations.length - 1]);
+		long[] allocations = allocatedBytes.clone();
+		Arrays.sort(allocations);
+		this.allocatedBytes = allocations[0] < 0 ? -1 : percentile(allocations, 50);
+	}
+
+	/**
+	 * Returns the value of the given percentile (nearest rank) of the given sorted
+	 * values.
+	 */
+	private static long percentile(long[] sortedValues, int percentile) {
+		int rank = (int) Math.ceil(percentile / 100d * sortedValues.length);
+		return sortedValues[Math.max(0, rank - 1)];
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000d;
+	}
+
+	public String getOperation() {
+		return operation;
+	}
+
+	public int getIterations() {
+		return iterations;
+	}
+
+	public double getMedianMs() {
+		return medianMs;
+	}
+
+	public double getP95Ms() {
+		return p95Ms;
+	}
+
+	public double getMinMs() {
+		return minMs;
+	}
+
+	public double getMaxMs() {
+		return maxMs;
+	}
+
+	public long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+
+	@Override
+	public String toString() {
+		return operation + ": median=" + medianMs + "ms, p95=" + p95Ms + "ms, allocated="
+				+ (allocatedBytes >= 0 ? allocatedBytes + " bytes" : "n/a") + " (" + iterations + " iterations)";
+	}
+}
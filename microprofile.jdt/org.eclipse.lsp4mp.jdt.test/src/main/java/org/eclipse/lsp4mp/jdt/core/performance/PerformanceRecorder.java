@@ -0,0 +1,267 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core.performance;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import org.junit.Assert;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Runs an operation several times after a warm-up, records its median and p95
+ * time and the bytes it allocates, checks them against regression thresholds
+ * and writes them in a JSON report.
+ *
+ * <p>
+ * The recorder is configured with the following system properties:
+ * </p>
+ * <ul>
+ * <li><code>lsp4mp.performance.warmup</code>: the number of warm-up runs (3 by
+ * default).</li>
+ * <li><code>lsp4mp.performance.iterations</code>: the number of measured runs
+ * (10 by default).</li>
+ * <li><code>lsp4mp.performance.thresholds</code>: the properties file which
+ * declares the thresholds with the
+ * <code>&lt;operation&gt;.medianMs</code>,
+ * <code>&lt;operation&gt;.p95Ms</code> and
+ * <code>&lt;operation&gt;.allocatedBytes</code> keys
+ * (<code>performance-thresholds.properties</code> by default).</li>
+ * <li><code>lsp4mp.performance.report</code>: the JSON report file
+ * (<code>target/performance/jdt-performance.json</code> by default).</li>
+ * </ul>
+ *
+ * <p>
+ * The allocated bytes are measured with
+ * <code>com.sun.management.ThreadMXBean</code>, so only the allocations of the
+ * thread which runs the operation are counted (not the allocations of the
+ * background jobs it could trigger).
+ * </p>
+ *
+ * <p>
+ * The recorder is shared by all the performance tests, so that the report
+ * contains the operations of all the performance test classes.
+ * </p>
+ *
+ */
+public class PerformanceRecorder {
+
+	private static final Logger LOGGER = Logger.getLogger(PerformanceRecorder.class.getName());
+
+	public static final String WARMUP_PROPERTY = "lsp4mp.performance.warmup";
+
+	public static final String ITERATIONS_PROPERTY = "lsp4mp.performance.iterations";
+
+	public static final String THRESHOLDS_PROPERTY = "lsp4mp.performance.thresholds";
+
+	public static final String REPORT_PROPERTY = "lsp4mp.performance.report";
+
+	private static final String DEFAULT_THRESHOLDS = "performance-thresholds.properties";
+
+	private static final String DEFAULT_REPORT = "target/performance/jdt-performance.json";
+
+	/**
+	 * Operation to measure.
+	 */
+	@FunctionalInterface
+	public interface Operation {
+
+		void run() throws Exception;
+	}
+
+	private final int warmup;
+
+	private final int iterations;
+
+	private final Properties thresholds;
+
+	private final List<OperationStatistics> results;
+
+	private final ThreadAllocation allocation;
+
+	private static PerformanceRecorder instance;
+
+	/**
+	 * Returns the recorder shared by the performance tests.
+	 *
+	 * @return the recorder shared by the performance tests.
+	 * @throws IOException if the thresholds file cannot be read.
+	 */
+	public static synchronized PerformanceRecorder getInstance() throws IOException {
+		if (instance == null) {
+			instance = new PerformanceRecorder();
+		}
+		return instance;
+	}
+
+	private PerformanceRecorder() throws IOException {
+		this.warmup = Integer.getInteger(WARMUP_PROPERTY, 3);
+		this.iterations = Math.max(1, Integer.getInteger(ITERATIONS_PROPERTY, 10));
+		this.thresholds = loadThresholds(System.getProperty(THRESHOLDS_PROPERTY, DEFAULT_THRESHOLDS));
+		this.results = new ArrayList<>();
+		this.allocation = new ThreadAllocation();
+	}
+
+	/**
+	 * Measure the given operation and check the result against the thresholds of
+	 * the operation.
+	 *
+	 * @param name      the operation name used in the report and in the
+	 *                  thresholds file.
+	 * @param operation the operation to measure.
+	 * @return the statistics of the operation.
+	 * @throws Exception if the operation fails.
+	 */
+	public OperationStatistics measure(String name, Operation operation) throws Exception {
+		for (int i = 0; i < warmup; i++) {
+			operation.run();
+		}
+		long[] durations = new long[iterations];
+		long[] allocatedBytes = new long[iterations];
+		for (int i = 0; i < iterations; i++) {
+			long allocatedBefore = allocation.getAllocatedBytes();
+			long start = System.nanoTime();
+			operation.run();
+			durations[i] = System.nanoTime() - start;
+			long allocatedAfter = allocation.getAllocatedBytes();
+			allocatedBytes[i] = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+		}
+		OperationStatistics statistics = new OperationStatistics(name, durations, allocatedBytes);
+		synchronized (results) {
+			results.add(statistics);
+		}
+		LOGGER.info(statistics.toString());
+		checkThresholds(statistics);
+		return statistics;
+	}
+
+	private void checkThresholds(OperationStatistics statistics) {
+		String operation = statistics.getOperation();
+		Double medianMs = getThreshold(operation + ".medianMs");
+		if (medianMs != null) {
+			Assert.assertTrue(operation + " median " + statistics.getMedianMs() + "ms exceeds " + medianMs + "ms",
+					statistics.getMedianMs() <= medianMs);
+		}
+		Double p95Ms = getThreshold(operation + ".p95Ms");
+		if (p95Ms != null) {
+			Assert.assertTrue(operation + " p95 " + statistics.getP95Ms() + "ms exceeds " + p95Ms + "ms",
+					statistics.getP95Ms() <= p95Ms);
+		}
+		Double allocatedBytes = getThreshold(operation + ".allocatedBytes");
+		if (allocatedBytes != null && statistics.getAllocatedBytes() >= 0) {
+			Assert.assertTrue(operation + " allocates " + statistics.getAllocatedBytes() + " bytes which exceeds "
+					+ allocatedBytes.longValue() + " bytes", statistics.getAllocatedBytes() <= allocatedBytes);
+		}
+	}
+
+	private Double getThreshold(String key) {
+		String value = thresholds.getProperty(key);
+		return value != null && !value.trim().isEmpty() ? Double.valueOf(value.trim()) : null;
+	}
+
+	/**
+	 * Write the statistics of the operations measured so far in the JSON report.
+	 *
+	 * @throws IOException if the report cannot be written.
+	 */
+	public void writeReport() throws IOException {
+		File report = new File(System.getProperty(REPORT_PROPERTY, DEFAULT_REPORT));
+		File parent = report.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		Gson gson = new GsonBuilder().setPrettyPrinting().create();
+		try (Writer writer = Files.newBufferedWriter(report.toPath(), StandardCharsets.UTF_8)) {
+			synchronized (results) {
+				gson.toJson(results, writer);
+			}
+		}
+		LOGGER.info("Performance report written in " + report.getAbsolutePath());
+	}
+
+	private static Properties loadThresholds(String path) throws IOException {
+		Properties thresholds = new Properties();
+		File file = new File(path);
+		if (file.isFile()) {
+			try (InputStream in = Files.newInputStream(file.toPath())) {
+				thresholds.load(in);
+			}
+		} else {
+			LOGGER.warning("Performance thresholds file '" + file.getAbsolutePath() + "' not found");
+		}
+		return thresholds;
+	}
+
+	/**
+	 * Bytes allocated by the current thread, read with the
+	 * <code>com.sun.management.ThreadMXBean</code> extension which is not
+	 * available on all Java runtimes (and not visible from all bundle class
+	 * loaders).
+	 */
+	private static class ThreadAllocation {
+
+		private final ThreadMXBean threadMXBean;
+
+		private final Method getThreadAllocatedBytes;
+
+		public ThreadAllocation() {
+			ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+			Method getThreadAllocatedBytes = null;
+			try {
+				Class<?> extension = Class.forName("com.sun.management.ThreadMXBean", false,
+						ClassLoader.getSystemClassLoader());
+				if (extension.isInstance(threadMXBean)) {
+					Method isSupported = extension.getMethod("isThreadAllocatedMemorySupported");
+					if ((Boolean) isSupported.invoke(threadMXBean)) {
+						extension.getMethod("setThreadAllocatedMemoryEnabled", boolean.class).invoke(threadMXBean,
+								true);
+						getThreadAllocatedBytes = extension.getMethod("getThreadAllocatedBytes", long.class);
+					}
+				}
+			} catch (Exception e) {
+				LOGGER.warning("Allocated bytes cannot be measured: " + e.getMessage());
+			}
+			this.threadMXBean = threadMXBean;
+			this.getThreadAllocatedBytes = getThreadAllocatedBytes;
+		}
+
+		/**
+		 * Returns the bytes allocated by the current thread and -1 if they cannot be
+		 * measured.
+		 */
+		public long getAllocatedBytes() {
+			if (getThreadAllocatedBytes == null) {
+				return -1;
+			}
+			try {
+				return (Long) getThreadAllocatedBytes.invoke(threadMXBean, Thread.currentThread().getId());
+			} catch (Exception e) {
+				return -1;
+			}
+		}
+	}
+}
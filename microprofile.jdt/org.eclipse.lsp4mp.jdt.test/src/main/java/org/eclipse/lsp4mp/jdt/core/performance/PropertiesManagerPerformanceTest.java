@@ -0,0 +1,143 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core.performance;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeLensParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaHoverParams;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManager;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManagerForJava;
+import org.eclipse.lsp4mp.jdt.internal.core.JobHelpers;
+import org.eclipse.m2e.core.internal.IMavenConstants;
+import org.eclipse.m2e.core.internal.preferences.MavenPreferenceConstants;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Performance tests of {@link PropertiesManager} and
+ * {@link PropertiesManagerForJava} with the 'all-quarkus-extensions' project.
+ *
+ * <p>
+ * Those tests are excluded from the default build and are executed with the
+ * 'performance' Maven profile (see {@link PerformanceRecorder} for the
+ * configuration).
+ * </p>
+ *
+ */
+public class PropertiesManagerPerformanceTest extends BasePropertiesManagerTest {
+
+	private static final String EXAMPLE_RESOURCE = "src/main/java/org/acme/ExampleResource.java";
+
+	// Java file which injects config properties with @ConfigProperty
+	private static final String GREETING_RESOURCE = "src/main/java/org/acme/GreetingResource.java";
+
+	private static IJavaProject javaProject;
+
+	private static String javaFileUri;
+
+	private static String configJavaFileUri;
+
+	private static PerformanceRecorder recorder;
+
+	private static boolean oldOffline;
+
+	@BeforeClass
+	public static void setUpProject() throws Exception {
+		// the Maven dependencies must be resolved from the local repository
+		IEclipsePreferences preferences = InstanceScope.INSTANCE.getNode(IMavenConstants.PLUGIN_ID);
+		oldOffline = preferences.getBoolean(MavenPreferenceConstants.P_OFFLINE, false);
+		preferences.putBoolean(MavenPreferenceConstants.P_OFFLINE, true);
+
+		javaProject = loadMavenProject(MicroProfileMavenProjectName.all_quarkus_extensions);
+		JobHelpers.waitForJobsToComplete();
+		javaFileUri = getFileUri(EXAMPLE_RESOURCE);
+		configJavaFileUri = getFileUri(GREETING_RESOURCE);
+		recorder = PerformanceRecorder.getInstance();
+	}
+
+	private static String getFileUri(String path) {
+		return javaProject.getProject().getFile(new Path(path)).getLocation().toFile().toURI().toString();
+	}
+
+	@AfterClass
+	public static void tearDownProject() throws Exception {
+		try {
+			if (recorder != null) {
+				recorder.writeReport();
+			}
+		} finally {
+			InstanceScope.INSTANCE.getNode(IMavenConstants.PLUGIN_ID).putBoolean(MavenPreferenceConstants.P_OFFLINE,
+					oldOffline);
+		}
+	}
+
+	@Test
+	public void projectInfoWithSourcesAndDependencies() throws Exception {
+		measureProjectInfo("projectInfo.sourcesAndDependencies",
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+	}
+
+	@Test
+	public void projectInfoWithOnlySources() throws Exception {
+		measureProjectInfo("projectInfo.onlySources", MicroProfilePropertiesScope.ONLY_SOURCES);
+	}
+
+	private static void measureProjectInfo(String operation, List<MicroProfilePropertiesScope> scopes)
+			throws Exception {
+		recorder.measure(operation, () -> PropertiesManager.getInstance().getMicroProfileProjectInfo(javaProject,
+				scopes, ClasspathKind.SRC, JDT_UTILS, DocumentFormat.Markdown, new NullProgressMonitor()));
+	}
+
+	@Test
+	public void javaDiagnostics() throws Exception {
+		MicroProfileJavaDiagnosticsParams params = new MicroProfileJavaDiagnosticsParams();
+		params.setUris(Arrays.asList(configJavaFileUri));
+		params.setDocumentFormat(DocumentFormat.Markdown);
+		recorder.measure("java.diagnostics",
+				() -> PropertiesManagerForJava.getInstance().diagnostics(params, JDT_UTILS, new NullProgressMonitor()));
+	}
+
+	@Test
+	public void javaHover() throws Exception {
+		// hover the 'greeting.message' property of the @ConfigProperty annotation
+		MicroProfileJavaHoverParams params = new MicroProfileJavaHoverParams(configJavaFileUri, new Position(14, 28),
+				DocumentFormat.Markdown, false);
+		recorder.measure("java.hover",
+				() -> PropertiesManagerForJava.getInstance().hover(params, JDT_UTILS, new NullProgressMonitor()));
+	}
+
+	@Test
+	public void javaCodeLens() throws Exception {
+		MicroProfileJavaCodeLensParams params = new MicroProfileJavaCodeLensParams();
+		params.setCheckServerAvailable(false);
+		params.setUri(javaFileUri);
+		params.setUrlCodeLensEnabled(true);
+		recorder.measure("java.codeLens",
+				() -> PropertiesManagerForJava.getInstance().codeLens(params, JDT_UTILS, new NullProgressMonitor()));
+	}
+}
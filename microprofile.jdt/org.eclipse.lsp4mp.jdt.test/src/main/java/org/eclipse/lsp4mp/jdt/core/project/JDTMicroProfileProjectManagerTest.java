@@ -0,0 +1,149 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core.project;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.internal.core.JobHelpers;
+import org.eclipse.lsp4mp.jdt.internal.core.providers.MicroProfileConfigSourceProvider;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Multi-threaded test for {@link JDTMicroProfileProjectManager} and
+ * {@link JDTMicroProfileProject}.
+ *
+ */
+public class JDTMicroProfileProjectManagerTest extends BasePropertiesManagerTest {
+
+	private static final int READER_COUNT = 8;
+
+	private static IJavaProject javaProject;
+
+	@After
+	public void cleanup() throws Exception {
+		deleteFile(MicroProfileConfigSourceProvider.MICROPROFILE_CONFIG_PROPERTIES_FILE, javaProject);
+	}
+
+	@Test
+	public void concurrentGetPropertyAndResourceChanges() throws Exception {
+		javaProject = loadMavenProject(MicroProfileMavenProjectName.config_hover);
+		saveFile(MicroProfileConfigSourceProvider.MICROPROFILE_CONFIG_PROPERTIES_FILE, //
+				"greeting.message = hello\r\n" + //
+						"greeting.name = ${greeting.message} quarkus",
+				javaProject);
+		JobHelpers.waitForJobsToComplete();
+
+		AtomicBoolean running = new AtomicBoolean(true);
+		CountDownLatch start = new CountDownLatch(1);
+		Set<JDTMicroProfileProject> instances = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(READER_COUNT + 2);
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			// Readers: get the project and its properties
+			for (int i = 0; i < READER_COUNT; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					while (running.get()) {
+						JDTMicroProfileProject mpProject = JDTMicroProfileProjectManager.getInstance()
+								.getJDTMicroProfileProject(javaProject);
+						instances.add(mpProject);
+						String message = mpProject.getProperty("greeting.message");
+						Assert.assertTrue("Unexpected value '" + message + "'",
+								"hello".equals(message) || "bonjour".equals(message));
+						String name = mpProject.getProperty("greeting.name");
+						Assert.assertTrue("Unexpected value '" + name + "'",
+								"hello quarkus".equals(name) || "bonjour quarkus".equals(name));
+						Assert.assertTrue(mpProject.hasProperty("greeting.message"));
+						Assert.assertEquals(1, mpProject.getPropertyInformations("greeting.message").size());
+					}
+					return null;
+				}));
+			}
+			// Evicter: evicts the config sources as the resource change listener does
+			futures.add(executor.submit(() -> {
+				start.await();
+				while (running.get()) {
+					JDTMicroProfileProjectManager.getInstance().getJDTMicroProfileProject(javaProject)
+							.evictConfigSourcesCache();
+					Thread.sleep(1);
+				}
+				return null;
+			}));
+			// Writer: updates the config file which generates resource deltas
+			futures.add(executor.submit(() -> {
+				start.await();
+				try {
+					for (int i = 0; i < 3; i++) {
+						saveFile(MicroProfileConfigSourceProvider.MICROPROFILE_CONFIG_PROPERTIES_FILE, //
+								"greeting.message = " + (i % 2 == 0 ? "bonjour" : "hello") + "\r\n" + //
+										"greeting.name = ${greeting.message} quarkus",
+								javaProject);
+					}
+				} finally {
+					running.set(false);
+				}
+				return null;
+			}));
+
+			start.countDown();
+			for (Future<?> future : futures) {
+				// Rethrows assertion errors of the readers
+				future.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			running.set(false);
+			executor.shutdownNow();
+		}
+
+		Assert.assertEquals("One JDTMicroProfileProject instance must be created per Java project", 1,
+				instances.size());
+
+		// Once the resource deltas are processed, the last saved value is returned
+		JobHelpers.waitForJobsToComplete();
+		JDTMicroProfileProject mpProject = JDTMicroProfileProjectManager.getInstance()
+				.getJDTMicroProfileProject(javaProject);
+		Assert.assertEquals("bonjour", mpProject.getProperty("greeting.message"));
+		Assert.assertEquals("bonjour quarkus", mpProject.getProperty("greeting.name"));
+	}
+
+	@Test
+	public void propertyNamesAreUnmodifiable() throws Exception {
+		javaProject = loadMavenProject(MicroProfileMavenProjectName.config_hover);
+		saveFile(MicroProfileConfigSourceProvider.MICROPROFILE_CONFIG_PROPERTIES_FILE, //
+				"greeting.message = hello", javaProject);
+		JobHelpers.waitForJobsToComplete();
+
+		JDTMicroProfileProject mpProject = JDTMicroProfileProjectManager.getInstance()
+				.getJDTMicroProfileProject(javaProject);
+		Set<String> propertyNames = mpProject.getPropertyNames();
+		Assert.assertTrue(propertyNames.contains("greeting.message"));
+		Assert.assertThrows(UnsupportedOperationException.class, () -> propertyNames.remove("greeting.message"));
+		Assert.assertThrows(UnsupportedOperationException.class, () -> propertyNames.clear());
+		Assert.assertTrue(mpProject.hasProperty("greeting.message"));
+	}
+
+}
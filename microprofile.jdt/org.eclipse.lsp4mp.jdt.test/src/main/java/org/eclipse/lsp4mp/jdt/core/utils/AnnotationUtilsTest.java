@@ -0,0 +1,83 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core.utils;
+
+import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.MicroProfileConfigConstants;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with {@link AnnotationUtils}.
+ *
+ */
+public class AnnotationUtilsTest extends BasePropertiesManagerTest {
+
+	private static final String ANNOTATED_BEAN_PATH = "org/acme/config/AnnotatedBean.java";
+
+	@Test
+	public void matchAnnotationAfterImportChange() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		try {
+			// Single type import
+			saveFile(ANNOTATED_BEAN_PATH, generateAnnotatedBean("org.eclipse.microprofile.config.inject.ConfigProperty"),
+					javaProject, true);
+			Assert.assertTrue(AnnotationUtils.hasAnnotation(getField(javaProject),
+					MicroProfileConfigConstants.CONFIG_PROPERTY_ANNOTATION));
+
+			// Another 'ConfigProperty' annotation
+			saveFile(ANNOTATED_BEAN_PATH, generateAnnotatedBean("org.acme.ConfigProperty"), javaProject, true);
+			Assert.assertFalse(AnnotationUtils.hasAnnotation(getField(javaProject),
+					MicroProfileConfigConstants.CONFIG_PROPERTY_ANNOTATION));
+
+			// On demand import
+			saveFile(ANNOTATED_BEAN_PATH, generateAnnotatedBean("org.eclipse.microprofile.config.inject.*"),
+					javaProject, true);
+			IField field = getField(javaProject);
+			Assert.assertTrue(AnnotationUtils.hasAnnotation(field,
+					MicroProfileConfigConstants.CONFIG_PROPERTY_ANNOTATION));
+
+			// The first annotation name which matches is returned
+			IAnnotation annotation = AnnotationUtils.getAnnotation(field, "org.acme.Inject",
+					MicroProfileConfigConstants.CONFIG_PROPERTY_ANNOTATION, "javax.inject.Inject");
+			Assert.assertNotNull(annotation);
+			Assert.assertEquals("ConfigProperty", annotation.getElementName());
+		} finally {
+			deleteFile(ANNOTATED_BEAN_PATH, javaProject, true);
+		}
+	}
+
+	private static IField getField(IJavaProject javaProject) throws Exception {
+		return javaProject.findType("org.acme.config.AnnotatedBean").getField("name");
+	}
+
+	private static String generateAnnotatedBean(String configPropertyImport) {
+		StringBuilder content = new StringBuilder();
+		content.append("package org.acme.config;\n");
+		content.append("\n");
+		content.append("import ").append(configPropertyImport).append(";\n");
+		content.append("import javax.inject.Inject;\n");
+		content.append("\n");
+		content.append("public class AnnotatedBean {\n");
+		content.append("\n");
+		content.append("\t@Inject\n");
+		content.append("\t@ConfigProperty(name = \"greeting.name\")\n");
+		content.append("\tString name;\n");
+		content.append("}\n");
+		return content.toString();
+	}
+}
@@ -0,0 +1,253 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.lsp4mp.jdt.core.ArtifactResolver;
+import org.eclipse.lsp4mp.jdt.core.ArtifactResolver.Artifact;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test with {@link CachedArtifactResolver}.
+ *
+ * <p>
+ * The artifacts are resolved from a local repository directory prepopulated
+ * with the JARs of the test plugin, the test doesn't require network.
+ * </p>
+ *
+ */
+public class CachedArtifactResolverTest {
+
+	private static final String VERSION = "0.28.1";
+
+	/**
+	 * Resolves artifacts from a local Maven repository directory.
+	 */
+	private static class LocalRepositoryArtifactResolver implements ArtifactResolver {
+
+		private final File localRepository;
+
+		private final AtomicInteger resolveCount = new AtomicInteger();
+
+		private final AtomicInteger running = new AtomicInteger();
+
+		private final AtomicInteger maxRunning = new AtomicInteger();
+
+		public LocalRepositoryArtifactResolver(File localRepository) {
+			this.localRepository = localRepository;
+		}
+
+		@Override
+		public String getArtifact(Artifact artifact, IProgressMonitor monitor) {
+			resolveCount.incrementAndGet();
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				// Simulate the latency of m2e
+				Thread.sleep(50);
+				File file = getArtifactFile(localRepository, artifact);
+				return file.isFile() ? file.toString() : null;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			} finally {
+				running.decrementAndGet();
+			}
+		}
+
+		@Override
+		public Set<Artifact> getDependencies(Artifact artifact, IProgressMonitor monitor) {
+			return Collections.emptySet();
+		}
+
+	}
+
+	private File workingDir;
+
+	private File localRepository;
+
+	@Before
+	public void setUp() throws IOException {
+		workingDir = Files.createTempDirectory("lsp4mp-artifacts").toFile();
+		localRepository = new File(workingDir, "repository");
+		for (String artifactId : new String[] { "quarkus-core", "quarkus-core-deployment" }) {
+			File jar = new File("jars", artifactId + "-" + VERSION + ".jar");
+			FileUtils.copyFile(jar, getArtifactFile(localRepository, new Artifact("io.quarkus", artifactId, VERSION)));
+		}
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		FileUtils.deleteDirectory(workingDir);
+	}
+
+	@Test
+	public void cacheHit() {
+		LocalRepositoryArtifactResolver delegate = new LocalRepositoryArtifactResolver(localRepository);
+		CachedArtifactResolver resolver = new CachedArtifactResolver(delegate);
+		Artifact artifact = new Artifact("io.quarkus", "quarkus-core-deployment", VERSION);
+
+		String file = resolver.getArtifact(artifact, new NullProgressMonitor());
+		Assert.assertEquals(getArtifactFile(localRepository, artifact).toString(), file);
+		Assert.assertEquals(1, delegate.resolveCount.get());
+
+		Assert.assertEquals(file, resolver.getArtifact(artifact, new NullProgressMonitor()));
+		Assert.assertEquals(1, delegate.resolveCount.get());
+
+		// Unresolved artifacts are not cached
+		Artifact unknown = new Artifact("io.quarkus", "unknown", VERSION);
+		Assert.assertNull(resolver.getArtifact(unknown, new NullProgressMonitor()));
+		Assert.assertNull(resolver.getArtifact(unknown, new NullProgressMonitor()));
+		Assert.assertEquals(3, delegate.resolveCount.get());
+	}
+
+	@Test
+	public void invalidateWhenFileIsRemovedFromLocalRepository() {
+		LocalRepositoryArtifactResolver delegate = new LocalRepositoryArtifactResolver(localRepository);
+		CachedArtifactResolver resolver = new CachedArtifactResolver(delegate);
+		Artifact artifact = new Artifact("io.quarkus", "quarkus-core-deployment", VERSION);
+
+		Assert.assertNotNull(resolver.getArtifact(artifact, new NullProgressMonitor()));
+		Assert.assertTrue(getArtifactFile(localRepository, artifact).delete());
+
+		Assert.assertNull(resolver.getArtifact(artifact, new NullProgressMonitor()));
+		Assert.assertEquals(2, delegate.resolveCount.get());
+	}
+
+	@Test
+	public void invalidateWhenFileIsUpdatedInLocalRepository() {
+		LocalRepositoryArtifactResolver delegate = new LocalRepositoryArtifactResolver(localRepository);
+		CachedArtifactResolver resolver = new CachedArtifactResolver(delegate);
+		Artifact artifact = new Artifact("io.quarkus", "quarkus-core-deployment", VERSION);
+
+		Assert.assertNotNull(resolver.getArtifact(artifact, new NullProgressMonitor()));
+		// Simulate a re-download of the artifact
+		File file = getArtifactFile(localRepository, artifact);
+		Assert.assertTrue(file.setLastModified(file.lastModified() + 10_000));
+
+		Assert.assertNotNull(resolver.getArtifact(artifact, new NullProgressMonitor()));
+		Assert.assertEquals(2, delegate.resolveCount.get());
+		Assert.assertNotNull(resolver.getArtifact(artifact, new NullProgressMonitor()));
+		Assert.assertEquals(2, delegate.resolveCount.get());
+	}
+
+	@Test
+	public void snapshotsAreNotCached() throws IOException {
+		Artifact artifact = new Artifact("io.quarkus", "quarkus-core-deployment", "999-SNAPSHOT");
+		FileUtils.copyFile(new File("jars", "quarkus-core-deployment-" + VERSION + ".jar"),
+				getArtifactFile(localRepository, artifact));
+		LocalRepositoryArtifactResolver delegate = new LocalRepositoryArtifactResolver(localRepository);
+		CachedArtifactResolver resolver = new CachedArtifactResolver(delegate);
+
+		Assert.assertNotNull(resolver.getArtifact(artifact, new NullProgressMonitor()));
+		Assert.assertNotNull(resolver.getArtifact(artifact, new NullProgressMonitor()));
+		Assert.assertEquals(2, delegate.resolveCount.get());
+	}
+
+	@Test
+	public void persistAcrossSessions() {
+		File cacheFile = new File(workingDir, "artifacts-cache.properties");
+		Artifact artifact = new Artifact("io.quarkus", "quarkus-core-deployment", VERSION);
+
+		// First session
+		LocalRepositoryArtifactResolver delegate = new LocalRepositoryArtifactResolver(localRepository);
+		CachedArtifactResolver resolver = new CachedArtifactResolver(delegate);
+		resolver.setCacheFile(cacheFile);
+		String file = resolver.getArtifact(artifact, new NullProgressMonitor());
+		resolver.save();
+		Assert.assertTrue(cacheFile.exists());
+
+		// Second session
+		delegate = new LocalRepositoryArtifactResolver(localRepository);
+		resolver = new CachedArtifactResolver(delegate);
+		resolver.setCacheFile(cacheFile);
+		Assert.assertEquals(file, resolver.getArtifact(artifact, new NullProgressMonitor()));
+		Assert.assertEquals(0, delegate.resolveCount.get());
+	}
+
+	@Test
+	public void resolveMissesConcurrently() throws IOException {
+		List<Artifact> artifacts = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			Artifact artifact = new Artifact("io.quarkus", "quarkus-extension-" + i + "-deployment", VERSION);
+			FileUtils.copyFile(new File("jars", "quarkus-core-deployment-" + VERSION + ".jar"),
+					getArtifactFile(localRepository, artifact));
+			artifacts.add(artifact);
+		}
+		LocalRepositoryArtifactResolver delegate = new LocalRepositoryArtifactResolver(localRepository);
+		CachedArtifactResolver resolver = new CachedArtifactResolver(delegate, 4);
+
+		Map<Artifact, String> files = resolver.getArtifacts(artifacts, new NullProgressMonitor());
+		Assert.assertEquals(8, files.size());
+		for (Artifact artifact : artifacts) {
+			Assert.assertEquals(getArtifactFile(localRepository, artifact).toString(), files.get(artifact));
+		}
+		Assert.assertEquals(8, delegate.resolveCount.get());
+		Assert.assertTrue("Artifacts should be resolved concurrently", delegate.maxRunning.get() > 1);
+		Assert.assertTrue("Resolution pool should be bounded", delegate.maxRunning.get() <= 4);
+
+		// All artifacts are cached
+		files = resolver.getArtifacts(artifacts, new NullProgressMonitor());
+		Assert.assertEquals(8, files.size());
+		Assert.assertEquals(8, delegate.resolveCount.get());
+	}
+
+	@Test
+	public void failedResolutionIsMarkedAsUnresolved() {
+		LocalRepositoryArtifactResolver delegate = new LocalRepositoryArtifactResolver(localRepository) {
+
+			@Override
+			public String getArtifact(Artifact artifact, IProgressMonitor monitor) {
+				if ("failing".equals(artifact.getArtifactId())) {
+					throw new IllegalStateException("Resolution error");
+				}
+				return super.getArtifact(artifact, monitor);
+			}
+		};
+		CachedArtifactResolver resolver = new CachedArtifactResolver(delegate, 2);
+		Artifact core = new Artifact("io.quarkus", "quarkus-core", VERSION);
+		Artifact failing = new Artifact("io.quarkus", "failing", VERSION);
+		Artifact deployment = new Artifact("io.quarkus", "quarkus-core-deployment", VERSION);
+
+		Map<Artifact, String> files = resolver.getArtifacts(Arrays.asList(core, failing, deployment),
+				new NullProgressMonitor());
+		Assert.assertEquals(3, files.size());
+		Assert.assertTrue(files.containsKey(failing));
+		Assert.assertNull(files.get(failing));
+		Assert.assertEquals(getArtifactFile(localRepository, core).toString(), files.get(core));
+		Assert.assertEquals(getArtifactFile(localRepository, deployment).toString(), files.get(deployment));
+	}
+
+	private static File getArtifactFile(File localRepository, Artifact artifact) {
+		return new File(localRepository,
+				artifact.getGroupId().replace('.', File.separatorChar) + File.separator + artifact.getArtifactId()
+						+ File.separator + artifact.getVersion() + File.separator + artifact.getArtifactId() + "-"
+						+ artifact.getVersion() + ".jar");
+	}
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.java;
+
+import static org.eclipse.lsp4mp.jdt.internal.core.java.TextEditConverterTest.createLargeResourceCodeActionParams;
+import static org.eclipse.lsp4mp.jdt.internal.core.java.TextEditConverterTest.generateOpenAPIAnnotations;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeActionParams;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.performance.PerformanceRecorder;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+/**
+ * Performance test of {@link TextEditConverter} with the 'Generate OpenAPI
+ * Annotations' code action on a class of 3000 lines.
+ *
+ * <p>
+ * This test is excluded from the default build and is executed with the
+ * 'performance' Maven profile.
+ * </p>
+ *
+ */
+public class TextEditConverterPerformanceTest extends BasePropertiesManagerTest {
+
+	@AfterClass
+	public static void writeReport() throws Exception {
+		PerformanceRecorder.getInstance().writeReport();
+	}
+
+	@Test
+	public void generateOpenAPIAnnotationsOnLargeClass() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_openapi);
+		MicroProfileJavaCodeActionParams params = createLargeResourceCodeActionParams(javaProject);
+		PerformanceRecorder.getInstance().measure("java.codeAction.openAPI.largeClass",
+				() -> generateOpenAPIAnnotations(params));
+	}
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.java;
+
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileForJavaAssert.createCodeActionParams;
+
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentEdit;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeActionParams;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManagerForJava;
+import org.eclipse.text.edits.InsertEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with {@link TextEditConverter}.
+ *
+ */
+public class TextEditConverterTest extends BasePropertiesManagerTest {
+
+	static final int METHOD_COUNT = 300;
+
+	@Test
+	public void convertWithMixedLineDelimiters() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_openapi);
+		String content = "package org.acme.openapi;\n" + //
+				"\r\n" + //
+				"public class MixedDelimiters {\r" + //
+				"\r" + //
+				"\tprivate String s;\r\n" + //
+				"\n" + //
+				"}";
+		saveFile("org/acme/openapi/MixedDelimiters.java", content, javaProject, true);
+		IFile javaFile = javaProject.getProject()
+				.getFile(new Path("src/main/java/org/acme/openapi/MixedDelimiters.java"));
+		ICompilationUnit unit = JavaCore.createCompilationUnitFrom(javaFile);
+		String uri = javaFile.getLocation().toFile().toURI().toString();
+
+		for (int offset = 0; offset <= content.length(); offset++) {
+			int length = Math.min(3, content.length() - offset);
+			List<org.eclipse.lsp4j.TextEdit> edits = new TextEditConverter(unit,
+					new ReplaceEdit(offset, length, "x"), uri).convert();
+			Assert.assertEquals(1, edits.size());
+			Assert.assertEquals("Range for offset " + offset, JDT_UTILS.toRange(unit, offset, length),
+					edits.get(0).getRange());
+		}
+
+		// 'private' starts at line 4, character 1
+		List<org.eclipse.lsp4j.TextEdit> edits = new TextEditConverter(unit,
+				new InsertEdit(content.indexOf("private"), "final "), uri).convert();
+		Assert.assertEquals(new Range(new Position(4, 1), new Position(4, 1)), edits.get(0).getRange());
+	}
+
+	@Test
+	public void generateOpenAPIAnnotationsOnLargeClass() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_openapi);
+		CodeAction codeAction = generateOpenAPIAnnotations(createLargeResourceCodeActionParams(javaProject));
+
+		Assert.assertNotNull(codeAction);
+		TextDocumentEdit documentEdit = codeAction.getEdit().getDocumentChanges().get(0).getLeft();
+		Assert.assertEquals(1, documentEdit.getEdits().size());
+		String newText = documentEdit.getEdits().get(0).getNewText();
+		int operationCount = newText.split("@Operation\\(", -1).length - 1;
+		Assert.assertEquals(METHOD_COUNT, operationCount);
+	}
+
+	/**
+	 * Create the large resource in the given project and returns the code action
+	 * params which targets its class name.
+	 */
+	static MicroProfileJavaCodeActionParams createLargeResourceCodeActionParams(IJavaProject javaProject)
+			throws Exception {
+		saveFile("org/acme/openapi/LargeResource.java", generateLargeResource(), javaProject, true);
+		IFile javaFile = javaProject.getProject()
+				.getFile(new Path("src/main/java/org/acme/openapi/LargeResource.java"));
+		String uri = javaFile.getLocation().toFile().toURI().toString();
+
+		Diagnostic d = new Diagnostic();
+		Position start = new Position(8, 23);
+		d.setRange(new Range(start, start));
+		return createCodeActionParams(uri, d);
+	}
+
+	static CodeAction generateOpenAPIAnnotations(MicroProfileJavaCodeActionParams params) throws Exception {
+		List<? extends CodeAction> actual = PropertiesManagerForJava.getInstance().codeAction(params, JDT_UTILS,
+				new NullProgressMonitor());
+		return actual.stream() //
+				.filter(ca -> ca.getTitle().startsWith("Generate OpenAPI Annotations")) //
+				.findFirst() //
+				.orElse(null);
+	}
+
+	private static String generateLargeResource() {
+		StringBuilder content = new StringBuilder();
+		content.append("package org.acme.openapi;\n");
+		content.append("\n");
+		content.append("import javax.enterprise.context.RequestScoped;\n");
+		content.append("import javax.ws.rs.GET;\n");
+		content.append("import javax.ws.rs.Path;\n");
+		content.append("import javax.ws.rs.core.Response;\n");
+		content.append("\n");
+		content.append("\n");
+		content.append("@RequestScoped\n");
+		content.append("@Path(\"/large\")\n");
+		content.append("public class LargeResource {\n");
+		for (int i = 0; i < METHOD_COUNT; i++) {
+			content.append("\n");
+			content.append("\t@GET\n");
+			content.append("\t@Path(\"/resource").append(i).append("\")\n");
+			content.append("\tpublic Response getResource").append(i).append("(String id) {\n");
+			content.append("\t\tString value = id + \"").append(i).append("\";\n");
+			content.append("\t\tif (value.isEmpty()) {\n");
+			content.append("\t\t\treturn Response.noContent().build();\n");
+			content.append("\t\t}\n");
+			content.append("\t\treturn Response.ok(value).build();\n");
+			content.append("\t}\n");
+		}
+		content.append("}\n");
+		return content.toString();
+	}
+}
@@ -0,0 +1,47 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.ls;
+
+import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtilsTest.createCodeActionArguments;
+
+import java.util.Map;
+
+import org.eclipse.lsp4mp.jdt.core.performance.PerformanceRecorder;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+/**
+ * Performance test of {@link ArgumentUtils} with the decoding of a code action
+ * context of 500 diagnostics.
+ *
+ * <p>
+ * This test is excluded from the default build and is executed with the
+ * 'performance' Maven profile.
+ * </p>
+ *
+ */
+public class ArgumentUtilsPerformanceTest {
+
+	@AfterClass
+	public static void writeReport() throws Exception {
+		PerformanceRecorder.getInstance().writeReport();
+	}
+
+	@Test
+	public void decodeCodeActionContextWith500Diagnostics() throws Exception {
+		Map<String, Object> codeActionArguments = createCodeActionArguments();
+		PerformanceRecorder.getInstance().measure("arguments.codeActionContext",
+				() -> ArgumentUtils.getCodeActionContext(codeActionArguments, "context"));
+	}
+}
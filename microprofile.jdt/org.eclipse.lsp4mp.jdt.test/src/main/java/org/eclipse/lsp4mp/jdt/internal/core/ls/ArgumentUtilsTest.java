@@ -13,13 +13,20 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.core.ls;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.lsp4j.CodeActionContext;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 
@@ -28,6 +35,8 @@ import com.google.gson.JsonPrimitive;
  */
 public class ArgumentUtilsTest {
 
+	static final int DIAGNOSTIC_COUNT = 500;
+
 	private Map<String, Object> testMap;
 
 	@Before
@@ -52,4 +61,82 @@ public class ArgumentUtilsTest {
 		Assert.assertEquals(obj.get("key"), "value");
 	}
 
+	@Test
+	public void testToJsonElement() {
+		Map<String, Object> map = new HashMap<>();
+		map.put("list", Arrays.asList("a", 1.0, true, null));
+		map.put("ignored", null);
+		JsonElement json = ArgumentUtils.toJsonElement(map);
+		Assert.assertEquals(new Gson().toJsonTree(map), json);
+		JsonArray list = json.getAsJsonObject().getAsJsonArray("list");
+		Assert.assertEquals(4, list.size());
+		Assert.assertFalse(json.getAsJsonObject().has("ignored"));
+	}
+
+	@Test
+	public void testGetDiagnostic() {
+		Map<String, Object> diagnosticObj = createArguments(createDiagnosticJson(0).replace("\"code\":\"0\"", "\"code\":7"));
+		Diagnostic diagnostic = ArgumentUtils.getDiagnostic(diagnosticObj);
+		Assert.assertEquals(7, diagnostic.getCode().getRight().intValue());
+		Assert.assertEquals(DiagnosticSeverity.Warning, diagnostic.getSeverity());
+		Assert.assertEquals("microprofile-config", diagnostic.getSource());
+		Assert.assertEquals(3, diagnostic.getRange().getEnd().getCharacter());
+		JsonObject data = (JsonObject) diagnostic.getData();
+		Assert.assertEquals("org.acme.MyClass", data.get("type").getAsString());
+	}
+
+	@Test
+	public void testGetDiagnosticWithInvalidSeverity() {
+		for (String severity : Arrays.asList("0", "5", "-1")) {
+			Map<String, Object> diagnosticObj = createArguments(
+					createDiagnosticJson(0).replace("\"severity\":2", "\"severity\":" + severity));
+			Diagnostic diagnostic = ArgumentUtils.getDiagnostic(diagnosticObj);
+			Assert.assertNull(diagnostic.getSeverity());
+			Assert.assertEquals("Message 0", diagnostic.getMessage());
+		}
+	}
+
+	@Test
+	public void decodeCodeActionContextWith500Diagnostics() {
+		CodeActionContext context = ArgumentUtils.getCodeActionContext(createCodeActionArguments(), "context");
+
+		Assert.assertNotNull(context);
+		Assert.assertEquals(DIAGNOSTIC_COUNT, context.getDiagnostics().size());
+		Diagnostic diagnostic = context.getDiagnostics().get(42);
+		Assert.assertEquals("42", diagnostic.getCode().getLeft());
+		Assert.assertEquals("Message 42", diagnostic.getMessage());
+		Assert.assertEquals(42, diagnostic.getRange().getStart().getLine());
+		JsonObject data = (JsonObject) diagnostic.getData();
+		Assert.assertEquals("field42", data.get("field").getAsString());
+		Assert.assertEquals(2, data.getAsJsonArray("values").size());
+	}
+
+	/**
+	 * Returns the delegate command arguments of a code action context with
+	 * {@link #DIAGNOSTIC_COUNT} diagnostics, decoded by JDT LS with Gson as Maps.
+	 */
+	static Map<String, Object> createCodeActionArguments() {
+		StringBuilder json = new StringBuilder("{\"context\":{\"diagnostics\":[");
+		for (int i = 0; i < DIAGNOSTIC_COUNT; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append(createDiagnosticJson(i));
+		}
+		json.append("]}}");
+		return createArguments(json.toString());
+	}
+
+	private static String createDiagnosticJson(int index) {
+		return "{\"range\":{\"start\":{\"line\":" + index + ",\"character\":0},\"end\":{\"line\":" + index
+				+ ",\"character\":3}},\"severity\":2,\"code\":\"" + index + "\",\"source\":\"microprofile-config\","
+				+ "\"message\":\"Message " + index + "\",\"data\":{\"type\":\"org.acme.MyClass\",\"field\":\"field"
+				+ index + "\",\"values\":[\"a\",1]}}";
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> createArguments(String json) {
+		return new Gson().fromJson(json, Map.class);
+	}
+
 }
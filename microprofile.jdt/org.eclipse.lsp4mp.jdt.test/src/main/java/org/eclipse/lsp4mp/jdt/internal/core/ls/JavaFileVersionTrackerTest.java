@@ -0,0 +1,102 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.ls;
+
+import java.io.File;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JavaFileVersionTracker}.
+ */
+public class JavaFileVersionTrackerTest {
+
+	private static final String URI = "file:///project/src/main/java/org/acme/GreetingResource.java";
+
+	private static final String OTHER_URI = "file:///project/src/main/java/org/acme/OtherResource.java";
+
+	@Test
+	public void supersededByNewerVersion() throws Exception {
+		JavaFileVersionTracker tracker = new JavaFileVersionTracker();
+		boolean canceled = tracker.execute(URI, 1, new NullProgressMonitor(), monitor -> {
+			Assert.assertFalse(monitor.isCanceled());
+			// A request for the version 2 of the same Java file starts
+			tracker.execute(URI, 2, new NullProgressMonitor(), newMonitor -> {
+				Assert.assertFalse(newMonitor.isCanceled());
+				return null;
+			});
+			// A request for another Java file starts
+			tracker.execute(OTHER_URI, 3, new NullProgressMonitor(), otherMonitor -> null);
+			return monitor.isCanceled();
+		});
+		Assert.assertTrue("Request for version 1 is superseded by version 2", canceled);
+	}
+
+	@Test
+	public void notSupersededByOtherFile() throws Exception {
+		JavaFileVersionTracker tracker = new JavaFileVersionTracker();
+		boolean canceled = tracker.execute(URI, 1, new NullProgressMonitor(), monitor -> {
+			tracker.execute(OTHER_URI, 2, new NullProgressMonitor(), otherMonitor -> null);
+			return monitor.isCanceled();
+		});
+		Assert.assertFalse(canceled);
+	}
+
+	@Test
+	public void versionsForgottenWhenNoRequestIsRunning() throws Exception {
+		JavaFileVersionTracker tracker = new JavaFileVersionTracker();
+		tracker.execute(URI, 5, new NullProgressMonitor(), monitor -> null);
+		Assert.assertFalse(tracker.isSuperseded(URI, 1));
+
+		// The Java file has been re-opened, the version restarts at 1
+		boolean canceled = tracker.execute(URI, 1, new NullProgressMonitor(), monitor -> monitor.isCanceled());
+		Assert.assertFalse(canceled);
+	}
+
+	@Test
+	public void reopenedWhileRequestIsRunning() throws Exception {
+		JavaFileVersionTracker tracker = new JavaFileVersionTracker();
+		boolean canceled = tracker.execute(URI, 5, new NullProgressMonitor(), monitor -> {
+			// The Java file is closed and re-opened, the version restarts at 1
+			tracker.reset(new File(java.net.URI.create(URI)));
+			boolean newCanceled = tracker.execute(URI, 1, new NullProgressMonitor(), newMonitor -> {
+				// A request for the version 2 of the re-opened Java file starts
+				Assert.assertFalse(tracker.isSuperseded(URI, 2));
+				return newMonitor.isCanceled();
+			});
+			Assert.assertFalse("Request for the re-opened Java file is not superseded", newCanceled);
+			return monitor.isCanceled();
+		});
+		Assert.assertTrue("Request for the closed Java file is canceled", canceled);
+
+		// The other Java files are not reset
+		canceled = tracker.execute(OTHER_URI, 5, new NullProgressMonitor(), monitor -> {
+			tracker.reset(new File(java.net.URI.create(URI)));
+			return monitor.isCanceled();
+		});
+		Assert.assertFalse(canceled);
+	}
+
+	@Test
+	public void unknownVersion() throws Exception {
+		JavaFileVersionTracker tracker = new JavaFileVersionTracker();
+		boolean canceled = tracker.execute(URI, null, new NullProgressMonitor(), monitor -> {
+			tracker.execute(URI, 2, new NullProgressMonitor(), newMonitor -> null);
+			return monitor.isCanceled();
+		});
+		Assert.assertFalse(canceled);
+	}
+}
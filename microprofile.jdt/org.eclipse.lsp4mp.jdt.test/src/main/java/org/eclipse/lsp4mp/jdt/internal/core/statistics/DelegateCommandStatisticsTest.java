@@ -0,0 +1,153 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.statistics;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.lsp4mp.jdt.internal.core.ls.AbstractMicroProfileDelegateCommandHandler;
+import org.eclipse.lsp4mp.jdt.internal.core.statistics.DelegateCommandStatistics.Measure;
+import org.junit.Assert;
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Tests for {@link DelegateCommandStatistics}.
+ */
+public class DelegateCommandStatisticsTest {
+
+	private static final String DELEGATE_COMMAND_EVENT_NAME = "org.eclipse.lsp4mp.jdt.DelegateCommand";
+
+	private static final String PARTICIPANT_EVENT_NAME = "org.eclipse.lsp4mp.jdt.Participant";
+
+	private static class TestDelegateCommandHandler extends AbstractMicroProfileDelegateCommandHandler {
+
+		@Override
+		protected Object doExecuteCommand(String commandId, List<Object> arguments, IProgressMonitor progress)
+				throws Exception {
+			switch (commandId) {
+			case "test/statistics/canceled":
+				throw new OperationCanceledException();
+			case "test/statistics/superseded":
+				DelegateCommandStatistics.getInstance().cancelCurrentCommand();
+				return null;
+			default:
+				return commandId;
+			}
+		}
+	}
+
+	@Test
+	public void commandTimings() {
+		DelegateCommandStatistics statistics = new DelegateCommandStatistics();
+		statistics.startCommand("microprofile/java/hover").end(false);
+		statistics.startCommand("microprofile/java/hover").end(true);
+		Measure measure = statistics.startCommand("microprofile/java/codeLens");
+		statistics.cancelCurrentCommand();
+		measure.end(false);
+		// the canceled command is no longer the current command
+		statistics.cancelCurrentCommand();
+		statistics.startCommand("microprofile/java/codeLens").end(false);
+
+		MicroProfileJavaStatistics result = statistics.getStatistics();
+		TimingStatistics hover = result.getCommands().get("microprofile/java/hover");
+		Assert.assertEquals(2, hover.getCount());
+		Assert.assertEquals(1, hover.getCanceledCount());
+		Assert.assertTrue(hover.getMaxMs() >= hover.getMeanMs());
+		TimingStatistics codeLens = result.getCommands().get("microprofile/java/codeLens");
+		Assert.assertEquals(2, codeLens.getCount());
+		Assert.assertEquals(1, codeLens.getCanceledCount());
+	}
+
+	@Test
+	public void participantTimings() {
+		DelegateCommandStatistics statistics = new DelegateCommandStatistics();
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		statistics.startParticipant("org.acme.MyParticipant", "collectHover").end(monitor);
+		monitor.setCanceled(true);
+		statistics.startParticipant("org.acme.MyParticipant", "collectHover").end(monitor);
+		statistics.startParticipant("org.acme.MyParticipant", "collectCodeLens").end(false);
+
+		Map<String, TimingStatistics> participants = statistics.getStatistics().getParticipants();
+		TimingStatistics collectHover = participants.get("org.acme.MyParticipant#collectHover");
+		Assert.assertEquals(2, collectHover.getCount());
+		Assert.assertEquals(1, collectHover.getCanceledCount());
+		TimingStatistics collectCodeLens = participants.get("org.acme.MyParticipant#collectCodeLens");
+		Assert.assertEquals(1, collectCodeLens.getCount());
+		Assert.assertEquals(0, collectCodeLens.getCanceledCount());
+	}
+
+	@Test
+	public void dispatchedCommands() throws Exception {
+		TestDelegateCommandHandler handler = new TestDelegateCommandHandler();
+		Assert.assertEquals("test/statistics/ok",
+				handler.executeCommand("test/statistics/ok", Collections.emptyList(), new NullProgressMonitor()));
+		try {
+			handler.executeCommand("test/statistics/canceled", Collections.emptyList(), new NullProgressMonitor());
+			Assert.fail("OperationCanceledException expected");
+		} catch (OperationCanceledException e) {
+			// expected
+		}
+		handler.executeCommand("test/statistics/superseded", Collections.emptyList(), new NullProgressMonitor());
+
+		MicroProfileJavaStatistics result = DelegateCommandStatistics.getInstance().getStatistics();
+		Assert.assertEquals(0, result.getCommands().get("test/statistics/ok").getCanceledCount());
+		Assert.assertEquals(1, result.getCommands().get("test/statistics/canceled").getCanceledCount());
+		Assert.assertEquals(1, result.getCommands().get("test/statistics/superseded").getCanceledCount());
+	}
+
+	@Test
+	public void flightRecorderEvents() throws Exception {
+		DelegateCommandStatistics statistics = new DelegateCommandStatistics();
+		Path file = Files.createTempFile("lsp4mp-jdt", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(DELEGATE_COMMAND_EVENT_NAME);
+			recording.enable(PARTICIPANT_EVENT_NAME).withThreshold(Duration.ZERO);
+			recording.start();
+			Measure command = statistics.startCommand("microprofile/java/diagnostics");
+			statistics.startParticipant("org.acme.MyParticipant", "collectDiagnostics").end(false);
+			command.end(true);
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			RecordedEvent commandEvent = events.stream()
+					.filter(event -> DELEGATE_COMMAND_EVENT_NAME.equals(event.getEventType().getName())) //
+					.findFirst().orElse(null);
+			Assert.assertNotNull(commandEvent);
+			Assert.assertEquals("microprofile/java/diagnostics", commandEvent.getString("command"));
+			Assert.assertTrue(commandEvent.getBoolean("canceled"));
+
+			RecordedEvent participantEvent = events.stream()
+					.filter(event -> PARTICIPANT_EVENT_NAME.equals(event.getEventType().getName())) //
+					.findFirst().orElse(null);
+			Assert.assertNotNull(participantEvent);
+			Assert.assertEquals("org.acme.MyParticipant", participantEvent.getString("participant"));
+			Assert.assertEquals("collectDiagnostics", participantEvent.getString("method"));
+			Assert.assertFalse(participantEvent.getBoolean("canceled"));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+}
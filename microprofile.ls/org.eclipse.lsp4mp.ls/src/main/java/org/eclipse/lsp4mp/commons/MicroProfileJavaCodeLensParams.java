@@ -27,6 +27,8 @@ public class MicroProfileJavaCodeLensParams {
 	private String openURICommand;
 	private boolean checkServerAvailable;
 
+	private Integer version;
+
 	private transient String localBaseURL;
 
 	public MicroProfileJavaCodeLensParams() {
@@ -146,4 +148,24 @@ public class MicroProfileJavaCodeLensParams {
 	public void setCheckServerAvailable(boolean checkServerAvailable) {
 		this.checkServerAvailable = checkServerAvailable;
 	}
+
+	/**
+	 * Returns the version of the java file when the request was sent and null if
+	 * it is unknown.
+	 *
+	 * @return the version of the java file when the request was sent and null if
+	 *         it is unknown.
+	 */
+	public Integer getVersion() {
+		return version;
+	}
+
+	/**
+	 * Set the version of the java file when the request was sent.
+	 *
+	 * @param version the version of the java file when the request was sent.
+	 */
+	public void setVersion(Integer version) {
+		this.version = version;
+	}
 }
@@ -25,6 +25,7 @@ public class MicroProfileJavaDefinitionParams {
 
 	private String uri;
 	private Position position;
+	private Integer version;
 
 	public MicroProfileJavaDefinitionParams() {
 
@@ -72,4 +73,23 @@ public class MicroProfileJavaDefinitionParams {
 		this.position = position;
 	}
 
+	/**
+	 * Returns the version of the java file when the request was sent and null if
+	 * it is unknown.
+	 *
+	 * @return the version of the java file when the request was sent and null if
+	 *         it is unknown.
+	 */
+	public Integer getVersion() {
+		return version;
+	}
+
+	/**
+	 * Set the version of the java file when the request was sent.
+	 *
+	 * @param version the version of the java file when the request was sent.
+	 */
+	public void setVersion(Integer version) {
+		this.version = version;
+	}
 }
\ No newline at end of file
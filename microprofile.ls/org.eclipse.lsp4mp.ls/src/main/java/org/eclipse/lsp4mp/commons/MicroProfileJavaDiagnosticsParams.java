@@ -29,6 +29,8 @@ public class MicroProfileJavaDiagnosticsParams {
 
 	private MicroProfileJavaDiagnosticsSettings settings;
 
+	private Integer version;
+
 	public MicroProfileJavaDiagnosticsParams() {
 		this(null);
 	}
@@ -86,4 +88,24 @@ public class MicroProfileJavaDiagnosticsParams {
 		this.settings = settings;
 	}
 
+	/**
+	 * Returns the version of the java file when only one java file is validated
+	 * and null otherwise.
+	 *
+	 * @return the version of the java file when only one java file is validated
+	 *         and null otherwise.
+	 */
+	public Integer getVersion() {
+		return version;
+	}
+
+	/**
+	 * Set the version of the java file when only one java file is validated.
+	 *
+	 * @param version the version of the java file when only one java file is
+	 *                validated.
+	 */
+	public void setVersion(Integer version) {
+		this.version = version;
+	}
 }
\ No newline at end of file
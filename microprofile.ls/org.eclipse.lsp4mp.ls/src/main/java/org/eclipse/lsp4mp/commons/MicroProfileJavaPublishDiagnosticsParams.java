@@ -0,0 +1,66 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+
+/**
+ * Diagnostics of a Java file computed by the Java language server component
+ * with the names of the MicroProfile config properties the diagnostics depend
+ * on.
+ *
+ */
+public class MicroProfileJavaPublishDiagnosticsParams extends PublishDiagnosticsParams {
+
+	private Set<String> referencedPropertyNames;
+
+	public MicroProfileJavaPublishDiagnosticsParams() {
+		super();
+	}
+
+	public MicroProfileJavaPublishDiagnosticsParams(String uri, List<Diagnostic> diagnostics) {
+		super(uri, diagnostics);
+	}
+
+	/**
+	 * Returns the names (without profile) of the MicroProfile config properties
+	 * which are used to compute the diagnostics of the Java file and null if they
+	 * are unknown.
+	 *
+	 * @return the names (without profile) of the MicroProfile config properties
+	 *         which are used to compute the diagnostics of the Java file and null
+	 *         if they are unknown.
+	 */
+	public Set<String> getReferencedPropertyNames() {
+		return referencedPropertyNames;
+	}
+
+	/**
+	 * Set the names (without profile) of the MicroProfile config properties which
+	 * are used to compute the diagnostics of the Java file.
+	 *
+	 * @param referencedPropertyNames the names (without profile) of the
+	 *                                MicroProfile config properties which are
+	 *                                used to compute the diagnostics of the Java
+	 *                                file.
+	 */
+	public void setReferencedPropertyNames(Set<String> referencedPropertyNames) {
+		this.referencedPropertyNames = referencedPropertyNames;
+	}
+
+}
@@ -28,6 +28,8 @@ public class MicroProfilePropertiesChangeEvent {
 
 	private Set<String> projectURIs;
 
+	private Set<String> changedPropertyNames;
+
 	/**
 	 * Returns the search scope to collect the MicroProfile properties.
 	 *
@@ -64,4 +66,32 @@ public class MicroProfilePropertiesChangeEvent {
 		this.projectURIs = projectURIs;
 	}
 
+	/**
+	 * Returns the names (without profile) of the properties which have been added,
+	 * removed or updated in the config files and null if they are unknown.
+	 *
+	 * <p>
+	 * This information is only available when the scope is
+	 * {@link MicroProfilePropertiesScope#ONLY_CONFIG_FILES}.
+	 * </p>
+	 *
+	 * @return the names (without profile) of the properties which have been added,
+	 *         removed or updated in the config files and null if they are unknown.
+	 */
+	public Set<String> getChangedPropertyNames() {
+		return changedPropertyNames;
+	}
+
+	/**
+	 * Set the names (without profile) of the properties which have been added,
+	 * removed or updated in the config files.
+	 *
+	 * @param changedPropertyNames the names (without profile) of the properties
+	 *                             which have been added, removed or updated in the
+	 *                             config files.
+	 */
+	public void setChangedPropertyNames(Set<String> changedPropertyNames) {
+		this.changedPropertyNames = changedPropertyNames;
+	}
+
 }
@@ -0,0 +1,194 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Matcher for a list of property name patterns (ex : 'mp.*',
+ * '*&#47;mp-rest/url', 'com.acme.Client/&#42;&#42;/foo') compiled once.
+ *
+ * <p>
+ * A property name matches if it matches one of the patterns with the
+ * {@link AntPathMatcher} rules:
+ * </p>
+ *
+ * <ul>
+ * <li>names which are not a pattern are stored in a set.</li>
+ * <li>patterns without path separator, where '*' and '?' match any characters
+ * of the property name, are compiled in one regular expression.</li>
+ * <li>the other patterns (with '/', '**' segments or '{}') are matched with
+ * {@link AntPathMatcher}.</li>
+ * </ul>
+ *
+ * <p>
+ * The result of the match is memoized per property name in a bounded cache.
+ * </p>
+ *
+ */
+public class PropertyPatternsMatcher {
+
+	private static final int DEFAULT_CACHE_SIZE = 2048;
+
+	public static final PropertyPatternsMatcher EMPTY = new PropertyPatternsMatcher(Collections.emptyList());
+
+	private final Set<String> names;
+
+	private final Pattern globPattern;
+
+	private final List<String> pathPatterns;
+
+	private final AntPathMatcher pathMatcher;
+
+	private final Map<String, Boolean> cache;
+
+	public PropertyPatternsMatcher(Collection<String> patterns) {
+		this(patterns, DEFAULT_CACHE_SIZE);
+	}
+
+	public PropertyPatternsMatcher(Collection<String> patterns, int cacheSize) {
+		AntPathMatcher matcher = new AntPathMatcher();
+		matcher.setCachePatterns(true);
+		Set<String> names = new HashSet<>();
+		List<String> pathPatterns = new ArrayList<>();
+		StringBuilder globRegex = new StringBuilder();
+		if (patterns != null) {
+			for (String pattern : patterns) {
+				if (pattern == null) {
+					continue;
+				}
+				if (!matcher.isPattern(pattern)) {
+					// the excluded property is not a pattern, the property name must be equal to
+					// the pattern
+					names.add(pattern);
+				} else if (isGlobPattern(pattern)) {
+					if (globRegex.length() > 0) {
+						globRegex.append('|');
+					}
+					globRegex.append("(?:");
+					appendGlobRegex(pattern, globRegex);
+					globRegex.append(')');
+				} else {
+					pathPatterns.add(pattern);
+				}
+			}
+		}
+		this.names = names;
+		this.globPattern = globRegex.length() > 0 ? Pattern.compile(globRegex.toString()) : null;
+		this.pathPatterns = pathPatterns;
+		this.pathMatcher = pathPatterns.isEmpty() ? null : matcher;
+		this.cache = createCache(cacheSize);
+	}
+
+	/**
+	 * Returns true if the given property name matches one of the patterns and
+	 * false otherwise.
+	 *
+	 * @param propertyName the property name.
+	 * @return true if the given property name matches one of the patterns and
+	 *         false otherwise.
+	 */
+	public boolean match(String propertyName) {
+		if (propertyName == null || isEmpty()) {
+			return false;
+		}
+		if (names.contains(propertyName)) {
+			return true;
+		}
+		synchronized (cache) {
+			Boolean result = cache.get(propertyName);
+			if (result != null) {
+				return result;
+			}
+		}
+		boolean result = doMatch(propertyName);
+		synchronized (cache) {
+			cache.put(propertyName, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns true if there are no patterns and false otherwise.
+	 *
+	 * @return true if there are no patterns and false otherwise.
+	 */
+	public boolean isEmpty() {
+		return names.isEmpty() && globPattern == null && pathPatterns.isEmpty();
+	}
+
+	private boolean doMatch(String propertyName) {
+		if (globPattern != null && !propertyName.startsWith(AntPathMatcher.DEFAULT_PATH_SEPARATOR)
+				&& !propertyName.endsWith(AntPathMatcher.DEFAULT_PATH_SEPARATOR)
+				&& globPattern.matcher(propertyName).matches()) {
+			return true;
+		}
+		for (String pattern : pathPatterns) {
+			if (pathMatcher.match(pattern, propertyName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns true if the given pattern is a single segment pattern which uses only
+	 * '*' and '?' wildcards and false otherwise.
+	 *
+	 * @param pattern the pattern.
+	 * @return true if the given pattern is a single segment pattern which uses only
+	 *         '*' and '?' wildcards and false otherwise.
+	 */
+	private static boolean isGlobPattern(String pattern) {
+		return !"**".equals(pattern) && pattern.indexOf('/') == -1 && pattern.indexOf('{') == -1
+				&& pattern.indexOf('}') == -1;
+	}
+
+	private static void appendGlobRegex(String pattern, StringBuilder regex) {
+		int start = 0;
+		for (int i = 0; i < pattern.length(); i++) {
+			char c = pattern.charAt(i);
+			if (c == '*' || c == '?') {
+				if (start < i) {
+					regex.append(Pattern.quote(pattern.substring(start, i)));
+				}
+				regex.append(c == '*' ? ".*" : ".");
+				start = i + 1;
+			}
+		}
+		if (start < pattern.length()) {
+			regex.append(Pattern.quote(pattern.substring(start)));
+		}
+	}
+
+	private static Map<String, Boolean> createCache(int cacheSize) {
+		return new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+}
@@ -15,9 +15,12 @@ package org.eclipse.lsp4mp.extensions;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -64,6 +67,21 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 		}
 	}
 
+	/**
+	 * A view computed from the project information for a given version.
+	 */
+	private static class DerivedView {
+
+		private final long version;
+
+		private final Object value;
+
+		public DerivedView(long version, Object value) {
+			this.version = version;
+			this.value = value;
+		}
+	}
+
 	private boolean reloadFromSource;
 
 	private List<ItemMetadata> dynamicProperties;
@@ -74,6 +92,10 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 
 	private boolean updating;
 
+	private final AtomicLong version = new AtomicLong();
+
+	private final Map<Class<?>, DerivedView> derivedViews = new ConcurrentHashMap<>();
+
 	public ExtendedMicroProfileProjectInfo(MicroProfileProjectInfo delegate) {
 		super.setProjectURI(delegate.getProjectURI());
 		// Update hints
@@ -137,6 +159,7 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 		}
 		// Update custom properties
 		updateCustomProperties(null);
+		version.incrementAndGet();
 		setReloadFromSource(false);
 	}
 
@@ -181,6 +204,40 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 		this.dynamicProperties = dynamicProperties;
 	}
 
+	/**
+	 * Returns the version of the project information which is incremented each
+	 * time the properties are updated.
+	 *
+	 * @return the version of the project information.
+	 */
+	public long getVersion() {
+		return version.get();
+	}
+
+	/**
+	 * Returns the view of the given type computed from the properties of this
+	 * project information. The view is computed once per version of the project
+	 * information.
+	 *
+	 * @param <T>     the view type.
+	 * @param type    the view type.
+	 * @param factory the factory used to compute the view.
+	 * @return the view of the given type computed from the properties of this
+	 *         project information.
+	 */
+	public <T> T getDerivedView(Class<T> type, Function<MicroProfileProjectInfo, T> factory) {
+		long currentVersion = version.get();
+		DerivedView view = derivedViews.get(type);
+		if (view == null || view.version != currentVersion) {
+			// The view is computed with the version read before the computation, if the
+			// properties are updated meanwhile, the view will be computed again on the
+			// next call.
+			view = new DerivedView(currentVersion, factory.apply(this));
+			derivedViews.put(type, view);
+		}
+		return type.cast(view.value);
+	}
+
 	/**
 	 * Update custom properties.
 	 * 
@@ -212,6 +269,7 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 						if (newProperties != null) {
 							getProperties().addAll(newProperties);
 						}
+						version.incrementAndGet();
 					}
 				}
 			}
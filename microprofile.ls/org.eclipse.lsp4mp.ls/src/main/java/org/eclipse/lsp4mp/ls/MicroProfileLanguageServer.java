@@ -19,8 +19,6 @@ import static org.eclipse.lsp4mp.utils.VersionHelper.getVersion;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
@@ -43,10 +41,14 @@ import org.eclipse.lsp4mp.ls.api.MicroProfileJavaFileInfoProvider;
 import org.eclipse.lsp4mp.ls.api.MicroProfileJavaProjectLabelsProvider;
 import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageClientAPI;
 import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageServerAPI;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerScheduler;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerScheduler.Priority;
 import org.eclipse.lsp4mp.ls.commons.ParentProcessWatcher.ProcessLanguageServer;
 import org.eclipse.lsp4mp.ls.commons.client.ExtendedClientCapabilities;
 import org.eclipse.lsp4mp.ls.commons.client.InitializationOptionsExtendedClientCapabilities;
 import org.eclipse.lsp4mp.ls.java.JavaTextDocuments;
+import org.eclipse.lsp4mp.ls.statistics.MicroProfileServerStatistics;
+import org.eclipse.lsp4mp.ls.statistics.ServerStatistics;
 import org.eclipse.lsp4mp.services.properties.PropertiesFileLanguageService;
 import org.eclipse.lsp4mp.settings.AllMicroProfileSettings;
 import org.eclipse.lsp4mp.settings.InitializationOptionsSettings;
@@ -166,11 +168,11 @@ public class MicroProfileLanguageServer implements LanguageServer, ProcessLangua
 
 	@Override
 	public CompletableFuture<Object> shutdown() {
+		LanguageServerScheduler scheduler = LanguageServerScheduler.getInstance();
 		if (capabilityManager.getClientCapabilities().shouldLanguageServerExitOnShutdown()) {
-			ScheduledExecutorService delayer = Executors.newScheduledThreadPool(1);
-			delayer.schedule(() -> exit(0), 1, TimeUnit.SECONDS);
+			scheduler.schedule(Priority.SHUTDOWN, null, () -> exit(0), 1, TimeUnit.SECONDS);
 		}
-		return computeAsync(cc -> new Object());
+		return computeAsync(scheduler.getExecutor(Priority.SHUTDOWN), cc -> new Object());
 	}
 
 	@Override
@@ -224,12 +226,22 @@ public class MicroProfileLanguageServer implements LanguageServer, ProcessLangua
 		textDocumentService.propertiesChanged(event);
 	}
 
+	@Override
+	public void javaCodeLensChanged() {
+		textDocumentService.javaCodeLensChanged();
+	}
+
 	@Override
 	public CompletableFuture<JsonSchemaForProjectInfo> getJsonSchemaForProjectInfo(
 			MicroProfileProjectInfoParams params) {
 		return textDocumentService.getJsonSchemaForProjectInfo(params);
 	}
 
+	@Override
+	public CompletableFuture<MicroProfileServerStatistics> getServerStatistics() {
+		return CompletableFuture.completedFuture(ServerStatistics.getInstance().getStatistics());
+	}
+
 	@Override
 	public CompletableFuture<ProjectLabelInfoEntry> getJavaProjectLabels(
 			MicroProfileJavaProjectLabelsParams javaParams) {
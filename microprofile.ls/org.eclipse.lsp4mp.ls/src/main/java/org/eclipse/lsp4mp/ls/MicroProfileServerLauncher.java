@@ -16,6 +16,7 @@ package org.eclipse.lsp4mp.ls;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.function.Function;
@@ -26,7 +27,10 @@ import org.eclipse.lsp4j.launch.LSPLauncher.Builder;
 import org.eclipse.lsp4j.services.LanguageClient;
 import org.eclipse.lsp4j.services.LanguageServer;
 import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageClientAPI;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerScheduler;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerScheduler.Priority;
 import org.eclipse.lsp4mp.ls.commons.ParentProcessWatcher;
+import org.eclipse.lsp4mp.ls.statistics.ServerStatistics;
 
 /**
  * MicroProfile server launcher
@@ -40,6 +44,8 @@ public class MicroProfileServerLauncher {
 	 *     process otherwise if parent process is dead then stop this server.</ul>
 	 * <ul><i>runAsync</i>: if defined and value is true then received message are processed in a
 	 *     separate thread than the LSP4J thread.</ul>
+	 * <ul><i>lsp4mp.scheduler.parallelism</i>, <i>lsp4mp.scheduler.virtualThreads</i>: configure the
+	 *     {@link LanguageServerScheduler} which executes the background work of the server.</ul>
 	 *
 	 * @param args
 	 */
@@ -48,11 +54,14 @@ public class MicroProfileServerLauncher {
 		Function<MessageConsumer, MessageConsumer> wrapper;
 		wrapper = it -> it;
 		if ("true".equals(System.getProperty("runAsync")) ) {
-			wrapper = it -> msg -> CompletableFuture.runAsync(() -> it.consume(msg));
+			Executor executor = LanguageServerScheduler.getInstance().getExecutor(Priority.INTERACTIVE);
+			wrapper = it -> msg -> CompletableFuture.runAsync(() -> it.consume(msg), executor);
 		}
 		if (!"false".equals(System.getProperty("watchParentProcess"))) {
 			wrapper = new ParentProcessWatcher(server, wrapper);
 		}
+		// The LSP4J executor only starts the thread which reads the incoming messages,
+		// the requests are processed with the LanguageServerScheduler.
 		Launcher<LanguageClient> launcher = createServerLauncher(server, System.in, System.out,
 				Executors.newCachedThreadPool(), wrapper);
 
@@ -83,6 +92,10 @@ public class MicroProfileServerLauncher {
 				// MicroProfile
 				// language
 				// client
-				.setInput(in).setOutput(out).setExecutorService(executorService).wrapMessages(wrapper).create();
+				.setInput(in).setOutput(out).setExecutorService(executorService)
+				// measure the latencies of the raw messages for the
+				// 'microprofile/serverStatistics' request
+				.wrapMessages(consumer -> wrapper.apply(ServerStatistics.getInstance().wrapMessageConsumer(consumer)))
+				.create();
 	}
 }
@@ -53,13 +53,16 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.TextDocumentService;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.codeaction.CodeActionResolveData;
 import org.eclipse.lsp4mp.commons.utils.JSONUtility;
 import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageServerAPI.JsonSchemaForProjectInfo;
 import org.eclipse.lsp4mp.ls.commons.client.ExtendedClientCapabilities;
+import org.eclipse.lsp4mp.ls.commons.snippets.SnippetCompletionData;
 import org.eclipse.lsp4mp.ls.java.JavaFileTextDocumentService;
 import org.eclipse.lsp4mp.ls.java.JavaTextDocuments;
 import org.eclipse.lsp4mp.ls.properties.PropertiesFileTextDocumentService;
+import org.eclipse.lsp4mp.ls.properties.PropertiesModelCache;
 import org.eclipse.lsp4mp.settings.MicroProfileCodeLensSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileInlayHintSettings;
@@ -150,6 +153,19 @@ public class MicroProfileTextDocumentService implements TextDocumentService {
 		return CompletableFuture.completedFuture(null);
 	}
 
+	@Override
+	public CompletableFuture<CompletionItem> resolveCompletionItem(CompletionItem unresolved) {
+		SnippetCompletionData data = SnippetCompletionData.getData(unresolved);
+		if (data == null || data.getLanguageId() == null) {
+			return CompletableFuture.completedFuture(unresolved);
+		}
+		TextDocumentService service = textDocumentServicesMap.get(data.getLanguageId());
+		if (service != null) {
+			return service.resolveCompletionItem(unresolved);
+		}
+		return CompletableFuture.completedFuture(unresolved);
+	}
+
 	@Override
 	public CompletableFuture<Hover> hover(HoverParams params) {
 		TextDocumentService service = getTextDocumentService(params.getTextDocument());
@@ -247,10 +263,19 @@ public class MicroProfileTextDocumentService implements TextDocumentService {
 	}
 
 	public void propertiesChanged(MicroProfilePropertiesChangeEvent event) {
+		if (MicroProfilePropertiesScope.isOnlyConfigFiles(event.getType())) {
+			// Some properties config files has been saved, evict the parsed models of the
+			// properties files which are not opened.
+			PropertiesModelCache.getInstance().evictAll();
+		}
 		applicationPropertiesTextDocumentService.propertiesChanged(event);
 		javaTextDocumentService.propertiesChanged(event);
 	}
 
+	public void javaCodeLensChanged() {
+		javaTextDocumentService.javaCodeLensChanged();
+	}
+
 	public void updateSymbolSettings(MicroProfileSymbolSettings newSettings) {
 		applicationPropertiesTextDocumentService.updateSymbolSettings(newSettings);
 	}
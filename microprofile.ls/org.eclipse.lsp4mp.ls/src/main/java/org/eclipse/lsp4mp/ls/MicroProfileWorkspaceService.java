@@ -17,20 +17,20 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.DidChangeConfigurationParams;
 import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
+import org.eclipse.lsp4j.FileEvent;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.WorkspaceSymbol;
 import org.eclipse.lsp4j.WorkspaceSymbolParams;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.WorkspaceService;
 import org.eclipse.lsp4mp.ls.java.JavaTextDocuments;
+import org.eclipse.lsp4mp.ls.properties.PropertiesModelCache;
 import org.eclipse.lsp4mp.utils.FutureUtils;
 
 /**
@@ -41,8 +41,6 @@ public class MicroProfileWorkspaceService implements WorkspaceService {
 
 	private static final Logger LOGGER = Logger.getLogger(MicroProfileWorkspaceService.class.getName());
 
-	private ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-
 	private final MicroProfileLanguageServer microprofileLanguageServer;
 	private final JavaTextDocuments javaTextDocuments;
 
@@ -59,7 +57,13 @@ public class MicroProfileWorkspaceService implements WorkspaceService {
 
 	@Override
 	public void didChangeWatchedFiles(DidChangeWatchedFilesParams params) {
-
+		if (params.getChanges() == null) {
+			return;
+		}
+		for (FileEvent change : params.getChanges()) {
+			// Evict the parsed model of the changed properties file
+			PropertiesModelCache.getInstance().evict(change.getUri());
+		}
 	}
 
 	@Override
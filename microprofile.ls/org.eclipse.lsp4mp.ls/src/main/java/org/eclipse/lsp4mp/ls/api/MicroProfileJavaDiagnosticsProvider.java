@@ -16,9 +16,9 @@ package org.eclipse.lsp4mp.ls.api;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
-import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaPublishDiagnosticsParams;
 
 /**
  * MicroProfile Java diagnostics provider.
@@ -27,7 +27,7 @@ import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
 public interface MicroProfileJavaDiagnosticsProvider {
 
 	@JsonRequest("microprofile/java/diagnostics")
-	default CompletableFuture<List<PublishDiagnosticsParams>> getJavaDiagnostics(
+	default CompletableFuture<List<MicroProfileJavaPublishDiagnosticsParams>> getJavaDiagnostics(
 			MicroProfileJavaDiagnosticsParams javaParams) {
 		return CompletableFuture.completedFuture(null);
 	}
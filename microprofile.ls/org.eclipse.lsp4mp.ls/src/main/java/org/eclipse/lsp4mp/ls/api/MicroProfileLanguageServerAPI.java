@@ -20,6 +20,7 @@ import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.services.LanguageServer;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
+import org.eclipse.lsp4mp.ls.statistics.MicroProfileServerStatistics;
 
 /**
  * MicroProfile language server API.
@@ -75,6 +76,13 @@ public interface MicroProfileLanguageServerAPI extends LanguageServer {
 	@JsonNotification("microprofile/propertiesChanged")
 	void propertiesChanged(MicroProfilePropertiesChangeEvent event);
 
+	/**
+	 * Notification for Java code lens changed which occurs when the availability
+	 * of the server used by the URL code lens changed.
+	 */
+	@JsonNotification("microprofile/javaCodeLensChanged")
+	void javaCodeLensChanged();
+
 	/**
 	 * Returns the Json Schema for the MicroProfile properties of the given
 	 * application.yaml URI.
@@ -85,4 +93,13 @@ public interface MicroProfileLanguageServerAPI extends LanguageServer {
 	 */
 	@JsonRequest("microprofile/jsonSchemaForProjectInfo")
 	CompletableFuture<JsonSchemaForProjectInfo> getJsonSchemaForProjectInfo(MicroProfileProjectInfoParams params);
+
+	/**
+	 * Returns the runtime statistics of the language server (latencies of the
+	 * requests and operations, cache hit rates and queue depths).
+	 *
+	 * @return the runtime statistics of the language server.
+	 */
+	@JsonRequest("microprofile/serverStatistics")
+	CompletableFuture<MicroProfileServerStatistics> getServerStatistics();
 }
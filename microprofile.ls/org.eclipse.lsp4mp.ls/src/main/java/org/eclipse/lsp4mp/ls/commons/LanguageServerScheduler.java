@@ -0,0 +1,353 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4mp.ls.statistics.ServerStatistics;
+
+/**
+ * Scheduler which executes the background work of the language server
+ * (requests, validation, etc) with a bounded number of threads.
+ *
+ * <p>
+ * The pending tasks are executed by order of {@link Priority priority}, and by
+ * order of submission for a given priority. The tasks submitted with the same
+ * key (ex : a document URI) are executed one after the other.
+ * </p>
+ *
+ * <p>
+ * The default scheduler can be configured with the system properties:
+ * </p>
+ * <ul>
+ * <li><i>lsp4mp.scheduler.parallelism</i>: the maximum number of tasks
+ * executed at the same time.</li>
+ * <li><i>lsp4mp.scheduler.virtualThreads</i>: if true and if the Java runtime
+ * supports them, the tasks are executed with virtual threads.</li>
+ * </ul>
+ *
+ */
+public class LanguageServerScheduler {
+
+	private static final Logger LOGGER = Logger.getLogger(LanguageServerScheduler.class.getName());
+
+	private static final String PARALLELISM_PROPERTY = "lsp4mp.scheduler.parallelism";
+
+	private static final String VIRTUAL_THREADS_PROPERTY = "lsp4mp.scheduler.virtualThreads";
+
+	private static final int DEFAULT_PARALLELISM = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	private static LanguageServerScheduler instance;
+
+	public static synchronized LanguageServerScheduler getInstance() {
+		if (instance == null) {
+			instance = new LanguageServerScheduler(Integer.getInteger(PARALLELISM_PROPERTY, DEFAULT_PARALLELISM),
+					Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY));
+			ServerStatistics.getInstance().registerQueue("scheduler", instance::getPendingTaskCount);
+		}
+		return instance;
+	}
+
+	/**
+	 * Priority of a task, from the highest to the lowest.
+	 */
+	public static enum Priority {
+
+		/**
+		 * Shutdown and exit of the language server, which must not wait for the
+		 * pending requests and validations.
+		 */
+		SHUTDOWN,
+
+		/**
+		 * Requests which are waited by the user (completion, hover, etc).
+		 */
+		INTERACTIVE,
+
+		/**
+		 * Validation of the documents.
+		 */
+		DIAGNOSTICS,
+
+		/**
+		 * Other background work (ex : the revalidation of the opened documents
+		 * after a change of the project infos).
+		 */
+		BACKGROUND;
+	}
+
+	/**
+	 * Task which is ordered by priority and by order of submission.
+	 */
+	private static class PrioritizedTask implements Runnable, Comparable<PrioritizedTask> {
+
+		private final Priority priority;
+
+		private final long sequence;
+
+		private final Runnable task;
+
+		public PrioritizedTask(Priority priority, long sequence, Runnable task) {
+			this.priority = priority;
+			this.sequence = sequence;
+			this.task = task;
+		}
+
+		@Override
+		public void run() {
+			task.run();
+		}
+
+		@Override
+		public int compareTo(PrioritizedTask other) {
+			int result = priority.compareTo(other.priority);
+			if (result != 0) {
+				return result;
+			}
+			return Long.compare(sequence, other.sequence);
+		}
+	}
+
+	private final ThreadPoolExecutor executor;
+
+	private final ScheduledThreadPoolExecutor timer;
+
+	private final Map<String, CompletableFuture<Void>> lastSerializedTasks;
+
+	private final AtomicLong sequence;
+
+	private final Executor[] executors;
+
+	/**
+	 * Scheduler constructor.
+	 *
+	 * @param parallelism    the maximum number of tasks executed at the same time.
+	 * @param virtualThreads true if the tasks must be executed with virtual
+	 *                       threads (when the Java runtime supports them) and
+	 *                       false otherwise.
+	 */
+	public LanguageServerScheduler(int parallelism, boolean virtualThreads) {
+		int poolSize = Math.max(1, parallelism);
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+				new PriorityBlockingQueue<>(), createThreadFactory("LSP4MP worker", virtualThreads));
+		this.executor.allowCoreThreadTimeOut(true);
+		this.timer = new ScheduledThreadPoolExecutor(1, createThreadFactory("LSP4MP timer", false));
+		this.timer.setRemoveOnCancelPolicy(true);
+		this.lastSerializedTasks = new ConcurrentHashMap<>();
+		this.sequence = new AtomicLong();
+		Priority[] priorities = Priority.values();
+		this.executors = new Executor[priorities.length];
+		for (Priority priority : priorities) {
+			executors[priority.ordinal()] = task -> execute(priority, task);
+		}
+	}
+
+	/**
+	 * Returns an executor which executes the tasks with the given priority.
+	 *
+	 * @param priority the priority of the tasks.
+	 * @return an executor which executes the tasks with the given priority.
+	 */
+	public Executor getExecutor(Priority priority) {
+		return executors[priority.ordinal()];
+	}
+
+	/**
+	 * Execute the given task with the given priority.
+	 *
+	 * @param priority the priority of the task.
+	 * @param task     the task to execute.
+	 */
+	public void execute(Priority priority, Runnable task) {
+		executor.execute(new PrioritizedTask(priority, sequence.getAndIncrement(), task));
+	}
+
+	/**
+	 * Execute the given task with the given priority after the tasks previously
+	 * submitted with the same key.
+	 *
+	 * @param priority the priority of the task.
+	 * @param key      the key (ex : a document URI) of the tasks which must be
+	 *                 executed one after the other and null otherwise.
+	 * @param task     the task to execute.
+	 * @return the future of the task execution.
+	 */
+	public CompletableFuture<Void> runAsync(Priority priority, String key, Runnable task) {
+		return supplyAsync(priority, key, () -> {
+			task.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Execute the given supplier with the given priority after the tasks
+	 * previously submitted with the same key.
+	 *
+	 * <p>
+	 * The supplier is not executed if the returned future is canceled before the
+	 * start of the task.
+	 * </p>
+	 *
+	 * @param <T>      the type of the result.
+	 * @param priority the priority of the task.
+	 * @param key      the key (ex : a document URI) of the tasks which must be
+	 *                 executed one after the other and null otherwise.
+	 * @param supplier the supplier to execute.
+	 * @return the future of the supplier result.
+	 */
+	public <T> CompletableFuture<T> supplyAsync(Priority priority, String key, Supplier<T> supplier) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		CompletableFuture<Void> finished = new CompletableFuture<>();
+		Runnable task = () -> {
+			try {
+				if (!result.isDone()) {
+					result.complete(supplier.get());
+				}
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			} finally {
+				finished.complete(null);
+			}
+		};
+		if (key == null) {
+			submit(priority, task, result, finished);
+			return result;
+		}
+		CompletableFuture<Void> previous = lastSerializedTasks.put(key, finished);
+		finished.whenComplete((r, e) -> lastSerializedTasks.remove(key, finished));
+		if (previous == null) {
+			submit(priority, task, result, finished);
+		} else {
+			previous.whenComplete((r, e) -> submit(priority, task, result, finished));
+		}
+		return result;
+	}
+
+	/**
+	 * Execute the given task with the given priority after the given delay.
+	 *
+	 * @param priority the priority of the task.
+	 * @param key      the key (ex : a document URI) of the tasks which must be
+	 *                 executed one after the other and null otherwise.
+	 * @param task     the task to execute.
+	 * @param delay    the delay.
+	 * @param unit     the unit of the delay.
+	 * @return the future of the task execution which can be canceled to abort
+	 *         the task if it is not started.
+	 */
+	public CompletableFuture<Void> schedule(Priority priority, String key, Runnable task, long delay,
+			TimeUnit unit) {
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		try {
+			ScheduledFuture<?> delayed = timer.schedule(() -> {
+				if (result.isDone()) {
+					return;
+				}
+				runAsync(priority, key, () -> {
+					if (!result.isDone()) {
+						task.run();
+					}
+				}).whenComplete((r, e) -> {
+					if (e != null) {
+						result.completeExceptionally(e);
+					} else {
+						result.complete(null);
+					}
+				});
+			}, delay, unit);
+			result.whenComplete((r, e) -> {
+				if (result.isCancelled()) {
+					delayed.cancel(false);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			result.completeExceptionally(e);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the number of tasks which are waiting for a thread.
+	 *
+	 * @return the number of tasks which are waiting for a thread.
+	 */
+	public int getPendingTaskCount() {
+		return executor.getQueue().size();
+	}
+
+	/**
+	 * Shutdown the scheduler.
+	 */
+	public void shutdown() {
+		timer.shutdownNow();
+		executor.shutdown();
+	}
+
+	private void submit(Priority priority, Runnable task, CompletableFuture<?> result,
+			CompletableFuture<Void> finished) {
+		try {
+			execute(priority, task);
+		} catch (RejectedExecutionException e) {
+			result.completeExceptionally(e);
+			finished.complete(null);
+		}
+	}
+
+	private static ThreadFactory createThreadFactory(String name, boolean virtualThreads) {
+		if (virtualThreads) {
+			ThreadFactory factory = createVirtualThreadFactory(name);
+			if (factory != null) {
+				return factory;
+			}
+		}
+		AtomicInteger count = new AtomicInteger();
+		return task -> {
+			Thread thread = new Thread(task, name + " #" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private static ThreadFactory createVirtualThreadFactory(String name) {
+		try {
+			// Thread.ofVirtual().name(name + " #", 1).factory() is only available with
+			// Java 21 and later
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			Method nameMethod = builderClass.getMethod("name", String.class, long.class);
+			builder = nameMethod.invoke(builder, name + " #", 1L);
+			return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Virtual threads are not supported by the Java runtime, platform threads are used",
+					e);
+			return null;
+		}
+	}
+}
@@ -19,6 +19,9 @@ import java.util.logging.Logger;
 
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4mp.ls.statistics.ServerStatistics;
+import org.eclipse.lsp4mp.ls.statistics.ServerStatistics.Kind;
+import org.eclipse.lsp4mp.ls.statistics.ServerStatistics.Measure;
 
 /**
  * A {@link TextDocument} which is associate to a model loaded in async.
@@ -50,6 +53,8 @@ public class ModelTextDocument<T> extends TextDocument {
 	}
 
 	public T getModel() {
+		T model = this.model;
+		ServerStatistics.getInstance().recordCacheAccess("documentModel", model != null);
 		if (model == null) {
 			return getSynchronizedModel();
 		}
@@ -75,7 +80,9 @@ public class ModelTextDocument<T> extends TextDocument {
 			// version of document changes
 			CancelChecker cancelChecker = new TextDocumentVersionChecker(this, version);
 			// parse the model
+			Measure measure = ServerStatistics.getInstance().start(Kind.OPERATION, "parse");
 			model = parse.apply(this, cancelChecker);
+			measure.end();
 		} catch (CancellationException e) {
 			LOGGER.fine("Stop parsing parsing of model with version '" + version + "' in "
 					+ (System.currentTimeMillis() - start) + "ms");
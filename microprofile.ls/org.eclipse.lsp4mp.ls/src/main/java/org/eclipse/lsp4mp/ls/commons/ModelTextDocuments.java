@@ -14,6 +14,7 @@
 package org.eclipse.lsp4mp.ls.commons;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -22,6 +23,7 @@ import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 import org.eclipse.lsp4j.jsonrpc.CompletableFutures.FutureCancelChecker;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerScheduler.Priority;
 
 /**
  * The cache of {@link TextDocument} linked to a model.
@@ -110,7 +112,8 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
 	 */
 	public <R> CompletableFuture<R> computeModelAsync(TextDocumentIdentifier documentIdentifier,
 			BiFunction<T, CancelChecker, R> code) {
-		return CompletableFutures.computeAsync(cancelChecker -> {
+		Executor executor = LanguageServerScheduler.getInstance().getExecutor(Priority.INTERACTIVE);
+		return CompletableFutures.computeAsync(executor, cancelChecker -> {
 			// Get or parse the model.
 			T model = getModel(documentIdentifier);
 			if (model == null) {
@@ -149,7 +152,8 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
 
 	private static <R> CompletableFuture<R> computeAsyncCompose(Function<CancelChecker, CompletableFuture<R>> code) {
 		CompletableFuture<CancelChecker> start = new CompletableFuture<>();
-		CompletableFuture<R> result = start.thenComposeAsync(code);
+		CompletableFuture<R> result = start.thenComposeAsync(code,
+				LanguageServerScheduler.getInstance().getExecutor(Priority.INTERACTIVE));
 		start.complete(new FutureCancelChecker(result));
 		return result;
 	}
@@ -13,75 +13,247 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls.commons;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.eclipse.lsp4mp.ls.commons.LanguageServerScheduler.Priority;
+import org.eclipse.lsp4mp.ls.statistics.ServerStatistics;
+import org.eclipse.lsp4mp.ls.statistics.ServerStatistics.Kind;
+import org.eclipse.lsp4mp.ls.statistics.ServerStatistics.Measure;
 
 /**
  * Validate a given document with delay.
  *
+ * <p>
+ * The delay is adapted to the duration of the last validations of the
+ * document: a document which is validated quickly is validated soon after a
+ * change, and a document which takes time to validate (large document, project
+ * information which is loading, etc) waits longer to avoid piling up
+ * validations while the user is typing. The delay stays between the configured
+ * minimum and maximum delays.
+ * </p>
+ *
  * @param <T>
  */
 public class ValidatorDelayer<T extends TextDocument> {
 
+	/**
+	 * Delay used for a document which has not been validated yet.
+	 */
 	public static final long DEFAULT_VALIDATION_DELAY_MS = 500;
 
-	private final ScheduledExecutorService executorService;
+	public static final long DEFAULT_MIN_VALIDATION_DELAY_MS = 100;
+
+	public static final long DEFAULT_MAX_VALIDATION_DELAY_MS = 2000;
+
+	/**
+	 * Ratio between the delay and the average duration of the validation.
+	 */
+	private static final int DELAY_FACTOR = 4;
+
+	/**
+	 * Executor which executes a validation of a document after a delay.
+	 */
+	@FunctionalInterface
+	public static interface DelayedExecutor {
 
-	private final Consumer<T> validator;
+		/**
+		 * Execute the given validation of the document identified by the given uri
+		 * after the given delay.
+		 *
+		 * @param uri        the document URI.
+		 * @param validation the validation to execute.
+		 * @param delayMs    the delay in milliseconds.
+		 * @return the future of the validation execution.
+		 */
+		Future<?> schedule(String uri, Runnable validation, long delayMs);
+	}
 
-	private final Map<String, Future<?>> pendingValidationRequests;
+	/**
+	 * Validation of a document which is waiting for its delay.
+	 */
+	private class PendingValidation implements Runnable {
 
-	private final long validationDelayMs;
+		private final T document;
+
+		private final int version;
+
+		private volatile Future<?> future;
+
+		public PendingValidation(T document) {
+			this.document = document;
+			this.version = document.getVersion();
+		}
+
+		@Override
+		public void run() {
+			if (!pendingValidationRequests.remove(document.getUri(), this)) {
+				// the validation has been canceled or replaced by a newer validation
+				return;
+			}
+			if (version == document.getVersion()) {
+				validate(document);
+			}
+		}
+
+		public void cancel() {
+			Future<?> future = this.future;
+			if (future != null) {
+				future.cancel(true);
+			}
+		}
+	}
+
+	private final DelayedExecutor executor;
+
+	private final LongSupplier clock;
+
+	private final Function<T, CompletableFuture<?>> validator;
+
+	private final Map<String, PendingValidation> pendingValidationRequests;
+
+	private final Map<String, Long> averageValidationDurations;
+
+	private final long minValidationDelayMs;
+
+	private final long maxValidationDelayMs;
 
 	public ValidatorDelayer(Consumer<T> validator) {
-		this(Executors.newScheduledThreadPool(2), validator, DEFAULT_VALIDATION_DELAY_MS);
+		this(document -> {
+			validator.accept(document);
+			return null;
+		}, DEFAULT_MIN_VALIDATION_DELAY_MS, DEFAULT_MAX_VALIDATION_DELAY_MS);
+	}
+
+	/**
+	 * Validator delayer constructor.
+	 *
+	 * @param validator            the validator which returns the future of the
+	 *                             validation (or null if the validation is
+	 *                             done).
+	 * @param minValidationDelayMs the minimum delay in milliseconds.
+	 * @param maxValidationDelayMs the maximum delay in milliseconds.
+	 */
+	public ValidatorDelayer(Function<T, CompletableFuture<?>> validator, long minValidationDelayMs,
+			long maxValidationDelayMs) {
+		this((uri, validation, delayMs) -> LanguageServerScheduler.getInstance().schedule(Priority.DIAGNOSTICS, uri,
+				validation, delayMs, TimeUnit.MILLISECONDS), () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime()),
+				validator, minValidationDelayMs, maxValidationDelayMs);
 	}
 
-	public ValidatorDelayer(ScheduledExecutorService executorService, Consumer<T> validator,
-			long validationDelayMs) {
-		this.executorService = executorService;
+	/**
+	 * Validator delayer constructor.
+	 *
+	 * @param executor             the executor which executes the validations
+	 *                             after a delay.
+	 * @param clock                the clock which returns the current time in
+	 *                             milliseconds.
+	 * @param validator            the validator which returns the future of the
+	 *                             validation (or null if the validation is
+	 *                             done).
+	 * @param minValidationDelayMs the minimum delay in milliseconds.
+	 * @param maxValidationDelayMs the maximum delay in milliseconds.
+	 */
+	public ValidatorDelayer(DelayedExecutor executor, LongSupplier clock, Function<T, CompletableFuture<?>> validator,
+			long minValidationDelayMs, long maxValidationDelayMs) {
+		this.executor = executor;
+		this.clock = clock;
 		this.validator = validator;
-		this.pendingValidationRequests = new HashMap<>();
-		this.validationDelayMs = validationDelayMs;
+		this.pendingValidationRequests = new ConcurrentHashMap<>();
+		this.averageValidationDurations = new ConcurrentHashMap<>();
+		this.minValidationDelayMs = minValidationDelayMs;
+		this.maxValidationDelayMs = Math.max(minValidationDelayMs, maxValidationDelayMs);
 	}
 
 	/**
-	 * Validate the given model <code>document</code> identified by the given
-	 * <code>uri</code> with a delay.
+	 * Validate the given model <code>document</code> with a delay which depends
+	 * on the duration of the last validations of the document.
 	 *
-	 * @param uri      the document URI.
 	 * @param document the document model to validate.
 	 */
 	public void validateWithDelay(T document) {
+		schedule(document, getValidationDelay(document.getUri()));
+	}
+
+	/**
+	 * Validate the given model <code>document</code> without delay (ex : when the
+	 * document is opened or saved) and cancel its pending validation.
+	 *
+	 * @param document the document model to validate.
+	 */
+	public void validateNow(T document) {
+		schedule(document, 0);
+	}
+
+	private void schedule(T document, long delayMs) {
 		String uri = document.getUri();
-		cleanPendingValidation(uri);
-		int version = document.getVersion();
-		Future<?> request = executorService.schedule(() -> {
-			synchronized (pendingValidationRequests) {
-				pendingValidationRequests.remove(uri);
-			}
-			if (version == document.getVersion()) {
-				validator.accept(document);
-			}
-		}, validationDelayMs, TimeUnit.MILLISECONDS);
-		synchronized (pendingValidationRequests) {
-			pendingValidationRequests.put(uri, request);
+		PendingValidation validation = new PendingValidation(document);
+		PendingValidation previous = pendingValidationRequests.put(uri, validation);
+		if (previous != null) {
+			previous.cancel();
 		}
+		validation.future = executor.schedule(uri, validation, delayMs);
 	}
 
+	private void validate(T document) {
+		String uri = document.getUri();
+		long start = clock.getAsLong();
+		Measure measure = ServerStatistics.getInstance().start(Kind.OPERATION, "validation");
+		CompletableFuture<?> result;
+		try {
+			result = validator.apply(document);
+		} catch (CancellationException e) {
+			// the document has changed during the validation
+			measure.end();
+			return;
+		}
+		if (result == null) {
+			measure.end();
+			recordValidationDuration(uri, clock.getAsLong() - start);
+		} else {
+			result.whenComplete((r, e) -> measure.end());
+			result.thenRun(() -> recordValidationDuration(uri, clock.getAsLong() - start));
+		}
+	}
+
+	private void recordValidationDuration(String uri, long duration) {
+		// Exponential moving average which favors the last validations
+		averageValidationDurations.merge(uri, duration, (average, last) -> (3 * average + last) / 4);
+	}
+
+	/**
+	 * Returns the delay in milliseconds to wait before validating the document
+	 * identified by the given uri.
+	 *
+	 * @param uri the document URI.
+	 * @return the delay in milliseconds to wait before validating the document
+	 *         identified by the given uri.
+	 */
+	public long getValidationDelay(String uri) {
+		Long averageDuration = averageValidationDurations.get(uri);
+		long delay = averageDuration != null ? averageDuration * DELAY_FACTOR : DEFAULT_VALIDATION_DELAY_MS;
+		return Math.min(maxValidationDelayMs, Math.max(minValidationDelayMs, delay));
+	}
+
+	/**
+	 * Cancel the pending validation of the document identified by the given uri
+	 * and forget its validation durations (ex : when the document is closed).
+	 *
+	 * @param uri the document URI.
+	 */
 	public void cleanPendingValidation(String uri) {
-		synchronized (pendingValidationRequests) {
-			Future<?> request = pendingValidationRequests.get(uri);
-			if (request != null) {
-				request.cancel(true);
-				pendingValidationRequests.remove(uri);
-			}
+		PendingValidation validation = pendingValidationRequests.remove(uri);
+		if (validation != null) {
+			validation.cancel();
 		}
+		averageValidationDurations.remove(uri);
 	}
 
 	/**
@@ -91,8 +263,6 @@ public class ValidatorDelayer<T extends TextDocument> {
 	 * @return true if the document has a revalidation pending and false otherwise
 	 */
 	public boolean isRevalidating(String uri) {
-		synchronized (pendingValidationRequests) {
-			return pendingValidationRequests.containsKey(uri);
-		}
+		return pendingValidationRequests.containsKey(uri);
 	}
 }
@@ -0,0 +1,201 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons.snippets;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snippet body parsed once when the snippet is registered.
+ *
+ * <p>
+ * Each body line is split into text and place holders (ex : ${name}) which are
+ * replaced with a context model each time the body is expanded.
+ * </p>
+ *
+ */
+class SnippetBody {
+
+	/**
+	 * Part of a body line.
+	 */
+	private static interface Segment {
+
+		void append(Map<String, String> model, boolean keepDollarVariable, StringBuilder text);
+	}
+
+	/**
+	 * Text of a body line.
+	 */
+	private static class TextSegment implements Segment {
+
+		private final String text;
+
+		public TextSegment(String text) {
+			this.text = text;
+		}
+
+		@Override
+		public void append(Map<String, String> model, boolean keepDollarVariable, StringBuilder text) {
+			text.append(this.text);
+		}
+	}
+
+	/**
+	 * '$' of a tab stop (ex : $1) which is only kept when place holders are kept.
+	 */
+	private static final Segment DOLLAR_SEGMENT = (model, keepDollarVariable, text) -> {
+		if (keepDollarVariable) {
+			text.append('$');
+		}
+	};
+
+	/**
+	 * Place holder (ex : ${name}, ${1:name}).
+	 */
+	private static class PlaceholderSegment implements Segment {
+
+		private final String paramName;
+
+		private final String expression;
+
+		private final boolean onlyNumber;
+
+		public PlaceholderSegment(String paramName, String expression, boolean onlyNumber) {
+			this.paramName = paramName;
+			this.expression = expression;
+			this.onlyNumber = onlyNumber;
+		}
+
+		@Override
+		public void append(Map<String, String> model, boolean keepDollarVariable, StringBuilder text) {
+			if (!keepDollarVariable && onlyNumber) {
+				return;
+			}
+			if (model.containsKey(paramName)) {
+				text.append(model.get(paramName));
+			} else if (keepDollarVariable) {
+				text.append(expression);
+			} else {
+				text.append(paramName);
+			}
+		}
+	}
+
+	private final List<List<Segment>> lines;
+
+	public SnippetBody(List<String> body) {
+		if (body == null || body.isEmpty()) {
+			this.lines = Collections.emptyList();
+		} else {
+			this.lines = new ArrayList<>(body.size());
+			for (String bodyLine : body) {
+				lines.add(parse(bodyLine));
+			}
+		}
+	}
+
+	/**
+	 * Returns the body text where place holders are replaced by using the given
+	 * context <code>model</code>.
+	 *
+	 * @param model              the context model.
+	 * @param keepDollarVariable true if place holder (ex : ${name}) must be kept
+	 *                           (ex : ${name}) or not (ex : name)
+	 * @param lineDelimiter      the line delimiter.
+	 * @return the body text where place holders are replaced by using the given
+	 *         context <code>model</code>.
+	 */
+	public String apply(Map<String, String> model, boolean keepDollarVariable, String lineDelimiter) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < lines.size(); i++) {
+			if (i > 0) {
+				text.append(lineDelimiter);
+			}
+			for (Segment segment : lines.get(i)) {
+				segment.append(model, keepDollarVariable, text);
+			}
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Split the given <code>line</code> into text and place holders.
+	 *
+	 * @param line the line which can have some place holders.
+	 * @return the text and place holders of the given line.
+	 */
+	private static List<Segment> parse(String line) {
+		List<Segment> segments = new ArrayList<>();
+		int offset = 0;
+		while (true) {
+			int dollarIndex = line.indexOf("$", offset);
+			if (dollarIndex == -1 || dollarIndex == line.length() - 1) {
+				addText(line.substring(offset, line.length()), segments);
+				return segments;
+			}
+			char next = line.charAt(dollarIndex + 1);
+			if (Character.isDigit(next)) {
+				// ex: line = @RegistryType(type=$1)
+				addText(line.substring(offset, dollarIndex), segments);
+				segments.add(DOLLAR_SEGMENT);
+				offset = dollarIndex + 1;
+			} else if (next == '{') {
+				int startExpr = dollarIndex;
+				int endExpr = line.indexOf("}", startExpr);
+				if (endExpr == -1) {
+					// Should never occur
+					return segments;
+				}
+				addText(line.substring(offset, startExpr), segments);
+				// Parameter
+				int startParam = startExpr + 2;
+				int endParam = endExpr;
+				boolean onlyNumber = true;
+				for (int i = startParam; i < endParam; i++) {
+					char ch = line.charAt(i);
+					if (!Character.isDigit(ch)) {
+						onlyNumber = false;
+						if (ch == ':') {
+							startParam = i + 1;
+							break;
+						} else if (ch == '|') {
+							startParam = i + 1;
+							int index = line.indexOf(',', startExpr);
+							if (index != -1) {
+								endParam = index;
+							}
+							break;
+						} else {
+							break;
+						}
+					}
+				}
+				segments.add(new PlaceholderSegment(line.substring(startParam, endParam),
+						line.substring(startExpr, endExpr + 1), onlyNumber));
+				offset = endExpr + 1;
+			} else {
+				return segments;
+			}
+		}
+	}
+
+	private static void addText(String text, List<Segment> segments) {
+		if (!text.isEmpty()) {
+			segments.add(new TextSegment(text));
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons.snippets;
+
+import java.util.Map;
+
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4mp.commons.utils.JSONUtility;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Represents additional data that is needed to resolve the documentation of a
+ * snippet completion item.
+ *
+ */
+public class SnippetCompletionData {
+
+	private static final String SNIPPET_INDEX_PROP = "snippetIndex";
+
+	private String languageId;
+
+	private Integer snippetIndex;
+
+	private Map<String, String> model;
+
+	private String lineDelimiter;
+
+	private boolean markdownSupported;
+
+	/**
+	 * Needed for Gson
+	 */
+	public SnippetCompletionData() {
+		this(null, null, null, null, false);
+	}
+
+	public SnippetCompletionData(String languageId, Integer snippetIndex, Map<String, String> model,
+			String lineDelimiter, boolean markdownSupported) {
+		this.languageId = languageId;
+		this.snippetIndex = snippetIndex;
+		this.model = model;
+		this.lineDelimiter = lineDelimiter;
+		this.markdownSupported = markdownSupported;
+	}
+
+	/**
+	 * Returns the language id of the snippet registry which has created the
+	 * completion item and null otherwise.
+	 *
+	 * @return the language id of the snippet registry which has created the
+	 *         completion item and null otherwise.
+	 */
+	public String getLanguageId() {
+		return languageId;
+	}
+
+	/**
+	 * Returns the index of the snippet in the snippet registry.
+	 *
+	 * @return the index of the snippet in the snippet registry.
+	 */
+	public Integer getSnippetIndex() {
+		return snippetIndex;
+	}
+
+	/**
+	 * Returns the context model used to replace some place holders.
+	 *
+	 * @return the context model used to replace some place holders.
+	 */
+	public Map<String, String> getModel() {
+		return model;
+	}
+
+	/**
+	 * Returns the line delimiter.
+	 *
+	 * @return the line delimiter.
+	 */
+	public String getLineDelimiter() {
+		return lineDelimiter;
+	}
+
+	/**
+	 * Returns true if markdown is supported to generate documentation and false
+	 * otherwise.
+	 *
+	 * @return true if markdown is supported to generate documentation and false
+	 *         otherwise.
+	 */
+	public boolean isMarkdownSupported() {
+		return markdownSupported;
+	}
+
+	/**
+	 * Returns the snippet data of the given completion item and null if the item
+	 * doesn't come from a snippet registry.
+	 *
+	 * @param item the completion item.
+	 * @return the snippet data of the given completion item and null if the item
+	 *         doesn't come from a snippet registry.
+	 */
+	public static SnippetCompletionData getData(CompletionItem item) {
+		Object data = item.getData();
+		if (data instanceof SnippetCompletionData) {
+			return (SnippetCompletionData) data;
+		}
+		if (data instanceof JsonObject && ((JsonObject) data).has(SNIPPET_INDEX_PROP)) {
+			return JSONUtility.toModel(data, SnippetCompletionData.class);
+		}
+		return null;
+	}
+}
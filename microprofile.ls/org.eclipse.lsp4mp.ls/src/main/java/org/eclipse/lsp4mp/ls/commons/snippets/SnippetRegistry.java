@@ -21,14 +21,16 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.function.BiPredicate;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionItemKind;
@@ -57,8 +59,14 @@ public class SnippetRegistry {
 
 	private static final Logger LOGGER = Logger.getLogger(SnippetRegistry.class.getName());
 
+	private final String languageId;
+
 	private final List<Snippet> snippets;
 
+	private final List<RegisteredSnippet> registeredSnippets;
+
+	private final Map<Character, List<RegisteredSnippet>> registeredSnippetsByWordStart;
+
 	public SnippetRegistry() {
 		this(null);
 	}
@@ -75,7 +83,10 @@ public class SnippetRegistry {
 	 *                    otherwise.
 	 */
 	public SnippetRegistry(String languageId, boolean loadDefault) {
+		this.languageId = languageId;
 		snippets = new ArrayList<>();
+		registeredSnippets = new ArrayList<>();
+		registeredSnippetsByWordStart = new HashMap<>();
 		// Load snippets from SPI
 		if (loadDefault) {
 			ServiceLoader<ISnippetRegistryLoader> loaders = ServiceLoader.load(ISnippetRegistryLoader.class);
@@ -95,10 +106,23 @@ public class SnippetRegistry {
 	/**
 	 * Register the given snippet.
 	 * 
+	 * <p>
+	 * The snippet must not be updated once it is registered.
+	 * </p>
+	 * 
 	 * @param snippet the snippet to register.
 	 */
 	public void registerSnippet(Snippet snippet) {
 		snippets.add(snippet);
+		// Index the snippet by the characters which start a word of its prefix
+		RegisteredSnippet registeredSnippet = new RegisteredSnippet(registeredSnippets.size(), snippet);
+		registeredSnippets.add(registeredSnippet);
+		if (registeredSnippet.prefix != null) {
+			for (Character wordStart : getWordStarts(registeredSnippet.prefix)) {
+				registeredSnippetsByWordStart.computeIfAbsent(wordStart, k -> new ArrayList<>())
+						.add(registeredSnippet);
+			}
+		}
 	}
 
 	/**
@@ -247,22 +271,62 @@ public class SnippetRegistry {
 	public List<CompletionItem> getCompletionItems(Range replaceRange, String lineDelimiter, boolean canSupportMarkdown,
 			boolean snippetsSupported, BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter,
 			Map<String, String> initialModel, ISuffixPositionProvider suffixProvider) {
+		return getCompletionItems(replaceRange, null, lineDelimiter, canSupportMarkdown, snippetsSupported, false,
+				contextFilter, () -> initialModel, suffixProvider);
+	}
+
+	/**
+	 * Returns the snippet completion items which match the given word according
+	 * to the context filter.
+	 * 
+	 * @param replaceRange       the replace range.
+	 * @param word               the word at the completion offset and null if
+	 *                           snippets must not be filtered by prefix.
+	 * @param lineDelimiter      the line delimiter.
+	 * @param canSupportMarkdown true if markdown is supported to generate
+	 *                           documentation and false otherwise.
+	 * @param snippetsSupported  true if snippet is supported and false otherwise.
+	 * @param resolveSupported   true if the documentation must be computed with
+	 *                           'completionItem/resolve' and false otherwise.
+	 * @param contextFilter      the context filter.
+	 * @param modelProvider      the provider of the initial model, called only if
+	 *                           some snippets match the given word.
+	 * @param suffixProvider     the suffix position provider.
+	 * @return the snippet completion items which match the given word according
+	 *         to the context filter.
+	 */
+	public List<CompletionItem> getCompletionItems(Range replaceRange, String word, String lineDelimiter,
+			boolean canSupportMarkdown, boolean snippetsSupported, boolean resolveSupported,
+			BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter,
+			Supplier<Map<String, String>> modelProvider, ISuffixPositionProvider suffixProvider) {
 		if (replaceRange == null) {
 			return Collections.emptyList();
 		}
+		List<RegisteredSnippet> candidates = getCandidates(word);
+		if (candidates.isEmpty()) {
+			return Collections.emptyList();
+		}
+		Map<String, String> initialModel = modelProvider != null ? modelProvider.get() : null;
 		final Map<String, String> model = initialModel != null ? initialModel : new HashMap<>();
-		return getSnippets().stream().filter(snippet -> {
-			return snippet.match(contextFilter, model);
-		}).map(snippet -> {
+		List<CompletionItem> items = new ArrayList<>();
+		for (RegisteredSnippet registeredSnippet : candidates) {
+			Snippet snippet = registeredSnippet.snippet;
+			if (!registeredSnippet.matches(word) || !snippet.match(contextFilter, model)) {
+				continue;
+			}
 			CompletionItem item = new CompletionItem();
-			String prefix = snippet.getPrefixes().get(0);
-			String label = snippet.getLabel() != null ? snippet.getLabel() : prefix;
-			item.setLabel(label);
-			String insertText = getInsertText(snippet, model, snippetsSupported, lineDelimiter);
+			item.setLabel(registeredSnippet.label);
+			String insertText = registeredSnippet.body.apply(model, snippetsSupported, lineDelimiter);
 			item.setKind(CompletionItemKind.Snippet);
-			item.setDocumentation(
-					Either.forRight(createDocumentation(snippet, model, canSupportMarkdown, lineDelimiter)));
-			item.setFilterText(prefix);
+			if (resolveSupported) {
+				// The documentation is computed with 'completionItem/resolve'
+				item.setData(new SnippetCompletionData(languageId, registeredSnippet.index, model, lineDelimiter,
+						canSupportMarkdown));
+			} else {
+				item.setDocumentation(Either.forRight(
+						createDocumentation(registeredSnippet, model, canSupportMarkdown, lineDelimiter)));
+			}
+			item.setFilterText(registeredSnippet.prefix);
 			item.setDetail(snippet.getDescription());
 			Range range = replaceRange;
 			if (!StringUtils.isEmpty(snippet.getSuffix()) && suffixProvider != null) {
@@ -274,24 +338,53 @@ public class SnippetRegistry {
 			item.setTextEdit(Either.forLeft(new TextEdit(range, insertText)));
 			item.setInsertTextFormat(InsertTextFormat.Snippet);
 			item.setSortText(snippet.getSortText());
+			items.add(item);
+		}
+		return items;
+	}
+
+	/**
+	 * Resolve the documentation of the given snippet completion item.
+	 * 
+	 * @param item the completion item to resolve.
+	 * @return the completion item with its documentation if it's a snippet
+	 *         completion item of this registry and the given item otherwise.
+	 */
+	public CompletionItem resolveCompletionItem(CompletionItem item) {
+		SnippetCompletionData data = SnippetCompletionData.getData(item);
+		if (data == null || data.getSnippetIndex() == null || data.getSnippetIndex() < 0
+				|| data.getSnippetIndex() >= registeredSnippets.size()) {
 			return item;
+		}
+		RegisteredSnippet registeredSnippet = registeredSnippets.get(data.getSnippetIndex());
+		Map<String, String> model = data.getModel() != null ? data.getModel() : Collections.emptyMap();
+		String lineDelimiter = data.getLineDelimiter() != null ? data.getLineDelimiter() : System.lineSeparator();
+		item.setDocumentation(Either.forRight(
+				createDocumentation(registeredSnippet, model, data.isMarkdownSupported(), lineDelimiter)));
+		return item;
+	}
 
-		}).collect(Collectors.toList());
+	private List<RegisteredSnippet> getCandidates(String word) {
+		if (word == null || word.isEmpty()) {
+			return registeredSnippets;
+		}
+		List<RegisteredSnippet> candidates = registeredSnippetsByWordStart.get(Character.toLowerCase(word.charAt(0)));
+		return candidates != null ? candidates : Collections.emptyList();
 	}
 
-	private static MarkupContent createDocumentation(Snippet snippet, Map<String, String> model,
+	private static MarkupContent createDocumentation(RegisteredSnippet registeredSnippet, Map<String, String> model,
 			boolean canSupportMarkdown, String lineDelimiter) {
 		StringBuilder doc = new StringBuilder();
 		if (canSupportMarkdown) {
 			doc.append(System.lineSeparator());
 			doc.append("```");
-			String scope = snippet.getScope();
+			String scope = registeredSnippet.snippet.getScope();
 			if (scope != null) {
 				doc.append(scope);
 			}
 			doc.append(System.lineSeparator());
 		}
-		String insertText = getInsertText(snippet, model, false, lineDelimiter);
+		String insertText = registeredSnippet.body.apply(model, false, lineDelimiter);
 		doc.append(insertText);
 		if (canSupportMarkdown) {
 			doc.append(System.lineSeparator());
@@ -301,96 +394,102 @@ public class SnippetRegistry {
 		return new MarkupContent(canSupportMarkdown ? MarkupKind.MARKDOWN : MarkupKind.PLAINTEXT, doc.toString());
 	}
 
-	private static String getInsertText(Snippet snippet, Map<String, String> model, boolean keepPlaceholders,
-			String lineDelimiter) {
-		StringBuilder text = new StringBuilder();
-		int i = 0;
-		List<String> body = snippet.getBody();
-		if (body != null) {
-			for (String bodyLine : body) {
-				if (i > 0) {
-					text.append(lineDelimiter);
-				}
-				replacePlaceholders(bodyLine, 0, model, keepPlaceholders, text);
-				i++;
+	/**
+	 * Returns the lower case characters which start a word (ex : 'r', 'g' for
+	 * 'rest_get', '@', 'f' for '@Fallback') of the given snippet prefix.
+	 * 
+	 * @param prefix the snippet prefix.
+	 * @return the lower case characters which start a word of the given snippet
+	 *         prefix.
+	 */
+	private static Set<Character> getWordStarts(String prefix) {
+		Set<Character> wordStarts = new HashSet<>();
+		for (int i = 0; i < prefix.length(); i++) {
+			if (isWordStart(prefix, i)) {
+				wordStarts.add(Character.toLowerCase(prefix.charAt(i)));
 			}
 		}
-		return text.toString();
+		return wordStarts;
+	}
+
+	private static boolean isWordStart(String prefix, int index) {
+		if (index == 0) {
+			return true;
+		}
+		char previous = prefix.charAt(index - 1);
+		char current = prefix.charAt(index);
+		return !Character.isLetterOrDigit(previous)
+				|| (Character.isUpperCase(current) && Character.isLowerCase(previous));
 	}
 
 	/**
-	 * Replace place holders (ex : ${name}) from the given <code>line</code> by
-	 * using the given context <code>model</code>.
-	 * 
-	 * @param line               the line which can have some place holders.
-	 * @param offset             the start offset where the replace must be occured.
-	 * @param model              the context model.
-	 * @param keepDollarVariable true if place holder (ex : ${name}) must be kept
-	 *                           (ex : ${name}) or not (ex : name)
-	 * @param newLine            the replace line buffer result.
+	 * Snippet with the data computed once when the snippet is registered.
 	 */
-	private static void replacePlaceholders(String line, int offset, Map<String, String> model,
-			boolean keepDollarVariable, StringBuilder newLine) {
-		int dollarIndex = line.indexOf("$", offset);
-		if (dollarIndex == -1 || dollarIndex == line.length() - 1) {
-			newLine.append(line.substring(offset, line.length()));
-			return;
+	private static class RegisteredSnippet {
+
+		private final int index;
+
+		private final Snippet snippet;
+
+		private final String prefix;
+
+		private final String label;
+
+		private final SnippetBody body;
+
+		public RegisteredSnippet(int index, Snippet snippet) {
+			this.index = index;
+			this.snippet = snippet;
+			List<String> prefixes = snippet.getPrefixes();
+			this.prefix = prefixes != null && !prefixes.isEmpty() ? prefixes.get(0) : null;
+			this.label = snippet.getLabel() != null ? snippet.getLabel() : prefix;
+			this.body = new SnippetBody(snippet.getBody());
 		}
-		char next = line.charAt(dollarIndex + 1);
-		if (Character.isDigit(next)) {
-			// ex: line = @RegistryType(type=$1)
-			if (!keepDollarVariable) {
-				newLine.append(line.substring(offset, dollarIndex));
-			}
-			int lastDigitOffset = dollarIndex + 1;
-			while (line.length() < lastDigitOffset && Character.isDigit(line.charAt(lastDigitOffset))) {
-				lastDigitOffset++;
-			}
-			if (keepDollarVariable) {
-				newLine.append(line.substring(offset, lastDigitOffset));
+
+		/**
+		 * Returns true if the snippet prefix matches the given word and false
+		 * otherwise.
+		 * 
+		 * <p>
+		 * The word matches if its first character starts a word of the prefix and if
+		 * its other characters follow in the prefix (ex : 'rg' or 'get' match
+		 * 'rest_get'), ignoring the case, like the client completion filter.
+		 * </p>
+		 * 
+		 * @param word the word at the completion offset.
+		 * @return true if the snippet prefix matches the given word and false
+		 *         otherwise.
+		 */
+		public boolean matches(String word) {
+			if (word == null || word.isEmpty()) {
+				return true;
 			}
-			replacePlaceholders(line, lastDigitOffset, model, keepDollarVariable, newLine);
-		} else if (next == '{') {
-			int startExpr = dollarIndex;
-			int endExpr = line.indexOf("}", startExpr);
-			if (endExpr == -1) {
-				// Should never occur
-				return;
+			if (prefix == null) {
+				return false;
 			}
-			newLine.append(line.substring(offset, startExpr));
-			// Parameter
-			int startParam = startExpr + 2;
-			int endParam = endExpr;
-			boolean onlyNumber = true;
-			for (int i = startParam; i < endParam; i++) {
-				char ch = line.charAt(i);
-				if (!Character.isDigit(ch)) {
-					onlyNumber = false;
-					if (ch == ':') {
-						startParam = i + 1;
-						break;
-					} else if (ch == '|') {
-						startParam = i + 1;
-						int index = line.indexOf(',', startExpr);
-						if (index != -1) {
-							endParam = index;
-						}
-						break;
-					} else {
-						break;
-					}
+			char first = Character.toLowerCase(word.charAt(0));
+			for (int start = 0; start < prefix.length(); start++) {
+				if (Character.toLowerCase(prefix.charAt(start)) == first && isWordStart(prefix, start)
+						&& followsIn(word, prefix, start + 1)) {
+					return true;
 				}
 			}
-			String paramName = line.substring(startParam, endParam);
-			if (model.containsKey(paramName)) {
-				paramName = model.get(paramName);
-			} else if (keepDollarVariable) {
-				paramName = line.substring(startExpr, endExpr + 1);
-			}
-			if (!(!keepDollarVariable && onlyNumber)) {
-				newLine.append(paramName);
+			return false;
+		}
+
+		private static boolean followsIn(String word, String prefix, int prefixOffset) {
+			int j = prefixOffset;
+			for (int i = 1; i < word.length(); i++) {
+				char ch = Character.toLowerCase(word.charAt(i));
+				while (j < prefix.length() && Character.toLowerCase(prefix.charAt(j)) != ch) {
+					j++;
+				}
+				if (j == prefix.length()) {
+					return false;
+				}
+				j++;
 			}
-			replacePlaceholders(line, endExpr + 1, model, keepDollarVariable, newLine);
+			return true;
 		}
 	}
-}
\ No newline at end of file
+}
@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiPredicate;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -64,11 +65,41 @@ public class TextDocumentSnippetRegistry extends SnippetRegistry {
 	public List<CompletionItem> getCompletionItems(TextDocument document, int completionOffset,
 			boolean canSupportMarkdown, boolean snippetsSupported,
 			BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter, Map<String, String> model) {
+		return getCompletionItems(document, completionOffset, canSupportMarkdown, snippetsSupported, false,
+				contextFilter, () -> model);
+	}
+
+	/**
+	 * Returns the snippet completion items which match the word at the given
+	 * completion offset according to the context filter.
+	 *
+	 * @param document           the text document.
+	 * @param completionOffset   the completion offset.
+	 * @param canSupportMarkdown true if markdown is supported to generate
+	 *                           documentation and false otherwise.
+	 * @param snippetsSupported  true if snippet is supported and false otherwise.
+	 * @param resolveSupported   true if the documentation must be computed with
+	 *                           'completionItem/resolve' and false otherwise.
+	 * @param contextFilter      the context filter.
+	 * @param modelProvider      the provider of the context model used to replace
+	 *                           some place holder, called only if some snippets
+	 *                           match the word at the completion offset.
+	 * @return the snippet completion items which match the word at the given
+	 *         completion offset according to the context filter.
+	 */
+	public List<CompletionItem> getCompletionItems(TextDocument document, int completionOffset,
+			boolean canSupportMarkdown, boolean snippetsSupported, boolean resolveSupported,
+			BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter,
+			Supplier<Map<String, String>> modelProvider) {
 		try {
+			String expr = getExpr(document, completionOffset);
+			if (expr == null) {
+				return Collections.emptyList();
+			}
 			String lineDelimiter = getLineDelimiter(document, completionOffset);
-			Range replaceRange = getReplaceRange(document, completionOffset);
-			return super.getCompletionItems(replaceRange, lineDelimiter, canSupportMarkdown, snippetsSupported,
-					contextFilter, model, null);
+			Range replaceRange = getReplaceRange(completionOffset - expr.length(), completionOffset, document);
+			return super.getCompletionItems(replaceRange, expr, lineDelimiter, canSupportMarkdown, snippetsSupported,
+					resolveSupported, contextFilter, modelProvider, null);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while computing snippet completion items", e);
 			return Collections.emptyList();
@@ -56,17 +56,21 @@ import org.eclipse.lsp4mp.commons.MicroProfileJavaDefinitionParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaHoverParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaPublishDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.ls.AbstractTextDocumentService;
 import org.eclipse.lsp4mp.ls.MicroProfileLanguageServer;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerScheduler;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerScheduler.Priority;
 import org.eclipse.lsp4mp.ls.commons.TextDocument;
 import org.eclipse.lsp4mp.ls.commons.ValidatorDelayer;
 import org.eclipse.lsp4mp.ls.commons.client.CommandKind;
 import org.eclipse.lsp4mp.ls.commons.client.ExtendedCompletionCapabilities;
 import org.eclipse.lsp4mp.ls.java.JavaTextDocuments.JavaTextDocument;
 import org.eclipse.lsp4mp.ls.properties.IPropertiesModelProvider;
+import org.eclipse.lsp4mp.ls.properties.PropertiesModelCache;
 import org.eclipse.lsp4mp.model.Node;
 import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.model.Property;
@@ -76,7 +80,6 @@ import org.eclipse.lsp4mp.settings.SharedSettings;
 import org.eclipse.lsp4mp.snippets.JavaSnippetCompletionContext;
 import org.eclipse.lsp4mp.snippets.SnippetContextForJava;
 import org.eclipse.lsp4mp.utils.PositionUtils;
-import org.eclipse.lsp4mp.utils.PropertiesFileUtils;
 
 /**
  * LSP text document service for Java file.
@@ -90,6 +93,7 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 
 	private final IPropertiesModelProvider propertiesModelProvider;
 	private final JavaTextDocuments documents;
+	private final JavaPropertyReferences propertyReferences;
 	private ValidatorDelayer<JavaTextDocument> validatorDelayer;
 
 	public JavaFileTextDocumentService(MicroProfileLanguageServer microprofileLanguageServer,
@@ -97,9 +101,10 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 		super(microprofileLanguageServer, sharedSettings);
 		this.propertiesModelProvider = propertiesModelProvider;
 		this.documents = javaTextDocuments;
-		this.validatorDelayer = new ValidatorDelayer<>((javaTextDocument) -> {
-			triggerValidationFor(javaTextDocument);
-		});
+		this.propertyReferences = new JavaPropertyReferences();
+		this.validatorDelayer = new ValidatorDelayer<JavaTextDocument>((javaTextDocument) -> {
+			return triggerValidationFor(javaTextDocument);
+		}, ValidatorDelayer.DEFAULT_MIN_VALIDATION_DELAY_MS, ValidatorDelayer.DEFAULT_MAX_VALIDATION_DELAY_MS);
 	}
 
 	// ------------------------------ did* for Java file -------------------------
@@ -119,6 +124,7 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 		documents.onDidCloseTextDocument(params);
 		String uri = params.getTextDocument().getUri();
 		validatorDelayer.cleanPendingValidation(uri);
+		propertyReferences.remove(uri);
 		microprofileLanguageServer.getLanguageClient()
 				.publishDiagnostics(new PublishDiagnosticsParams(uri, new ArrayList<Diagnostic>()));
 	}
@@ -134,13 +140,15 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 	@Override
 	public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(CompletionParams params) {
 		JavaTextDocument document = documents.get(params.getTextDocument().getUri());
+		int version = document.getVersion();
 		return document.executeIfInMicroProfileProject((projectInfo, cancelChecker) -> {
 			MicroProfileJavaCompletionParams javaParams = new MicroProfileJavaCompletionParams(
 					params.getTextDocument().getUri(), params.getPosition());
+			javaParams.setVersion(version);
 
 			// get the completion capabilities from the java language server component
-			CompletableFuture<MicroProfileJavaCompletionResult> javaParticipantCompletionsFuture = microprofileLanguageServer
-					.getLanguageClient().getJavaCompletion(javaParams);
+			CompletableFuture<MicroProfileJavaCompletionResult> javaParticipantCompletionsFuture = document
+					.trackRequest(microprofileLanguageServer.getLanguageClient().getJavaCompletion(javaParams), version);
 
 			// calculate params for Java snippets
 			Integer completionOffset = null;
@@ -153,6 +161,7 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 			final Integer finalizedCompletionOffset = completionOffset;
 			boolean canSupportMarkdown = true;
 			boolean snippetsSupported = sharedSettings.getCompletionCapabilities().isCompletionSnippetsSupported();
+			boolean resolveSupported = sharedSettings.getCompletionCapabilities().isCompletionResolveSupported();
 
 			cancelChecker.checkCanceled();
 
@@ -168,7 +177,7 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 
 				// calculate the snippet completion items based on the context
 				List<CompletionItem> snippetCompletionItems = documents.getSnippetRegistry().getCompletionItems(document, finalizedCompletionOffset,
-						canSupportMarkdown, snippetsSupported, (context, model) -> {
+						canSupportMarkdown, snippetsSupported, resolveSupported, (context, model) -> {
 							if (context != null && context instanceof SnippetContextForJava) {
 								return ((SnippetContextForJava) context)
 										.isMatch(new JavaSnippetCompletionContext(projectInfo, cursorContext));
@@ -186,12 +195,28 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 		}, Either.forLeft(Collections.emptyList()));
 	}
 
+	@Override
+	public CompletableFuture<CompletionItem> resolveCompletionItem(CompletionItem unresolved) {
+		return CompletableFuture.completedFuture(documents.getSnippetRegistry().resolveCompletionItem(unresolved));
+	}
+
 	// ------------------------------ Code Lens ------------------------------
 
 	public void updateCodeLensSettings(MicroProfileCodeLensSettings newCodeLens) {
 		sharedSettings.getCodeLensSettings().setUrlCodeLensEnabled(newCodeLens.isUrlCodeLensEnabled());
 	}
 
+	public void javaCodeLensChanged() {
+		if (!sharedSettings.getCodeLensSettings().isUrlCodeLensEnabled() || documents.all().isEmpty()) {
+			return;
+		}
+		if (microprofileLanguageServer.getCapabilityManager().getClientCapabilities().isCodeLensRefreshSupported()) {
+			// The server availability changed, ask the client to refresh the code lens of
+			// the opened Java files
+			microprofileLanguageServer.getLanguageClient().refreshCodeLenses();
+		}
+	}
+
 	@Override
 	public CompletableFuture<List<? extends CodeLens>> codeLens(CodeLensParams params) {
 		boolean urlCodeLensEnabled = sharedSettings.getCodeLensSettings().isUrlCodeLensEnabled();
@@ -200,9 +225,11 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 			return CompletableFuture.completedFuture(Collections.emptyList());
 		}
 		JavaTextDocument document = documents.get(params.getTextDocument().getUri());
+		int version = document.getVersion();
 		return document.executeIfInMicroProfileProject((projectInfo, cancelChecker) -> {
 			MicroProfileJavaCodeLensParams javaParams = new MicroProfileJavaCodeLensParams(
 					params.getTextDocument().getUri());
+			javaParams.setVersion(version);
 			if (sharedSettings.getCommandCapabilities().isCommandSupported(CommandKind.COMMAND_OPEN_URI)) {
 				javaParams.setOpenURICommand(CommandKind.COMMAND_OPEN_URI);
 			}
@@ -210,7 +237,8 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 			javaParams.setUrlCodeLensEnabled(urlCodeLensEnabled);
 			// javaParams.setLocalServerPort(8080); // TODO : manage this server port from
 			// the settings
-			return microprofileLanguageServer.getLanguageClient().getJavaCodelens(javaParams);
+			return document.trackRequest(microprofileLanguageServer.getLanguageClient().getJavaCodelens(javaParams),
+					version);
 		}, Collections.emptyList());
 	}
 
@@ -258,10 +286,13 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 	public CompletableFuture<Either<List<? extends Location>, List<? extends LocationLink>>> definition(
 			DefinitionParams params) {
 		JavaTextDocument document = documents.get(params.getTextDocument().getUri());
+		int version = document.getVersion();
 		return document.executeIfInMicroProfileProject((projectinfo, cancelChecker) -> {
 			MicroProfileJavaDefinitionParams javaParams = new MicroProfileJavaDefinitionParams(
 					params.getTextDocument().getUri(), params.getPosition());
-			return microprofileLanguageServer.getLanguageClient().getJavaDefinition(javaParams)
+			javaParams.setVersion(version);
+			return document
+					.trackRequest(microprofileLanguageServer.getLanguageClient().getJavaDefinition(javaParams), version)
 					.thenApply(definitions -> {
 						cancelChecker.checkCanceled();
 						List<LocationLink> locations = definitions.stream() //
@@ -277,9 +308,14 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 											PropertiesModel model = propertiesModelProvider
 													.getPropertiesModel(documentURI);
 											if (model == null) {
-												model = PropertiesFileUtils.loadProperties(documentURI);
-											}
-											if (model != null) {
+												// The properties file is not opened, use the cached and indexed
+												// model of the file
+												Property property = PropertiesModelCache.getInstance()
+														.getProperty(documentURI, propertyName);
+												if (property != null) {
+													targetRange = PositionUtils.createRange(property.getKey());
+												}
+											} else {
 												for (Node node : model.getChildren()) {
 													if (node.getNodeType() == Node.NodeType.PROPERTY) {
 														Property property = (Property) node;
@@ -316,13 +352,16 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 	@Override
 	public CompletableFuture<Hover> hover(HoverParams params) {
 		JavaTextDocument document = documents.get(params.getTextDocument().getUri());
+		int version = document.getVersion();
 		return document.executeIfInMicroProfileProject((projectinfo, cancelChecker) -> {
 			boolean markdownSupported = sharedSettings.getHoverSettings().isContentFormatSupported(MarkupKind.MARKDOWN);
 			boolean surroundEqualsWithSpaces = sharedSettings.getFormattingSettings().isSurroundEqualsWithSpaces();
 			DocumentFormat documentFormat = markdownSupported ? DocumentFormat.Markdown : DocumentFormat.PlainText;
 			MicroProfileJavaHoverParams javaParams = new MicroProfileJavaHoverParams(params.getTextDocument().getUri(),
 					params.getPosition(), documentFormat, surroundEqualsWithSpaces);
-			return microprofileLanguageServer.getLanguageClient().getJavaHover(javaParams);
+			javaParams.setVersion(version);
+			return document.trackRequest(microprofileLanguageServer.getLanguageClient().getJavaHover(javaParams),
+					version);
 		}, null);
 	}
 
@@ -332,7 +371,7 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 		if (delay) {
 			validatorDelayer.validateWithDelay(javaTextDocument);
 		} else {
-			triggerValidationFor(javaTextDocument);
+			validatorDelayer.validateNow(javaTextDocument);
 		}
 	}
 
@@ -340,12 +379,18 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 	 * Validate the given opened Java file.
 	 *
 	 * @param document                  the opened Java file.
+	 * @return the future of the validation.
 	 */
-	private void triggerValidationFor(JavaTextDocument document) {
-		document.executeIfInMicroProfileProject((projectinfo, cancelChecker) -> {
+	private CompletableFuture<Void> triggerValidationFor(JavaTextDocument document) {
+		int version = document.getVersion();
+		return document.executeIfInMicroProfileProject((projectinfo, cancelChecker) -> {
 			String uri = document.getUri();
-			triggerValidationFor(Arrays.asList(uri));
-			return null;
+			MicroProfileJavaDiagnosticsParams javaParams = createJavaDiagnosticsParams(Arrays.asList(uri));
+			javaParams.setVersion(version);
+			// The diagnostics request is cancelled when a newer version of the Java file
+			// is received.
+			return publishDiagnostics(document.trackRequest(
+					microprofileLanguageServer.getLanguageClient().getJavaDiagnostics(javaParams), version));
 		}, null, true);
 	}
 
@@ -370,6 +415,11 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 		if (uris.isEmpty()) {
 			return;
 		}
+		MicroProfileJavaDiagnosticsParams javaParams = createJavaDiagnosticsParams(uris);
+		publishDiagnostics(microprofileLanguageServer.getLanguageClient().getJavaDiagnostics(javaParams));
+	}
+
+	private MicroProfileJavaDiagnosticsParams createJavaDiagnosticsParams(List<String> uris) {
 		List<String> excludedUnassignedProperties = sharedSettings.getValidationSettings().getUnassigned()
 				.getExcluded();
 		MicroProfileJavaDiagnosticsParams javaParams = new MicroProfileJavaDiagnosticsParams(uris,
@@ -378,25 +428,48 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 		if (markdownSupported) {
 			javaParams.setDocumentFormat(DocumentFormat.Markdown);
 		}
-		microprofileLanguageServer.getLanguageClient().getJavaDiagnostics(javaParams) //
-				.thenApply(diagnostics -> {
+		return javaParams;
+	}
+
+	private CompletableFuture<Void> publishDiagnostics(
+			CompletableFuture<List<MicroProfileJavaPublishDiagnosticsParams>> diagnosticsFuture) {
+		return diagnosticsFuture //
+				.thenAccept(diagnostics -> {
 					if (diagnostics == null) {
-						return null;
+						return;
 					}
-					for (PublishDiagnosticsParams diagnostic : diagnostics) {
-						microprofileLanguageServer.getLanguageClient().publishDiagnostics(diagnostic);
+					for (MicroProfileJavaPublishDiagnosticsParams diagnostic : diagnostics) {
+						String uri = diagnostic.getUri();
+						if (documents.get(uri) != null) {
+							// Track the properties used by the diagnostics of the opened Java file
+							propertyReferences.update(uri, diagnostic.getReferencedPropertyNames());
+						}
+						microprofileLanguageServer.getLanguageClient().publishDiagnostics(
+								new PublishDiagnosticsParams(uri, diagnostic.getDiagnostics(), diagnostic.getVersion()));
 					}
-					return null;
 				});
 	}
 
 	public void propertiesChanged(MicroProfilePropertiesChangeEvent event) {
-		if (documents.propertiesChanged(event) || MicroProfilePropertiesScope.isOnlyConfigFiles(event.getType())) {
-			// Classpath changed or some properties config files (ex :
-			// microprofile-config.properties) has been
-			// saved, revalidate all opened java files.
-			triggerValidationForAll(null);
-		}
+		// The project infos are evicted in the notification thread to avoid using
+		// stale infos in the next requests, the revalidation is done in background.
+		boolean projectChanged = documents.propertiesChanged(event);
+		LanguageServerScheduler.getInstance().runAsync(Priority.BACKGROUND, null, () -> {
+			if (MicroProfilePropertiesScope.isOnlyConfigFiles(event.getType())
+					&& event.getChangedPropertyNames() != null) {
+				// Some properties config files (ex : microprofile-config.properties) has been
+				// saved, revalidate only the opened java files which depend on the changed
+				// properties.
+				triggerValidationFor(propertyReferences.getAffectedFiles(documents.all().stream() //
+						.map(TextDocument::getUri) //
+						.collect(Collectors.toList()), event.getChangedPropertyNames()));
+			} else if (projectChanged || MicroProfilePropertiesScope.isOnlyConfigFiles(event.getType())) {
+				// Classpath changed or some properties config files (ex :
+				// microprofile-config.properties) has been
+				// saved, revalidate all opened java files.
+				triggerValidationForAll(null);
+			}
+		});
 	}
 
 	public void updateValidationSettings(MicroProfileValidationSettings newValidation) {
@@ -0,0 +1,116 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.java;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the MicroProfile config properties which are used to compute the
+ * diagnostics of the opened Java files.
+ *
+ * <p>
+ * The index is updated with the diagnostics result of each Java file and is
+ * used to validate only the Java files which depend on the properties changed
+ * in a config file (ex : application.properties).
+ * </p>
+ *
+ */
+class JavaPropertyReferences {
+
+	private final Map<String /* Java file URI */, Set<String>> propertiesByFile;
+
+	private final Map<String /* property name */, Set<String>> filesByProperty;
+
+	public JavaPropertyReferences() {
+		this.propertiesByFile = new HashMap<>();
+		this.filesByProperty = new HashMap<>();
+	}
+
+	/**
+	 * Update the properties referenced by the given Java file.
+	 *
+	 * @param uri           the Java file URI.
+	 * @param propertyNames the referenced property names and null if they are
+	 *                      unknown.
+	 */
+	public synchronized void update(String uri, Set<String> propertyNames) {
+		remove(uri);
+		if (propertyNames == null) {
+			return;
+		}
+		propertiesByFile.put(uri, new HashSet<>(propertyNames));
+		for (String propertyName : propertyNames) {
+			filesByProperty.computeIfAbsent(propertyName, k -> new HashSet<>()).add(uri);
+		}
+	}
+
+	/**
+	 * Remove the references of the given Java file.
+	 *
+	 * @param uri the Java file URI.
+	 */
+	public synchronized void remove(String uri) {
+		Set<String> propertyNames = propertiesByFile.remove(uri);
+		if (propertyNames == null) {
+			return;
+		}
+		for (String propertyName : propertyNames) {
+			Set<String> uris = filesByProperty.get(propertyName);
+			if (uris != null) {
+				uris.remove(uri);
+				if (uris.isEmpty()) {
+					filesByProperty.remove(propertyName);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the Java files, among the given files, whose diagnostics must be
+	 * computed again when the given properties change.
+	 *
+	 * <p>
+	 * A Java file whose references are unknown (not yet validated or validated by
+	 * a Java component which doesn't report references) is always affected.
+	 * </p>
+	 *
+	 * @param uris                 the Java file URIs.
+	 * @param changedPropertyNames the changed property names.
+	 * @return the Java files, among the given files, whose diagnostics must be
+	 *         computed again when the given properties change.
+	 */
+	public synchronized List<String> getAffectedFiles(Collection<String> uris,
+			Collection<String> changedPropertyNames) {
+		Set<String> referencingFiles = new HashSet<>();
+		for (String changedPropertyName : changedPropertyNames) {
+			Set<String> files = filesByProperty.get(changedPropertyName);
+			if (files != null) {
+				referencingFiles.addAll(files);
+			}
+		}
+		List<String> affectedFiles = new ArrayList<>();
+		for (String uri : uris) {
+			if (referencingFiles.contains(uri) || !propertiesByFile.containsKey(uri)) {
+				affectedFiles.add(uri);
+			}
+		}
+		return affectedFiles;
+	}
+}
@@ -140,6 +140,20 @@ public class JavaTextDocumentSnippetRegistry extends TextDocumentSnippetRegistry
 	public List<CompletionItem> getCompletionItems(JavaTextDocument document, int completionOffset,
 			boolean canSupportMarkdown, boolean snippetsSupported,
 			BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter, ProjectLabelInfoEntry projectInfo) {
+		return getCompletionItems(document, completionOffset, canSupportMarkdown, snippetsSupported, false,
+				contextFilter, projectInfo);
+	}
+
+	public List<CompletionItem> getCompletionItems(JavaTextDocument document, int completionOffset,
+			boolean canSupportMarkdown, boolean snippetsSupported, boolean resolveSupported,
+			BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter, ProjectLabelInfoEntry projectInfo) {
+		// The model is only created if some snippets match the word at the completion
+		// offset
+		return super.getCompletionItems(document, completionOffset, canSupportMarkdown, snippetsSupported,
+				resolveSupported, contextFilter, () -> createModel(document, projectInfo));
+	}
+
+	private static Map<String, String> createModel(JavaTextDocument document, ProjectLabelInfoEntry projectInfo) {
 		Map<String, String> model = new HashMap<>();
 		String packageStatement = "";
 		String packageName = document.getPackageName();
@@ -168,8 +182,7 @@ public class JavaTextDocumentSnippetRegistry extends TextDocumentSnippetRegistry
 		model.put(EE_NAMESPACE_KEY, projectInfo.getLabels().contains(JavaTextDocumentSnippetRegistry.JAKARTA_FLAG_TYPE)
 				? JavaTextDocumentSnippetRegistry.JAKARTA_VALUE
 				: JavaTextDocumentSnippetRegistry.JAVAX_VALUE);
-		return super.getCompletionItems(document, completionOffset, canSupportMarkdown, snippetsSupported,
-				contextFilter, model);
+		return model;
 	}
 
 }
@@ -36,9 +36,12 @@ import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.ProjectLabelInfoEntry;
 import org.eclipse.lsp4mp.ls.api.MicroProfileJavaFileInfoProvider;
 import org.eclipse.lsp4mp.ls.api.MicroProfileJavaProjectLabelsProvider;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerScheduler;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerScheduler.Priority;
 import org.eclipse.lsp4mp.ls.commons.TextDocument;
 import org.eclipse.lsp4mp.ls.commons.TextDocuments;
 import org.eclipse.lsp4mp.ls.java.JavaTextDocuments.JavaTextDocument;
+import org.eclipse.lsp4mp.ls.statistics.ServerStatistics;
 
 /**
  * Java Text documents registry which manages opened Java file.
@@ -78,11 +81,48 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 
 		private CompletableFuture<JavaFileInfo> fileInfoFuture;
 
+		private final Map<CompletableFuture<?>, Integer /* document version */> pendingRequests;
+
 		public JavaTextDocument(TextDocumentItem document) {
 			super(document);
+			this.pendingRequests = new ConcurrentHashMap<>();
 			collectFileInfo();
 		}
 
+		@Override
+		public void setVersion(int version) {
+			super.setVersion(version);
+			// A new version of the Java file is received, cancel the JDT LS requests
+			// which have been sent for the previous versions.
+			pendingRequests.forEach((request, requestVersion) -> {
+				if (requestVersion < version) {
+					request.cancel(true);
+				}
+			});
+		}
+
+		/**
+		 * Track the given JDT LS request sent for the given version of the Java file
+		 * to cancel it when a newer version of the Java file is received.
+		 *
+		 * @param <T>     the type of the request result.
+		 * @param request the JDT LS request.
+		 * @param version the version of the Java file when the request was sent.
+		 * @return the given request.
+		 */
+		public <T> CompletableFuture<T> trackRequest(CompletableFuture<T> request, int version) {
+			if (request.isDone()) {
+				return request;
+			}
+			pendingRequests.put(request, version);
+			request.whenComplete((result, error) -> pendingRequests.remove(request));
+			if (getVersion() > version) {
+				// the Java file has been updated before the request was tracked
+				request.cancel(true);
+			}
+			return request;
+		}
+
 		/**
 		 * Collect Java file information (ex : package name) from the JDT LS side.
 		 */
@@ -261,10 +301,12 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 			});
 			// cache the future in the document level.
 			documentCache.put(documentURI, future);
+			ServerStatistics.getInstance().recordCacheAccess("projectLabels", false);
 			return future;
 		}
 
 		// Returns the cached project info
+		ServerStatistics.getInstance().recordCacheAccess("projectLabels", true);
 		return projectInfo;
 	}
 
@@ -348,7 +390,8 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 
 	private static <R> CompletableFuture<R> computeAsyncCompose(Function<CancelChecker, CompletableFuture<R>> code) {
 		CompletableFuture<CancelChecker> start = new CompletableFuture<>();
-		CompletableFuture<R> result = start.thenComposeAsync(code);
+		CompletableFuture<R> result = start.thenComposeAsync(code,
+				LanguageServerScheduler.getInstance().getExecutor(Priority.INTERACTIVE));
 		start.complete(new FutureCancelChecker(result));
 		return result;
 	}
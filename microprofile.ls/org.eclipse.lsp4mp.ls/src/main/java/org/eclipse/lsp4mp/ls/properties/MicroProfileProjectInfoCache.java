@@ -30,6 +30,7 @@ import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.eclipse.lsp4mp.ls.api.MicroProfileProjectInfoProvider;
+import org.eclipse.lsp4mp.ls.statistics.ServerStatistics;
 
 /**
  * MicroProfile project information cache.
@@ -72,6 +73,7 @@ class MicroProfileProjectInfoCache {
 		CompletableFuture<MicroProfileProjectInfo> projectInfo = cache.get(params.getUri());
 		if (projectInfo == null || projectInfo.isCancelled() || projectInfo.isCompletedExceptionally()) {
 			// not found in the cache, load the project info from the JDT LS Extension
+			ServerStatistics.getInstance().recordCacheAccess("projectInfo", false);
 			params.setScopes(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
 			CompletableFuture<MicroProfileProjectInfo> future = provider.getProjectInfo(params). //
 					thenApply(info -> new ExtendedMicroProfileProjectInfo(info));
@@ -80,10 +82,12 @@ class MicroProfileProjectInfoCache {
 			return future;
 		}
 		if (!projectInfo.isDone()) {
+			ServerStatistics.getInstance().recordCacheAccess("projectInfo", true);
 			return projectInfo;
 		}
 
 		ExtendedMicroProfileProjectInfo wrapper = getProjectInfoWrapper(projectInfo);
+		ServerStatistics.getInstance().recordCacheAccess("projectInfo", !wrapper.isReloadFromSource());
 		if (wrapper.isReloadFromSource()) {
 			// There are some java sources changed, get the MicroProfile properties from
 			// java
@@ -58,6 +58,8 @@ import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.ls.AbstractTextDocumentService;
 import org.eclipse.lsp4mp.ls.MicroProfileLanguageServer;
 import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageServerAPI.JsonSchemaForProjectInfo;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerScheduler;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerScheduler.Priority;
 import org.eclipse.lsp4mp.ls.commons.ModelTextDocument;
 import org.eclipse.lsp4mp.ls.commons.ModelTextDocuments;
 import org.eclipse.lsp4mp.ls.commons.ValidatorDelayer;
@@ -93,8 +95,8 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 			return PropertiesModel.parse(document, cancelChecker);
 		});
 		this.validatorDelayer = new ValidatorDelayer<ModelTextDocument<PropertiesModel>>((document) -> {
-			triggerValidationFor(document);
-		});
+			return triggerValidationFor(document);
+		}, ValidatorDelayer.DEFAULT_MIN_VALIDATION_DELAY_MS, ValidatorDelayer.DEFAULT_MAX_VALIDATION_DELAY_MS);
 	}
 
 	@Override
@@ -120,7 +122,10 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 
 	@Override
 	public void didSave(DidSaveTextDocumentParams params) {
-
+		ModelTextDocument<PropertiesModel> document = documents.get(params.getTextDocument().getUri());
+		if (document != null) {
+			validate(document, false);
+		}
 	}
 
 	@Override
@@ -144,6 +149,12 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		});
 	}
 
+	@Override
+	public CompletableFuture<CompletionItem> resolveCompletionItem(CompletionItem unresolved) {
+		return CompletableFuture
+				.completedFuture(getPropertiesFileLanguageService().resolveCompletionItem(unresolved));
+	}
+
 	@Override
 	public CompletableFuture<Hover> hover(HoverParams params) {
 		return getPropertiesModelCompose(params.getTextDocument(), (document, cancelChecker) -> {
@@ -289,13 +300,11 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		if (delay) {
 			this.validatorDelayer.validateWithDelay(model);
 		} else {
-			CompletableFuture.runAsync(() -> {
-				triggerValidationFor(model);
-			});
+			this.validatorDelayer.validateNow(model);
 		}
 	}
 
-	private void triggerValidationFor(ModelTextDocument<PropertiesModel> model) {
+	private CompletableFuture<?> triggerValidationFor(ModelTextDocument<PropertiesModel> model) {
 		PropertiesModel propertiesModel = model.getModel();
 		CancelChecker cancelChecker = propertiesModel.getCancelChecker();
 		cancelChecker.checkCanceled();
@@ -308,13 +317,12 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		MicroProfileProjectInfo projectInfo = projectInfoFuture.getNow(PROJECT_INFO_LOADING);
 		if (isProjectInfoLoading(projectInfo)) {
 			// The project is loading, wait for project loading and trigger the validation.
-			projectInfoFuture.thenComposeAsync(loadedProjectInfo -> {
+			return projectInfoFuture.thenComposeAsync(loadedProjectInfo -> {
 				return triggerValidationFor(propertiesModel, loadedProjectInfo, cancelChecker);
-			});
-		} else {
-			// The project is loaded, trigger the validation.
-			triggerValidationFor(propertiesModel, projectInfo, cancelChecker);
+			}, LanguageServerScheduler.getInstance().getExecutor(Priority.DIAGNOSTICS));
 		}
+		// The project is loaded, trigger the validation.
+		return triggerValidationFor(propertiesModel, projectInfo, cancelChecker).toCompletableFuture();
 	}
 
 	private CompletionStage<Object> triggerValidationFor(PropertiesModel propertiesModel,
@@ -329,7 +337,7 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		cancelChecker.checkCanceled();
 		microprofileLanguageServer.getLanguageClient()
 				.publishDiagnostics(new PublishDiagnosticsParams(propertiesModel.getDocumentURI(), diagnostics));
-		return null;
+		return CompletableFuture.completedFuture(null);
 	}
 
 	private static boolean isProjectInfoLoading(MicroProfileProjectInfo projectInfo) {
@@ -364,13 +372,20 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 	}
 
 	public void propertiesChanged(MicroProfilePropertiesChangeEvent event) {
+		// The project infos are evicted in the notification thread to avoid using
+		// stale infos in the next requests, the revalidation is done in background.
 		Collection<String> uris = getProjectInfoCache().propertiesChanged(event);
-		for (String uri : uris) {
-			ModelTextDocument<PropertiesModel> document = getDocument(uri);
-			if (document != null) {
-				triggerValidationFor(document);
-			}
+		if (uris.isEmpty()) {
+			return;
 		}
+		LanguageServerScheduler.getInstance().runAsync(Priority.BACKGROUND, null, () -> {
+			for (String uri : uris) {
+				ModelTextDocument<PropertiesModel> document = getDocument(uri);
+				if (document != null) {
+					triggerValidationFor(document);
+				}
+			}
+		});
 	}
 
 	public void updateSymbolSettings(MicroProfileSymbolSettings newSettings) {
@@ -423,7 +438,7 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 	public CompletableFuture<JsonSchemaForProjectInfo> getJsonSchemaForProjectInfo(
 			MicroProfileProjectInfoParams params) {
 		return getProjectInfoCache().getProjectInfo(params).thenApply(info -> {
-			String jsonSchema = JSONSchemaUtils.toJSONSchema(info, true);
+			String jsonSchema = JSONSchemaUtils.getJSONSchema(info, true);
 			return new JsonSchemaForProjectInfo(info.getProjectURI(), jsonSchema);
 		});
 	}
@@ -0,0 +1,227 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.properties;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4mp.ls.statistics.ServerStatistics;
+import org.eclipse.lsp4mp.model.Node;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.model.Property;
+import org.eclipse.lsp4mp.utils.IOUtils;
+
+/**
+ * Cache of the parsed properties files which are not opened in the editor (ex
+ * : application.properties of a Java project used by the Java definition).
+ *
+ * <p>
+ * A cached model is indexed by property name (with profile) and is reused
+ * while the last modified time and the size of the file don't change. The
+ * cache is bounded and evicts the least recently used models.
+ * </p>
+ *
+ */
+public class PropertiesModelCache {
+
+	private static final Logger LOGGER = Logger.getLogger(PropertiesModelCache.class.getName());
+
+	private static final int DEFAULT_CACHE_SIZE = 64;
+
+	private static final PropertiesModelCache INSTANCE = new PropertiesModelCache(DEFAULT_CACHE_SIZE);
+
+	public static PropertiesModelCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Parsed properties file with its file stamp.
+	 */
+	private static class CachedPropertiesModel {
+
+		private final PropertiesModel model;
+
+		private final long lastModified;
+
+		private final long size;
+
+		private Map<String, Property> properties;
+
+		public CachedPropertiesModel(PropertiesModel model, long lastModified, long size) {
+			this.model = model;
+			this.lastModified = lastModified;
+			this.size = size;
+		}
+
+		public boolean isUpToDate(BasicFileAttributes attributes) {
+			return attributes.lastModifiedTime().toMillis() == lastModified && attributes.size() == size;
+		}
+
+		public synchronized Property getProperty(String propertyNameWithProfile) {
+			if (properties == null) {
+				properties = new HashMap<>();
+				for (Node node : model.getChildren()) {
+					if (node.getNodeType() == Node.NodeType.PROPERTY) {
+						Property property = (Property) node;
+						String key = property.getPropertyNameWithProfile();
+						if (key != null) {
+							// the last declared property wins
+							properties.put(key, property);
+						}
+					}
+				}
+			}
+			return properties.get(propertyNameWithProfile);
+		}
+	}
+
+	private final Map<String, CachedPropertiesModel> cache;
+
+	PropertiesModelCache(int cacheSize) {
+		this.cache = new LinkedHashMap<String, CachedPropertiesModel>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedPropertiesModel> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * Returns the properties model of the given document URI and null if the
+	 * file cannot be loaded.
+	 *
+	 * @param documentURI the properties file URI.
+	 * @return the properties model of the given document URI and null if the
+	 *         file cannot be loaded.
+	 */
+	public PropertiesModel getModel(String documentURI) {
+		CachedPropertiesModel cached = getCachedModel(documentURI);
+		if (cached != null) {
+			return cached.model;
+		}
+		return load(documentURI);
+	}
+
+	/**
+	 * Returns the property declared with the given name (with profile) in the
+	 * properties file of the given document URI and null otherwise.
+	 *
+	 * @param documentURI             the properties file URI.
+	 * @param propertyNameWithProfile the property name with profile (ex :
+	 *                                %dev.quarkus.http.port).
+	 * @return the property declared with the given name (with profile) in the
+	 *         properties file of the given document URI and null otherwise.
+	 */
+	public Property getProperty(String documentURI, String propertyNameWithProfile) {
+		CachedPropertiesModel cached = getCachedModel(documentURI);
+		if (cached != null) {
+			return cached.getProperty(propertyNameWithProfile);
+		}
+		PropertiesModel model = load(documentURI);
+		return model != null ? new CachedPropertiesModel(model, -1, -1).getProperty(propertyNameWithProfile) : null;
+	}
+
+	/**
+	 * Evict the cached model of the given document URI.
+	 *
+	 * @param documentURI the properties file URI.
+	 */
+	public void evict(String documentURI) {
+		Path path = getPath(documentURI);
+		if (path != null) {
+			synchronized (cache) {
+				cache.remove(path.toString());
+			}
+		}
+	}
+
+	/**
+	 * Evict all cached models.
+	 */
+	public void evictAll() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+
+	private CachedPropertiesModel getCachedModel(String documentURI) {
+		Path path = getPath(documentURI);
+		if (path == null) {
+			// Not a file URI, the model is not cached
+			return null;
+		}
+		BasicFileAttributes attributes = null;
+		try {
+			attributes = Files.readAttributes(path, BasicFileAttributes.class);
+		} catch (IOException e) {
+			// The file doesn't exist
+			evict(documentURI);
+			return null;
+		}
+		String key = path.toString();
+		synchronized (cache) {
+			CachedPropertiesModel cached = cache.get(key);
+			if (cached != null && cached.isUpToDate(attributes)) {
+				ServerStatistics.getInstance().recordCacheAccess("propertiesModel", true);
+				return cached;
+			}
+		}
+		ServerStatistics.getInstance().recordCacheAccess("propertiesModel", false);
+		PropertiesModel model = load(documentURI);
+		if (model == null) {
+			return null;
+		}
+		CachedPropertiesModel cached = new CachedPropertiesModel(model, attributes.lastModifiedTime().toMillis(),
+				attributes.size());
+		synchronized (cache) {
+			cache.put(key, cached);
+		}
+		return cached;
+	}
+
+	private static PropertiesModel load(String documentURI) {
+		try {
+			return PropertiesModel.parse(IOUtils.convertStreamToString(new URL(documentURI).openStream()),
+					documentURI, () -> {
+					});
+		} catch (Exception e) {
+			LOGGER.log(Level.SEVERE, "Error while loading properties file '" + documentURI + "'.", e);
+			return null;
+		}
+	}
+
+	private static Path getPath(String documentURI) {
+		if (documentURI == null || !documentURI.startsWith("file:")) {
+			return null;
+		}
+		try {
+			return Paths.get(new URI(documentURI)).toAbsolutePath().normalize();
+		} catch (Exception e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.statistics;
+
+/**
+ * Hit and miss counts of a cache.
+ *
+ */
+public class CacheStatistics {
+
+	private long hits;
+
+	private long misses;
+
+	private double hitRate;
+
+	public CacheStatistics() {
+
+	}
+
+	public CacheStatistics(long hits, long misses) {
+		this.hits = hits;
+		this.misses = misses;
+		long total = hits + misses;
+		this.hitRate = total > 0 ? (double) hits / total : 0;
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public void setHits(long hits) {
+		this.hits = hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	public void setMisses(long misses) {
+		this.misses = misses;
+	}
+
+	public double getHitRate() {
+		return hitRate;
+	}
+
+	public void setHitRate(double hitRate) {
+		this.hitRate = hitRate;
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.statistics;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder events of the MicroProfile language server.
+ *
+ * <p>
+ * This class must only be loaded when the Java runtime provides the JDK Flight
+ * Recorder API (see {@link ServerStatistics}).
+ * </p>
+ *
+ */
+class JfrEvents {
+
+	static final String MEASURE_EVENT_NAME = "org.eclipse.lsp4mp.Measure";
+
+	static final String CACHE_ACCESS_EVENT_NAME = "org.eclipse.lsp4mp.CacheAccess";
+
+	static final String QUEUE_DEPTH_EVENT_NAME = "org.eclipse.lsp4mp.QueueDepth";
+
+	@Name(MEASURE_EVENT_NAME)
+	@Label("Measure")
+	@Description("Request, notification or operation of the MicroProfile language server")
+	@Category("LSP4MP")
+	@StackTrace(false)
+	static class MeasureEvent extends Event {
+
+		@Label("Kind")
+		String kind;
+
+		@Label("Name")
+		String name;
+	}
+
+	@Name(CACHE_ACCESS_EVENT_NAME)
+	@Label("Cache Access")
+	@Description("Access to a cache of the MicroProfile language server")
+	@Category("LSP4MP")
+	@StackTrace(false)
+	static class CacheAccessEvent extends Event {
+
+		@Label("Cache")
+		String cache;
+
+		@Label("Hit")
+		boolean hit;
+	}
+
+	@Name(QUEUE_DEPTH_EVENT_NAME)
+	@Label("Queue Depth")
+	@Description("Number of pending items of a queue of the MicroProfile language server")
+	@Category("LSP4MP")
+	@Period("1 s")
+	@StackTrace(false)
+	static class QueueDepthEvent extends Event {
+
+		@Label("Queue")
+		String queue;
+
+		@Label("Depth")
+		int depth;
+	}
+
+	private JfrEvents() {
+	}
+
+	/**
+	 * Start a measure event and returns it or null if the event is disabled.
+	 */
+	static Object begin(String kind, String name) {
+		MeasureEvent event = new MeasureEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.kind = kind;
+		event.name = name;
+		event.begin();
+		return event;
+	}
+
+	static void commit(Object event) {
+		((MeasureEvent) event).commit();
+	}
+
+	static void cacheAccess(String cache, boolean hit) {
+		CacheAccessEvent event = new CacheAccessEvent();
+		if (event.isEnabled()) {
+			event.cache = cache;
+			event.hit = hit;
+			event.commit();
+		}
+	}
+
+	static void registerQueues(Supplier<Map<String, Integer>> queues) {
+		FlightRecorder.addPeriodicEvent(QueueDepthEvent.class, () -> {
+			for (Map.Entry<String, Integer> queue : queues.get().entrySet()) {
+				QueueDepthEvent event = new QueueDepthEvent();
+				event.queue = queue.getKey();
+				event.depth = queue.getValue();
+				event.commit();
+			}
+		});
+	}
+}
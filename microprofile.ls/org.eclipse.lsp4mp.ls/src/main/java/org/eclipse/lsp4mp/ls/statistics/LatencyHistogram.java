@@ -0,0 +1,130 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.statistics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of durations with fixed buckets which can be updated by several
+ * threads without locking.
+ *
+ */
+public class LatencyHistogram {
+
+	/**
+	 * Upper bounds (inclusive) in milliseconds of the buckets. The last bucket
+	 * contains the durations which are greater than the last bound.
+	 */
+	static final long[] BUCKET_UPPER_BOUNDS_MS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000 };
+
+	private static final long[] BUCKET_UPPER_BOUNDS_NANOS = new long[BUCKET_UPPER_BOUNDS_MS.length];
+
+	static {
+		for (int i = 0; i < BUCKET_UPPER_BOUNDS_MS.length; i++) {
+			BUCKET_UPPER_BOUNDS_NANOS[i] = TimeUnit.MILLISECONDS.toNanos(BUCKET_UPPER_BOUNDS_MS[i]);
+		}
+	}
+
+	private final AtomicLongArray buckets;
+
+	private final LongAdder count;
+
+	private final LongAdder totalNanos;
+
+	private final AtomicLong maxNanos;
+
+	public LatencyHistogram() {
+		this.buckets = new AtomicLongArray(BUCKET_UPPER_BOUNDS_MS.length + 1);
+		this.count = new LongAdder();
+		this.totalNanos = new LongAdder();
+		this.maxNanos = new AtomicLong();
+	}
+
+	/**
+	 * Record the given duration.
+	 *
+	 * @param durationNanos the duration in nanoseconds.
+	 */
+	public void record(long durationNanos) {
+		if (durationNanos < 0) {
+			durationNanos = 0;
+		}
+		buckets.incrementAndGet(getBucketIndex(durationNanos));
+		count.increment();
+		totalNanos.add(durationNanos);
+		long max = maxNanos.get();
+		while (durationNanos > max && !maxNanos.compareAndSet(max, durationNanos)) {
+			max = maxNanos.get();
+		}
+	}
+
+	private static int getBucketIndex(long durationNanos) {
+		for (int i = 0; i < BUCKET_UPPER_BOUNDS_NANOS.length; i++) {
+			if (durationNanos <= BUCKET_UPPER_BOUNDS_NANOS[i]) {
+				return i;
+			}
+		}
+		return BUCKET_UPPER_BOUNDS_NANOS.length;
+	}
+
+	/**
+	 * Returns the statistics of the recorded durations.
+	 *
+	 * @return the statistics of the recorded durations.
+	 */
+	public LatencyStatistics toStatistics() {
+		long[] bucketCounts = new long[buckets.length()];
+		long total = 0;
+		for (int i = 0; i < bucketCounts.length; i++) {
+			bucketCounts[i] = buckets.get(i);
+			total += bucketCounts[i];
+		}
+		LatencyStatistics statistics = new LatencyStatistics();
+		statistics.setCount(total);
+		statistics.setMeanMs(total > 0 ? toMillis(totalNanos.sum()) / count.sum() : 0);
+		statistics.setMaxMs(toMillis(maxNanos.get()));
+		statistics.setP50Ms(getPercentile(bucketCounts, total, 0.50));
+		statistics.setP95Ms(getPercentile(bucketCounts, total, 0.95));
+		statistics.setP99Ms(getPercentile(bucketCounts, total, 0.99));
+		statistics.setBucketUpperBoundsMs(BUCKET_UPPER_BOUNDS_MS.clone());
+		statistics.setBucketCounts(bucketCounts);
+		return statistics;
+	}
+
+	/**
+	 * Returns the upper bound of the bucket which contains the given percentile
+	 * and the max duration for the last bucket.
+	 */
+	private double getPercentile(long[] bucketCounts, long total, double percentile) {
+		if (total == 0) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(percentile * total);
+		long cumulated = 0;
+		for (int i = 0; i < BUCKET_UPPER_BOUNDS_MS.length; i++) {
+			cumulated += bucketCounts[i];
+			if (cumulated >= rank) {
+				return Math.min(BUCKET_UPPER_BOUNDS_MS[i], toMillis(maxNanos.get()));
+			}
+		}
+		return toMillis(maxNanos.get());
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000d;
+	}
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.statistics;
+
+/**
+ * Latency statistics of a request or an operation.
+ *
+ * <p>
+ * The percentiles are the upper bound of the histogram bucket which contains
+ * them.
+ * </p>
+ *
+ */
+public class LatencyStatistics {
+
+	private long count;
+
+	private double meanMs;
+
+	private double maxMs;
+
+	private double p50Ms;
+
+	private double p95Ms;
+
+	private double p99Ms;
+
+	private long[] bucketUpperBoundsMs;
+
+	private long[] bucketCounts;
+
+	public long getCount() {
+		return count;
+	}
+
+	public void setCount(long count) {
+		this.count = count;
+	}
+
+	public double getMeanMs() {
+		return meanMs;
+	}
+
+	public void setMeanMs(double meanMs) {
+		this.meanMs = meanMs;
+	}
+
+	public double getMaxMs() {
+		return maxMs;
+	}
+
+	public void setMaxMs(double maxMs) {
+		this.maxMs = maxMs;
+	}
+
+	public double getP50Ms() {
+		return p50Ms;
+	}
+
+	public void setP50Ms(double p50Ms) {
+		this.p50Ms = p50Ms;
+	}
+
+	public double getP95Ms() {
+		return p95Ms;
+	}
+
+	public void setP95Ms(double p95Ms) {
+		this.p95Ms = p95Ms;
+	}
+
+	public double getP99Ms() {
+		return p99Ms;
+	}
+
+	public void setP99Ms(double p99Ms) {
+		this.p99Ms = p99Ms;
+	}
+
+	/**
+	 * Returns the upper bounds (inclusive) in milliseconds of the histogram
+	 * buckets. The last bucket count is for the durations greater than the last
+	 * bound.
+	 *
+	 * @return the upper bounds in milliseconds of the histogram buckets.
+	 */
+	public long[] getBucketUpperBoundsMs() {
+		return bucketUpperBoundsMs;
+	}
+
+	public void setBucketUpperBoundsMs(long[] bucketUpperBoundsMs) {
+		this.bucketUpperBoundsMs = bucketUpperBoundsMs;
+	}
+
+	public long[] getBucketCounts() {
+		return bucketCounts;
+	}
+
+	public void setBucketCounts(long[] bucketCounts) {
+		this.bucketCounts = bucketCounts;
+	}
+}
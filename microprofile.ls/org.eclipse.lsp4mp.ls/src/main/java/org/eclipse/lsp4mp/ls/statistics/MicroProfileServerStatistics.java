@@ -0,0 +1,126 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.statistics;
+
+import java.util.Map;
+
+/**
+ * Runtime statistics of the MicroProfile language server returned by the
+ * 'microprofile/serverStatistics' request.
+ *
+ */
+public class MicroProfileServerStatistics {
+
+	private long uptimeMs;
+
+	private Map<String, LatencyStatistics> requests;
+
+	private Map<String, LatencyStatistics> notifications;
+
+	private Map<String, LatencyStatistics> clientRequests;
+
+	private Map<String, LatencyStatistics> operations;
+
+	private Map<String, CacheStatistics> caches;
+
+	private Map<String, Integer> queues;
+
+	public long getUptimeMs() {
+		return uptimeMs;
+	}
+
+	public void setUptimeMs(long uptimeMs) {
+		this.uptimeMs = uptimeMs;
+	}
+
+	/**
+	 * Returns the latencies of the requests sent by the client to the language
+	 * server, from the reception of the request to the response, by method.
+	 *
+	 * @return the latencies of the requests sent by the client to the language
+	 *         server.
+	 */
+	public Map<String, LatencyStatistics> getRequests() {
+		return requests;
+	}
+
+	public void setRequests(Map<String, LatencyStatistics> requests) {
+		this.requests = requests;
+	}
+
+	/**
+	 * Returns the processing durations of the notifications sent by the client to
+	 * the language server by method.
+	 *
+	 * @return the processing durations of the notifications sent by the client
+	 *         to the language server.
+	 */
+	public Map<String, LatencyStatistics> getNotifications() {
+		return notifications;
+	}
+
+	public void setNotifications(Map<String, LatencyStatistics> notifications) {
+		this.notifications = notifications;
+	}
+
+	/**
+	 * Returns the latencies of the requests sent by the language server to the
+	 * client (ex : project information, Java delegate commands) by method.
+	 *
+	 * @return the latencies of the requests sent by the language server to the
+	 *         client.
+	 */
+	public Map<String, LatencyStatistics> getClientRequests() {
+		return clientRequests;
+	}
+
+	public void setClientRequests(Map<String, LatencyStatistics> clientRequests) {
+		this.clientRequests = clientRequests;
+	}
+
+	/**
+	 * Returns the durations of the internal operations (parsing, validation,
+	 * write of the messages) by name.
+	 *
+	 * @return the durations of the internal operations by name.
+	 */
+	public Map<String, LatencyStatistics> getOperations() {
+		return operations;
+	}
+
+	public void setOperations(Map<String, LatencyStatistics> operations) {
+		this.operations = operations;
+	}
+
+	public Map<String, CacheStatistics> getCaches() {
+		return caches;
+	}
+
+	public void setCaches(Map<String, CacheStatistics> caches) {
+		this.caches = caches;
+	}
+
+	/**
+	 * Returns the number of pending items by queue name.
+	 *
+	 * @return the number of pending items by queue name.
+	 */
+	public Map<String, Integer> getQueues() {
+		return queues;
+	}
+
+	public void setQueues(Map<String, Integer> queues) {
+		this.queues = queues;
+	}
+}
@@ -0,0 +1,354 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.statistics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.StreamMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.messages.CancelParams;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+
+/**
+ * Runtime statistics of the MicroProfile language server: latencies of the
+ * requests and of the internal operations, cache hit rates and queue depths.
+ *
+ * <p>
+ * The measures are recorded without locking and are also emitted as JDK Flight
+ * Recorder events (when the Java runtime supports it), so a recording started
+ * with <code>jcmd &lt;pid&gt; JFR.start</code> gives the timeline of the
+ * language server.
+ * </p>
+ *
+ */
+public class ServerStatistics {
+
+	private static final Logger LOGGER = Logger.getLogger(ServerStatistics.class.getName());
+
+	private static final boolean JFR_AVAILABLE = isJfrAvailable();
+
+	private static final long DEFAULT_CLIENT_REQUEST_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
+
+	private static final ServerStatistics INSTANCE = createDefault();
+
+	public static ServerStatistics getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Kind of measure.
+	 */
+	public static enum Kind {
+
+		/**
+		 * Request sent by the client to the language server.
+		 */
+		REQUEST("request"),
+
+		/**
+		 * Notification sent by the client to the language server.
+		 */
+		NOTIFICATION("notification"),
+
+		/**
+		 * Request sent by the language server to the client.
+		 */
+		CLIENT_REQUEST("clientRequest"),
+
+		/**
+		 * Internal operation of the language server (parsing, validation, etc).
+		 */
+		OPERATION("operation");
+
+		private final String label;
+
+		private Kind(String label) {
+			this.label = label;
+		}
+
+		public String getLabel() {
+			return label;
+		}
+	}
+
+	/**
+	 * Measure of a request or an operation which is started.
+	 */
+	public static class Measure {
+
+		private final LatencyHistogram histogram;
+
+		private final long start;
+
+		private final Object event;
+
+		private Measure(LatencyHistogram histogram, Object event) {
+			this.histogram = histogram;
+			this.event = event;
+			this.start = System.nanoTime();
+		}
+
+		/**
+		 * End the measure.
+		 */
+		public void end() {
+			histogram.record(System.nanoTime() - start);
+			if (event != null) {
+				JfrEvents.commit(event);
+			}
+		}
+	}
+
+	/**
+	 * Hit and miss counters of a cache.
+	 */
+	private static class CacheCounter {
+
+		private final LongAdder hits = new LongAdder();
+
+		private final LongAdder misses = new LongAdder();
+	}
+
+	private final long startTime;
+
+	private final Map<Kind, Map<String, LatencyHistogram>> histograms;
+
+	private final Map<String, CacheCounter> caches;
+
+	private final Map<String, IntSupplier> queues;
+
+	private final Map<String /* request id */, Measure> pendingRequests;
+
+	private final Map<String /* request id */, Measure> pendingClientRequests;
+
+	private final long clientRequestTimeoutNanos;
+
+	public ServerStatistics() {
+		this(DEFAULT_CLIENT_REQUEST_TIMEOUT);
+	}
+
+	/**
+	 * Server statistics constructor.
+	 *
+	 * @param clientRequestTimeout the delay (in ms) after which a request sent to
+	 *                             the client which is not answered is no longer
+	 *                             measured.
+	 */
+	public ServerStatistics(long clientRequestTimeout) {
+		this.clientRequestTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(clientRequestTimeout);
+		this.startTime = System.currentTimeMillis();
+		this.histograms = new EnumMap<>(Kind.class);
+		for (Kind kind : Kind.values()) {
+			histograms.put(kind, new ConcurrentHashMap<>());
+		}
+		this.caches = new ConcurrentHashMap<>();
+		this.queues = new ConcurrentHashMap<>();
+		this.pendingRequests = new ConcurrentHashMap<>();
+		this.pendingClientRequests = new ConcurrentHashMap<>();
+		registerQueue("pendingRequests", pendingRequests::size);
+		registerQueue("pendingClientRequests", pendingClientRequests::size);
+	}
+
+	/**
+	 * Start the measure of the given request or operation.
+	 *
+	 * @param kind the kind of measure.
+	 * @param name the method name of the request or the operation name.
+	 * @return the started measure.
+	 */
+	public Measure start(Kind kind, String name) {
+		LatencyHistogram histogram = histograms.get(kind).computeIfAbsent(name, k -> new LatencyHistogram());
+		return new Measure(histogram, JFR_AVAILABLE ? JfrEvents.begin(kind.getLabel(), name) : null);
+	}
+
+	/**
+	 * Record an access to the given cache.
+	 *
+	 * @param cache the cache name.
+	 * @param hit   true if the cached value has been found and false otherwise.
+	 */
+	public void recordCacheAccess(String cache, boolean hit) {
+		CacheCounter counter = caches.computeIfAbsent(cache, k -> new CacheCounter());
+		if (hit) {
+			counter.hits.increment();
+		} else {
+			counter.misses.increment();
+		}
+		if (JFR_AVAILABLE) {
+			JfrEvents.cacheAccess(cache, hit);
+		}
+	}
+
+	/**
+	 * Register a queue whose depth is returned with the statistics.
+	 *
+	 * @param name  the queue name.
+	 * @param depth the supplier of the number of pending items of the queue.
+	 */
+	public void registerQueue(String name, IntSupplier depth) {
+		queues.put(name, depth);
+	}
+
+	/**
+	 * Returns the given message consumer which measures the latencies of the
+	 * messages it consumes.
+	 *
+	 * <p>
+	 * This method is designed to wrap the incoming and the outgoing message
+	 * consumers of the language server launcher: a request is measured from its
+	 * reception to the write of its response.
+	 * </p>
+	 *
+	 * @param consumer the message consumer to wrap.
+	 * @return the message consumer which measures the latencies of the messages.
+	 */
+	public MessageConsumer wrapMessageConsumer(MessageConsumer consumer) {
+		if (consumer instanceof StreamMessageConsumer) {
+			// Messages sent by the language server to the client
+			return message -> {
+				if (message instanceof RequestMessage) {
+					RequestMessage request = (RequestMessage) message;
+					removeExpiredClientRequests();
+					pendingClientRequests.put(request.getId(), start(Kind.CLIENT_REQUEST, request.getMethod()));
+				} else if (message instanceof NotificationMessage) {
+					NotificationMessage notification = (NotificationMessage) message;
+					if (MessageJsonHandler.CANCEL_METHOD.getMethodName().equals(notification.getMethod())
+							&& notification.getParams() instanceof CancelParams) {
+						// The request sent to the client is canceled, the client could never answer
+						pendingClientRequests.remove(((CancelParams) notification.getParams()).getId());
+					}
+				}
+				// The 'write' measure includes the JSON serialization, the wait for the output
+				// lock and the write to the output stream
+				Measure write = start(Kind.OPERATION, "write");
+				try {
+					consumer.consume(message);
+				} finally {
+					write.end();
+					if (message instanceof ResponseMessage) {
+						end(pendingRequests.remove(((ResponseMessage) message).getId()));
+					}
+				}
+			};
+		}
+		// Messages received by the language server from the client
+		return message -> {
+			if (message instanceof RequestMessage) {
+				RequestMessage request = (RequestMessage) message;
+				pendingRequests.put(request.getId(), start(Kind.REQUEST, request.getMethod()));
+				consumer.consume(message);
+			} else if (message instanceof ResponseMessage) {
+				end(pendingClientRequests.remove(((ResponseMessage) message).getId()));
+				consumer.consume(message);
+			} else if (message instanceof NotificationMessage) {
+				Measure measure = start(Kind.NOTIFICATION, ((NotificationMessage) message).getMethod());
+				try {
+					consumer.consume(message);
+				} finally {
+					measure.end();
+				}
+			} else {
+				consumer.consume(message);
+			}
+		};
+	}
+
+	/**
+	 * Remove the requests sent to the client which are not answered after the
+	 * timeout.
+	 */
+	private void removeExpiredClientRequests() {
+		if (pendingClientRequests.isEmpty()) {
+			return;
+		}
+		long now = System.nanoTime();
+		pendingClientRequests.values().removeIf(measure -> now - measure.start > clientRequestTimeoutNanos);
+	}
+
+	private static void end(Measure measure) {
+		if (measure != null) {
+			measure.end();
+		}
+	}
+
+	/**
+	 * Returns the statistics recorded since the start of the language server.
+	 *
+	 * @return the statistics recorded since the start of the language server.
+	 */
+	public MicroProfileServerStatistics getStatistics() {
+		MicroProfileServerStatistics statistics = new MicroProfileServerStatistics();
+		statistics.setUptimeMs(System.currentTimeMillis() - startTime);
+		statistics.setRequests(getLatencies(Kind.REQUEST));
+		statistics.setNotifications(getLatencies(Kind.NOTIFICATION));
+		statistics.setClientRequests(getLatencies(Kind.CLIENT_REQUEST));
+		statistics.setOperations(getLatencies(Kind.OPERATION));
+		Map<String, CacheStatistics> cacheStatistics = new TreeMap<>();
+		for (Map.Entry<String, CacheCounter> cache : caches.entrySet()) {
+			CacheCounter counter = cache.getValue();
+			cacheStatistics.put(cache.getKey(), new CacheStatistics(counter.hits.sum(), counter.misses.sum()));
+		}
+		statistics.setCaches(cacheStatistics);
+		statistics.setQueues(getQueueDepths());
+		return statistics;
+	}
+
+	private Map<String, LatencyStatistics> getLatencies(Kind kind) {
+		Map<String, LatencyStatistics> latencies = new TreeMap<>();
+		for (Map.Entry<String, LatencyHistogram> histogram : histograms.get(kind).entrySet()) {
+			latencies.put(histogram.getKey(), histogram.getValue().toStatistics());
+		}
+		return latencies;
+	}
+
+	private Map<String, Integer> getQueueDepths() {
+		Map<String, Integer> depths = new TreeMap<>();
+		for (Map.Entry<String, IntSupplier> queue : queues.entrySet()) {
+			depths.put(queue.getKey(), queue.getValue().getAsInt());
+		}
+		return depths;
+	}
+
+	private static ServerStatistics createDefault() {
+		ServerStatistics statistics = new ServerStatistics();
+		if (JFR_AVAILABLE) {
+			try {
+				JfrEvents.registerQueues(statistics::getQueueDepths);
+			} catch (Exception e) {
+				LOGGER.log(Level.WARNING, "Error while registering the JFR queue depth event", e);
+			}
+		}
+		return statistics;
+	}
+
+	private static boolean isJfrAvailable() {
+		try {
+			Class.forName("jdk.jfr.FlightRecorder");
+			return true;
+		} catch (Throwable e) {
+			return false;
+		}
+	}
+}
@@ -15,7 +15,10 @@ package org.eclipse.lsp4mp.model;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
@@ -162,11 +165,13 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 	private final TextDocument document;
 	private CancelChecker cancelChecker;
 	private transient Set<String> keys;
+	private final Map<Class<?>, Object> derivedViews;
 
 	PropertiesModel(TextDocument document, CancelChecker cancelChecker) {
 		this.document = document;
 		this.cancelChecker = cancelChecker;
 		this.keys = null;
+		this.derivedViews = new ConcurrentHashMap<>();
 	}
 
 	@Override
@@ -294,6 +299,28 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		return cancelChecker;
 	}
 
+	/**
+	 * Returns the view of the given type computed from this properties model (ex
+	 * : document symbols). The view is computed once since the model is parsed for
+	 * each version of the document.
+	 *
+	 * @param <T>     the view type.
+	 * @param type    the view type.
+	 * @param factory the factory used to compute the view.
+	 * @return the view of the given type computed from this properties model.
+	 */
+	public <T> T getDerivedView(Class<T> type, Function<PropertiesModel, T> factory) {
+		Object view = derivedViews.get(type);
+		if (view == null) {
+			view = factory.apply(this);
+			Object existingView = derivedViews.putIfAbsent(type, view);
+			if (existingView != null) {
+				view = existingView;
+			}
+		}
+		return type.cast(view);
+	}
+
 	@Override
 	public Set<String> keys() {
 		if (keys != null) {
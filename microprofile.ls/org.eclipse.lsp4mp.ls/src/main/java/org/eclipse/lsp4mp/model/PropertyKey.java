@@ -21,6 +21,14 @@ package org.eclipse.lsp4mp.model;
  */
 public class PropertyKey extends Node {
 
+	// the derived strings are computed once since the model is parsed for each
+	// version of the document
+	private String profile;
+
+	private String propertyName;
+
+	private String propertyNameWithProfile;
+
 	@Override
 	public NodeType getNodeType() {
 		return NodeType.PROPERTY_KEY;
@@ -37,6 +45,13 @@ public class PropertyKey extends Node {
 	 * @return the profile of the property key and null otherwise.
 	 */
 	public String getProfile() {
+		if (profile == null) {
+			profile = computeProfile();
+		}
+		return profile;
+	}
+
+	private String computeProfile() {
 		int profileEndOffset = getEndProfileOffset();
 		if (profileEndOffset != -1) {
 			String fulltext = getOwnerModel().getText();
@@ -63,6 +78,13 @@ public class PropertyKey extends Node {
 	 *         otherwise.
 	 */
 	public String getPropertyName() {
+		if (propertyName == null) {
+			propertyName = computePropertyName();
+		}
+		return propertyName;
+	}
+
+	private String computePropertyName() {
 		int profileEndOffset = getEndProfileOffset();
 		if (profileEndOffset != -1) {
 			int end = getEnd();
@@ -92,7 +114,10 @@ public class PropertyKey extends Node {
 	 *         otherwise.
 	 */
 	public String getPropertyNameWithProfile() {
-		return getText(true);
+		if (propertyNameWithProfile == null) {
+			propertyNameWithProfile = getText(true);
+		}
+		return propertyNameWithProfile;
 	}
 
 	/**
@@ -35,6 +35,8 @@ public class PropertyValueExpression extends BasePropertyValue {
 
 	private int defaultValueEndOffset = -1;
 
+	private String referencedPropertyName;
+
 	@Override
 	public NodeType getNodeType() {
 		return NodeType.PROPERTY_VALUE_EXPRESSION;
@@ -67,12 +69,16 @@ public class PropertyValueExpression extends BasePropertyValue {
 	 *         in the property expression.
 	 */
 	public String getReferencedPropertyName() {
+		if (referencedPropertyName != null) {
+			return referencedPropertyName;
+		}
 		parseExpressionIfNeeded();
 		if (referenceNameStartOffset != -1 && referenceNameEndOffset != -1
 				&& referenceNameStartOffset != referenceNameEndOffset) {
-			return super.getOwnerModel().getText(referenceNameStartOffset, referenceNameEndOffset, true);
+			referencedPropertyName = super.getOwnerModel().getText(referenceNameStartOffset, referenceNameEndOffset,
+					true);
 		}
-		return null;
+		return referencedPropertyName;
 	}
 
 	/**
@@ -107,10 +107,6 @@ class PropertiesFileCodeActions {
 	 * Creation code action for 'unknown' property by searching similar name from
 	 * the known MicroProfile properties.
 	 *
-	 * <p>
-	 * LIMITATION: mapped property are not supported.
-	 * </p>
-	 *
 	 * @param diagnostic          the diagnostic
 	 * @param document            the properties model.
 	 * @param projectInfo         the MicroProfile project info
@@ -124,22 +120,14 @@ class PropertiesFileCodeActions {
 			// Get property name by using the diagnostic range
 			PropertyKey propertyKey = (PropertyKey) document.findNodeAt(diagnostic.getRange().getStart());
 			String propertyName = propertyKey.getPropertyName();
-			// Loop for each metadata property
-			for (ItemMetadata metaProperty : projectInfo.getProperties()) {
-				String name = metaProperty.getName();
-				if (PropertiesFileUtils.isMappedProperty(name)) {
-					// FIXME: support mapped property
-				} else {
-					// Check if the property name is similar to the metadata name
-					if (isSimilar(metaProperty.getName(), propertyName)) {
-						Range range = PositionUtils.createRange(propertyKey);
-						CodeAction replaceAction = CodeActionFactory.replace(
-								MessageFormat.format(UNKNOWN_PROPERTY_SIMILAR_TEXT_SUGGESTION, name),
-								MicroProfileCodeActionId.UnknownPropertySimilarTextSuggestion, range, name,
-								document.getDocument(), diagnostic);
-						codeActions.add(replaceAction);
-					}
-				}
+			// Search the metadata properties similar to the property name
+			for (String name : SimilarPropertyNames.getIndex(projectInfo).findSimilarNames(propertyName)) {
+				Range range = PositionUtils.createRange(propertyKey);
+				CodeAction replaceAction = CodeActionFactory.replace(
+						MessageFormat.format(UNKNOWN_PROPERTY_SIMILAR_TEXT_SUGGESTION, name),
+						MicroProfileCodeActionId.UnknownPropertySimilarTextSuggestion, range, name,
+						document.getDocument(), diagnostic);
+				codeActions.add(replaceAction);
 			}
 
 			if (commandCapabilities.isCommandSupported(CommandKind.COMMAND_CONFIGURATION_UPDATE)) {
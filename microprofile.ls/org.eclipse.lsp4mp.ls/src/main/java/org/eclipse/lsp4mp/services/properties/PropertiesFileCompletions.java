@@ -530,18 +530,29 @@ class PropertiesFileCompletions {
 			TextDocumentSnippetRegistry snippetRegistry, CompletionList list) {
 		boolean markdownSupported = completionCapabilities.isDocumentationFormatSupported(MarkupKind.MARKDOWN);
 		boolean snippetsSupported = completionCapabilities.isCompletionSnippetsSupported();
+		boolean resolveSupported = completionCapabilities.isCompletionResolveSupported();
 		snippetRegistry.getCompletionItems(document.getDocument(), completionOffset, markdownSupported,
-				snippetsSupported, (context, model) -> {
+				snippetsSupported, resolveSupported, (context, model) -> {
 					if (context instanceof SnippetContextForProperties) {
 						SnippetContextForProperties contextProperties = (SnippetContextForProperties) context;
 						return contextProperties.isMatch(projectInfo);
 					}
 					return false;
-				}, Collections.emptyMap()).forEach(item -> {
+				}, Collections::emptyMap).forEach(item -> {
 					list.getItems().add(item);
 				});
 	}
 
+	/**
+	 * Resolve the documentation of the given snippet completion item.
+	 *
+	 * @param unresolved the completion item to resolve.
+	 * @return the resolved completion item.
+	 */
+	public CompletionItem resolveCompletionItem(CompletionItem unresolved) {
+		return getSnippetRegistry().resolveCompletionItem(unresolved);
+	}
+
 	private TextDocumentSnippetRegistry getSnippetRegistry() {
 		if (snippetRegistry == null) {
 			snippetRegistry = new TextDocumentSnippetRegistry(LanguageId.properties.name()) {
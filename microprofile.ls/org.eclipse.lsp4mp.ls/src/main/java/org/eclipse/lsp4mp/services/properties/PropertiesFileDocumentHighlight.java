@@ -16,7 +16,9 @@ package org.eclipse.lsp4mp.services.properties;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.lsp4j.DocumentHighlight;
 import org.eclipse.lsp4j.DocumentHighlightKind;
@@ -37,6 +39,53 @@ import org.eclipse.lsp4mp.utils.PositionUtils;
  */
 public class PropertiesFileDocumentHighlight {
 
+	/**
+	 * Index of the property keys and property expressions of a properties model,
+	 * computed once per version of the properties model.
+	 */
+	private static class PropertyOccurrences {
+
+		private final Map<String /* property name */, PropertyKey> keys;
+
+		private final Map<String /* referenced property name */, List<PropertyValueExpression>> expressions;
+
+		public PropertyOccurrences(PropertiesModel document) {
+			keys = new HashMap<>();
+			expressions = new HashMap<>();
+			for (Node child : document.getChildren()) {
+				if (child.getNodeType() == NodeType.PROPERTY) {
+					Property property = (Property) child;
+					String propertyName = property.getPropertyName();
+					if (StringUtils.hasText(propertyName)) {
+						// the first declared property is highlighted
+						keys.putIfAbsent(propertyName, property.getKey());
+					}
+					if (property.getValue() != null) {
+						for (Node valueSegment : property.getValue().getChildren()) {
+							if (valueSegment.getNodeType() == NodeType.PROPERTY_VALUE_EXPRESSION) {
+								PropertyValueExpression expression = (PropertyValueExpression) valueSegment;
+								String referencedPropertyName = expression.getReferencedPropertyName();
+								if (referencedPropertyName != null) {
+									expressions.computeIfAbsent(referencedPropertyName, k -> new ArrayList<>())
+											.add(expression);
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+
+		public PropertyKey getKey(String propertyName) {
+			return keys.get(propertyName);
+		}
+
+		public List<PropertyValueExpression> getExpressions(String referencedPropertyName) {
+			List<PropertyValueExpression> referencingExpressions = expressions.get(referencedPropertyName);
+			return referencingExpressions != null ? referencingExpressions : Collections.emptyList();
+		}
+	}
+
 	/**
 	 * Returns a list of highlights for a MicroProfile properties document
 	 *
@@ -78,14 +127,9 @@ public class PropertiesFileDocumentHighlight {
 		}
 		List<DocumentHighlight> highlights = new ArrayList<>(2);
 		highlights.add(createHighlight(node, DocumentHighlightKind.Read));
-		for (Node child : document.getChildren()) {
-			if (child.getNodeType() == NodeType.PROPERTY) {
-				Property property = (Property) child;
-				if (otherProp.equals(property.getPropertyName())) {
-					highlights.add(createHighlight(property.getKey(), DocumentHighlightKind.Write));
-					break;
-				}
-			}
+		PropertyKey key = getOccurrences(document).getKey(otherProp);
+		if (key != null) {
+			highlights.add(createHighlight(key, DocumentHighlightKind.Write));
 		}
 		return highlights;
 	}
@@ -107,22 +151,16 @@ public class PropertiesFileDocumentHighlight {
 		}
 		List<DocumentHighlight> highlights = new ArrayList<>();
 		highlights.add(createHighlight(node, DocumentHighlightKind.Write));
-		for (Node child : document.getChildren()) {
-			if (child.getNodeType() == NodeType.PROPERTY) {
-				Property property = (Property) child;
-				if (property.getValue() != null) {
-					for (Node valueSegment : property.getValue().getChildren()) {
-						if (valueSegment.getNodeType() == NodeType.PROPERTY_VALUE_EXPRESSION && propertyName
-								.equals(((PropertyValueExpression) valueSegment).getReferencedPropertyName())) {
-							highlights.add(createHighlight(valueSegment, DocumentHighlightKind.Read));
-						}
-					}
-				}
-			}
+		for (PropertyValueExpression expression : getOccurrences(document).getExpressions(propertyName)) {
+			highlights.add(createHighlight(expression, DocumentHighlightKind.Read));
 		}
 		return highlights;
 	}
 
+	private static PropertyOccurrences getOccurrences(PropertiesModel document) {
+		return document.getDerivedView(PropertyOccurrences.class, PropertyOccurrences::new);
+	}
+
 	/**
 	 * Returns a DocumentHighlight that highlights the given node
 	 *
@@ -159,7 +159,7 @@ class PropertiesFileHover {
 
 		PropertiesModel model = key.getOwnerModel();
 		IConfigSourcePropertiesProvider propertiesProvider = ConfigSourcePropertiesProviderUtils.layer(model,
-				new PropertiesInfoPropertiesProvider(projectInfo.getProperties()));
+				PropertiesInfoPropertiesProvider.getPropertiesProvider(projectInfo));
 		PropertyValueExpander expander = new PropertyValueExpander(propertiesProvider);
 		cancelChecker.checkCanceled();
 
@@ -265,7 +265,7 @@ class PropertiesFileHover {
 		}
 
 		PropertiesModel model = node.getOwnerModel();
-		IConfigSourcePropertiesProvider propertiesProvider = ConfigSourcePropertiesProviderUtils.layer(model, new PropertiesInfoPropertiesProvider(projectInfo.getProperties()));
+		IConfigSourcePropertiesProvider propertiesProvider = ConfigSourcePropertiesProviderUtils.layer(model, PropertiesInfoPropertiesProvider.getPropertiesProvider(projectInfo));
 		PropertyValueExpander expander = new PropertyValueExpander(propertiesProvider);
 		cancelChecker.checkCanceled();
 
@@ -14,7 +14,6 @@
 package org.eclipse.lsp4mp.services.properties;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -24,7 +23,6 @@ import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
-import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
 import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
 import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
@@ -65,9 +63,7 @@ class PropertiesFileInlayHint {
 
 	public List<InlayHint> getInlayHint(PropertiesModel document, MicroProfileProjectInfo projectInfo, Range range,
 			CancelChecker cancelChecker) {
-		List<ItemMetadata> metadatas = projectInfo != null && projectInfo.getProperties() != null
-				? projectInfo.getProperties()
-				: Collections.emptyList();
+		PropertyValueExpander expander = null;
 		List<InlayHint> hints = new ArrayList<>();
 		List<Node> children = document.getChildren();
 		for (Node child : children) {
@@ -78,9 +74,13 @@ class PropertiesFileInlayHint {
 				if (valueNode != null && valueNode.hasExpression()) {
 					// The current property has a value with expression:
 					// ex : server.url=https://${host}:${port:8080}/${endpoint}
-					IConfigSourcePropertiesProvider propertiesProvider = ConfigSourcePropertiesProviderUtils
-							.layer(document, new PropertiesInfoPropertiesProvider(metadatas));
-					PropertyValueExpander expander = new PropertyValueExpander(propertiesProvider);
+					if (expander == null) {
+						// The expander (and its property graph) is created once for all the
+						// properties of the document
+						IConfigSourcePropertiesProvider propertiesProvider = ConfigSourcePropertiesProviderUtils
+								.layer(document, PropertiesInfoPropertiesProvider.getPropertiesProvider(projectInfo));
+						expander = new PropertyValueExpander(propertiesProvider);
+					}
 					String resolved = expander.getValue(property.getKey().getPropertyNameWithProfile());
 					if (resolved != null) {
 						try {
@@ -19,6 +19,7 @@ import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CodeActionContext;
+import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DocumentHighlight;
@@ -92,6 +93,16 @@ public class PropertiesFileLanguageService {
 				cancelChecker);
 	}
 
+	/**
+	 * Returns the given completion item with its documentation.
+	 *
+	 * @param unresolved the completion item to resolve
+	 * @return the given completion item with its documentation
+	 */
+	public CompletionItem resolveCompletionItem(CompletionItem unresolved) {
+		return completions.resolveCompletionItem(unresolved);
+	}
+
 	/**
 	 * Returns Hover object for the currently hovered token
 	 *
@@ -14,7 +14,10 @@
 package org.eclipse.lsp4mp.services.properties;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.lsp4j.DocumentSymbol;
 import org.eclipse.lsp4j.Location;
@@ -38,14 +41,48 @@ import org.eclipse.lsp4mp.utils.PositionUtils;
  */
 class PropertiesFileSymbolsProvider {
 
+	/**
+	 * Symbol information list of a properties model.
+	 */
+	private static class SymbolInformations {
+
+		private final List<SymbolInformation> symbols;
+
+		public SymbolInformations(List<SymbolInformation> symbols) {
+			this.symbols = Collections.unmodifiableList(symbols);
+		}
+	}
+
+	/**
+	 * Document symbol tree of a properties model.
+	 */
+	private static class DocumentSymbols {
+
+		private final List<DocumentSymbol> symbols;
+
+		public DocumentSymbols(List<DocumentSymbol> symbols) {
+			this.symbols = Collections.unmodifiableList(symbols);
+		}
+	}
+
 	/**
 	 * Returns symbol information list for the given properties model.
 	 *
+	 * <p>
+	 * The list is computed once per version of the properties model.
+	 * </p>
+	 *
 	 * @param document      the properties model document
 	 * @param cancelChecker the cancel checker
 	 * @return symbol information list for the given properties model.
 	 */
 	public List<SymbolInformation> findSymbolInformations(PropertiesModel document, CancelChecker cancelChecker) {
+		return document.getDerivedView(SymbolInformations.class,
+				model -> new SymbolInformations(collectSymbolInformations(model, cancelChecker))).symbols;
+	}
+
+	private static List<SymbolInformation> collectSymbolInformations(PropertiesModel document,
+			CancelChecker cancelChecker) {
 		List<SymbolInformation> symbols = new ArrayList<>();
 		for (Node node : document.getChildren()) {
 			if (cancelChecker != null) {
@@ -70,12 +107,25 @@ class PropertiesFileSymbolsProvider {
 	/**
 	 * Returns document symbol list for the given properties model.
 	 *
+	 * <p>
+	 * The symbol tree is computed once per version of the properties model.
+	 * </p>
+	 *
 	 * @param document      the properties model document
 	 * @param cancelChecker the cancel checker
 	 * @return document symbol list for the given properties model.
 	 */
 	public List<DocumentSymbol> findDocumentSymbols(PropertiesModel document, CancelChecker cancelChecker) {
+		return document.getDerivedView(DocumentSymbols.class,
+				model -> new DocumentSymbols(collectDocumentSymbols(model, cancelChecker))).symbols;
+	}
+
+	private static List<DocumentSymbol> collectDocumentSymbols(PropertiesModel document,
+			CancelChecker cancelChecker) {
 		List<DocumentSymbol> symbols = new ArrayList<>();
+		// symbols indexed by their path (ex : 'quarkus.datasource') to avoid looping
+		// over the children of each symbol
+		Map<String, DocumentSymbol> symbolsByPath = new HashMap<>();
 		for (Node node : document.getChildren()) {
 			if (cancelChecker != null) {
 				cancelChecker.checkCanceled();
@@ -88,8 +138,11 @@ class PropertiesFileSymbolsProvider {
 					// The property is not an empty line
 					String[] paths = name.split("[.]");
 					DocumentSymbol symbol = null;
+					String symbolPath = null;
 					for (String path : paths) {
-						symbol = getSymbol(path, property, symbol != null ? symbol.getChildren() : symbols);
+						symbolPath = symbolPath != null ? symbolPath + "." + path : path;
+						symbol = getSymbol(path, symbolPath, property, symbol != null ? symbol.getChildren() : symbols,
+								symbolsByPath);
 					}
 					if (symbol != null) {
 						symbol.setKind(SymbolKind.Property);
@@ -104,16 +157,17 @@ class PropertiesFileSymbolsProvider {
 		return symbols;
 	}
 
-	private static DocumentSymbol getSymbol(String path, Property property, List<DocumentSymbol> children) {
-		for (DocumentSymbol child : children) {
-			if (path.equals(child.getName())) {
-				return child;
-			}
+	private static DocumentSymbol getSymbol(String path, String symbolPath, Property property,
+			List<DocumentSymbol> children, Map<String, DocumentSymbol> symbolsByPath) {
+		DocumentSymbol symbol = symbolsByPath.get(symbolPath);
+		if (symbol != null) {
+			return symbol;
 		}
 		Range range = getSymbolRange(property);
-		DocumentSymbol symbol = new DocumentSymbol(path, SymbolKind.Package, range, range);
+		symbol = new DocumentSymbol(path, SymbolKind.Package, range, range);
 		symbol.setChildren(new ArrayList<>());
 		children.add(symbol);
+		symbolsByPath.put(symbolPath, symbol);
 		return symbol;
 	}
 
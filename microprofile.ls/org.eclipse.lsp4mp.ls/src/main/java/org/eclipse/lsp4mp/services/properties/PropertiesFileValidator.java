@@ -54,22 +54,23 @@ class PropertiesFileValidator {
 
 	private final MicroProfileProjectInfo projectInfo;
 
+	private final PropertiesInfoIndex projectInfoIndex;
+
 	private final List<Diagnostic> diagnostics;
 
 	private final MicroProfileValidationSettings validationSettings;
 	private final Map<String, List<Property>> existingProperties;
 	private Set<String> allPropertiesFromFile;
-	private Set<String> allPropertiesFromJava;
 
 	public PropertiesFileValidator(MicroProfileProjectInfo projectInfo, List<Diagnostic> diagnostics,
 		MicroProfileValidationSettings validationSettings) {
 		this.projectInfo = projectInfo;
+		this.projectInfoIndex = PropertiesInfoIndex.getIndex(projectInfo);
 		this.diagnostics = diagnostics;
 		this.validationSettings = validationSettings;
 		this.existingProperties = new HashMap<String, List<Property>>();
 		// to be lazily init
 		this.allPropertiesFromFile = null;
-		this.allPropertiesFromJava = null;
 	}
 
 	public void validate(PropertiesModel document, CancelChecker cancelChecker) {
@@ -208,21 +209,17 @@ class PropertiesFileValidator {
 				PropertyValueExpression propValExpr = (PropertyValueExpression) child;
 				if (expressionSeverity != null) {
 					if (allPropertiesFromFile == null) {
-						// Collect names of all properties defined in the configuration file and the
-						// project information
+						// Collect names of all properties defined in the configuration file
 						allPropertiesFromFile = property.getOwnerModel().getChildren().stream().filter(n -> {
 							return n.getNodeType() == NodeType.PROPERTY;
 						}).map(prop -> {
 							return ((Property) prop).getPropertyNameWithProfile();
 						}).collect(Collectors.toSet());
-						allPropertiesFromJava = projectInfo.getProperties().stream().map((ItemMetadata info) -> {
-							return info.getName();
-						}).collect(Collectors.toSet());
 					}
 					String refdProp = propValExpr.getReferencedPropertyName();
 					if (!allPropertiesFromFile.contains(refdProp)) {
 						// The referenced property name doesn't reference a property inside the file
-						if (allPropertiesFromJava.contains(refdProp)) {
+						if (projectInfoIndex.getPropertyNames().contains(refdProp)) {
 							Range range = PositionUtils.createRange(propValExpr.getReferenceStartOffset(),
 								propValExpr.getReferenceEndOffset(), propValExpr.getDocument());
 							if (range != null) {
@@ -437,13 +434,13 @@ class PropertiesFileValidator {
 	}
 
 	private void addDiagnosticsForMissingRequired(PropertiesModel document) {
-		for (ItemMetadata property : projectInfo.getProperties()) {
+		for (ItemMetadata property : projectInfoIndex.getRequiredProperties()) {
 
 			String propertyName = property.getName();
 
 			DiagnosticSeverity severity = validationSettings.getRequired().getDiagnosticSeverity(propertyName);
 
-			if (severity != null && property.isRequired()) {
+			if (severity != null) {
 				if (!existingProperties.containsKey(propertyName)) {
 					addDiagnostic("Missing required property '" + propertyName + "'", document, severity,
 						ValidationType.required.name());
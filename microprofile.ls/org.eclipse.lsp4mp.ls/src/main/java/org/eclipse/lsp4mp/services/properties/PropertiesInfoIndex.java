@@ -0,0 +1,95 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
+
+/**
+ * Index of the properties of a project information used by the validation:
+ *
+ * <ul>
+ * <li>the required properties.</li>
+ * <li>the names of all properties.</li>
+ * </ul>
+ *
+ */
+class PropertiesInfoIndex {
+
+	private final List<ItemMetadata> requiredProperties;
+
+	private final Set<String> propertyNames;
+
+	PropertiesInfoIndex(List<ItemMetadata> properties) {
+		List<ItemMetadata> requiredProperties = new ArrayList<>();
+		Set<String> propertyNames = new HashSet<>();
+		if (properties != null) {
+			for (ItemMetadata property : properties) {
+				if (property == null) {
+					continue;
+				}
+				propertyNames.add(property.getName());
+				if (property.isRequired()) {
+					requiredProperties.add(property);
+				}
+			}
+		}
+		this.requiredProperties = Collections.unmodifiableList(requiredProperties);
+		this.propertyNames = Collections.unmodifiableSet(propertyNames);
+	}
+
+	/**
+	 * Returns the index of the properties of the given project information.
+	 *
+	 * <p>
+	 * The index is shared and computed only once per version of the project
+	 * information when it comes from the project information cache.
+	 * </p>
+	 *
+	 * @param projectInfo the project information.
+	 * @return the index of the properties of the given project information.
+	 */
+	public static PropertiesInfoIndex getIndex(MicroProfileProjectInfo projectInfo) {
+		if (projectInfo instanceof ExtendedMicroProfileProjectInfo) {
+			return ((ExtendedMicroProfileProjectInfo) projectInfo).getDerivedView(PropertiesInfoIndex.class,
+					info -> new PropertiesInfoIndex(info.getProperties()));
+		}
+		return new PropertiesInfoIndex(projectInfo != null ? projectInfo.getProperties() : null);
+	}
+
+	/**
+	 * Returns the required properties in the order of the project information.
+	 *
+	 * @return the required properties in the order of the project information.
+	 */
+	public List<ItemMetadata> getRequiredProperties() {
+		return requiredProperties;
+	}
+
+	/**
+	 * Returns the names of all properties.
+	 *
+	 * @return the names of all properties.
+	 */
+	public Set<String> getPropertyNames() {
+		return propertyNames;
+	}
+}
@@ -13,35 +13,73 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.services.properties;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 
 /**
  * Adapts a list of <code>ItemMetadata</code> to <code>IConfigSourcePropertiesProvider</code>
  *
+ * <p>
+ * The default values of the properties are indexed by property name when the
+ * provider is created.
+ * </p>
+ *
  * @author datho7561
  */
 class PropertiesInfoPropertiesProvider implements IConfigSourcePropertiesProvider {
 
-	List<ItemMetadata> properties;
+	private final Map<String, String> defaultValues;
+
+	private final Set<String> keys;
 
 	public PropertiesInfoPropertiesProvider(List<ItemMetadata> properties) {
-		this.properties = properties;
+		this.defaultValues = new HashMap<>();
+		if (properties != null) {
+			for (ItemMetadata item : properties) {
+				String name = item.getName();
+				if (name != null && StringUtils.hasText(item.getDefaultValue())) {
+					// the first property which defines a default value wins
+					defaultValues.putIfAbsent(name, item.getDefaultValue());
+				}
+			}
+		}
+		this.keys = Collections.unmodifiableSet(defaultValues.keySet());
+	}
+
+	/**
+	 * Returns the properties provider for the default values of the properties of
+	 * the given project information.
+	 *
+	 * <p>
+	 * The provider is shared and computed only once per version of the project
+	 * information when it comes from the project information cache.
+	 * </p>
+	 *
+	 * @param projectInfo the project information.
+	 * @return the properties provider for the default values of the properties of
+	 *         the given project information.
+	 */
+	public static PropertiesInfoPropertiesProvider getPropertiesProvider(MicroProfileProjectInfo projectInfo) {
+		if (projectInfo instanceof ExtendedMicroProfileProjectInfo) {
+			return ((ExtendedMicroProfileProjectInfo) projectInfo).getDerivedView(
+					PropertiesInfoPropertiesProvider.class,
+					info -> new PropertiesInfoPropertiesProvider(info.getProperties()));
+		}
+		return new PropertiesInfoPropertiesProvider(projectInfo != null ? projectInfo.getProperties() : null);
 	}
 
 	@Override
 	public Set<String> keys() {
-		return properties.stream() //
-				.filter(item -> StringUtils.hasText(item.getDefaultValue()))
-				.map(item -> item.getName()) //
-				.filter(Objects::nonNull) //
-				.collect(Collectors.toSet());
+		return keys;
 	}
 
 	@Override
@@ -49,12 +87,7 @@ class PropertiesInfoPropertiesProvider implements IConfigSourcePropertiesProvide
 		if (key == null) {
 			return false;
 		}
-		for (ItemMetadata item : properties) {
-			if (key.equals(item.getName()) && StringUtils.hasText(item.getDefaultValue())) {
-				return true;
-			}
-		}
-		return false;
+		return defaultValues.containsKey(key);
 	}
 
 	@Override
@@ -62,12 +95,7 @@ class PropertiesInfoPropertiesProvider implements IConfigSourcePropertiesProvide
 		if (key == null) {
 			return null;
 		}
-		for (ItemMetadata item : properties) {
-			if (key.equals(item.getName()) && StringUtils.hasText(item.getDefaultValue())) {
-				return item.getDefaultValue();
-			}
-		}
-		return null;
+		return defaultValues.get(key);
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,405 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
+import org.eclipse.lsp4mp.utils.PropertiesFileUtils;
+
+/**
+ * Index of the property names of a project information used to suggest similar
+ * names for an unknown property (ex : 'Did you mean ...?').
+ *
+ * <p>
+ * A name is similar to the unknown property when the Levenshtein distance
+ * between them is less than or equal to 10% of the length of the name.
+ * </p>
+ *
+ * <p>
+ * To avoid computing the distance with each known property name, the names are
+ * indexed by their 3-grams: two strings whose distance is less than or equal to
+ * k share at least max(length) - 2 - 3 * k 3-grams, so the distance is computed
+ * only for the names which share enough 3-grams with the unknown property.
+ * </p>
+ *
+ * <p>
+ * Mapped property names (ex : 'quarkus.datasource.{*}.url') are grouped by
+ * number of segments and positions of the '{*}' key maps. They are matched by
+ * replacing the segments of the unknown property at the same positions with the
+ * '{*}' key map (ex : 'quarkus.datasource.{*}.urll').
+ * </p>
+ *
+ */
+class SimilarPropertyNames {
+
+	private static final float MAX_DISTANCE_DIFF_RATIO = 0.1f;
+
+	private static final int MAX_SUGGESTIONS = 10;
+
+	private static final int GRAM_LENGTH = 3;
+
+	private static final String KEY_MAP = "{*}";
+
+	/**
+	 * Similar name found in the index.
+	 */
+	private static class Match {
+
+		private final int index;
+
+		private final int distance;
+
+		private final String name;
+
+		public Match(int index, int distance, String name) {
+			this.index = index;
+			this.distance = distance;
+			this.name = name;
+		}
+	}
+
+	/**
+	 * 3-grams index of names.
+	 */
+	private static class NameIndex {
+
+		private final List<String> names;
+
+		private final List<Integer> indexes;
+
+		private final Map<String /* 3-gram */, int[] /* name positions */> grams;
+
+		private final List<Integer> shortNames;
+
+		public NameIndex() {
+			this.names = new ArrayList<>();
+			this.indexes = new ArrayList<>();
+			this.grams = new HashMap<>();
+			this.shortNames = new ArrayList<>();
+		}
+
+		public void add(String name, int index) {
+			int position = names.size();
+			names.add(name);
+			indexes.add(index);
+			if (getMinCommonGrams(name.length(), name.length()) <= 0) {
+				// A similar name can share no 3-grams with this name, it's always compared
+				shortNames.add(position);
+			}
+			for (String gram : getGrams(name)) {
+				int[] positions = grams.get(gram);
+				grams.put(gram, positions == null ? new int[] { position } : append(positions, position));
+			}
+		}
+
+		public void search(String name, String[] keys, List<Match> matches) {
+			if (names.isEmpty()) {
+				return;
+			}
+			// Count the 3-grams shared with each name
+			int[] commonGrams = new int[names.size()];
+			for (String gram : getGrams(name)) {
+				int[] positions = grams.get(gram);
+				if (positions != null) {
+					for (int position : positions) {
+						commonGrams[position]++;
+					}
+				}
+			}
+			for (int position = 0; position < commonGrams.length; position++) {
+				if (commonGrams[position] > 0 && commonGrams[position] >= getMinCommonGrams(
+						names.get(position).length(), name.length())) {
+					match(position, name, keys, matches);
+				}
+			}
+			for (int position : shortNames) {
+				if (commonGrams[position] == 0) {
+					match(position, name, keys, matches);
+				}
+			}
+		}
+
+		private void match(int position, String name, String[] keys, List<Match> matches) {
+			String knownName = names.get(position);
+			int threshold = getThreshold(knownName.length());
+			if (Math.abs(knownName.length() - name.length()) > threshold) {
+				return;
+			}
+			int distance = new LevenshteinDistance(threshold).apply(knownName, name);
+			if (distance != -1) {
+				String similarName = keys != null ? replaceKeyMaps(knownName, keys) : knownName;
+				matches.add(new Match(indexes.get(position), distance, similarName));
+			}
+		}
+
+		private static int[] append(int[] positions, int position) {
+			int[] newPositions = new int[positions.length + 1];
+			System.arraycopy(positions, 0, newPositions, 0, positions.length);
+			newPositions[positions.length] = position;
+			return newPositions;
+		}
+
+		/**
+		 * Returns the min number of 3-grams shared by a known name and a similar name.
+		 *
+		 * @param knownNameLength the length of the known name.
+		 * @param nameLength      the length of the similar name.
+		 * @return the min number of 3-grams shared by a known name and a similar name.
+		 */
+		private static int getMinCommonGrams(int knownNameLength, int nameLength) {
+			return Math.max(knownNameLength, nameLength) - GRAM_LENGTH + 1
+					- GRAM_LENGTH * getThreshold(knownNameLength);
+		}
+
+		/**
+		 * Returns the 3-grams of the given name, a 3-gram which occurs several times
+		 * is suffixed with its occurrence number to be counted several times.
+		 *
+		 * @param name the name.
+		 * @return the 3-grams of the given name.
+		 */
+		private static Set<String> getGrams(String name) {
+			Set<String> grams = new HashSet<>();
+			for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+				String gram = name.substring(i, i + GRAM_LENGTH);
+				int occurrence = 1;
+				while (!grams.add(occurrence == 1 ? gram : gram + occurrence)) {
+					occurrence++;
+				}
+			}
+			return grams;
+		}
+	}
+
+	/**
+	 * Mapped names which have the same number of segments and the '{*}' key maps
+	 * at the same positions.
+	 */
+	private static class MappedNames {
+
+		private final int[] keyMapPositions;
+
+		private final NameIndex names;
+
+		public MappedNames(int[] keyMapPositions) {
+			this.keyMapPositions = keyMapPositions;
+			this.names = new NameIndex();
+		}
+	}
+
+	private final NameIndex names;
+
+	private final Map<Integer /* number of segments */, List<MappedNames>> mappedNames;
+
+	SimilarPropertyNames(List<ItemMetadata> properties) {
+		NameIndex names = new NameIndex();
+		Map<Integer, List<MappedNames>> mappedNames = new HashMap<>();
+		if (properties != null) {
+			Set<String> indexed = new HashSet<>();
+			for (int i = 0; i < properties.size(); i++) {
+				ItemMetadata property = properties.get(i);
+				if (property == null || property.getName() == null || !indexed.add(property.getName())) {
+					continue;
+				}
+				String name = property.getName();
+				if (PropertiesFileUtils.isMappedProperty(name)) {
+					List<String> segments = getSegments(name);
+					int[] keyMapPositions = getKeyMapPositions(segments);
+					List<MappedNames> groups = mappedNames.computeIfAbsent(segments.size(),
+							k -> new ArrayList<>());
+					MappedNames group = groups.stream() //
+							.filter(g -> Arrays.equals(g.keyMapPositions, keyMapPositions)) //
+							.findFirst() //
+							.orElse(null);
+					if (group == null) {
+						group = new MappedNames(keyMapPositions);
+						groups.add(group);
+					}
+					group.names.add(name, i);
+				} else {
+					names.add(name, i);
+				}
+			}
+		}
+		this.names = names;
+		this.mappedNames = mappedNames;
+	}
+
+	/**
+	 * Returns the index of the property names of the given project information.
+	 *
+	 * <p>
+	 * The index is shared and computed only once per version of the project
+	 * information when it comes from the project information cache.
+	 * </p>
+	 *
+	 * @param projectInfo the project information.
+	 * @return the index of the property names of the given project information.
+	 */
+	public static SimilarPropertyNames getIndex(MicroProfileProjectInfo projectInfo) {
+		if (projectInfo instanceof ExtendedMicroProfileProjectInfo) {
+			return ((ExtendedMicroProfileProjectInfo) projectInfo).getDerivedView(SimilarPropertyNames.class,
+					info -> new SimilarPropertyNames(info.getProperties()));
+		}
+		return new SimilarPropertyNames(projectInfo != null ? projectInfo.getProperties() : null);
+	}
+
+	/**
+	 * Returns the known property names which are similar to the given property
+	 * name, the closest names first.
+	 *
+	 * <p>
+	 * For a mapped property (ex : 'quarkus.datasource.{*}.url'), the returned name
+	 * uses the key of the given property name (ex : 'quarkus.datasource.mydb.url'
+	 * for 'quarkus.datasource.mydb.urll').
+	 * </p>
+	 *
+	 * @param propertyName the unknown property name.
+	 * @return the known property names which are similar to the given property
+	 *         name, the closest names first.
+	 */
+	public List<String> findSimilarNames(String propertyName) {
+		if (propertyName == null || propertyName.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<Match> matches = new ArrayList<>();
+		names.search(propertyName, null, matches);
+		if (!mappedNames.isEmpty()) {
+			searchMapped(propertyName, matches);
+		}
+		if (matches.isEmpty()) {
+			return Collections.emptyList();
+		}
+		matches.sort((m1, m2) -> m1.distance != m2.distance ? Integer.compare(m1.distance, m2.distance)
+				: Integer.compare(m1.index, m2.index));
+		List<String> similarNames = new ArrayList<>();
+		Set<String> added = new HashSet<>();
+		for (Match match : matches) {
+			if (added.add(match.name)) {
+				similarNames.add(match.name);
+				if (similarNames.size() == MAX_SUGGESTIONS) {
+					break;
+				}
+			}
+		}
+		return similarNames;
+	}
+
+	/**
+	 * Search the mapped property names by replacing the segments of the unknown
+	 * property name with the '{*}' key map (ex : quarkus.datasource.{*}.urll).
+	 *
+	 * @param propertyName the unknown property name.
+	 * @param matches      the matches to fill.
+	 */
+	private void searchMapped(String propertyName, List<Match> matches) {
+		List<String> segments = getSegments(propertyName);
+		List<MappedNames> groups = mappedNames.get(segments.size());
+		if (groups == null) {
+			return;
+		}
+		for (MappedNames group : groups) {
+			StringBuilder pattern = new StringBuilder();
+			String[] keys = new String[group.keyMapPositions.length];
+			for (int segment = 0, keyMap = 0; segment < segments.size(); segment++) {
+				if (segment > 0) {
+					pattern.append('.');
+				}
+				if (keyMap < keys.length && group.keyMapPositions[keyMap] == segment) {
+					keys[keyMap++] = segments.get(segment);
+					pattern.append(KEY_MAP);
+				} else {
+					pattern.append(segments.get(segment));
+				}
+			}
+			group.names.search(pattern.toString(), keys, matches);
+		}
+	}
+
+	/**
+	 * Returns the mapped name where the '{*}' key maps are replaced with the given
+	 * keys.
+	 *
+	 * @param mappedName the mapped name (ex : quarkus.datasource.{*}.url).
+	 * @param keys       the keys.
+	 * @return the mapped name where the '{*}' key maps are replaced with the given
+	 *         keys.
+	 */
+	private static String replaceKeyMaps(String mappedName, String[] keys) {
+		StringBuilder name = new StringBuilder();
+		int start = 0;
+		for (String key : keys) {
+			int index = mappedName.indexOf(KEY_MAP, start);
+			name.append(mappedName, start, index);
+			name.append(key);
+			start = index + KEY_MAP.length();
+		}
+		name.append(mappedName, start, mappedName.length());
+		return name.toString();
+	}
+
+	/**
+	 * Returns the segments of the given property name separated with '.' (a quoted
+	 * segment can contain '.').
+	 *
+	 * @param propertyName the property name.
+	 * @return the segments of the given property name.
+	 */
+	private static List<String> getSegments(String propertyName) {
+		List<String> segments = new ArrayList<>();
+		boolean quoted = false;
+		int start = 0;
+		for (int i = 0; i < propertyName.length(); i++) {
+			char c = propertyName.charAt(i);
+			if (c == '"') {
+				quoted = !quoted;
+			} else if (c == '.' && !quoted) {
+				segments.add(propertyName.substring(start, i));
+				start = i + 1;
+			}
+		}
+		segments.add(propertyName.substring(start));
+		return segments;
+	}
+
+	private static int[] getKeyMapPositions(List<String> segments) {
+		List<Integer> positions = new ArrayList<>();
+		for (int i = 0; i < segments.size(); i++) {
+			if (KEY_MAP.equals(segments.get(i))) {
+				positions.add(i);
+			}
+		}
+		return positions.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Returns the max distance between a known name and a similar name.
+	 *
+	 * @param length the length of the known name.
+	 * @return the max distance between a known name and a similar name.
+	 */
+	private static int getThreshold(int length) {
+		return Math.round(MAX_DISTANCE_DIFF_RATIO * length);
+	}
+}
@@ -44,6 +44,21 @@ public class MicroProfileCompletionCapabilities {
 				&& completionCapabilities.getCompletionItem().getSnippetSupport();
 	}
 
+	/**
+	 * Returns <code>true</code> if the client can resolve lazily the
+	 * documentation of a completion item and <code>false</code> otherwise.
+	 *
+	 * @return <code>true</code> if the client can resolve lazily the
+	 *         documentation of a completion item and <code>false</code> otherwise.
+	 */
+	public boolean isCompletionResolveSupported() {
+		return completionCapabilities != null && completionCapabilities.getCompletionItem() != null
+				&& completionCapabilities.getCompletionItem().getResolveSupport() != null
+				&& completionCapabilities.getCompletionItem().getResolveSupport().getProperties() != null
+				&& completionCapabilities.getCompletionItem().getResolveSupport().getProperties()
+						.contains("documentation");
+	}
+
 	/**
 	 * Returns <code>true</code> if the client support the given documentation
 	 * format and <code>false</code> otherwise.
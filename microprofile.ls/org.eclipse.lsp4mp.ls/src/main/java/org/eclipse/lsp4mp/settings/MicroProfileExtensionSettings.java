@@ -67,6 +67,8 @@ public class MicroProfileExtensionSettings {
 		if (extensionValidationUnknownExcluded != null && !extensionValidationUnknownExcluded.isEmpty()) {
 			List<String> validationUnknownExcluded = getValidationExcluded(settings, ValidationType.unknown, true);
 			merge(extensionValidationUnknownExcluded, validationUnknownExcluded);
+			// Set the merged excluded to compile the new excluded patterns
+			settings.getValidation().getUnknown().setExcluded(validationUnknownExcluded);
 		}
 	}
 
@@ -14,10 +14,9 @@
 package org.eclipse.lsp4mp.settings;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.DiagnosticSeverity;
-import org.eclipse.lsp4mp.commons.utils.AntPathMatcher;
+import org.eclipse.lsp4mp.commons.utils.PropertyPatternsMatcher;
 
 /**
  * MicroProfile validation type settings.
@@ -31,37 +30,7 @@ public class MicroProfileValidationTypeSettings {
 
 	private List<String> excluded;
 
-	private transient List<ExcludedProperty> excludedProperties;
-
-	private static class ExcludedProperty {
-
-		private final String pattern;
-		private final AntPathMatcher matcher;
-
-		public ExcludedProperty(String pattern, AntPathMatcher matcher) {
-			this.pattern = pattern;
-			this.matcher = matcher.isPattern(pattern) ? matcher : null;
-		}
-
-		/**
-		 * Returns true if the given property name matches the pattern and false
-		 * otherwise.
-		 *
-		 * @param propertyName the property name.
-		 * @return true if the given property name matches the pattern and false
-		 *         otherwise.
-		 */
-		public boolean match(String propertyName) {
-			if (matcher != null) {
-				// the excluded property is a pattern, use pattern matcher to check the match
-				return matcher.match(pattern, propertyName);
-			}
-			// the excluded property is not a pattern, check if the property name is equal
-			// to the pattern
-			return pattern.equals(propertyName);
-		}
-
-	}
+	private transient volatile PropertyPatternsMatcher excludedMatcher;
 
 	/**
 	 * Returns the severity of the validation type.
@@ -97,6 +66,8 @@ public class MicroProfileValidationTypeSettings {
 	 */
 	public void setExcluded(List<String> excluded) {
 		this.excluded = excluded;
+		// compile the excluded patterns
+		this.excludedMatcher = createExcludedMatcher(excluded);
 	}
 
 	/**
@@ -136,14 +107,7 @@ public class MicroProfileValidationTypeSettings {
 			return false;
 		}
 		// Get compiled excluded properties
-		List<ExcludedProperty> excludedProperties = getExcludedProperties();
-		for (ExcludedProperty excluded : excludedProperties) {
-			// the property name matches an excluded pattern
-			if (excluded.match(propertyName)) {
-				return true;
-			}
-		}
-		return false;
+		return getExcludedMatcher().match(propertyName);
 	}
 
 	/**
@@ -151,27 +115,20 @@ public class MicroProfileValidationTypeSettings {
 	 *
 	 * @return the compiled excluded properties.
 	 */
-	private List<ExcludedProperty> getExcludedProperties() {
-		if (excludedProperties != null) {
-			return excludedProperties;
+	private PropertyPatternsMatcher getExcludedMatcher() {
+		PropertyPatternsMatcher matcher = excludedMatcher;
+		if (matcher != null) {
+			return matcher;
 		}
-		return createExcludedProperties();
+		// the settings has been deserialized without calling setExcluded
+		matcher = createExcludedMatcher(excluded);
+		excludedMatcher = matcher;
+		return matcher;
 	}
 
-	/**
-	 * Create the compiled excluded properties.
-	 *
-	 * @return the compiled excluded properties.
-	 */
-	private synchronized List<ExcludedProperty> createExcludedProperties() {
-		if (excludedProperties != null) {
-			return excludedProperties;
-		}
-		AntPathMatcher matcher = new AntPathMatcher();
-		matcher.setCachePatterns(true);
-		return excluded.stream() //
-			.map(p -> new ExcludedProperty(p, matcher)) //
-			.collect(Collectors.toList());
+	private static PropertyPatternsMatcher createExcludedMatcher(List<String> excluded) {
+		return excluded == null || excluded.isEmpty() ? PropertyPatternsMatcher.EMPTY
+				: new PropertyPatternsMatcher(excluded);
 	}
 
 	@Override
@@ -55,7 +55,7 @@ public class ServerCapabilitiesConstants {
 	
 	public static final String WORKSPACE_SYMBOL_ID = UUID.randomUUID().toString();
 
-	public static final CompletionOptions DEFAULT_COMPLETION_OPTIONS = new CompletionOptions(false,
+	public static final CompletionOptions DEFAULT_COMPLETION_OPTIONS = new CompletionOptions(true,
 			Arrays.asList(".", "%", "=", "$", "{", ":" /* triggered characters for properties file */ ,
 					"@" /* triggered characters for java snippets annotation */,
 					"\"" /* trigger characters for annotation property value completion */));
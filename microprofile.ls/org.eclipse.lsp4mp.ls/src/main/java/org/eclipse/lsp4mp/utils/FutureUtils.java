@@ -17,6 +17,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerScheduler;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerScheduler.Priority;
 
 /**
  * Utilities for working with <code>CompletableFuture</code>s.
@@ -38,7 +40,8 @@ public class FutureUtils {
 	public static <R> CompletableFuture<R> computeAsyncCompose(
 			Function<ExtendedCancelChecker, CompletableFuture<R>> code) {
 		CompletableFuture<ExtendedCancelChecker> start = new CompletableFuture<>();
-		CompletableFuture<R> result = start.thenComposeAsync(code);
+		CompletableFuture<R> result = start.thenComposeAsync(code,
+				LanguageServerScheduler.getInstance().getExecutor(Priority.INTERACTIVE));
 		CompletableFutureWrapper<R> wrapper = new CompletableFutureWrapper<>(result);
 		start.complete(wrapper);
 		return wrapper;
@@ -13,7 +13,13 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.utils;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
@@ -21,10 +27,9 @@ import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * JSON Schema utilities.
@@ -153,16 +158,111 @@ public class JSONSchemaUtils {
 	 * @return as JSON string the JSON Schema of the given <code>info</code>.
 	 */
 	public static String toJSONSchema(MicroProfileProjectInfo info, boolean lenient) {
-		final JsonObject schema = new JsonObject();
-		schema.addProperty(SCHEMA_PROP, SCHEMA_URL);
 		// Generate the JSON Schema definitions for MicroProfile properties
-		generateDefinitions(info, schema, lenient);
-		// Reference the JSON Schema #/definitions/root on the root
-		schema.addProperty($REF_PROP, DEFINITIONS_ROOT);
-		// For accepting profile ("%dev"), we use patternProperties bound to
-		// #/definitions/root
-		generateProfile(schema);
-		return new Gson().toJson(schema);
+		SchemaNode root = generateDefinitions(info, lenient);
+		StringWriter out = new StringWriter();
+		try (JsonWriter writer = new JsonWriter(out)) {
+			// Use the same escaping than Gson#toJson
+			writer.setHtmlSafe(true);
+			writer.beginObject();
+			writer.name(SCHEMA_PROP).value(SCHEMA_URL);
+			writer.name(DEFINITIONS_PROP).beginObject();
+			writer.name(ROOT_PROP);
+			writeNode(root, writer);
+			writer.endObject();
+			// Reference the JSON Schema #/definitions/root on the root
+			writer.name($REF_PROP).value(DEFINITIONS_ROOT);
+			// For accepting profile ("%dev"), we use patternProperties bound to
+			// #/definitions/root
+			generateProfile(writer);
+			writer.endObject();
+		} catch (IOException e) {
+			// Should never occur with a StringWriter
+			throw new UncheckedIOException(e);
+		}
+		return out.toString();
+	}
+
+	/**
+	 * Returns as JSON string the JSON Schema of the given <code>info</code>.
+	 *
+	 * <p>
+	 * When the given info is managed by the project information cache, the JSON
+	 * Schema is generated once per version of the project information.
+	 * </p>
+	 *
+	 * @param info    the MicroProfile project information to convert as JSON
+	 *                Schema.
+	 * @param lenient true if 'additionalProperties' must be set to false and false
+	 *                otherwise.
+	 *
+	 * @return as JSON string the JSON Schema of the given <code>info</code>.
+	 */
+	public static String getJSONSchema(MicroProfileProjectInfo info, boolean lenient) {
+		if (info instanceof ExtendedMicroProfileProjectInfo) {
+			return ((ExtendedMicroProfileProjectInfo) info).getDerivedView(JSONSchemas.class, JSONSchemas::new)
+					.get(lenient);
+		}
+		return toJSONSchema(info, lenient);
+	}
+
+	/**
+	 * JSON Schemas of a given version of a MicroProfile project information.
+	 */
+	private static class JSONSchemas {
+
+		private final MicroProfileProjectInfo info;
+
+		private volatile String lenientSchema;
+
+		private volatile String strictSchema;
+
+		public JSONSchemas(MicroProfileProjectInfo info) {
+			this.info = info;
+		}
+
+		public String get(boolean lenient) {
+			if (lenient) {
+				if (lenientSchema == null) {
+					lenientSchema = toJSONSchema(info, true);
+				}
+				return lenientSchema;
+			}
+			if (strictSchema == null) {
+				strictSchema = toJSONSchema(info, false);
+			}
+			return strictSchema;
+		}
+	}
+
+	/**
+	 * JSON Schema node.
+	 *
+	 * <p>
+	 * The node is lighter than a Gson JsonObject and is written with a fixed order
+	 * for its members.
+	 * </p>
+	 */
+	private static class SchemaNode {
+
+		private JSONSchemaType type;
+
+		private boolean noAdditionalProperties;
+
+		private String description;
+
+		private List<String> enumValues;
+
+		private Map<String, SchemaNode> properties;
+
+		private SchemaNode items;
+
+		public Map<String, SchemaNode> getOrCreateProperties() {
+			if (properties == null) {
+				properties = new LinkedHashMap<>();
+			}
+			return properties;
+		}
 	}
 
 	/**
@@ -178,31 +278,25 @@ public class JSONSchemaUtils {
 		        ...
 	 * </code>
 	 *
-	 * @param info   the MicroProfile project information.
-	 * @param schema the JSON Schema
+	 * @param info the MicroProfile project information.
+	 * @return the root definition.
 	 */
-	private static void generateDefinitions(MicroProfileProjectInfo info, final JsonObject schema, boolean lenient) {
-		JsonObject definitions = new JsonObject();
-		schema.add(DEFINITIONS_PROP, definitions);
-
-		JsonObject root = new JsonObject();
-		definitions.add(ROOT_PROP, root);
-		root.addProperty(TYPE_PROP, JSONSchemaType.object.getName());
-		if (!lenient) {
-			root.addProperty(ADDITIONAL_PROPERTIES_PROP, false);
-		}
-		JsonObject properties = new JsonObject();
-		root.add(PROPERTIES_PROP, properties);
+	private static SchemaNode generateDefinitions(MicroProfileProjectInfo info, boolean lenient) {
+		SchemaNode root = new SchemaNode();
+		root.type = JSONSchemaType.object;
+		root.noAdditionalProperties = !lenient;
+		Map<String, SchemaNode> properties = root.getOrCreateProperties();
 
 		List<ItemMetadata> items = info.getProperties();
 		if (items != null && !items.isEmpty()) {
 			items.forEach(item -> generateProperty(info, item, properties, lenient));
 		}
+		return root;
 	}
 
-	private static void generateProperty(ConfigurationMetadata configuration, ItemMetadata item, JsonObject properties,
-			boolean lenient) {
-		JsonObject parent = properties;
+	private static void generateProperty(ConfigurationMetadata configuration, ItemMetadata item,
+			Map<String, SchemaNode> properties, boolean lenient) {
+		Map<String, SchemaNode> parent = properties;
 		// property name contains '.' (ex: quarkus.application.name)
 		// split it to generates the proper JSON Schema object
 		String[] paths = item.getPaths();
@@ -222,48 +316,38 @@ public class JSONSchemaUtils {
 		addProperty(paths[paths.length - 1], configuration, item, parent, lenient);
 	}
 
-	private static JsonObject getParentProperties(JsonObject parent, String path, boolean isArray, boolean lenient) {
-		if (!parent.has(path)) {
+	private static Map<String, SchemaNode> getParentProperties(Map<String, SchemaNode> parent, String path,
+			boolean isArray, boolean lenient) {
+		SchemaNode object = parent.get(path);
+		if (object == null) {
 			// parent has no the current path, create the JSON object
-			JsonObject object = addProperty(path, isArray ? JSONSchemaType.array : JSONSchemaType.object, null, null,
-					parent, lenient);
+			object = addProperty(path, isArray ? JSONSchemaType.array : JSONSchemaType.object, null, null, parent,
+					lenient);
 			return getOrCreateProperties(object, isArray);
 		}
-		JsonObject object = parent.getAsJsonObject(path);
-		if (!isArray && object.has(TYPE_PROP)
-				&& !JSONSchemaType.object.getName().equals(object.get(TYPE_PROP).getAsString())) {
+		if (!isArray && object.type != null && object.type != JSONSchemaType.object) {
 			// Generate tilde -> see
 			// https://quarkus.io/guides/config#configuration-key-conflicts
 			parent.remove(path);
-			JsonObject newObject = addProperty(path, JSONSchemaType.object, null, null, parent, lenient);
-			JsonObject properties = new JsonObject();
-			newObject.add(PROPERTIES_PROP, properties);
-			properties.add(TILDE_PROP, object);
+			SchemaNode newObject = addProperty(path, JSONSchemaType.object, null, null, parent, lenient);
+			Map<String, SchemaNode> properties = newObject.getOrCreateProperties();
+			properties.put(TILDE_PROP, object);
 			return properties;
 		}
 		return getOrCreateProperties(object, isArray);
 	}
 
-	private static JsonObject getOrCreateProperties(JsonObject parent, boolean isArray) {
+	private static Map<String, SchemaNode> getOrCreateProperties(SchemaNode parent, boolean isArray) {
 		if (isArray) {
 			// should have items/properties
-			JsonObject items = null;
-			if (parent.has(ITEMS_PROP)) {
-				items = parent.getAsJsonObject(ITEMS_PROP);
-			} else {
-				items = new JsonObject();
-				parent.add(ITEMS_PROP, items);
-				items.addProperty(TYPE_PROP, JSONSchemaType.object.getName());
+			if (parent.items == null) {
+				parent.items = new SchemaNode();
+				parent.items.type = JSONSchemaType.object;
 			}
-			return getOrCreateProperties(items, false);
+			return parent.items.getOrCreateProperties();
 		}
 		// parent is a object : it should have properties
-		if (parent.has(PROPERTIES_PROP)) {
-			return parent.getAsJsonObject(PROPERTIES_PROP);
-		}
-		JsonObject properties = new JsonObject();
-		parent.add(PROPERTIES_PROP, properties);
-		return properties;
+		return parent.getOrCreateProperties();
 	}
 
 	/**
@@ -279,33 +363,34 @@ public class JSONSchemaUtils {
 	 *
 	 * </code>
 	 *
-	 * @param schema the JSON Schema
+	 * @param writer the JSON writer
+	 * @throws IOException
 	 */
-	private static void generateProfile(final JsonObject schema) {
+	private static void generateProfile(JsonWriter writer) throws IOException {
 		// For accepting profile ("%dev", use patternProperties which is bound to the
 		// MicroProfile definitions
-		JsonObject patternProperties = new JsonObject();
-		JsonObject profile = new JsonObject();
-		profile.addProperty(TYPE_PROP, JSONSchemaType.object.getName());
-		profile.addProperty($REF_PROP, DEFINITIONS_ROOT);
-		patternProperties.add(PROFILE_PATTERN, profile);
-		schema.add(PATTERN_PROPERTIES_PROP, patternProperties);
+		writer.name(PATTERN_PROPERTIES_PROP).beginObject();
+		writer.name(PROFILE_PATTERN).beginObject();
+		writer.name(TYPE_PROP).value(JSONSchemaType.object.getName());
+		writer.name($REF_PROP).value(DEFINITIONS_ROOT);
+		writer.endObject();
+		writer.endObject();
 	}
 
-	private static JsonObject addProperty(String name, ConfigurationMetadata configuration, ItemMetadata item,
-			JsonObject parent, boolean lenient) {
+	private static SchemaNode addProperty(String name, ConfigurationMetadata configuration, ItemMetadata item,
+			Map<String, SchemaNode> parent, boolean lenient) {
 		List<ValueHint> values = getValues(configuration, item);
 		JSONSchemaType type = getType(item, values);
-		JsonObject property = addProperty(name, type, item.getDescription(), item.getDefaultValue(), parent, lenient);
+		SchemaNode property = addProperty(name, type, item.getDescription(), item.getDefaultValue(), parent, lenient);
 		// enum
 		if (values != null) {
-			JsonArray enumType = new JsonArray();
-			property.add(ENUM_PROP, enumType);
+			List<String> enumValues = new ArrayList<>(values.size());
 			for (ValueHint value : values) {
 				if (!StringUtils.isEmpty(value.getValue())) {
-					enumType.add(value.getValue());
+					enumValues.add(value.getValue());
 				}
 			}
+			property.enumValues = enumValues;
 		}
 		return property;
 
@@ -340,41 +425,36 @@ public class JSONSchemaUtils {
 		return values != null ? JSONSchemaType.string : null;
 	}
 
-	private static JsonObject addProperty(String name, JSONSchemaType type, String description, String defaultValue,
-			JsonObject parent, boolean lenient) {
-		JsonObject property = null;
+	private static SchemaNode addProperty(String name, JSONSchemaType type, String description, String defaultValue,
+			Map<String, SchemaNode> parent, boolean lenient) {
+		SchemaNode property = null;
 		if (name.endsWith("[*]")) {
 			// This case comes from with property which ends with an array
 			// ex : kubernetes.image-pull-secrets[*]
 			// here we must create a JSON object array kind
 			name = name.substring(0, name.length() - 3);
 			// should have items/properties
-			JsonObject array = new JsonObject();
-			array.addProperty(TYPE_PROP, JSONSchemaType.array.getName());
-			parent.add(name, array);
-
-			JsonObject items = null;
-			if (parent.has(ITEMS_PROP)) {
-				items = array.getAsJsonObject(ITEMS_PROP);
-			} else {
-				items = new JsonObject();
-				array.add(ITEMS_PROP, items);
-				items.addProperty(TYPE_PROP, JSONSchemaType.object.getName());
-			}
+			SchemaNode array = new SchemaNode();
+			array.type = JSONSchemaType.array;
+			parent.put(name, array);
+
+			SchemaNode items = new SchemaNode();
+			items.type = JSONSchemaType.object;
+			array.items = items;
 			property = items;
 		} else {
-			property = new JsonObject();
-			parent.add(name, property);
+			property = new SchemaNode();
+			parent.put(name, property);
 		}
 
 		if (type != null) {
-			property.addProperty(TYPE_PROP, type.getName());
+			property.type = type;
 			if (JSONSchemaType.object.equals(type) && !lenient) {
-				property.addProperty(ADDITIONAL_PROPERTIES_PROP, false);
+				property.noAdditionalProperties = true;
 			}
 		}
 		if (description != null) {
-			property.addProperty(DESCRIPTION_PROP, description);
+			property.description = description;
 		}
 		if (defaultValue != null && !defaultValue.isEmpty()) {
 			// don't generate default value since apply of completion generate all
@@ -384,4 +464,37 @@ public class JSONSchemaUtils {
 		}
 		return property;
 	}
+
+	private static void writeNode(SchemaNode node, JsonWriter writer) throws IOException {
+		writer.beginObject();
+		if (node.type != null) {
+			writer.name(TYPE_PROP).value(node.type.getName());
+		}
+		if (node.noAdditionalProperties) {
+			writer.name(ADDITIONAL_PROPERTIES_PROP).value(false);
+		}
+		if (node.description != null) {
+			writer.name(DESCRIPTION_PROP).value(node.description);
+		}
+		if (node.enumValues != null) {
+			writer.name(ENUM_PROP).beginArray();
+			for (String value : node.enumValues) {
+				writer.value(value);
+			}
+			writer.endArray();
+		}
+		if (node.properties != null) {
+			writer.name(PROPERTIES_PROP).beginObject();
+			for (Map.Entry<String, SchemaNode> property : node.properties.entrySet()) {
+				writer.name(property.getKey());
+				writeNode(property.getValue(), writer);
+			}
+			writer.endObject();
+		}
+		if (node.items != null) {
+			writer.name(ITEMS_PROP);
+			writeNode(node.items, writer);
+		}
+		writer.endObject();
+	}
 }
@@ -13,12 +13,9 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.utils;
 
-import java.net.URL;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.BiConsumer;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
@@ -30,6 +27,7 @@ import org.eclipse.lsp4mp.commons.metadata.ValueProvider.ValueProviderDefaultNam
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
 import org.eclipse.lsp4mp.commons.metadata.ValueProviderParameter;
 import org.eclipse.lsp4mp.ls.commons.SnippetsBuilder;
+import org.eclipse.lsp4mp.ls.properties.PropertiesModelCache;
 import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.services.properties.QuarkusModel;
 
@@ -41,8 +39,6 @@ import org.eclipse.lsp4mp.services.properties.QuarkusModel;
  */
 public class PropertiesFileUtils {
 
-	private static final Logger LOGGER = Logger.getLogger(PropertiesFileUtils.class.getName());
-
 	private static final BiConsumer<Integer, StringBuilder> KEY_MAP_MARKDOWN_REPLACE = (i, newName) -> newName
 			.append("\\{\\*\\}");
 
@@ -321,16 +317,19 @@ public class PropertiesFileUtils {
 	}
 
 	/**
-	 * 
-	 * @param documentURI
-	 * @return
+	 * Returns the properties model of the given properties file URI and null if
+	 * the file cannot be loaded.
+	 *
+	 * <p>
+	 * The parsed model is shared with the {@link PropertiesModelCache} and must
+	 * not be modified.
+	 * </p>
+	 *
+	 * @param documentURI the properties file URI.
+	 * @return the properties model of the given properties file URI and null if
+	 *         the file cannot be loaded.
 	 */
 	public static PropertiesModel loadProperties(String documentURI) {
-		try {
-			return PropertiesModel.parse(IOUtils.convertStreamToString(new URL(documentURI).openStream()), documentURI, () -> {});
-		} catch (Exception e) {
-			LOGGER.log(Level.SEVERE, "Error while loading properties file '" + documentURI + "'.", e);
-			return null;
-		}
+		return PropertiesModelCache.getInstance().getModel(documentURI);
 	}
 }
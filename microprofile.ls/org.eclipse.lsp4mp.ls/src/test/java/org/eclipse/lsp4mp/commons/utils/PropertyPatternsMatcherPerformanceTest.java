@@ -0,0 +1,80 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.utils;
+
+import static org.eclipse.lsp4mp.commons.utils.PropertyPatternsMatcherTest.antMatch;
+import static org.eclipse.lsp4mp.commons.utils.PropertyPatternsMatcherTest.createNames;
+import static org.eclipse.lsp4mp.commons.utils.PropertyPatternsMatcherTest.createPatterns;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Performance test of {@link PropertyPatternsMatcher}, executed with the
+ * 'performance' Maven profile.
+ *
+ * <p>
+ * The matcher is compared with an {@link AntPathMatcher} which caches the
+ * patterns, used before for the excluded properties.
+ * </p>
+ *
+ */
+public class PropertyPatternsMatcherPerformanceTest {
+
+	private static final int PASSES = 5;
+
+	@Test
+	public void fasterThanAntPathMatcher() {
+		List<String> patterns = createPatterns();
+		List<String> names = createNames();
+		AntPathMatcher antMatcher = new AntPathMatcher();
+		antMatcher.setCachePatterns(true);
+		PropertyPatternsMatcher matcher = new PropertyPatternsMatcher(patterns);
+		// warm up
+		measureAntPathMatcher(patterns, names, antMatcher);
+		measureMatcher(names, matcher);
+
+		long antNanos = Long.MAX_VALUE;
+		long matcherNanos = Long.MAX_VALUE;
+		// keep the best of several runs to reduce the noise
+		for (int i = 0; i < 5; i++) {
+			antNanos = Math.min(antNanos, measureAntPathMatcher(patterns, names, antMatcher));
+			matcherNanos = Math.min(matcherNanos, measureMatcher(names, matcher));
+		}
+		Assert.assertTrue("PropertyPatternsMatcher took " + matcherNanos / 1_000_000 + "ms, AntPathMatcher took "
+				+ antNanos / 1_000_000 + "ms", matcherNanos < antNanos);
+	}
+
+	private static long measureAntPathMatcher(List<String> patterns, List<String> names, AntPathMatcher antMatcher) {
+		long start = System.nanoTime();
+		for (int pass = 0; pass < PASSES; pass++) {
+			for (String name : names) {
+				antMatch(patterns, name, antMatcher);
+			}
+		}
+		return System.nanoTime() - start;
+	}
+
+	private static long measureMatcher(List<String> names, PropertyPatternsMatcher matcher) {
+		long start = System.nanoTime();
+		for (int pass = 0; pass < PASSES; pass++) {
+			for (String name : names) {
+				matcher.match(name);
+			}
+		}
+		return System.nanoTime() - start;
+	}
+}
@@ -0,0 +1,178 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PropertyPatternsMatcher}.
+ *
+ */
+public class PropertyPatternsMatcherTest {
+
+	private static final List<String> PATTERNS = Arrays.asList("unknown.property", //
+			"*/mp-rest/url", //
+			"*/mp-rest/*", //
+			"com.mycompany.*", //
+			"com.mycompany.remoteServices.MyServiceClient/**/", //
+			"com.mycompany.remoteServices.MyServiceClient/**/foo", //
+			"com.mycompany.*/**/foo", //
+			"com*MyService*/**/foo", //
+			"*foo", //
+			"*", //
+			"**", //
+			"kafka-streams.*", //
+			"quarkus.log.category.?.level", //
+			"mp.{name}.enabled", //
+			"mp.messaging.*.*.type");
+
+	private static final List<String> NAMES = Arrays.asList("unknown.property", //
+			"unknown.property2", //
+			"com.mycompany.remoteServices.MyServiceClient/mp-rest/url", //
+			"com.mycompany.remoteServices.MyServiceClient/mp-rest/uri", //
+			"com.mycompany.remoteServices.MyServiceClient/mp-rest/url/foo", //
+			"com.mycompany.remoteServices.MyOtherClient/mp-rest/uri/bar", //
+			"com.mycompany.foo", //
+			"kafka-streams.cache.max.bytes.buffering", //
+			"quarkus.log.category.a.level", //
+			"quarkus.log.category.ab.level", //
+			"mp.metrics.enabled", //
+			"mp.messaging.incoming.prices.type", //
+			"mp.messaging.incoming.type", //
+			"/absolute", //
+			"ends.with/", //
+			"", //
+			"foo");
+
+	@Test
+	public void matchLikeAntPathMatcher() {
+		for (String pattern : PATTERNS) {
+			PropertyPatternsMatcher matcher = new PropertyPatternsMatcher(Arrays.asList(pattern));
+			for (String name : NAMES) {
+				Assert.assertEquals("Match '" + name + "' with '" + pattern + "'", antMatch(Arrays.asList(pattern), name),
+						matcher.match(name));
+				// from the cache
+				Assert.assertEquals("Match '" + name + "' with '" + pattern + "'", antMatch(Arrays.asList(pattern), name),
+						matcher.match(name));
+			}
+		}
+	}
+
+	@Test
+	public void matchSeveralPatterns() {
+		PropertyPatternsMatcher matcher = new PropertyPatternsMatcher(
+				Arrays.asList("mp.*", "camel.*", "quarkus.http.port", "*/mp-rest/url"));
+		Assert.assertTrue(matcher.match("mp.metrics.enabled"));
+		Assert.assertTrue(matcher.match("camel.component"));
+		Assert.assertTrue(matcher.match("quarkus.http.port"));
+		Assert.assertTrue(matcher.match("org.acme.Client/mp-rest/url"));
+		Assert.assertFalse(matcher.match("quarkus.http.host"));
+		Assert.assertFalse(matcher.match("org.acme.Client/mp-rest/uri"));
+		Assert.assertFalse(matcher.match(null));
+
+		Assert.assertTrue(PropertyPatternsMatcher.EMPTY.isEmpty());
+		Assert.assertFalse(PropertyPatternsMatcher.EMPTY.match("mp.metrics.enabled"));
+	}
+
+	@Test
+	public void boundedCache() {
+		PropertyPatternsMatcher matcher = new PropertyPatternsMatcher(Arrays.asList("mp.*"), 2);
+		for (int i = 0; i < 10; i++) {
+			Assert.assertTrue(matcher.match("mp.property" + i));
+			Assert.assertFalse(matcher.match("quarkus.property" + i));
+		}
+	}
+
+	@Test
+	public void matchGeneratedPatternsLikeAntPathMatcher() {
+		List<String> patterns = createPatterns();
+		PropertyPatternsMatcher matcher = new PropertyPatternsMatcher(patterns);
+		AntPathMatcher antMatcher = new AntPathMatcher();
+		for (String name : createNames()) {
+			Assert.assertEquals("Match '" + name + "'", antMatch(patterns, name, antMatcher), matcher.match(name));
+		}
+	}
+
+	/**
+	 * Returns 50 patterns of the different kinds (wildcards, path segments, exact
+	 * names).
+	 */
+	static List<String> createPatterns() {
+		List<String> patterns = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			switch (i % 5) {
+			case 0:
+				patterns.add("ext" + i + ".*");
+				break;
+			case 1:
+				patterns.add("*.ext" + i + ".enabled");
+				break;
+			case 2:
+				patterns.add("org.acme.Client" + i + "/mp-rest/*");
+				break;
+			case 3:
+				patterns.add("org.acme.*/**/ext" + i);
+				break;
+			default:
+				patterns.add("quarkus.ext" + i + ".property");
+				break;
+			}
+		}
+		return patterns;
+	}
+
+	/**
+	 * Returns 2000 property names, some of them match the patterns of
+	 * {@link #createPatterns()}.
+	 */
+	static List<String> createNames() {
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			switch (i % 4) {
+			case 0:
+				names.add("quarkus.datasource" + i + ".jdbc.url");
+				break;
+			case 1:
+				names.add("ext" + (i % 50) + ".property" + i);
+				break;
+			case 2:
+				names.add("org.acme.Client" + (i % 50) + "/mp-rest/url");
+				break;
+			default:
+				names.add("mp.messaging.incoming.channel" + i + ".ext" + (i % 50) + ".enabled");
+				break;
+			}
+		}
+		return names;
+	}
+
+	private static boolean antMatch(List<String> patterns, String name) {
+		AntPathMatcher matcher = new AntPathMatcher();
+		return antMatch(patterns, name, matcher);
+	}
+
+	static boolean antMatch(List<String> patterns, String name, AntPathMatcher matcher) {
+		for (String pattern : patterns) {
+			if (matcher.isPattern(pattern) ? matcher.match(pattern, name) : pattern.equals(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lsp4mp.ls.commons.LanguageServerScheduler.Priority;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link LanguageServerScheduler}.
+ *
+ */
+public class LanguageServerSchedulerTest {
+
+	private LanguageServerScheduler scheduler;
+
+	@Before
+	public void setUp() {
+		scheduler = new LanguageServerScheduler(1, false);
+	}
+
+	@After
+	public void tearDown() {
+		scheduler.shutdown();
+	}
+
+	@Test
+	public void executeByPriority() throws Exception {
+		CountDownLatch blocked = new CountDownLatch(1);
+		// Block the single thread of the scheduler
+		scheduler.execute(Priority.INTERACTIVE, () -> await(blocked));
+
+		List<String> executed = Collections.synchronizedList(new ArrayList<>());
+		CompletableFuture<Void> background = scheduler.runAsync(Priority.BACKGROUND, null,
+				() -> executed.add("background"));
+		CompletableFuture<Void> diagnostics = scheduler.runAsync(Priority.DIAGNOSTICS, null,
+				() -> executed.add("diagnostics"));
+		CompletableFuture<Void> interactive1 = scheduler.runAsync(Priority.INTERACTIVE, null,
+				() -> executed.add("interactive1"));
+		CompletableFuture<Void> interactive2 = scheduler.runAsync(Priority.INTERACTIVE, null,
+				() -> executed.add("interactive2"));
+		CompletableFuture<Void> shutdown = scheduler.runAsync(Priority.SHUTDOWN, null, () -> executed.add("shutdown"));
+		Assert.assertEquals(5, scheduler.getPendingTaskCount());
+
+		blocked.countDown();
+		CompletableFuture.allOf(background, diagnostics, interactive1, interactive2, shutdown).get(5,
+				TimeUnit.SECONDS);
+		Assert.assertEquals(Arrays.asList("shutdown", "interactive1", "interactive2", "diagnostics", "background"),
+				executed);
+	}
+
+	@Test
+	public void serializeByKey() throws Exception {
+		LanguageServerScheduler scheduler = new LanguageServerScheduler(4, false);
+		try {
+			AtomicInteger running = new AtomicInteger();
+			AtomicBoolean overlap = new AtomicBoolean();
+			List<CompletableFuture<Integer>> futures = new ArrayList<>();
+			List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+			for (int i = 0; i < 20; i++) {
+				int index = i;
+				futures.add(scheduler.supplyAsync(Priority.DIAGNOSTICS, "file:///application.properties", () -> {
+					if (running.incrementAndGet() > 1) {
+						overlap.set(true);
+					}
+					sleep(5);
+					executed.add(index);
+					running.decrementAndGet();
+					return index;
+				}));
+			}
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).get(5, TimeUnit.SECONDS);
+			Assert.assertFalse("Tasks with the same key must not run at the same time", overlap.get());
+			for (int i = 0; i < 20; i++) {
+				Assert.assertEquals(i, executed.get(i).intValue());
+				Assert.assertEquals(i, futures.get(i).get().intValue());
+			}
+		} finally {
+			scheduler.shutdown();
+		}
+	}
+
+	@Test
+	public void failureDoesNotBlockNextTasksOfTheSameKey() throws Exception {
+		String key = "file:///Greeting.java";
+		CompletableFuture<Void> failed = scheduler.runAsync(Priority.INTERACTIVE, key, () -> {
+			throw new IllegalStateException("failed");
+		});
+		CompletableFuture<String> next = scheduler.supplyAsync(Priority.INTERACTIVE, key, () -> "done");
+		Assert.assertEquals("done", next.get(5, TimeUnit.SECONDS));
+		Assert.assertTrue(failed.isCompletedExceptionally());
+	}
+
+	@Test
+	public void cancelScheduledTask() throws Exception {
+		AtomicBoolean executed = new AtomicBoolean();
+		CompletableFuture<Void> canceled = scheduler.schedule(Priority.DIAGNOSTICS, "file:///Greeting.java",
+				() -> executed.set(true), 200, TimeUnit.MILLISECONDS);
+		CompletableFuture<Void> scheduled = scheduler.schedule(Priority.DIAGNOSTICS, "file:///Greeting.java",
+				() -> {
+				}, 50, TimeUnit.MILLISECONDS);
+		canceled.cancel(true);
+		scheduled.get(5, TimeUnit.SECONDS);
+		Thread.sleep(300);
+		Assert.assertFalse(executed.get());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,218 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.LongSupplier;
+
+import org.eclipse.lsp4mp.ls.commons.ValidatorDelayer.DelayedExecutor;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for {@link ValidatorDelayer} with a virtual clock.
+ *
+ */
+public class ValidatorDelayerTest {
+
+	private static final long MIN_DELAY = 100;
+
+	private static final long MAX_DELAY = 2000;
+
+	/**
+	 * Virtual clock which executes the scheduled validations when the time is
+	 * advanced.
+	 */
+	private static class VirtualClock implements DelayedExecutor, LongSupplier {
+
+		private static class ScheduledValidation {
+
+			private final long time;
+
+			private final Runnable validation;
+
+			private final CompletableFuture<Void> future;
+
+			public ScheduledValidation(long time, Runnable validation) {
+				this.time = time;
+				this.validation = validation;
+				this.future = new CompletableFuture<>();
+			}
+		}
+
+		private final List<ScheduledValidation> scheduled = new ArrayList<>();
+
+		private long time;
+
+		@Override
+		public long getAsLong() {
+			return time;
+		}
+
+		@Override
+		public Future<?> schedule(String uri, Runnable validation, long delayMs) {
+			ScheduledValidation scheduledValidation = new ScheduledValidation(time + delayMs, validation);
+			scheduled.add(scheduledValidation);
+			return scheduledValidation.future;
+		}
+
+		public void advance(long millis) {
+			long end = time + millis;
+			Iterator<ScheduledValidation> iterator = scheduled.iterator();
+			List<ScheduledValidation> due = new ArrayList<>();
+			while (iterator.hasNext()) {
+				ScheduledValidation scheduledValidation = iterator.next();
+				if (scheduledValidation.time <= end) {
+					iterator.remove();
+					due.add(scheduledValidation);
+				}
+			}
+			due.sort((v1, v2) -> Long.compare(v1.time, v2.time));
+			for (ScheduledValidation scheduledValidation : due) {
+				time = Math.max(time, scheduledValidation.time);
+				if (!scheduledValidation.future.isCancelled()) {
+					scheduledValidation.validation.run();
+					scheduledValidation.future.complete(null);
+				}
+			}
+			time = end;
+		}
+	}
+
+	private final VirtualClock clock = new VirtualClock();
+
+	private final List<Integer> validatedVersions = new ArrayList<>();
+
+	private long validationDuration;
+
+	private ValidatorDelayer<TextDocument> createDelayer() {
+		return new ValidatorDelayer<>(clock, clock, document -> {
+			validatedVersions.add(document.getVersion());
+			// Simulate the duration of the validation
+			clock.time += validationDuration;
+			return null;
+		}, MIN_DELAY, MAX_DELAY);
+	}
+
+	@Test
+	public void defaultDelay() {
+		ValidatorDelayer<TextDocument> delayer = createDelayer();
+		TextDocument document = createDocument();
+
+		Assert.assertEquals(ValidatorDelayer.DEFAULT_VALIDATION_DELAY_MS, delayer.getValidationDelay(document.getUri()));
+		delayer.validateWithDelay(document);
+		Assert.assertTrue(delayer.isRevalidating(document.getUri()));
+
+		clock.advance(ValidatorDelayer.DEFAULT_VALIDATION_DELAY_MS - 1);
+		Assert.assertTrue(validatedVersions.isEmpty());
+
+		clock.advance(1);
+		Assert.assertEquals(1, validatedVersions.size());
+		Assert.assertFalse(delayer.isRevalidating(document.getUri()));
+	}
+
+	@Test
+	public void quickValidationUsesMinDelay() {
+		ValidatorDelayer<TextDocument> delayer = createDelayer();
+		TextDocument document = createDocument();
+		validationDuration = 1;
+
+		delayer.validateNow(document);
+		clock.advance(0);
+		Assert.assertEquals(1, validatedVersions.size());
+		Assert.assertEquals(MIN_DELAY, delayer.getValidationDelay(document.getUri()));
+
+		document.setVersion(2);
+		delayer.validateWithDelay(document);
+		clock.advance(MIN_DELAY);
+		Assert.assertEquals(2, validatedVersions.size());
+	}
+
+	@Test
+	public void slowValidationIncreasesDelay() {
+		ValidatorDelayer<TextDocument> delayer = createDelayer();
+		TextDocument document = createDocument();
+
+		validationDuration = 200;
+		delayer.validateNow(document);
+		clock.advance(0);
+		Assert.assertEquals(800, delayer.getValidationDelay(document.getUri()));
+
+		// The delay is bounded
+		validationDuration = 5000;
+		for (int i = 0; i < 10; i++) {
+			delayer.validateNow(document);
+			clock.advance(0);
+		}
+		Assert.assertEquals(MAX_DELAY, delayer.getValidationDelay(document.getUri()));
+
+		// The delay decreases when the validation becomes quick
+		validationDuration = 1;
+		for (int i = 0; i < 20; i++) {
+			delayer.validateNow(document);
+			clock.advance(0);
+		}
+		Assert.assertEquals(MIN_DELAY, delayer.getValidationDelay(document.getUri()));
+
+		// The durations are forgotten when the document is closed
+		validationDuration = 5000;
+		delayer.validateNow(document);
+		clock.advance(0);
+		delayer.cleanPendingValidation(document.getUri());
+		Assert.assertEquals(ValidatorDelayer.DEFAULT_VALIDATION_DELAY_MS, delayer.getValidationDelay(document.getUri()));
+	}
+
+	@Test
+	public void onlyLastChangeIsValidated() {
+		ValidatorDelayer<TextDocument> delayer = createDelayer();
+		TextDocument document = createDocument();
+
+		delayer.validateWithDelay(document);
+		clock.advance(100);
+		document.setVersion(2);
+		delayer.validateWithDelay(document);
+		clock.advance(100);
+		document.setVersion(3);
+		delayer.validateWithDelay(document);
+		clock.advance(MAX_DELAY);
+
+		Assert.assertEquals(1, validatedVersions.size());
+		Assert.assertEquals(3, validatedVersions.get(0).intValue());
+	}
+
+	@Test
+	public void validateNowCancelsPendingValidation() {
+		ValidatorDelayer<TextDocument> delayer = createDelayer();
+		TextDocument document = createDocument();
+
+		delayer.validateWithDelay(document);
+		delayer.validateNow(document);
+		clock.advance(0);
+		Assert.assertEquals(1, validatedVersions.size());
+		Assert.assertFalse(delayer.isRevalidating(document.getUri()));
+
+		clock.advance(MAX_DELAY);
+		Assert.assertEquals(1, validatedVersions.size());
+	}
+
+	private static TextDocument createDocument() {
+		TextDocument document = new TextDocument("", "file:///application.properties");
+		document.setVersion(1);
+		return document;
+	}
+}
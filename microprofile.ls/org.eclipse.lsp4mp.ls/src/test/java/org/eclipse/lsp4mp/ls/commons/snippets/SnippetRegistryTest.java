@@ -18,11 +18,19 @@ import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.r;
 import java.io.IOException;
 import java.io.StringReader;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4mp.ls.commons.TextDocument;
 import org.eclipse.lsp4mp.ls.java.JavaTextDocumentSnippetRegistry;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.google.gson.Gson;
+
 /**
  * Test for snippet registry.
  * 
@@ -176,11 +184,76 @@ public class SnippetRegistryTest {
 		assertCompletion(" | ", registry, c("mp", "", r(0, 1, 1)), c("quarkus", "", r(0, 1, 1)));
 		assertCompletion(" |", registry);
 
-		assertCompletion("abcd|", registry, c("mp", "", r(0, 0, 4)), c("quarkus", "", r(0, 0, 4)));
+		// snippets are filtered with the word at the completion offset
+		assertCompletion("abcd|", 0, registry);
 		assertCompletion("abcd |", registry, c("mp", "", r(0, 5, 5)), c("quarkus", "", r(0, 5, 5)));
 
 		assertCompletion("m |", registry, c("mp", "", r(0, 2, 2)), c("quarkus", "", r(0, 2, 2)));
-		assertCompletion("m|", registry, c("mp", "", r(0, 0, 1)), c("quarkus", "", r(0, 0, 1)));
+		assertCompletion("m|", 1, registry, c("mp", "", r(0, 0, 1)));
+		assertCompletion("M|", 1, registry, c("mp", "", r(0, 0, 1)));
+		assertCompletion("qks|", 1, registry, c("quarkus", "", r(0, 0, 3)));
+	}
+
+	@Test
+	public void prefixCompletionWithWordStart() {
+		TextDocumentSnippetRegistry registry = new TextDocumentSnippetRegistry();
+		Snippet snippet = new Snippet();
+		snippet.setPrefixes(Arrays.asList("rest_get"));
+		registry.registerSnippet(snippet);
+		snippet = new Snippet();
+		snippet.setPrefixes(Arrays.asList("@Fallback"));
+		registry.registerSnippet(snippet);
+		snippet = new Snippet();
+		snippet.setPrefixes(Arrays.asList("mpNewRestClient"));
+		registry.registerSnippet(snippet);
+
+		assertCompletion("get|", 1, registry, c("rest_get", "", r(0, 0, 3)));
+		assertCompletion("rg|", 1, registry, c("rest_get", "", r(0, 0, 2)));
+		assertCompletion("@Fa|", 1, registry, c("@Fallback", "", r(0, 0, 3)));
+		assertCompletion("fall|", 1, registry, c("@Fallback", "", r(0, 0, 4)));
+		assertCompletion("rest|", 2, registry, c("rest_get", "", r(0, 0, 4)), c("mpNewRestClient", "", r(0, 0, 4)));
+		// 'e' doesn't start a word of the prefixes
+		assertCompletion("et|", 0, registry);
+	}
+
+	@Test
+	public void resolveDocumentation() {
+		TextDocumentSnippetRegistry registry = new TextDocumentSnippetRegistry("properties", false);
+		Snippet snippet = new Snippet();
+		snippet.setPrefixes(Arrays.asList("mp"));
+		snippet.setBody(Arrays.asList("${1:name}=${value}", "$2"));
+		snippet.setScope("properties");
+		registry.registerSnippet(snippet);
+
+		TextDocument document = new TextDocument("m", "microprofile-config.properties");
+		Map<String, String> model = new HashMap<>();
+		model.put("value", "foo");
+		List<CompletionItem> items = registry.getCompletionItems(document, 1, true, true, (context, m) -> true,
+				model);
+		Assert.assertEquals(1, items.size());
+		CompletionItem item = items.get(0);
+		Assert.assertNotNull(item.getDocumentation());
+
+		// Documentation is computed lazily with completionItem/resolve
+		List<CompletionItem> unresolvedItems = registry.getCompletionItems(document, 1, true, true, true,
+				(context, m) -> true, () -> model);
+		Assert.assertEquals(1, unresolvedItems.size());
+		CompletionItem unresolved = unresolvedItems.get(0);
+		Assert.assertNull(unresolved.getDocumentation());
+		Assert.assertEquals(item.getTextEdit(), unresolved.getTextEdit());
+
+		// the data is sent back by the client as JSON object
+		unresolved.setData(new Gson().toJsonTree(unresolved.getData()));
+		CompletionItem resolved = registry.resolveCompletionItem(unresolved);
+		Assert.assertEquals(item.getDocumentation(), resolved.getDocumentation());
+		Assert.assertEquals("properties", SnippetCompletionData.getData(resolved).getLanguageId());
+
+		// The model is not created when no snippet matches the word
+		Assert.assertEquals(Collections.emptyList(), registry.getCompletionItems(
+				new TextDocument("abcd", "microprofile-config.properties"), 4, true, true, true,
+				(context, m) -> true, () -> {
+					throw new AssertionError("The model should not be created");
+				}));
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.java;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with {@link JavaPropertyReferences}.
+ *
+ */
+public class JavaPropertyReferencesTest {
+
+	private static final List<String> OPENED_FILES = Arrays.asList("file:///GreetingResource.java",
+			"file:///PriceResource.java", "file:///HelloResource.java");
+
+	@Test
+	public void affectedFiles() {
+		JavaPropertyReferences references = new JavaPropertyReferences();
+		references.update("file:///GreetingResource.java",
+				new HashSet<>(Arrays.asList("greeting.message", "greeting.name")));
+		references.update("file:///PriceResource.java", new HashSet<>(Arrays.asList("price.currency")));
+
+		Assert.assertEquals(Arrays.asList("file:///GreetingResource.java", "file:///HelloResource.java"),
+				references.getAffectedFiles(OPENED_FILES, Arrays.asList("greeting.name")));
+		Assert.assertEquals(Arrays.asList("file:///PriceResource.java", "file:///HelloResource.java"),
+				references.getAffectedFiles(OPENED_FILES, Arrays.asList("price.currency")));
+
+		// The file without references is never affected once it is validated
+		references.update("file:///HelloResource.java", Collections.emptySet());
+		Assert.assertEquals(Collections.emptyList(),
+				references.getAffectedFiles(OPENED_FILES, Arrays.asList("quarkus.http.port")));
+	}
+
+	@Test
+	public void unknownReferencesAreAlwaysAffected() {
+		JavaPropertyReferences references = new JavaPropertyReferences();
+		references.update("file:///GreetingResource.java", new HashSet<>(Arrays.asList("greeting.message")));
+		references.update("file:///PriceResource.java", Collections.emptySet());
+		// The diagnostics of the file have been collected by a participant which
+		// doesn't declare its referenced properties (ex : fault tolerance validator)
+		references.update("file:///HelloResource.java", null);
+
+		Assert.assertEquals(Arrays.asList("file:///HelloResource.java"),
+				references.getAffectedFiles(OPENED_FILES, Arrays.asList("quarkus.http.port")));
+		Assert.assertEquals(Arrays.asList("file:///GreetingResource.java", "file:///HelloResource.java"),
+				references.getAffectedFiles(OPENED_FILES, Arrays.asList("greeting.message")));
+		Assert.assertEquals(Arrays.asList("file:///HelloResource.java"),
+				references.getAffectedFiles(OPENED_FILES, Collections.emptyList()));
+	}
+
+	@Test
+	public void updateAndRemove() {
+		JavaPropertyReferences references = new JavaPropertyReferences();
+		references.update("file:///GreetingResource.java", new HashSet<>(Arrays.asList("greeting.message")));
+		references.update("file:///PriceResource.java", Collections.emptySet());
+		references.update("file:///HelloResource.java", Collections.emptySet());
+
+		// The file doesn't reference 'greeting.message' anymore
+		references.update("file:///GreetingResource.java", new HashSet<>(Arrays.asList("greeting.name")));
+		Assert.assertEquals(Collections.emptyList(),
+				references.getAffectedFiles(OPENED_FILES, Arrays.asList("greeting.message")));
+
+		// The references are unknown
+		references.update("file:///GreetingResource.java", null);
+		Assert.assertEquals(Arrays.asList("file:///GreetingResource.java"),
+				references.getAffectedFiles(OPENED_FILES, Arrays.asList("greeting.message")));
+
+		references.update("file:///GreetingResource.java", new HashSet<>(Arrays.asList("greeting.name")));
+		references.remove("file:///GreetingResource.java");
+		Assert.assertEquals(Arrays.asList("file:///GreetingResource.java"),
+				references.getAffectedFiles(OPENED_FILES, Arrays.asList("price.currency")));
+	}
+}
@@ -79,4 +79,27 @@ public class JavaTextDocumentsTest {
 		// the project is not a MP Project, the result is the default value.
 		Assert.assertFalse("Test executed in a non-MicroProfile project", result.get());
 	}
+
+	@Test
+	public void cancelRequestsOfPreviousVersions() {
+		JavaTextDocuments documents = new JavaTextDocuments(PROVIDER, null);
+		JavaTextDocument document1 = documents
+				.createDocument(new TextDocumentItem(MP_PROJECT + "/file1.java", "", 1, ""));
+		CompletableFuture<Boolean> request1 = document1.trackRequest(new CompletableFuture<>(), 1);
+		CompletableFuture<Boolean> request2 = document1.trackRequest(new CompletableFuture<>(), 2);
+
+		// the version 2 of the Java file is received
+		document1.setVersion(2);
+		Assert.assertTrue("Request of version 1 is cancelled", request1.isCancelled());
+		Assert.assertFalse("Request of version 2 is not cancelled", request2.isCancelled());
+
+		// a request tracked for an old version is cancelled
+		CompletableFuture<Boolean> request3 = document1.trackRequest(new CompletableFuture<>(), 1);
+		Assert.assertTrue("Request tracked for version 1 is cancelled", request3.isCancelled());
+
+		// completed requests are not cancelled
+		request2.complete(true);
+		document1.setVersion(3);
+		Assert.assertFalse("Completed request is not cancelled", request2.isCancelled());
+	}
 }
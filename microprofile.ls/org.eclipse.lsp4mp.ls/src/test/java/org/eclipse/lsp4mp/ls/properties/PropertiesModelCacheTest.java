@@ -0,0 +1,93 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.properties;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.model.Property;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test with {@link PropertiesModelCache}.
+ *
+ */
+public class PropertiesModelCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void cachedUntilFileChanged() throws IOException {
+		File file = folder.newFile("application.properties");
+		write(file, "greeting.message=hello\n%dev.greeting.message=bonjour\n");
+		String uri = file.toURI().toString();
+
+		PropertiesModelCache cache = new PropertiesModelCache(10);
+		PropertiesModel model = cache.getModel(uri);
+		Assert.assertNotNull(model);
+		Assert.assertSame(model, cache.getModel(uri));
+
+		Property property = cache.getProperty(uri, "%dev.greeting.message");
+		Assert.assertNotNull(property);
+		Assert.assertEquals("bonjour", property.getPropertyValue());
+		Assert.assertNull(cache.getProperty(uri, "greeting.name"));
+
+		// Update the file
+		write(file, "greeting.message=hello\ngreeting.name=quarkus\n");
+		PropertiesModel updatedModel = cache.getModel(uri);
+		Assert.assertNotSame(model, updatedModel);
+		Assert.assertNull(cache.getProperty(uri, "%dev.greeting.message"));
+		Assert.assertNotNull(cache.getProperty(uri, "greeting.name"));
+
+		// Evict the file
+		cache.evict(uri);
+		Assert.assertNotSame(updatedModel, cache.getModel(uri));
+	}
+
+	@Test
+	public void boundedCache() throws IOException {
+		File file1 = folder.newFile("application.properties");
+		write(file1, "greeting.message=hello\n");
+		File file2 = folder.newFile("microprofile-config.properties");
+		write(file2, "greeting.message=bonjour\n");
+		String uri1 = file1.toURI().toString();
+		String uri2 = file2.toURI().toString();
+
+		PropertiesModelCache cache = new PropertiesModelCache(1);
+		PropertiesModel model1 = cache.getModel(uri1);
+		Assert.assertSame(model1, cache.getModel(uri1));
+		cache.getModel(uri2);
+		// the first model has been evicted
+		Assert.assertNotSame(model1, cache.getModel(uri1));
+	}
+
+	@Test
+	public void fileNotFound() {
+		PropertiesModelCache cache = new PropertiesModelCache(10);
+		String uri = new File(folder.getRoot(), "unknown.properties").toURI().toString();
+		Assert.assertNull(cache.getModel(uri));
+		Assert.assertNull(cache.getProperty(uri, "greeting.message"));
+	}
+
+	private static void write(File file, String content) throws IOException {
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.statistics;
+
+import org.eclipse.lsp4mp.ls.statistics.ServerStatistics.Kind;
+import org.eclipse.lsp4mp.ls.statistics.ServerStatistics.Measure;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Performance test of {@link ServerStatistics}, executed with the
+ * 'performance' Maven profile.
+ *
+ * <p>
+ * The recording overhead is compared with the parsing of a small
+ * 'application.properties', one of the cheapest measured operations.
+ * </p>
+ *
+ */
+public class ServerStatisticsPerformanceTest {
+
+	/**
+	 * System property to configure the maximum overhead (in percent of the
+	 * parsing duration) of the recording of a measure and of a cache access.
+	 */
+	private static final String MAX_OVERHEAD_PERCENT_PROPERTY = "lsp4mp.performance.statistics.maxOverheadPercent";
+
+	private static final String TEXT = createText(20);
+
+	private static final int COUNT = 50_000;
+
+	@Test
+	public void negligibleOverhead() {
+		ServerStatistics statistics = new ServerStatistics();
+		// warm up
+		parse();
+		record(statistics);
+
+		long parseNanos = Long.MAX_VALUE;
+		long recordNanos = Long.MAX_VALUE;
+		// keep the best of several runs to reduce the noise
+		for (int i = 0; i < 5; i++) {
+			parseNanos = Math.min(parseNanos, parse());
+			recordNanos = Math.min(recordNanos, record(statistics));
+		}
+		double overheadPercent = recordNanos * 100d / parseNanos;
+		double maxOverheadPercent = Double.parseDouble(System.getProperty(MAX_OVERHEAD_PERCENT_PROPERTY, "10"));
+		Assert.assertTrue("Recording overhead is " + overheadPercent + "% of the parsing duration",
+				overheadPercent < maxOverheadPercent);
+		Assert.assertEquals(6L * COUNT, statistics.getStatistics().getOperations().get("parse").getCount());
+	}
+
+	/**
+	 * Parse {@link #COUNT} times the properties text and returns the duration.
+	 */
+	private static long parse() {
+		long start = System.nanoTime();
+		for (int i = 0; i < COUNT; i++) {
+			PropertiesModel.parse(TEXT, "application.properties");
+		}
+		return System.nanoTime() - start;
+	}
+
+	/**
+	 * Record {@link #COUNT} times a measure and a cache access and returns the
+	 * duration.
+	 */
+	private static long record(ServerStatistics statistics) {
+		long start = System.nanoTime();
+		for (int i = 0; i < COUNT; i++) {
+			Measure measure = statistics.start(Kind.OPERATION, "parse");
+			measure.end();
+			statistics.recordCacheAccess("documentModel", true);
+		}
+		return System.nanoTime() - start;
+	}
+
+	private static String createText(int lines) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < lines; i++) {
+			text.append("# comment ").append(i).append('\n');
+			text.append("quarkus.http.property").append(i).append("=value").append(i).append('\n');
+		}
+		return text.toString();
+	}
+}
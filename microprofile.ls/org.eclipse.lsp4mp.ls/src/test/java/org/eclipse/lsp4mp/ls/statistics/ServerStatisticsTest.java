@@ -0,0 +1,216 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.statistics;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.StreamMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.messages.CancelParams;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+import org.eclipse.lsp4mp.ls.statistics.ServerStatistics.Kind;
+import org.eclipse.lsp4mp.ls.statistics.ServerStatistics.Measure;
+import org.junit.Assert;
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Test for {@link ServerStatistics}.
+ *
+ */
+public class ServerStatisticsTest {
+
+
+	@Test
+	public void histogram() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 0; i < 98; i++) {
+			histogram.record(TimeUnit.MICROSECONDS.toNanos(500));
+		}
+		histogram.record(TimeUnit.MILLISECONDS.toNanos(30));
+		histogram.record(TimeUnit.MILLISECONDS.toNanos(20000));
+
+		LatencyStatistics statistics = histogram.toStatistics();
+		Assert.assertEquals(100, statistics.getCount());
+		Assert.assertEquals(1, statistics.getP50Ms(), 0);
+		Assert.assertEquals(1, statistics.getP95Ms(), 0);
+		Assert.assertEquals(50, statistics.getP99Ms(), 0);
+		Assert.assertEquals(20000, statistics.getMaxMs(), 0);
+		Assert.assertEquals((98 * 0.5 + 30 + 20000) / 100, statistics.getMeanMs(), 0.001);
+		long[] bucketCounts = statistics.getBucketCounts();
+		Assert.assertEquals(statistics.getBucketUpperBoundsMs().length + 1, bucketCounts.length);
+		Assert.assertEquals(98, bucketCounts[0]);
+		Assert.assertEquals(1, bucketCounts[bucketCounts.length - 1]);
+	}
+
+	@Test
+	public void requestLatencies() {
+		ServerStatistics statistics = new ServerStatistics();
+		List<Message> received = new ArrayList<>();
+		MessageConsumer incoming = statistics.wrapMessageConsumer(received::add);
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		MessageConsumer outgoing = statistics.wrapMessageConsumer(
+				new StreamMessageConsumer(output, new MessageJsonHandler(Collections.emptyMap())));
+
+		// Request sent by the client
+		incoming.consume(createRequest("1", "textDocument/completion"));
+		Assert.assertEquals(1, statistics.getStatistics().getQueues().get("pendingRequests").intValue());
+		Assert.assertEquals(0, statistics.getStatistics().getRequests().get("textDocument/completion").getCount());
+		outgoing.consume(createResponse("1"));
+
+		// Request sent to the client
+		outgoing.consume(createRequest("1", "microprofile/projectInfo"));
+		Assert.assertEquals(1, statistics.getStatistics().getQueues().get("pendingClientRequests").intValue());
+		incoming.consume(createResponse("1"));
+
+		NotificationMessage notification = new NotificationMessage();
+		notification.setMethod("textDocument/didChange");
+		incoming.consume(notification);
+
+		MicroProfileServerStatistics result = statistics.getStatistics();
+		Assert.assertEquals(3, received.size());
+		Assert.assertTrue(output.size() > 0);
+		Assert.assertEquals(1, result.getRequests().get("textDocument/completion").getCount());
+		Assert.assertEquals(1, result.getClientRequests().get("microprofile/projectInfo").getCount());
+		Assert.assertEquals(1, result.getNotifications().get("textDocument/didChange").getCount());
+		Assert.assertEquals(2, result.getOperations().get("write").getCount());
+		Assert.assertEquals(0, result.getQueues().get("pendingRequests").intValue());
+		Assert.assertEquals(0, result.getQueues().get("pendingClientRequests").intValue());
+	}
+
+	@Test
+	public void canceledClientRequests() {
+		ServerStatistics statistics = new ServerStatistics();
+		MessageConsumer incoming = statistics.wrapMessageConsumer(message -> {
+		});
+		MessageConsumer outgoing = statistics.wrapMessageConsumer(
+				new StreamMessageConsumer(new ByteArrayOutputStream(), new MessageJsonHandler(Collections.emptyMap())));
+
+		outgoing.consume(createRequest("1", "microprofile/projectInfo"));
+		Assert.assertEquals(1, statistics.getStatistics().getQueues().get("pendingClientRequests").intValue());
+
+		// The request is canceled by the language server
+		CancelParams cancelParams = new CancelParams();
+		cancelParams.setId("1");
+		NotificationMessage cancel = new NotificationMessage();
+		cancel.setMethod(MessageJsonHandler.CANCEL_METHOD.getMethodName());
+		cancel.setParams(cancelParams);
+		outgoing.consume(cancel);
+		Assert.assertEquals(0, statistics.getStatistics().getQueues().get("pendingClientRequests").intValue());
+
+		// The late response of the client is ignored
+		incoming.consume(createResponse("1"));
+		Assert.assertEquals(0, statistics.getStatistics().getClientRequests().get("microprofile/projectInfo").getCount());
+	}
+
+	@Test
+	public void expiredClientRequests() throws Exception {
+		ServerStatistics statistics = new ServerStatistics(10);
+		MessageConsumer outgoing = statistics.wrapMessageConsumer(
+				new StreamMessageConsumer(new ByteArrayOutputStream(), new MessageJsonHandler(Collections.emptyMap())));
+
+		// The client never answers the first request
+		outgoing.consume(createRequest("1", "microprofile/projectInfo"));
+		Thread.sleep(50);
+		outgoing.consume(createRequest("2", "microprofile/java/hover"));
+		Assert.assertEquals(1, statistics.getStatistics().getQueues().get("pendingClientRequests").intValue());
+	}
+
+	@Test
+	public void cacheHitRate() {
+		ServerStatistics statistics = new ServerStatistics();
+		statistics.recordCacheAccess("projectInfo", false);
+		statistics.recordCacheAccess("projectInfo", true);
+		statistics.recordCacheAccess("projectInfo", true);
+		statistics.recordCacheAccess("projectInfo", true);
+
+		CacheStatistics cache = statistics.getStatistics().getCaches().get("projectInfo");
+		Assert.assertEquals(3, cache.getHits());
+		Assert.assertEquals(1, cache.getMisses());
+		Assert.assertEquals(0.75, cache.getHitRate(), 0);
+	}
+
+	@Test
+	public void operationCounts() {
+		ServerStatistics statistics = new ServerStatistics();
+		int count = 1000;
+		for (int i = 0; i < count; i++) {
+			statistics.start(Kind.OPERATION, "parse").end();
+			statistics.recordCacheAccess("documentModel", true);
+		}
+		MicroProfileServerStatistics result = statistics.getStatistics();
+		Assert.assertEquals(count, result.getOperations().get("parse").getCount());
+		Assert.assertEquals(count, result.getCaches().get("documentModel").getHits());
+	}
+
+	@Test
+	public void flightRecorderEvents() throws Exception {
+		ServerStatistics statistics = new ServerStatistics();
+		Path file = Files.createTempFile("lsp4mp", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(JfrEvents.MEASURE_EVENT_NAME);
+			recording.enable(JfrEvents.CACHE_ACCESS_EVENT_NAME);
+			recording.start();
+			Measure measure = statistics.start(Kind.OPERATION, "validation");
+			measure.end();
+			statistics.recordCacheAccess("projectLabels", false);
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			RecordedEvent measureEvent = events.stream()
+					.filter(event -> JfrEvents.MEASURE_EVENT_NAME.equals(event.getEventType().getName())) //
+					.findFirst().orElse(null);
+			Assert.assertNotNull(measureEvent);
+			Assert.assertEquals("operation", measureEvent.getString("kind"));
+			Assert.assertEquals("validation", measureEvent.getString("name"));
+
+			RecordedEvent cacheEvent = events.stream()
+					.filter(event -> JfrEvents.CACHE_ACCESS_EVENT_NAME.equals(event.getEventType().getName())) //
+					.findFirst().orElse(null);
+			Assert.assertNotNull(cacheEvent);
+			Assert.assertEquals("projectLabels", cacheEvent.getString("cache"));
+			Assert.assertFalse(cacheEvent.getBoolean("hit"));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private static RequestMessage createRequest(String id, String method) {
+		RequestMessage request = new RequestMessage();
+		request.setId(id);
+		request.setMethod(method);
+		return request;
+	}
+
+	private static ResponseMessage createResponse(String id) {
+		ResponseMessage response = new ResponseMessage();
+		response.setId(id);
+		response.setResult("result");
+		return response;
+	}
+}
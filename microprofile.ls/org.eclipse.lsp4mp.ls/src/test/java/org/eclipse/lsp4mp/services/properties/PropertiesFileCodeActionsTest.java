@@ -51,6 +51,19 @@ public class PropertiesFileCodeActionsTest {
 				caAddToExcluded("quarkus.application.nme", d), caAddToExcluded("quarkus.application.*", d));
 	}
 
+	@Test
+	public void codeActionsForUnknownMappedProperties() throws BadLocationException {
+		String value = "quarkus.datasource.mydb.jdbc.drivr=X";
+		Diagnostic d = d(0, 0, 34, "Unrecognized property 'quarkus.datasource.mydb.jdbc.drivr', it is not referenced in any Java files", DiagnosticSeverity.Warning,
+				ValidationType.unknown);
+
+		testDiagnosticsFor(value, d);
+		testCodeActionsFor(value, d,
+				ca("Did you mean 'quarkus.datasource.mydb.jdbc.driver' ?", MicroProfileCodeActionId.UnknownPropertySimilarTextSuggestion,te(0, 0, 0, 34, "quarkus.datasource.mydb.jdbc.driver"), d),
+				caAddToExcluded("quarkus.datasource.mydb.jdbc.drivr", d), caAddToExcluded("quarkus.datasource.mydb.jdbc.*", d),
+				caAddToExcluded("quarkus.datasource.mydb.*", d), caAddToExcluded("quarkus.datasource.*", d));
+	}
+
 	@Test
 	public void codeActionsForUnknownPropertiesParentKey() throws BadLocationException {
 		String value = "abcdefghij.group=myUser\n" + //
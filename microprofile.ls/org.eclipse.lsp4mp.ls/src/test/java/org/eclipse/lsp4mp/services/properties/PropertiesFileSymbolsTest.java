@@ -16,9 +16,14 @@ import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.testDo
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.testSymbolInformationsFor;
 
 import java.util.Arrays;
+import java.util.List;
 
+import org.eclipse.lsp4j.DocumentSymbol;
+import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.SymbolKind;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.junit.Assert;
 import org.junit.Test;
 
 /**
@@ -116,4 +121,31 @@ public class PropertiesFileSymbolsTest {
 		testDocumentSymbolsFor(value);
 	}
 
+	@Test
+	public void symbolsCachedPerModel() {
+		String value = "quarkus.datasource.driver=org.postgresql.Driver\n" + //
+				"quarkus.datasource.username=quarkus_test\n" + //
+				"%dev.quarkus.datasource.username=quarkus_dev";
+		PropertiesFileSymbolsProvider provider = new PropertiesFileSymbolsProvider();
+		PropertiesModel model = PropertiesModel.parse(value, "microprofile-config.properties");
+		List<SymbolInformation> symbols = provider.findSymbolInformations(model, () -> {
+		});
+		List<DocumentSymbol> documentSymbols = provider.findDocumentSymbols(model, () -> {
+		});
+		Assert.assertEquals(3, symbols.size());
+		Assert.assertEquals(2, documentSymbols.size());
+		Assert.assertSame(symbols, provider.findSymbolInformations(model, () -> {
+		}));
+		Assert.assertSame(documentSymbols, provider.findDocumentSymbols(model, () -> {
+		}));
+
+		// A new version of the document is parsed in a new model
+		PropertiesModel updatedModel = PropertiesModel.parse(value + "\nquarkus.http.port=8080",
+				"microprofile-config.properties");
+		Assert.assertEquals(4, provider.findSymbolInformations(updatedModel, () -> {
+		}).size());
+		Assert.assertEquals(2, provider.findDocumentSymbols(updatedModel, () -> {
+		}).size());
+	}
+
 }
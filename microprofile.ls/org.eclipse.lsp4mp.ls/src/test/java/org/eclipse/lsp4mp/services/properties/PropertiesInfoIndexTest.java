@@ -0,0 +1,75 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.stream.Collectors;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with {@link PropertiesInfoIndex}.
+ *
+ */
+public class PropertiesInfoIndexTest {
+
+	@Test
+	public void index() {
+		PropertiesInfoIndex index = new PropertiesInfoIndex(Arrays.asList( //
+				item("greeting.message", true), //
+				item("greeting.name", false), //
+				item("greeting.suffix", true)));
+
+		Assert.assertEquals(Arrays.asList("greeting.message", "greeting.suffix"), //
+				index.getRequiredProperties().stream().map(ItemMetadata::getName).collect(Collectors.toList()));
+		Assert.assertEquals(new HashSet<>(Arrays.asList("greeting.message", "greeting.name", "greeting.suffix")),
+				index.getPropertyNames());
+	}
+
+	@Test
+	public void sharedPerProjectInfoVersion() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>(Arrays.asList(item("greeting.message", true))));
+		info.setHints(new ArrayList<>());
+		ExtendedMicroProfileProjectInfo projectInfo = new ExtendedMicroProfileProjectInfo(info);
+
+		PropertiesInfoIndex index = PropertiesInfoIndex.getIndex(projectInfo);
+		Assert.assertSame(index, PropertiesInfoIndex.getIndex(projectInfo));
+		Assert.assertEquals(1, index.getRequiredProperties().size());
+
+		// Update properties coming from Java sources
+		projectInfo.updateSourcesProperties(new ArrayList<>(Arrays.asList(item("greeting.name", false))),
+				Collections.emptyList());
+
+		PropertiesInfoIndex updatedIndex = PropertiesInfoIndex.getIndex(projectInfo);
+		Assert.assertNotSame(index, updatedIndex);
+		Assert.assertTrue(updatedIndex.getRequiredProperties().isEmpty());
+		Assert.assertEquals(new HashSet<>(Arrays.asList("greeting.name")), updatedIndex.getPropertyNames());
+	}
+
+	private static ItemMetadata item(String name, boolean required) {
+		ItemMetadata item = new ItemMetadata();
+		item.setName(name);
+		item.setRequired(required);
+		item.setSource(Boolean.TRUE);
+		return item;
+	}
+}
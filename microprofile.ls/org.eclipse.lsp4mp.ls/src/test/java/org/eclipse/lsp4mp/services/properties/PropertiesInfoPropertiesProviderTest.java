@@ -0,0 +1,90 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with {@link PropertiesInfoPropertiesProvider}.
+ *
+ */
+public class PropertiesInfoPropertiesProviderTest {
+
+	@Test
+	public void defaultValues() {
+		PropertiesInfoPropertiesProvider provider = new PropertiesInfoPropertiesProvider(Arrays.asList( //
+				item("greeting.message", "hello", false), //
+				item("greeting.message", "bonjour", false), //
+				item("greeting.name", null, false), //
+				item("greeting.suffix", "", false)));
+
+		Assert.assertEquals(new HashSet<>(Arrays.asList("greeting.message")), provider.keys());
+		Assert.assertTrue(provider.hasKey("greeting.message"));
+		Assert.assertFalse(provider.hasKey("greeting.name"));
+		Assert.assertFalse(provider.hasKey("greeting.suffix"));
+		Assert.assertFalse(provider.hasKey(null));
+		// the first default value wins
+		Assert.assertEquals("hello", provider.getValue("greeting.message"));
+		Assert.assertNull(provider.getValue("greeting.name"));
+		Assert.assertNull(provider.getValue(null));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void unmodifiableKeys() {
+		PropertiesInfoPropertiesProvider provider = new PropertiesInfoPropertiesProvider(
+				Arrays.asList(item("greeting.message", "hello", false)));
+		provider.keys().add("greeting.name");
+	}
+
+	@Test
+	public void sharedPerProjectInfoVersion() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>(Arrays.asList(item("greeting.message", "hello", true))));
+		info.setHints(new ArrayList<>());
+		ExtendedMicroProfileProjectInfo projectInfo = new ExtendedMicroProfileProjectInfo(info);
+
+		PropertiesInfoPropertiesProvider provider = PropertiesInfoPropertiesProvider
+				.getPropertiesProvider(projectInfo);
+		Assert.assertSame(provider, PropertiesInfoPropertiesProvider.getPropertiesProvider(projectInfo));
+		Assert.assertEquals("hello", provider.getValue("greeting.message"));
+
+		// Update properties coming from Java sources
+		projectInfo.updateSourcesProperties(new ArrayList<>(Arrays.asList(item("greeting.message", "bonjour", true))),
+				Collections.emptyList());
+
+		PropertiesInfoPropertiesProvider updatedProvider = PropertiesInfoPropertiesProvider
+				.getPropertiesProvider(projectInfo);
+		Assert.assertNotSame(provider, updatedProvider);
+		Assert.assertEquals("bonjour", updatedProvider.getValue("greeting.message"));
+	}
+
+	private static ItemMetadata item(String name, String defaultValue, boolean fromSource) {
+		ItemMetadata item = new ItemMetadata();
+		item.setName(name);
+		item.setDefaultValue(defaultValue);
+		if (fromSource) {
+			item.setSource(Boolean.TRUE);
+		}
+		return item;
+	}
+}
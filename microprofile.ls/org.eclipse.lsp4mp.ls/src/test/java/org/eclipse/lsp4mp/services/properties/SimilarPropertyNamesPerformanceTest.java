@@ -0,0 +1,68 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import static org.eclipse.lsp4mp.services.properties.SimilarPropertyNamesTest.createProperties;
+import static org.eclipse.lsp4mp.services.properties.SimilarPropertyNamesTest.createUnknownNames;
+
+import java.util.List;
+
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Performance test of {@link SimilarPropertyNames}, executed with the
+ * 'performance' Maven profile.
+ *
+ */
+public class SimilarPropertyNamesPerformanceTest {
+
+	/**
+	 * System property to configure the maximum duration (in microseconds) of the
+	 * search of the similar names of an unknown property.
+	 */
+	private static final String MAX_LOOKUP_MICROS_PROPERTY = "lsp4mp.performance.similarNames.maxLookupMicros";
+
+	@Test
+	public void subMillisecondLookupWith5000Names() {
+		List<ItemMetadata> properties = createProperties(5000);
+		List<String> unknownNames = createUnknownNames(properties);
+		SimilarPropertyNames index = new SimilarPropertyNames(properties);
+		// warm up
+		lookup(index, unknownNames);
+
+		long lookupNanos = Long.MAX_VALUE;
+		// keep the best of several runs to reduce the noise
+		for (int i = 0; i < 5; i++) {
+			lookupNanos = Math.min(lookupNanos, lookup(index, unknownNames));
+		}
+		long lookupMicros = lookupNanos / unknownNames.size() / 1_000;
+		long maxLookupMicros = Long.getLong(MAX_LOOKUP_MICROS_PROPERTY, 1_000);
+		Assert.assertTrue("Lookup among " + properties.size() + " names took " + lookupMicros + "us",
+				lookupMicros < maxLookupMicros);
+	}
+
+	/**
+	 * Search the similar names of the given unknown names and returns the
+	 * duration.
+	 */
+	private static long lookup(SimilarPropertyNames index, List<String> unknownNames) {
+		long start = System.nanoTime();
+		for (String unknownName : unknownNames) {
+			index.findSimilarNames(unknownName);
+		}
+		return System.nanoTime() - start;
+	}
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with {@link SimilarPropertyNames}.
+ *
+ */
+public class SimilarPropertyNamesTest {
+
+	@Test
+	public void similarNames() {
+		SimilarPropertyNames index = new SimilarPropertyNames(properties("quarkus.application.name",
+				"quarkus.application.version", "quarkus.http.port", "quarkus.http.ssl-port"));
+
+		Assert.assertEquals(Arrays.asList("quarkus.application.name"),
+				index.findSimilarNames("quarkus.application.nme"));
+		Assert.assertEquals(Arrays.asList("quarkus.http.port"), index.findSimilarNames("quarkus.http.prt"));
+		Assert.assertEquals(Collections.emptyList(), index.findSimilarNames("quarkus.http"));
+		Assert.assertEquals(Collections.emptyList(), index.findSimilarNames(""));
+	}
+
+	@Test
+	public void closestNamesFirst() {
+		SimilarPropertyNames index = new SimilarPropertyNames(
+				properties("quarkus.http.test-ssl-port", "quarkus.http.test-port", "quarkus.http.test-portt"));
+
+		Assert.assertEquals(Arrays.asList("quarkus.http.test-port", "quarkus.http.test-portt"),
+				index.findSimilarNames("quarkus.http.test-por"));
+	}
+
+	@Test
+	public void similarMappedNames() {
+		SimilarPropertyNames index = new SimilarPropertyNames(properties("quarkus.datasource.{*}.jdbc.url",
+				"quarkus.datasource.{*}.jdbc.driver", "quarkus.log.category.{*}.level",
+				"quarkus.rest-client.{*}.{*}.scope", "quarkus.datasource.jdbc.url"));
+
+		Assert.assertEquals(Arrays.asList("quarkus.datasource.mydb.jdbc.url"),
+				index.findSimilarNames("quarkus.datasource.mydb.jdbc.urll"));
+		Assert.assertEquals(Arrays.asList("quarkus.log.category.\"org.acme\".level"),
+				index.findSimilarNames("quarkus.log.category.\"org.acme\".levl"));
+		Assert.assertEquals(Arrays.asList("quarkus.rest-client.a.b.scope"),
+				index.findSimilarNames("quarkus.rest-client.a.b.scop"));
+		Assert.assertEquals(Arrays.asList("quarkus.datasource.jdbc.url"),
+				index.findSimilarNames("quarkus.datasource.jdbc.urll"));
+	}
+
+	@Test
+	public void cachedPerProjectInfo() {
+		MicroProfileProjectInfo info = PropertiesFileAssert.getDefaultMicroProfileProjectInfo();
+		Assert.assertSame(SimilarPropertyNames.getIndex(info), SimilarPropertyNames.getIndex(info));
+	}
+
+	@Test
+	public void similarNamesAmongManyNames() {
+		List<ItemMetadata> properties = createProperties(5000);
+		SimilarPropertyNames index = new SimilarPropertyNames(properties);
+		for (String unknownName : createUnknownNames(properties)) {
+			Assert.assertFalse("No similar name for '" + unknownName + "'",
+					index.findSimilarNames(unknownName).isEmpty());
+		}
+	}
+
+	/**
+	 * Returns the given count of property names built from the Quarkus properties
+	 * by using random extension names.
+	 */
+	static List<ItemMetadata> createProperties(int count) {
+		MicroProfileProjectInfo info = PropertiesFileAssert.getDefaultMicroProfileProjectInfo();
+		Random random = new Random(0);
+		List<ItemMetadata> properties = new ArrayList<>();
+		for (int i = 0; properties.size() < count; i++) {
+			StringBuilder extension = new StringBuilder();
+			for (int j = 0; j < 6; j++) {
+				extension.append((char) ('a' + random.nextInt(26)));
+			}
+			for (ItemMetadata property : info.getProperties()) {
+				if (properties.size() == count) {
+					break;
+				}
+				ItemMetadata copy = new ItemMetadata();
+				copy.setName(i == 0 ? property.getName()
+						: property.getName().replace("quarkus.", "quarkus." + extension + "."));
+				properties.add(copy);
+			}
+		}
+		return properties;
+	}
+
+	/**
+	 * Returns names with a typo (the last but one character is removed) of some of
+	 * the given properties.
+	 */
+	static List<String> createUnknownNames(List<ItemMetadata> properties) {
+		List<String> unknownNames = new ArrayList<>();
+		for (int i = 0; i < properties.size(); i += 50) {
+			String name = properties.get(i).getName();
+			if (name.length() > 20) {
+				unknownNames.add(name.substring(0, name.length() - 2) + name.charAt(name.length() - 1));
+			}
+		}
+		return unknownNames;
+	}
+
+	private static List<ItemMetadata> properties(String... names) {
+		List<ItemMetadata> properties = new ArrayList<>();
+		for (String name : names) {
+			ItemMetadata property = new ItemMetadata();
+			property.setName(name);
+			properties.add(property);
+		}
+		return properties;
+	}
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+* Copyright (c) 2022 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.utils;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.services.properties.PropertiesFileAssert;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Performance test of {@link JSONSchemaUtils}, executed with the
+ * 'performance' Maven profile.
+ *
+ * <p>
+ * The access to the cached JSON Schema of a project info is compared with its
+ * generation.
+ * </p>
+ *
+ */
+public class JSONSchemaUtilsPerformanceTest {
+
+	private static final int PASSES = 20;
+
+	@Test
+	public void cachedFasterThanGeneration() {
+		MicroProfileProjectInfo info = PropertiesFileAssert.getDefaultMicroProfileProjectInfo();
+		// warm up
+		generate(info);
+		getCached(info);
+
+		long generationNanos = Long.MAX_VALUE;
+		long cachedNanos = Long.MAX_VALUE;
+		// keep the best of several runs to reduce the noise
+		for (int i = 0; i < 5; i++) {
+			generationNanos = Math.min(generationNanos, generate(info));
+			cachedNanos = Math.min(cachedNanos, getCached(info));
+		}
+		Assert.assertTrue("Cached JSON Schema took " + cachedNanos / PASSES / 1_000 + "us, generation took "
+				+ generationNanos / PASSES / 1_000 + "us", cachedNanos * 10 < generationNanos);
+	}
+
+	private static long generate(MicroProfileProjectInfo info) {
+		long start = System.nanoTime();
+		for (int pass = 0; pass < PASSES; pass++) {
+			JSONSchemaUtils.toJSONSchema(info, true);
+		}
+		return System.nanoTime() - start;
+	}
+
+	private static long getCached(MicroProfileProjectInfo info) {
+		long start = System.nanoTime();
+		for (int pass = 0; pass < PASSES; pass++) {
+			JSONSchemaUtils.getJSONSchema(info, true);
+		}
+		return System.nanoTime() - start;
+	}
+}
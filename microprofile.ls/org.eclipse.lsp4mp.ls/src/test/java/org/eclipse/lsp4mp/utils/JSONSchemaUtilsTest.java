@@ -17,9 +17,13 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.eclipse.lsp4mp.services.properties.PropertiesFileAssert;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
 /**
  * Test for converting {@link MicroProfileProjectInfo} to JSON Schema for YAML
  * support.
@@ -99,6 +103,33 @@ public class JSONSchemaUtilsTest {
 				jsonSchema);
 	}
 
+	@Test
+	public void cachedPerProjectInfoVersion() {
+		MicroProfileProjectInfo info = PropertiesFileAssert.getDefaultMicroProfileProjectInfo();
+		String jsonSchema = JSONSchemaUtils.getJSONSchema(info, true);
+		Assert.assertEquals(JSONSchemaUtils.toJSONSchema(info, true), jsonSchema);
+		Assert.assertSame(jsonSchema, JSONSchemaUtils.getJSONSchema(info, true));
+
+		String strictJsonSchema = JSONSchemaUtils.getJSONSchema(info, false);
+		Assert.assertEquals(JSONSchemaUtils.toJSONSchema(info, false), strictJsonSchema);
+		Assert.assertSame(strictJsonSchema, JSONSchemaUtils.getJSONSchema(info, false));
+
+		// A project info which is not managed by the cache is not cached
+		MicroProfileProjectInfo simpleInfo = new MicroProfileProjectInfo();
+		addItem("quarkus.application.name", "java.lang.String", null, simpleInfo);
+		Assert.assertNotSame(JSONSchemaUtils.getJSONSchema(simpleInfo, true),
+				JSONSchemaUtils.getJSONSchema(simpleInfo, true));
+	}
+
+	@Test
+	public void largeProjectInfo() {
+		MicroProfileProjectInfo info = PropertiesFileAssert.getDefaultMicroProfileProjectInfo();
+		String jsonSchema = JSONSchemaUtils.toJSONSchema(info, true);
+		JsonObject schema = JsonParser.parseString(jsonSchema).getAsJsonObject();
+		Assert.assertTrue(schema.getAsJsonObject("definitions").getAsJsonObject("root")
+				.getAsJsonObject("properties").has("quarkus"));
+	}
+
 	private static void addItem(String name, String type, String description, MicroProfileProjectInfo info) {
 		addItem(name, type, description, null, info);
 	}